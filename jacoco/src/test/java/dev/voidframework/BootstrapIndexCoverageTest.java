@@ -0,0 +1,85 @@
+package dev.voidframework;
+
+import com.google.inject.Module;
+import dev.voidframework.core.bindable.Bindable;
+import dev.voidframework.healthcheck.HealthChecker;
+import dev.voidframework.web.http.filter.Filter;
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ClassInfo;
+import io.github.classgraph.ClassInfoList;
+import io.github.classgraph.ScanResult;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.jar.JarFile;
+
+/**
+ * Checks that every framework module containing classes to load is compiled with
+ * "voidframework-bootstrap-processor", otherwise these classes are not found when
+ * "voidframework.core.useBootstrapIndex" is enabled.
+ */
+@TestMethodOrder(MethodOrderer.MethodName.class)
+final class BootstrapIndexCoverageTest {
+
+    private static final String INDEX_RESOURCE_NAME = "META-INF/voidframework/bootstrap.index";
+
+    @Test
+    void allModulesContainingClassesToLoadHaveBootstrapIndex() {
+
+        // Arrange
+        final Map<File, Boolean> hasIndexPerClasspathElementMap = new HashMap<>();
+        final TreeSet<String> notIndexedClassNameSet = new TreeSet<>();
+
+        // Act
+        try (final ScanResult scanResult = new ClassGraph()
+            .acceptPackages("dev.voidframework")
+            .enableAnnotationInfo()
+            .scan()) {
+
+            final ClassInfoList classInfoList = scanResult.getClassesWithAnnotation(Bindable.class)
+                .union(scanResult.getClassesImplementing(HealthChecker.class))
+                .union(scanResult.getClassesImplementing(Filter.class))
+                .union(scanResult.getClassesImplementing(Module.class))
+                .filter(classInfo -> !classInfo.isInterfaceOrAnnotation() && !classInfo.isAbstract() && !classInfo.isAnonymousInnerClass());
+
+            for (final ClassInfo classInfo : classInfoList) {
+                final File classpathElementFile = classInfo.getClasspathElementFile();
+                if (!classpathElementFile.getName().equals("test-classes")
+                    && !hasIndexPerClasspathElementMap.computeIfAbsent(classpathElementFile, BootstrapIndexCoverageTest::hasIndex)) {
+                    notIndexedClassNameSet.add(classInfo.getName() + " (" + classpathElementFile.getName() + ")");
+                }
+            }
+        }
+
+        // Assert
+        Assertions.assertFalse(hasIndexPerClasspathElementMap.isEmpty());
+        Assertions.assertEquals(new TreeSet<>(), notIndexedClassNameSet, "Modules must depend on voidframework-bootstrap-processor");
+    }
+
+    /**
+     * Checks whether a class path element contains a bootstrap index.
+     *
+     * @param classpathElementFile The class path element (directory or JAR)
+     * @return {@code true} if the class path element contains a bootstrap index, otherwise {@code false}
+     */
+    private static boolean hasIndex(final File classpathElementFile) {
+
+        if (classpathElementFile.isDirectory()) {
+            return new File(classpathElementFile, INDEX_RESOURCE_NAME).isFile();
+        }
+
+        try (final JarFile jarFile = new JarFile(classpathElementFile)) {
+            return jarFile.getEntry(INDEX_RESOURCE_NAME) != null;
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
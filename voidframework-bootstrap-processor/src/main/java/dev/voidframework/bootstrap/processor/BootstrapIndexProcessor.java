@@ -0,0 +1,358 @@
+package dev.voidframework.bootstrap.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Annotation processor generating, at compile time, the bootstrap index of the compiled classes.
+ * The index contains the same information as a class path scan (modules, bindable classes,
+ * converters, proxyable interfaces and aspects), so the application can be started without
+ * scanning the class path.
+ * <p>
+ * The index is written to {@value #INDEX_RESOURCE_NAME}. It is a plain text file, one entry
+ * per line, using class binary names:
+ * <pre>
+ * module:com.example.AppModule
+ * bindable:com.example.UserService
+ * interface:com.example.UserService:com.example.UserRepository
+ * extra:com.example.DiskSpaceHealthChecker:dev.voidframework.healthcheck.HealthChecker
+ * converter:com.example.StringToUserIdConverter:java.lang.String:com.example.UserId
+ * proxyable:com.example.UserClient
+ * aspect:com.example.LoggingAspect
+ * </pre>
+ * <p>
+ * "extra" entries reference implementations of extra interfaces (framework extension points and
+ * interfaces given with the {@value #OPTION_BIND_EXTRA_INTERFACES} option). They are only bound
+ * at runtime if the interface is part of "voidframework.core.bindExtraInterfaces".
+ *
+ * @since 1.17.0
+ */
+@SupportedAnnotationTypes("*")
+@SupportedOptions(BootstrapIndexProcessor.OPTION_BIND_EXTRA_INTERFACES)
+public final class BootstrapIndexProcessor extends AbstractProcessor {
+
+    /**
+     * Location of the generated index.
+     *
+     * @since 1.17.0
+     */
+    public static final String INDEX_RESOURCE_NAME = "META-INF/voidframework/bootstrap.index";
+
+    /**
+     * Processor option defining, as a comma separated list, the application extra interfaces for
+     * which implementations must be indexed (see "voidframework.core.bindExtraInterfaces").
+     * Framework extension points are always indexed.
+     *
+     * @since 1.17.0
+     */
+    public static final String OPTION_BIND_EXTRA_INTERFACES = "voidframework.bindExtraInterfaces";
+
+    private static final String ASPECT_ANNOTATION = "org.aspectj.lang.annotation.Aspect";
+    private static final String BINDABLE_ANNOTATION = "dev.voidframework.core.bindable.Bindable";
+    private static final String MODULE_INTERFACE = "com.google.inject.Module";
+    private static final String PROXYABLE_ANNOTATION = "dev.voidframework.core.proxyable.Proxyable";
+    private static final String TYPE_CONVERTER_INTERFACE = "dev.voidframework.core.conversion.TypeConverter";
+
+    private static final Set<String> FRAMEWORK_EXTRA_INTERFACE_SET = Set.of(
+        "dev.voidframework.healthcheck.HealthChecker",
+        "dev.voidframework.web.http.filter.Filter",
+        "dev.voidframework.web.server.ExtraWebServerConfiguration");
+
+    private static final String ENTRY_SEPARATOR = ":";
+    private static final String HEADER = "# Void Framework bootstrap index, generated at compile time";
+
+    private final SortedMap<String, List<String>> entryPerClassNameMap;
+    private final List<Element> originatingElementList;
+    private Set<String> extraInterfaceSet;
+
+    /**
+     * Build a new instance.
+     *
+     * @since 1.17.0
+     */
+    public BootstrapIndexProcessor() {
+
+        this.entryPerClassNameMap = new TreeMap<>();
+        this.originatingElementList = new ArrayList<>();
+        this.extraInterfaceSet = FRAMEWORK_EXTRA_INTERFACE_SET;
+    }
+
+    @Override
+    public synchronized void init(final ProcessingEnvironment processingEnvironment) {
+
+        super.init(processingEnvironment);
+
+        final String extraInterfaces = processingEnvironment.getOptions().get(OPTION_BIND_EXTRA_INTERFACES);
+        if (extraInterfaces != null) {
+            this.extraInterfaceSet = Stream.concat(FRAMEWORK_EXTRA_INTERFACE_SET.stream(), Arrays.stream(extraInterfaces.split(",")))
+                .map(String::trim)
+                .filter(extraInterface -> !extraInterface.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+        }
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnvironment) {
+
+        if (roundEnvironment.processingOver()) {
+            this.writeIndex();
+        } else {
+            for (final Element element : roundEnvironment.getRootElements()) {
+                if (element instanceof final TypeElement typeElement) {
+                    this.processType(typeElement);
+                }
+            }
+        }
+
+        // Annotations are never claimed, other processors must be able to use them
+        return false;
+    }
+
+    /**
+     * Processes a type and its member types.
+     *
+     * @param typeElement The type to process
+     * @since 1.17.0
+     */
+    private void processType(final TypeElement typeElement) {
+
+        final String className = this.processingEnv.getElementUtils().getBinaryName(typeElement).toString();
+        final List<String> entryList = this.resolveEntries(className, typeElement);
+        this.entryPerClassNameMap.put(className, entryList);
+        if (!entryList.isEmpty()) {
+            this.originatingElementList.add(typeElement);
+        }
+
+        for (final Element enclosedElement : typeElement.getEnclosedElements()) {
+            if (enclosedElement instanceof final TypeElement memberTypeElement) {
+                this.processType(memberTypeElement);
+            }
+        }
+    }
+
+    /**
+     * Resolves the index entries of a type.
+     *
+     * @param className   The class binary name
+     * @param typeElement The type
+     * @return The index entries, can be empty
+     * @since 1.17.0
+     */
+    private List<String> resolveEntries(final String className, final TypeElement typeElement) {
+
+        final boolean isInterfaceOrAnnotation = typeElement.getKind() == ElementKind.INTERFACE
+            || typeElement.getKind() == ElementKind.ANNOTATION_TYPE;
+        final Map<String, DeclaredType> supertypeMap = new LinkedHashMap<>();
+        this.collectSupertypes(typeElement.asType(), supertypeMap);
+
+        final List<String> entryList = new ArrayList<>();
+        if (!isInterfaceOrAnnotation && this.hasAnnotation(typeElement, BINDABLE_ANNOTATION, new HashSet<>())) {
+            entryList.add("bindable" + ENTRY_SEPARATOR + className);
+            for (final DeclaredType supertype : supertypeMap.values()) {
+                if (supertype.asElement().getKind() == ElementKind.INTERFACE) {
+                    entryList.add("interface" + ENTRY_SEPARATOR + className + ENTRY_SEPARATOR + this.binaryName(supertype));
+                }
+            }
+        } else if (!isInterfaceOrAnnotation && !typeElement.getModifiers().contains(Modifier.ABSTRACT)
+            && supertypeMap.keySet().stream().anyMatch(this.extraInterfaceSet::contains)) {
+            for (final Map.Entry<String, DeclaredType> supertypeEntry : supertypeMap.entrySet()) {
+                if (this.extraInterfaceSet.contains(supertypeEntry.getKey())) {
+                    entryList.add("extra" + ENTRY_SEPARATOR + className + ENTRY_SEPARATOR + this.binaryName(supertypeEntry.getValue()));
+                }
+            }
+        } else if (supertypeMap.containsKey(MODULE_INTERFACE)) {
+            entryList.add("module" + ENTRY_SEPARATOR + className);
+        } else if (supertypeMap.containsKey(TYPE_CONVERTER_INTERFACE)) {
+            final List<? extends TypeMirror> typeArgumentList = supertypeMap.get(TYPE_CONVERTER_INTERFACE).getTypeArguments();
+            if (typeArgumentList.size() == 2
+                && typeArgumentList.get(0).getKind() == TypeKind.DECLARED
+                && typeArgumentList.get(1).getKind() == TypeKind.DECLARED) {
+
+                entryList.add("converter" + ENTRY_SEPARATOR + className
+                    + ENTRY_SEPARATOR + this.binaryName((DeclaredType) typeArgumentList.get(0))
+                    + ENTRY_SEPARATOR + this.binaryName((DeclaredType) typeArgumentList.get(1)));
+            } else if (!typeElement.getModifiers().contains(Modifier.ABSTRACT)) {
+                this.processingEnv.getMessager().printMessage(
+                    Diagnostic.Kind.WARNING,
+                    "Converter source and target types can't be resolved, converter will not be indexed",
+                    typeElement);
+            }
+        } else if (typeElement.getKind() == ElementKind.INTERFACE && this.hasAnnotation(typeElement, PROXYABLE_ANNOTATION, new HashSet<>())) {
+            entryList.add("proxyable" + ENTRY_SEPARATOR + className);
+        } else if (this.hasAnnotation(typeElement, ASPECT_ANNOTATION, new HashSet<>())) {
+            entryList.add("aspect" + ENTRY_SEPARATOR + className);
+        }
+
+        return entryList;
+    }
+
+    /**
+     * Checks if an element is annotated, directly or through a meta-annotation, with the given annotation.
+     *
+     * @param element            The element
+     * @param annotationName     The annotation qualified name
+     * @param visitedAnnotations Annotations already visited (prevents infinite recursion)
+     * @return {@code true} if the element is annotated, otherwise {@code false}
+     * @since 1.17.0
+     */
+    private boolean hasAnnotation(final Element element, final String annotationName, final Set<String> visitedAnnotations) {
+
+        for (final AnnotationMirror annotationMirror : element.getAnnotationMirrors()) {
+            final TypeElement annotationElement = (TypeElement) annotationMirror.getAnnotationType().asElement();
+            final String currentAnnotationName = annotationElement.getQualifiedName().toString();
+            if (currentAnnotationName.equals(annotationName)) {
+                return true;
+            }
+
+            if (!currentAnnotationName.startsWith("java.lang.annotation.")
+                && visitedAnnotations.add(currentAnnotationName)
+                && this.hasAnnotation(annotationElement, annotationName, visitedAnnotations)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Collects, recursively, all supertypes of a type. Type arguments of supertypes are resolved
+     * against the type (ie: {@code TypeConverter<S, T>} becomes {@code TypeConverter<String, Integer>}).
+     *
+     * @param typeMirror   The type
+     * @param supertypeMap The map in which supertypes are collected, per qualified name
+     * @since 1.17.0
+     */
+    private void collectSupertypes(final TypeMirror typeMirror, final Map<String, DeclaredType> supertypeMap) {
+
+        for (final TypeMirror supertypeMirror : this.processingEnv.getTypeUtils().directSupertypes(typeMirror)) {
+            if (supertypeMirror instanceof final DeclaredType supertype) {
+                final String supertypeName = ((TypeElement) supertype.asElement()).getQualifiedName().toString();
+                if (supertypeMap.putIfAbsent(supertypeName, supertype) == null) {
+                    this.collectSupertypes(supertype, supertypeMap);
+                }
+            }
+        }
+    }
+
+    /**
+     * Retrieves the binary name of a type.
+     *
+     * @param declaredType The type
+     * @return The binary name
+     * @since 1.17.0
+     */
+    private String binaryName(final DeclaredType declaredType) {
+
+        return this.processingEnv.getElementUtils().getBinaryName((TypeElement) declaredType.asElement()).toString();
+    }
+
+    /**
+     * Writes the index. Entries from a previous compilation are kept for classes which were not
+     * compiled again but still exist (incremental compilation).
+     *
+     * @since 1.17.0
+     */
+    private void writeIndex() {
+
+        final List<String> previousEntryList = this.readPreviousIndex();
+        for (final String previousEntry : previousEntryList) {
+            final String className = previousEntry.split(ENTRY_SEPARATOR)[1];
+            if (!this.entryPerClassNameMap.containsKey(className)
+                && this.processingEnv.getElementUtils().getTypeElement(className.replace('$', '.')) != null) {
+                this.entryPerClassNameMap.computeIfAbsent(className, key -> new ArrayList<>()).add(previousEntry);
+            }
+        }
+
+        final List<String> entryList = this.entryPerClassNameMap.values()
+            .stream()
+            .flatMap(List::stream)
+            .toList();
+        if (entryList.isEmpty() && previousEntryList.isEmpty()) {
+            return;
+        }
+
+        try {
+            final FileObject fileObject = this.processingEnv.getFiler().createResource(
+                StandardLocation.CLASS_OUTPUT,
+                "",
+                INDEX_RESOURCE_NAME,
+                this.originatingElementList.toArray(new Element[0]));
+
+            try (final Writer writer = fileObject.openWriter()) {
+                writer.write(HEADER);
+                writer.write('\n');
+                for (final String entry : entryList) {
+                    writer.write(entry);
+                    writer.write('\n');
+                }
+            }
+        } catch (final IOException ex) {
+            this.processingEnv.getMessager().printMessage(
+                Diagnostic.Kind.ERROR,
+                "Can't write '" + INDEX_RESOURCE_NAME + "': " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Reads the index written by a previous compilation, if any.
+     *
+     * @return The previous index entries, can be empty
+     * @since 1.17.0
+     */
+    private List<String> readPreviousIndex() {
+
+        final List<String> entryList = new ArrayList<>();
+        try {
+            final FileObject fileObject = this.processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_RESOURCE_NAME);
+            try (final BufferedReader reader = new BufferedReader(new InputStreamReader(fileObject.openInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.isBlank() && !line.startsWith("#")) {
+                        entryList.add(line.trim());
+                    }
+                }
+            }
+        } catch (final IOException | IllegalArgumentException ignore) {
+            // No previous index
+        }
+
+        return entryList;
+    }
+}
@@ -0,0 +1,188 @@
+package dev.voidframework.bootstrap.processor;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@TestMethodOrder(MethodOrderer.MethodName.class)
+final class BootstrapIndexProcessorTest {
+
+    private static final Map<String, String> FRAMEWORK_SOURCE_MAP = Map.of(
+        "com/google/inject/Module.java", """
+            package com.google.inject;
+            public interface Module {
+            }
+            """,
+        "com/google/inject/AbstractModule.java", """
+            package com.google.inject;
+            public abstract class AbstractModule implements Module {
+            }
+            """,
+        "dev/voidframework/core/bindable/Bindable.java", """
+            package dev.voidframework.core.bindable;
+            public @interface Bindable {
+            }
+            """,
+        "dev/voidframework/core/bindable/Service.java", """
+            package dev.voidframework.core.bindable;
+            @Bindable
+            public @interface Service {
+            }
+            """,
+        "dev/voidframework/core/conversion/TypeConverter.java", """
+            package dev.voidframework.core.conversion;
+            public interface TypeConverter<S, T> {
+                T convert(S source);
+            }
+            """,
+        "dev/voidframework/core/proxyable/Proxyable.java", """
+            package dev.voidframework.core.proxyable;
+            public @interface Proxyable {
+            }
+            """,
+        "dev/voidframework/healthcheck/HealthChecker.java", """
+            package dev.voidframework.healthcheck;
+            public interface HealthChecker {
+            }
+            """);
+
+    private static final Map<String, String> APPLICATION_SOURCE_MAP = Map.of(
+        "com/example/AppModule.java", """
+            package com.example;
+            public final class AppModule extends com.google.inject.AbstractModule {
+            }
+            """,
+        "com/example/DiskSpaceHealthChecker.java", """
+            package com.example;
+            public class DiskSpaceHealthChecker implements dev.voidframework.healthcheck.HealthChecker {
+                public abstract static class AbstractHealthChecker implements dev.voidframework.healthcheck.HealthChecker {
+                }
+            }
+            """,
+        "com/example/Repository.java", """
+            package com.example;
+            public interface Repository {
+            }
+            """,
+        "com/example/UserService.java", """
+            package com.example;
+            @dev.voidframework.core.bindable.Service
+            public class UserService implements Repository {
+                public static final class Named implements Extra {
+                }
+            }
+            """,
+        "com/example/Extra.java", """
+            package com.example;
+            public interface Extra {
+            }
+            """,
+        "com/example/AbstractConverter.java", """
+            package com.example;
+            public abstract class AbstractConverter<S, T> implements dev.voidframework.core.conversion.TypeConverter<S, T> {
+            }
+            """,
+        "com/example/StringToIntegerConverter.java", """
+            package com.example;
+            public class StringToIntegerConverter extends AbstractConverter<String, Integer> {
+                public Integer convert(final String source) {
+                    return Integer.valueOf(source);
+                }
+            }
+            """,
+        "com/example/UserClient.java", """
+            package com.example;
+            @dev.voidframework.core.proxyable.Proxyable
+            public interface UserClient {
+            }
+            """);
+
+    @TempDir
+    Path temporaryDirectory;
+
+    @Test
+    void process() throws IOException {
+
+        // Arrange
+        final Path outputDirectory = this.compile(FRAMEWORK_SOURCE_MAP, null);
+
+        // Act
+        final Path applicationOutputDirectory = this.compile(APPLICATION_SOURCE_MAP, outputDirectory, "-Avoidframework.bindExtraInterfaces=com.example.Extra");
+
+        // Assert
+        final List<String> lineList = Files.readAllLines(
+            applicationOutputDirectory.resolve(BootstrapIndexProcessor.INDEX_RESOURCE_NAME),
+            StandardCharsets.UTF_8);
+        Assertions.assertEquals(
+            List.of(
+                "# Void Framework bootstrap index, generated at compile time",
+                "module:com.example.AppModule",
+                "extra:com.example.DiskSpaceHealthChecker:dev.voidframework.healthcheck.HealthChecker",
+                "converter:com.example.StringToIntegerConverter:java.lang.String:java.lang.Integer",
+                "proxyable:com.example.UserClient",
+                "bindable:com.example.UserService",
+                "interface:com.example.UserService:com.example.Repository",
+                "extra:com.example.UserService$Named:com.example.Extra"),
+            lineList);
+    }
+
+    @Test
+    void processNothingToIndex() throws IOException {
+
+        // Act
+        final Path outputDirectory = this.compile(Map.of("com/example/Repository.java", APPLICATION_SOURCE_MAP.get("com/example/Repository.java")), null);
+
+        // Assert
+        Assertions.assertFalse(Files.exists(outputDirectory.resolve(BootstrapIndexProcessor.INDEX_RESOURCE_NAME)));
+    }
+
+    /**
+     * Compiles sources with the processor.
+     *
+     * @param sourceMap      The sources to compile, per file name
+     * @param classPath      The class path to use, can be {@code null}
+     * @param extraArguments Extra compiler arguments
+     * @return The output directory
+     * @throws IOException If something goes wrong
+     */
+    private Path compile(final Map<String, String> sourceMap, final Path classPath, final String... extraArguments) throws IOException {
+
+        final Path sourceDirectory = Files.createTempDirectory(this.temporaryDirectory, "src");
+        final Path outputDirectory = Files.createTempDirectory(this.temporaryDirectory, "classes");
+
+        final List<String> argumentList = new ArrayList<>(List.of(
+            "-d", outputDirectory.toString(),
+            "-processor", BootstrapIndexProcessor.class.getName(),
+            "-processorpath", System.getProperty("java.class.path")));
+        if (classPath != null) {
+            argumentList.add("-classpath");
+            argumentList.add(classPath.toString());
+        }
+        argumentList.addAll(List.of(extraArguments));
+
+        for (final Map.Entry<String, String> entry : sourceMap.entrySet()) {
+            final Path sourceFile = sourceDirectory.resolve(entry.getKey());
+            Files.createDirectories(sourceFile.getParent());
+            Files.writeString(sourceFile, entry.getValue(), StandardCharsets.UTF_8);
+            argumentList.add(sourceFile.toString());
+        }
+
+        final JavaCompiler javaCompiler = ToolProvider.getSystemJavaCompiler();
+        final int exitCode = javaCompiler.run(null, null, null, argumentList.toArray(new String[0]));
+        Assertions.assertEquals(0, exitCode);
+
+        return outputDirectory;
+    }
+}
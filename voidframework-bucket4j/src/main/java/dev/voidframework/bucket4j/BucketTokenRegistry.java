@@ -1,21 +1,39 @@
 package dev.voidframework.bucket4j;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.inject.Injector;
+import com.google.inject.Provider;
 import com.typesafe.config.Config;
+import dev.voidframework.bucket4j.distributed.BucketBackend;
+import dev.voidframework.bucket4j.distributed.BucketOptimization;
+import dev.voidframework.bucket4j.distributed.JdbcProxyManager;
+import dev.voidframework.bucket4j.distributed.RedisProxyManager;
 import dev.voidframework.bucket4j.exception.BucketTokenException;
 import dev.voidframework.core.utils.ConfigurationUtils;
+import dev.voidframework.datasource.DataSourceManager;
+import dev.voidframework.redis.Redis;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.BandwidthBuilder;
 import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
+import io.github.bucket4j.distributed.proxy.ClientSideConfig;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.distributed.proxy.optimization.DelayParameters;
+import io.github.bucket4j.distributed.proxy.optimization.Optimization;
+import io.github.bucket4j.distributed.proxy.optimization.Optimizations;
 import io.github.bucket4j.local.LocalBucketBuilder;
 import io.github.bucket4j.local.SynchronizationStrategy;
 
+import javax.sql.DataSource;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
 
 /**
  * This is a factory to create Bucket instances which
@@ -25,8 +43,18 @@ import java.util.concurrent.TimeUnit;
  */
 public final class BucketTokenRegistry {
 
+    private static final long DEFAULT_KEYED_BUCKETS_MAXIMUM_SIZE = 100_000;
+    private static final Duration DEFAULT_KEYED_BUCKETS_EXPIRE_AFTER_ACCESS = Duration.ofHours(1);
+    private static final long DEFAULT_OPTIMIZATION_MAX_UNSYNCHRONIZED_TOKENS = 100;
+    private static final Duration DEFAULT_OPTIMIZATION_MAX_UNSYNCHRONIZED_TIMEOUT = Duration.ofMillis(100);
+    private static final Duration DEFAULT_JDBC_PURGE_INTERVAL = Duration.ofMinutes(1);
+
     private final Config configuration;
+    private final Provider<Injector> injectorProvider;
     private final Map<String, Bucket> bucketPerNameMap;
+    private final Map<String, BucketTemplate> bucketTemplatePerConfigurationPathMap;
+    private final Map<String, Cache<String, Bucket>> keyedBucketCachePerNameMap;
+    private final Map<String, ProxyManager<String>> proxyManagerPerConfigurationPathMap;
 
     /**
      * Build a new instance.
@@ -36,8 +64,24 @@ public final class BucketTokenRegistry {
      */
     public BucketTokenRegistry(final Config configuration) {
 
+        this(configuration, (Provider<Injector>) null);
+    }
+
+    /**
+     * Build a new instance.
+     *
+     * @param configuration    The application configuration
+     * @param injectorProvider The injector provider, used to retrieve distributed backends (ie: Redis)
+     * @since 1.17.0
+     */
+    public BucketTokenRegistry(final Config configuration, final Provider<Injector> injectorProvider) {
+
         this.configuration = configuration;
+        this.injectorProvider = injectorProvider;
         this.bucketPerNameMap = new ConcurrentHashMap<>();
+        this.bucketTemplatePerConfigurationPathMap = new ConcurrentHashMap<>();
+        this.keyedBucketCachePerNameMap = new ConcurrentHashMap<>();
+        this.proxyManagerPerConfigurationPathMap = new ConcurrentHashMap<>();
     }
 
     /**
@@ -50,7 +94,11 @@ public final class BucketTokenRegistry {
     public BucketTokenRegistry(final Config configuration, final Map<String, Bucket> initialBuckets) {
 
         this.configuration = configuration;
+        this.injectorProvider = null;
         this.bucketPerNameMap = new ConcurrentHashMap<>(initialBuckets);
+        this.bucketTemplatePerConfigurationPathMap = new ConcurrentHashMap<>();
+        this.keyedBucketCachePerNameMap = new ConcurrentHashMap<>();
+        this.proxyManagerPerConfigurationPathMap = new ConcurrentHashMap<>();
     }
 
     /**
@@ -98,13 +146,55 @@ public final class BucketTokenRegistry {
                 throw new BucketTokenException.BucketDoesNotExist(bucketName);
             }
 
-            managedBucket = this.createBucket(configurationPath);
+            managedBucket = this.createBucket(this.bucketTemplate(configurationPath), bucketName);
             this.bucketPerNameMap.put(bucketName, managedBucket);
         }
 
         return managedBucket;
     }
 
+    /**
+     * Returns a managed Bucket dedicated to the given key, or create a new one. All Buckets sharing
+     * the same name are created from the same configuration: "voidframework.bucket4j.&lt;bucketName&gt;".
+     * <p>
+     * Keyed Buckets are held in a bounded cache, configured with "keyedBuckets.maximumSize" and
+     * "keyedBuckets.expireAfterAccess": the least recently used and the idle Buckets are discarded.
+     *
+     * @param bucketName The name of the Bucket
+     * @param key        The key (ie: client IP address)
+     * @return The Bucket
+     * @see BucketTokenException.InvalidKey
+     * @since 1.17.0
+     */
+    public Bucket keyedBucket(final String bucketName, final String key) {
+
+        if (key == null) {
+            throw new BucketTokenException.InvalidKey(bucketName, "key can't be null");
+        }
+
+        final Cache<String, Bucket> keyedBucketCache = this.keyedBucketCachePerNameMap.computeIfAbsent(
+            bucketName,
+            this::createKeyedBucketCache);
+
+        final BucketTemplate bucketTemplate = this.bucketTemplate("voidframework.bucket4j." + bucketName);
+        return keyedBucketCache.asMap().computeIfAbsent(key, k -> this.createBucket(bucketTemplate, bucketName + ":" + k));
+    }
+
+    /**
+     * Validates the configuration of a Bucket and creates it. Buckets using a distributed
+     * backend are only created on first use, once the backend is available.
+     *
+     * @param bucketName The name of the Bucket
+     * @since 1.17.0
+     */
+    public void initializeBucket(final String bucketName) {
+
+        final BucketTemplate bucketTemplate = this.bucketTemplate("voidframework.bucket4j." + bucketName);
+        if (bucketTemplate.backend() == BucketBackend.LOCAL) {
+            this.bucket(bucketName);
+        }
+    }
+
     /**
      * Returns all managed Bucket instances.
      *
@@ -119,14 +209,132 @@ public final class BucketTokenRegistry {
     /**
      * Creates a new Bucket.
      *
-     * @param configurationPath The configuration path to use during Bucket creation process
+     * @param bucketTemplate The Bucket template
+     * @param bucketKey      The Bucket key, used to identify Bucket state in distributed backends
      * @return Newly created Bucket
      * @since 1.9.0
      */
-    private Bucket createBucket(final String configurationPath) {
+    private Bucket createBucket(final BucketTemplate bucketTemplate, final String bucketKey) {
+
+        final BucketConfiguration bucketConfiguration = this.resolveBucketConfiguration(bucketTemplate);
+
+        if (bucketTemplate.backend() == BucketBackend.LOCAL) {
+            final LocalBucketBuilder bucketBuilder = Bucket.builder();
+            for (final Bandwidth bandwidth : bucketConfiguration.getBandwidths()) {
+                bucketBuilder.addLimit(bandwidth);
+            }
+
+            return bucketBuilder
+                .withSynchronizationStrategy(bucketTemplate.synchronizationStrategy())
+                .withMillisecondPrecision()
+                .build();
+        }
+
+        final ProxyManager<String> proxyManager = this.proxyManagerPerConfigurationPathMap.computeIfAbsent(
+            bucketTemplate.configurationPath(),
+            configurationPath -> this.createProxyManager(configurationPath, bucketTemplate.backend()));
+
+        return proxyManager.builder()
+            .withOptimization(bucketTemplate.optimization())
+            .build(bucketKey, bucketConfiguration);
+    }
+
+    /**
+     * Resolves the configuration of a new Bucket. Aligned refills depend on the time at which
+     * the Bucket is created: only their Bandwidths are created again, from the already parsed
+     * Bandwidth templates, with a time of first refill computed for the new Bucket.
+     *
+     * @param bucketTemplate The Bucket template
+     * @return The Bucket configuration
+     * @since 1.17.0
+     */
+    private BucketConfiguration resolveBucketConfiguration(final BucketTemplate bucketTemplate) {
+
+        if (!bucketTemplate.isRefillAligned()) {
+            return bucketTemplate.bucketConfiguration();
+        }
+
+        final Bandwidth[] templateBandwidthArray = bucketTemplate.bucketConfiguration().getBandwidths();
+        final List<BandwidthTemplate> bandwidthTemplateList = bucketTemplate.bandwidthTemplateList();
+        final List<Bandwidth> bandwidthList = new ArrayList<>(templateBandwidthArray.length);
+        for (int idx = 0; idx < templateBandwidthArray.length; idx += 1) {
+            final BandwidthTemplate bandwidthTemplate = bandwidthTemplateList.get(idx);
+            bandwidthList.add(bandwidthTemplate.isRefillAligned() ? this.createBandwidth(bandwidthTemplate) : templateBandwidthArray[idx]);
+        }
+
+        return new BucketConfiguration(bandwidthList);
+    }
+
+    /**
+     * Creates a new proxy manager to access Bucket states stored into a distributed backend.
+     *
+     * @param configurationPath The Bucket configuration path
+     * @param backend           The distributed backend
+     * @return Newly created proxy manager
+     * @since 1.17.0
+     */
+    private ProxyManager<String> createProxyManager(final String configurationPath, final BucketBackend backend) {
+
+        if (this.injectorProvider == null) {
+            throw new BucketTokenException.BackendNotAvailable(configurationPath, "no injector available");
+        }
+
+        final Config bucketConfiguration = this.configuration.getConfig(configurationPath);
+        final Injector injector = this.injectorProvider.get();
+
+        ClientSideConfig clientSideConfig = ClientSideConfig.getDefault();
+        if (bucketConfiguration.hasPath("expireAfterWrite")) {
+            clientSideConfig = clientSideConfig.withExpirationAfterWriteStrategy(
+                ExpirationAfterWriteStrategy.basedOnTimeForRefillingBucketUpToMax(bucketConfiguration.getDuration("expireAfterWrite")));
+        } else if (backend == BucketBackend.JDBC) {
+            // Table rows are never discarded by the database itself: states expire once the Bucket is full again
+            clientSideConfig = clientSideConfig.withExpirationAfterWriteStrategy(
+                ExpirationAfterWriteStrategy.basedOnTimeForRefillingBucketUpToMax(Duration.ZERO));
+        }
+
+        if (backend == BucketBackend.REDIS) {
+            final String keyPrefix = ConfigurationUtils.getStringOrDefault(bucketConfiguration, "redis.keyPrefix", "bucket4j:");
+            return new RedisProxyManager(injector.getInstance(Redis.class), keyPrefix, clientSideConfig);
+        }
+
+        final String dataSourceName = ConfigurationUtils.getStringOrDefault(bucketConfiguration, "jdbc.dataSourceName", "default");
+        final String tableName = ConfigurationUtils.getStringOrDefault(bucketConfiguration, "jdbc.tableName", "bucket4j_state");
+        final DataSource dataSource = injector.getInstance(DataSourceManager.class).getDataSource(dataSourceName);
+        if (dataSource == null) {
+            throw new BucketTokenException.BackendNotAvailable(configurationPath, "data source '" + dataSourceName + "' does not exist");
+        }
+
+        final Duration purgeInterval = ConfigurationUtils.getDurationOrDefault(
+            bucketConfiguration,
+            "jdbc.purgeInterval",
+            DEFAULT_JDBC_PURGE_INTERVAL);
+
+        return new JdbcProxyManager(dataSource, tableName, clientSideConfig, purgeInterval);
+    }
+
+    /**
+     * Returns the Bucket template for the given configuration path. Templates are only created
+     * once, configuration is not parsed again each time a new Bucket is created.
+     *
+     * @param configurationPath The configuration path to use during Bucket template creation process
+     * @return The Bucket template
+     * @since 1.17.0
+     */
+    private BucketTemplate bucketTemplate(final String configurationPath) {
+
+        return this.bucketTemplatePerConfigurationPathMap.computeIfAbsent(configurationPath, this::createBucketTemplate);
+    }
+
+    /**
+     * Creates a new Bucket template.
+     *
+     * @param configurationPath The configuration path to use during Bucket template creation process
+     * @return Newly created Bucket template
+     * @since 1.17.0
+     */
+    private BucketTemplate createBucketTemplate(final String configurationPath) {
 
         final Config bucketConfiguration = this.configuration.getConfig(configurationPath);
-        final LocalBucketBuilder bucketBuilder = Bucket.builder();
 
         final SynchronizationStrategy synchronizationStrategy = ConfigurationUtils.getEnumOrDefault(
             bucketConfiguration,
@@ -134,35 +342,127 @@ public final class BucketTokenRegistry {
             SynchronizationStrategy.class,
             SynchronizationStrategy.LOCK_FREE);
 
-        final List<? extends Config> bandwidthLimitConfigurationList = bucketConfiguration.getConfigList("bandwidthLimits");
-        for (final Config config : bandwidthLimitConfigurationList) {
-            final Bandwidth bandwidth = this.createBandwidth(config);
-            bucketBuilder.addLimit(bandwidth);
-        }
+        final List<BandwidthTemplate> bandwidthTemplateList = bucketConfiguration.getConfigList("bandwidthLimits")
+            .stream()
+            .map(this::createBandwidthTemplate)
+            .toList();
+        final List<Bandwidth> bandwidthList = bandwidthTemplateList.stream()
+            .map(this::createBandwidth)
+            .toList();
+        final boolean isRefillAligned = bandwidthTemplateList.stream().anyMatch(BandwidthTemplate::isRefillAligned);
 
-        return bucketBuilder
-            .withSynchronizationStrategy(synchronizationStrategy)
-            .withMillisecondPrecision()
+        final BucketBackend backend = ConfigurationUtils.getEnumOrDefault(
+            bucketConfiguration,
+            "backend",
+            BucketBackend.class,
+            BucketBackend.LOCAL);
+
+        return new BucketTemplate(
+            configurationPath,
+            new BucketConfiguration(bandwidthList),
+            isRefillAligned ? bandwidthTemplateList : List.of(),
+            isRefillAligned,
+            synchronizationStrategy,
+            backend,
+            this.createOptimization(bucketConfiguration));
+    }
+
+    /**
+     * Creates the optimization to apply to distributed Buckets.
+     *
+     * @param bucketConfiguration The Bucket configuration
+     * @return Newly created optimization
+     * @since 1.17.0
+     */
+    private Optimization createOptimization(final Config bucketConfiguration) {
+
+        final BucketOptimization bucketOptimization = ConfigurationUtils.getEnumOrDefault(
+            bucketConfiguration,
+            "optimization.strategy",
+            BucketOptimization.class,
+            BucketOptimization.NONE);
+
+        final DelayParameters delayParameters = new DelayParameters(
+            ConfigurationUtils.getLongOrDefault(
+                bucketConfiguration,
+                "optimization.maxUnsynchronizedTokens",
+                DEFAULT_OPTIMIZATION_MAX_UNSYNCHRONIZED_TOKENS),
+            ConfigurationUtils.getDurationOrDefault(
+                bucketConfiguration,
+                "optimization.maxUnsynchronizedTimeout",
+                DEFAULT_OPTIMIZATION_MAX_UNSYNCHRONIZED_TIMEOUT));
+
+        return switch (bucketOptimization) {
+            case NONE -> Optimization.NONE_OPTIMIZED;
+            case BATCHING -> Optimizations.batching();
+            case DELAYING -> Optimizations.delaying(delayParameters);
+            case PREDICTING -> Optimizations.predicting(delayParameters);
+        };
+    }
+
+    /**
+     * Creates a new cache to hold keyed Buckets.
+     *
+     * @param bucketName The name of the Bucket
+     * @return Newly created cache
+     * @since 1.17.0
+     */
+    private Cache<String, Bucket> createKeyedBucketCache(final String bucketName) {
+
+        final Config bucketConfiguration = this.configuration.getConfig("voidframework.bucket4j." + bucketName);
+
+        return CacheBuilder.newBuilder()
+            .maximumSize(ConfigurationUtils.getLongOrDefault(
+                bucketConfiguration,
+                "keyedBuckets.maximumSize",
+                DEFAULT_KEYED_BUCKETS_MAXIMUM_SIZE))
+            .expireAfterAccess(ConfigurationUtils.getDurationOrDefault(
+                bucketConfiguration,
+                "keyedBuckets.expireAfterAccess",
+                DEFAULT_KEYED_BUCKETS_EXPIRE_AFTER_ACCESS))
             .build();
     }
 
     /**
-     * Creates a new Bandwidth.
+     * Creates a new Bandwidth template.
      *
      * @param bandwidthConfiguration The Bandwidth configuration
-     * @return Newly created Bandwidth
-     * @since 1.9.0
+     * @return Newly created Bandwidth template
+     * @since 1.17.0
      */
-    private Bandwidth createBandwidth(final Config bandwidthConfiguration) {
+    private BandwidthTemplate createBandwidthTemplate(final Config bandwidthConfiguration) {
 
-        final String id = bandwidthConfiguration.getString("id");
         final String refillStrategy = bandwidthConfiguration.getString("refill.strategy").toUpperCase(Locale.ENGLISH);
-        final Duration period = bandwidthConfiguration.getDuration("refill.period");
         final long capacity = bandwidthConfiguration.getInt("capacity");
-        final long refillTokens = bandwidthConfiguration.getLong("refill.tokens");
-        final long refillInitialTokens = ConfigurationUtils.getLongOrDefault(bandwidthConfiguration, "refill.initialTokens", capacity);
+        final boolean isRefillAligned = "INTERVALLY_ALIGNED".equals(refillStrategy);
+
+        return new BandwidthTemplate(
+            bandwidthConfiguration.getString("id"),
+            refillStrategy,
+            capacity,
+            bandwidthConfiguration.getLong("refill.tokens"),
+            bandwidthConfiguration.getDuration("refill.period"),
+            ConfigurationUtils.getLongOrDefault(bandwidthConfiguration, "refill.initialTokens", capacity),
+            isRefillAligned ? bandwidthConfiguration.getDuration("refill.timeOfFirstRefill") : null,
+            isRefillAligned && bandwidthConfiguration.getBoolean("refill.useAdaptiveInitialTokens"));
+    }
+
+    /**
+     * Creates a new Bandwidth.
+     *
+     * @param bandwidthTemplate The Bandwidth template
+     * @return Newly created Bandwidth
+     * @since 1.9.0
+     */
+    private Bandwidth createBandwidth(final BandwidthTemplate bandwidthTemplate) {
+
+        final String id = bandwidthTemplate.id();
+        final Duration period = bandwidthTemplate.period();
+        final long capacity = bandwidthTemplate.capacity();
+        final long refillTokens = bandwidthTemplate.refillTokens();
+        final long refillInitialTokens = bandwidthTemplate.refillInitialTokens();
 
-        return switch (refillStrategy) {
+        return switch (bandwidthTemplate.refillStrategy()) {
             case "GREEDY" -> BandwidthBuilder.builder()
                 .capacity(capacity)
                 .refillGreedy(refillTokens, period)
@@ -176,28 +476,79 @@ public final class BucketTokenRegistry {
                 .id(id)
                 .build();
             case "INTERVALLY_ALIGNED" -> {
-                if (bandwidthConfiguration.getBoolean("refill.useAdaptiveInitialTokens")) {
+                final Instant timeOfFirstRefill = Instant.now().plus(bandwidthTemplate.timeOfFirstRefill());
+                if (bandwidthTemplate.useAdaptiveInitialTokens()) {
                     yield BandwidthBuilder.builder()
                         .capacity(capacity)
-                        .refillIntervallyAlignedWithAdaptiveInitialTokens(
-                            refillTokens,
-                            period,
-                            Instant.now().plusMillis(bandwidthConfiguration.getDuration("refill.timeOfFirstRefill", TimeUnit.MILLISECONDS)))
+                        .refillIntervallyAlignedWithAdaptiveInitialTokens(refillTokens, period, timeOfFirstRefill)
                         .id(id)
                         .build();
                 } else {
                     yield BandwidthBuilder.builder()
                         .capacity(capacity)
-                        .refillIntervallyAligned(
-                            refillTokens,
-                            period,
-                            Instant.now().plusMillis(bandwidthConfiguration.getDuration("refill.timeOfFirstRefill", TimeUnit.MILLISECONDS)))
+                        .refillIntervallyAligned(refillTokens, period, timeOfFirstRefill)
                         .initialTokens(refillInitialTokens)
                         .id(id)
                         .build();
                 }
             }
-            default -> throw new BucketTokenException.UnknownRefillStrategy(refillStrategy);
+            default -> throw new BucketTokenException.UnknownRefillStrategy(bandwidthTemplate.refillStrategy());
         };
     }
+
+    /**
+     * Template from which Buckets sharing the same configuration are created.
+     *
+     * @param configurationPath               The configuration path
+     * @param bucketConfiguration             The Bucket configuration
+     * @param bandwidthTemplateList           The Bandwidth templates (aligned refills only)
+     * @param isRefillAligned                 Whether at least one Bandwidth uses an aligned refill
+     * @param synchronizationStrategy         The synchronization strategy (local backend only)
+     * @param backend                         The backend in which Bucket states are stored
+     * @param optimization                    The optimization to apply (distributed backends only)
+     * @since 1.17.0
+     */
+    private record BucketTemplate(String configurationPath,
+                                  BucketConfiguration bucketConfiguration,
+                                  List<BandwidthTemplate> bandwidthTemplateList,
+                                  boolean isRefillAligned,
+                                  SynchronizationStrategy synchronizationStrategy,
+                                  BucketBackend backend,
+                                  Optimization optimization) {
+    }
+
+    /**
+     * Parsed Bandwidth configuration, from which Bandwidths are created without reading the
+     * configuration again.
+     *
+     * @param id                       The Bandwidth ID
+     * @param refillStrategy           The refill strategy (upper case)
+     * @param capacity                 The capacity
+     * @param refillTokens             The number of tokens added on each refill
+     * @param period                   The refill period
+     * @param refillInitialTokens      The initial number of tokens
+     * @param timeOfFirstRefill        The delay before the first refill (aligned refills only)
+     * @param useAdaptiveInitialTokens Whether initial tokens are adapted to the time of first refill (aligned refills only)
+     * @since 1.17.0
+     */
+    private record BandwidthTemplate(String id,
+                                     String refillStrategy,
+                                     long capacity,
+                                     long refillTokens,
+                                     Duration period,
+                                     long refillInitialTokens,
+                                     Duration timeOfFirstRefill,
+                                     boolean useAdaptiveInitialTokens) {
+
+        /**
+         * Checks whether this Bandwidth uses an aligned refill.
+         *
+         * @return {@code true} if the refill is aligned, otherwise {@code false}
+         * @since 1.17.0
+         */
+        private boolean isRefillAligned() {
+
+            return "INTERVALLY_ALIGNED".equals(this.refillStrategy);
+        }
+    }
 }
@@ -30,6 +30,33 @@ public @interface BucketToken {
      */
     String value();
 
+    /**
+     * Expression used to compute the key for which a dedicated Bucket will be used
+     * (ie: per client IP address or per API key). All Buckets sharing the same name
+     * are created from the same configuration. If empty, a single Bucket is shared
+     * by all callers.
+     * <p>
+     * The expression starts with the index of the method argument to use, optionally
+     * followed by properties to navigate through. A property can be a getter (ie: "request"
+     * calls {@code getRequest()}), a method taking a single string argument (ie: "header('X-Api-Key')"
+     * calls {@code getHeader("X-Api-Key")}) or a map key.
+     * <p>
+     * If the expression evaluates to {@code null} (ie: missing header), the key "null" is
+     * used: all these callers share a single Bucket.
+     * <p>
+     * Examples:
+     * <ul>
+     *     <li>{@code #0} - the first argument</li>
+     *     <li>{@code #0.request.remoteHostName} - the client IP address from the web context</li>
+     *     <li>{@code #0.request.header('X-Api-Key')} - the API key from the web context</li>
+     *     <li>{@code #1.session.userId} - the "userId" session value from the web context</li>
+     * </ul>
+     *
+     * @return The key expression
+     * @since 1.17.0
+     */
+    String key() default "";
+
     /**
      * Name of the fallback method to use when "Token-bucket" rate-limiting
      * algorithm block access to the protected method. If there are multiple
@@ -0,0 +1,30 @@
+package dev.voidframework.bucket4j.distributed;
+
+/**
+ * Backend in which Bucket states are stored.
+ *
+ * @since 1.17.0
+ */
+public enum BucketBackend {
+
+    /**
+     * Bucket state is held in memory, it is not shared between application instances.
+     *
+     * @since 1.17.0
+     */
+    LOCAL,
+
+    /**
+     * Bucket state is stored into Redis, it is shared between all application instances.
+     *
+     * @since 1.17.0
+     */
+    REDIS,
+
+    /**
+     * Bucket state is stored into a database table, it is shared between all application instances.
+     *
+     * @since 1.17.0
+     */
+    JDBC
+}
@@ -0,0 +1,40 @@
+package dev.voidframework.bucket4j.distributed;
+
+/**
+ * Optimization applied to distributed Buckets to reduce the number of round trips to the backend.
+ *
+ * @see <a href="https://bucket4j.com/8.10.1/toc.html#optimizations">Bucket4J optimizations</a>
+ * @since 1.17.0
+ */
+public enum BucketOptimization {
+
+    /**
+     * Each token consumption is synchronized with the backend.
+     *
+     * @since 1.17.0
+     */
+    NONE,
+
+    /**
+     * Concurrent token consumptions are combined into a single request to the backend.
+     *
+     * @since 1.17.0
+     */
+    BATCHING,
+
+    /**
+     * Tokens are consumed locally and synchronized with the backend once a threshold
+     * (number of tokens or elapsed time) is reached.
+     *
+     * @since 1.17.0
+     */
+    DELAYING,
+
+    /**
+     * Same as {@link #DELAYING}, but also predicts consumption made by other application
+     * instances between two synchronizations.
+     *
+     * @since 1.17.0
+     */
+    PREDICTING
+}
@@ -0,0 +1,324 @@
+package dev.voidframework.bucket4j.distributed;
+
+import dev.voidframework.bucket4j.exception.BucketTokenException;
+import io.github.bucket4j.distributed.proxy.ClientSideConfig;
+import io.github.bucket4j.distributed.proxy.generic.compare_and_swap.AbstractCompareAndSwapBasedProxyManager;
+import io.github.bucket4j.distributed.proxy.generic.compare_and_swap.AsyncCompareAndSwapOperation;
+import io.github.bucket4j.distributed.proxy.generic.compare_and_swap.CompareAndSwapOperation;
+import io.github.bucket4j.distributed.remote.RemoteBucketState;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Bucket4J proxy manager storing Bucket states into a database table. Bucket states
+ * are updated with an optimistic "compare-and-swap" operation based on a version column,
+ * which only relies on standard SQL and works with any database. Only the synchronous
+ * API is supported.
+ * <p>
+ * Each write records when the Bucket state expires, according to the expiration strategy
+ * of the client side configuration (never, if no strategy is defined). Expired Bucket states
+ * are purged by the writes themselves, at most once per purge interval, so the table does not
+ * grow with Buckets which are no longer used (ie: keyed Buckets).
+ * <p>
+ * Expected table structure:
+ * <pre>
+ * CREATE TABLE bucket4j_state (
+ *     id         VARCHAR(255) NOT NULL PRIMARY KEY,
+ *     state      VARBINARY(4096) NOT NULL,
+ *     version    BIGINT NOT NULL,
+ *     expires_at BIGINT
+ * );
+ * CREATE INDEX bucket4j_state_expires_at ON bucket4j_state (expires_at);
+ * </pre>
+ *
+ * @since 1.17.0
+ */
+public final class JdbcProxyManager extends AbstractCompareAndSwapBasedProxyManager<String> {
+
+    private static final Pattern TABLE_NAME_PATTERN = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*(\\.[A-Za-z_][A-Za-z0-9_]*)?");
+    private static final Duration DEFAULT_PURGE_INTERVAL = Duration.ofMinutes(1);
+
+    private final DataSource dataSource;
+    private final long purgeIntervalMillis;
+    private final AtomicLong nextPurgeTimeMillis;
+    private final String selectQuery;
+    private final String insertQuery;
+    private final String updateQuery;
+    private final String deleteQuery;
+    private final String purgeQuery;
+
+    /**
+     * Build a new instance. Expired Bucket states are purged at most once per minute.
+     *
+     * @param dataSource       The data source
+     * @param tableName        The name of the table containing Bucket states, optionally prefixed by the schema
+     * @param clientSideConfig The client side configuration
+     * @since 1.17.0
+     */
+    public JdbcProxyManager(final DataSource dataSource, final String tableName, final ClientSideConfig clientSideConfig) {
+
+        this(dataSource, tableName, clientSideConfig, DEFAULT_PURGE_INTERVAL);
+    }
+
+    /**
+     * Build a new instance.
+     *
+     * @param dataSource       The data source
+     * @param tableName        The name of the table containing Bucket states, optionally prefixed by the schema
+     * @param clientSideConfig The client side configuration
+     * @param purgeInterval    The minimum interval between two purges of expired Bucket states
+     * @since 1.17.0
+     */
+    public JdbcProxyManager(final DataSource dataSource,
+                            final String tableName,
+                            final ClientSideConfig clientSideConfig,
+                            final Duration purgeInterval) {
+
+        super(clientSideConfig);
+
+        if (tableName == null || !TABLE_NAME_PATTERN.matcher(tableName).matches()) {
+            throw new BucketTokenException.InvalidTableName(tableName);
+        }
+
+        this.dataSource = dataSource;
+        this.purgeIntervalMillis = purgeInterval.toMillis();
+        this.nextPurgeTimeMillis = new AtomicLong();
+        this.selectQuery = "SELECT state, version FROM " + tableName + " WHERE id = ?";
+        this.insertQuery = "INSERT INTO " + tableName + " (id, state, version, expires_at) VALUES (?, ?, 0, ?)";
+        this.updateQuery = "UPDATE " + tableName + " SET state = ?, version = version + 1, expires_at = ? WHERE id = ? AND version = ?";
+        this.deleteQuery = "DELETE FROM " + tableName + " WHERE id = ?";
+        this.purgeQuery = "DELETE FROM " + tableName + " WHERE expires_at < ?";
+    }
+
+    @Override
+    protected CompareAndSwapOperation beginCompareAndSwapOperation(final String key) {
+
+        return new CompareAndSwapOperation() {
+
+            private long version;
+
+            @Override
+            public Optional<byte[]> getStateData(final Optional<Long> timeoutNanos) {
+
+                try (final Connection connection = dataSource.getConnection();
+                     final PreparedStatement statement = connection.prepareStatement(selectQuery)) {
+
+                    statement.setString(1, key);
+                    try (final ResultSet resultSet = statement.executeQuery()) {
+                        if (!resultSet.next()) {
+                            return Optional.empty();
+                        }
+
+                        this.version = resultSet.getLong(2);
+                        return Optional.of(resultSet.getBytes(1));
+                    }
+                } catch (final SQLException exception) {
+                    throw new IllegalStateException("Can't retrieve state of Bucket '" + key + "'", exception);
+                }
+            }
+
+            @Override
+            public boolean compareAndSwap(final byte[] originalData,
+                                          final byte[] newData,
+                                          final RemoteBucketState newState,
+                                          final Optional<Long> timeoutNanos) {
+
+                final long currentTimeMillis = currentTimeMillis();
+                final Long expiresAt = getClientSideConfig().getExpirationAfterWriteStrategy()
+                    .map(strategy -> strategy.calculateTimeToLiveMillis(newState, currentTimeMillis * 1_000_000))
+                    .map(timeToLiveMillis -> currentTimeMillis + timeToLiveMillis)
+                    .orElse(null);
+
+                try (final Connection connection = dataSource.getConnection()) {
+                    final boolean isSwapped;
+                    if (originalData == null) {
+                        isSwapped = insertState(connection, key, newData, expiresAt);
+                    } else {
+                        try (final PreparedStatement statement = connection.prepareStatement(updateQuery)) {
+                            statement.setBytes(1, newData);
+                            setExpiresAt(statement, 2, expiresAt);
+                            statement.setString(3, key);
+                            statement.setLong(4, this.version);
+                            isSwapped = statement.executeUpdate() == 1;
+                        }
+                    }
+
+                    if (isSwapped) {
+                        purgeExpiredStatesIfNeeded(connection, currentTimeMillis);
+                    }
+
+                    return isSwapped;
+                } catch (final SQLException exception) {
+                    throw new IllegalStateException("Can't update state of Bucket '" + key + "'", exception);
+                }
+            }
+        };
+    }
+
+    @Override
+    protected AsyncCompareAndSwapOperation beginAsyncCompareAndSwapOperation(final String key) {
+
+        // Never called, asynchronous mode is not supported (see isAsyncModeSupported)
+        throw new UnsupportedOperationException("Asynchronous mode is not supported by the JDBC backend");
+    }
+
+    @Override
+    public void removeProxy(final String key) {
+
+        try (final Connection connection = this.dataSource.getConnection();
+             final PreparedStatement statement = connection.prepareStatement(this.deleteQuery)) {
+
+            statement.setString(1, key);
+            statement.executeUpdate();
+        } catch (final SQLException exception) {
+            throw new IllegalStateException("Can't remove Bucket '" + key + "'", exception);
+        }
+    }
+
+    @Override
+    protected CompletableFuture<Void> removeAsync(final String key) {
+
+        // Never called, asynchronous mode is not supported (see isAsyncModeSupported)
+        throw new UnsupportedOperationException("Asynchronous mode is not supported by the JDBC backend");
+    }
+
+    @Override
+    public boolean isAsyncModeSupported() {
+
+        return false;
+    }
+
+    @Override
+    public boolean isExpireAfterWriteSupported() {
+
+        return true;
+    }
+
+    /**
+     * Purges all expired Bucket states.
+     *
+     * @return The number of purged Bucket states
+     * @since 1.17.0
+     */
+    public int purgeExpiredStates() {
+
+        try (final Connection connection = this.dataSource.getConnection()) {
+            return this.purgeExpiredStates(connection, this.currentTimeMillis());
+        } catch (final SQLException exception) {
+            throw new IllegalStateException("Can't purge expired Bucket states", exception);
+        }
+    }
+
+    /**
+     * Inserts the initial state of a Bucket.
+     *
+     * @param connection The connection to use
+     * @param key        The Bucket key
+     * @param newData    The Bucket state
+     * @param expiresAt  The time at which the Bucket state expires (epoch millis), or {@code null} if it never expires
+     * @return {@code true} if the state was inserted, {@code false} if another node inserted it first
+     * @throws SQLException If a database access error occurs
+     * @since 1.17.0
+     */
+    private boolean insertState(final Connection connection,
+                                final String key,
+                                final byte[] newData,
+                                final Long expiresAt) throws SQLException {
+
+        try (final PreparedStatement statement = connection.prepareStatement(this.insertQuery)) {
+            statement.setString(1, key);
+            statement.setBytes(2, newData);
+            setExpiresAt(statement, 3, expiresAt);
+            return statement.executeUpdate() == 1;
+        } catch (final SQLException exception) {
+            // Primary key violation: another node created the Bucket state concurrently
+            if (exception.getSQLState() != null && exception.getSQLState().startsWith("23")) {
+                return false;
+            }
+
+            throw exception;
+        }
+    }
+
+    /**
+     * Purges expired Bucket states, unless a purge has already been done during the current
+     * purge interval. Only one of the concurrent writers performs the purge.
+     *
+     * @param connection        The connection to use
+     * @param currentTimeMillis The current time (epoch millis)
+     * @since 1.17.0
+     */
+    private void purgeExpiredStatesIfNeeded(final Connection connection, final long currentTimeMillis) {
+
+        final long nextPurgeTime = this.nextPurgeTimeMillis.get();
+        if (currentTimeMillis < nextPurgeTime
+            || !this.nextPurgeTimeMillis.compareAndSet(nextPurgeTime, currentTimeMillis + this.purgeIntervalMillis)) {
+            return;
+        }
+
+        try {
+            this.purgeExpiredStates(connection, currentTimeMillis);
+        } catch (final SQLException ignore) {
+            // The Bucket state has been written, purge will be attempted again on next interval
+        }
+    }
+
+    /**
+     * Purges expired Bucket states.
+     *
+     * @param connection        The connection to use
+     * @param currentTimeMillis The current time (epoch millis)
+     * @return The number of purged Bucket states
+     * @throws SQLException If a database access error occurs
+     * @since 1.17.0
+     */
+    private int purgeExpiredStates(final Connection connection, final long currentTimeMillis) throws SQLException {
+
+        try (final PreparedStatement statement = connection.prepareStatement(this.purgeQuery)) {
+            statement.setLong(1, currentTimeMillis);
+            return statement.executeUpdate();
+        }
+    }
+
+    /**
+     * Sets the expiration time parameter of a statement.
+     *
+     * @param statement      The statement
+     * @param parameterIndex The parameter index
+     * @param expiresAt      The time at which the Bucket state expires (epoch millis), or {@code null} if it never expires
+     * @throws SQLException If a database access error occurs
+     * @since 1.17.0
+     */
+    private static void setExpiresAt(final PreparedStatement statement,
+                                     final int parameterIndex,
+                                     final Long expiresAt) throws SQLException {
+
+        if (expiresAt == null) {
+            statement.setNull(parameterIndex, Types.BIGINT);
+        } else {
+            statement.setLong(parameterIndex, expiresAt);
+        }
+    }
+
+    /**
+     * Retrieves the current time, in milliseconds, from the client side clock if configured.
+     *
+     * @return The current time in milliseconds
+     * @since 1.17.0
+     */
+    private long currentTimeMillis() {
+
+        final Long clientSideTime = this.getClientSideTime();
+        return clientSideTime != null ? clientSideTime / 1_000_000 : System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,188 @@
+package dev.voidframework.bucket4j.distributed;
+
+import dev.voidframework.redis.Redis;
+import io.github.bucket4j.distributed.proxy.ClientSideConfig;
+import io.github.bucket4j.distributed.proxy.generic.compare_and_swap.AbstractCompareAndSwapBasedProxyManager;
+import io.github.bucket4j.distributed.proxy.generic.compare_and_swap.AsyncCompareAndSwapOperation;
+import io.github.bucket4j.distributed.proxy.generic.compare_and_swap.CompareAndSwapOperation;
+import io.github.bucket4j.distributed.remote.RemoteBucketState;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.exceptions.JedisNoScriptException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Bucket4J proxy manager storing Bucket states into Redis. Bucket states are
+ * updated with an atomic "compare-and-swap" operation (Lua script, executed with
+ * "EVALSHA"). Only the synchronous API is supported.
+ *
+ * @since 1.17.0
+ */
+public final class RedisProxyManager extends AbstractCompareAndSwapBasedProxyManager<String> {
+
+    private static final byte[] COMPARE_AND_SWAP_SCRIPT = """
+        local current = redis.call('get', KEYS[1])
+        if ARGV[1] == '' then
+            if current then
+                return 0
+            end
+        elseif current ~= ARGV[1] then
+            return 0
+        end
+        if tonumber(ARGV[3]) > 0 then
+            redis.call('psetex', KEYS[1], ARGV[3], ARGV[2])
+        else
+            redis.call('set', KEYS[1], ARGV[2])
+        end
+        return 1
+        """.getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] NO_DATA = new byte[0];
+
+    private final Redis redis;
+    private final String keyPrefix;
+    private volatile byte[] compareAndSwapScriptSha;
+
+    /**
+     * Build a new instance.
+     *
+     * @param redis            The Redis instance
+     * @param keyPrefix        The prefix to apply to all Redis keys
+     * @param clientSideConfig The client side configuration
+     * @since 1.17.0
+     */
+    public RedisProxyManager(final Redis redis, final String keyPrefix, final ClientSideConfig clientSideConfig) {
+
+        super(clientSideConfig);
+
+        this.redis = redis;
+        this.keyPrefix = keyPrefix;
+    }
+
+    @Override
+    protected CompareAndSwapOperation beginCompareAndSwapOperation(final String key) {
+
+        final byte[] redisKey = this.toRedisKey(key);
+
+        return new CompareAndSwapOperation() {
+
+            @Override
+            public Optional<byte[]> getStateData(final Optional<Long> timeoutNanos) {
+
+                try (final Jedis jedis = redis.getConnection()) {
+                    return Optional.ofNullable(jedis.get(redisKey));
+                }
+            }
+
+            @Override
+            public boolean compareAndSwap(final byte[] originalData,
+                                          final byte[] newData,
+                                          final RemoteBucketState newState,
+                                          final Optional<Long> timeoutNanos) {
+
+                final long timeToLiveMillis = getClientSideConfig().getExpirationAfterWriteStrategy()
+                    .map(strategy -> strategy.calculateTimeToLiveMillis(newState, currentTimeNanos()))
+                    .orElse(-1L);
+
+                final List<byte[]> argumentList = List.of(
+                    originalData == null ? NO_DATA : originalData,
+                    newData,
+                    String.valueOf(timeToLiveMillis).getBytes(StandardCharsets.UTF_8));
+
+                try (final Jedis jedis = redis.getConnection()) {
+                    final Object result = evalCompareAndSwapScript(jedis, List.of(redisKey), argumentList);
+                    return result instanceof Long value && value == 1;
+                }
+            }
+        };
+    }
+
+    @Override
+    protected AsyncCompareAndSwapOperation beginAsyncCompareAndSwapOperation(final String key) {
+
+        // Never called, asynchronous mode is not supported (see isAsyncModeSupported)
+        throw new UnsupportedOperationException("Asynchronous mode is not supported by the Redis backend");
+    }
+
+    @Override
+    public void removeProxy(final String key) {
+
+        try (final Jedis jedis = this.redis.getConnection()) {
+            jedis.del(this.toRedisKey(key));
+        }
+    }
+
+    @Override
+    protected CompletableFuture<Void> removeAsync(final String key) {
+
+        // Never called, asynchronous mode is not supported (see isAsyncModeSupported)
+        throw new UnsupportedOperationException("Asynchronous mode is not supported by the Redis backend");
+    }
+
+    @Override
+    public boolean isAsyncModeSupported() {
+
+        return false;
+    }
+
+    @Override
+    public boolean isExpireAfterWriteSupported() {
+
+        return true;
+    }
+
+    /**
+     * Executes the compare-and-swap script. The script is loaded once and then referenced by
+     * its SHA1 digest; it is loaded again if Redis no longer knows it (ie: after a restart
+     * or a "SCRIPT FLUSH").
+     *
+     * @param jedis        The Redis connection to use
+     * @param keyList      The script keys
+     * @param argumentList The script arguments
+     * @return The script result
+     * @since 1.17.0
+     */
+    private Object evalCompareAndSwapScript(final Jedis jedis, final List<byte[]> keyList, final List<byte[]> argumentList) {
+
+        byte[] scriptSha = this.compareAndSwapScriptSha;
+        if (scriptSha == null) {
+            scriptSha = jedis.scriptLoad(COMPARE_AND_SWAP_SCRIPT);
+            this.compareAndSwapScriptSha = scriptSha;
+        }
+
+        try {
+            return jedis.evalsha(scriptSha, keyList, argumentList);
+        } catch (final JedisNoScriptException ignore) {
+            scriptSha = jedis.scriptLoad(COMPARE_AND_SWAP_SCRIPT);
+            this.compareAndSwapScriptSha = scriptSha;
+            return jedis.evalsha(scriptSha, keyList, argumentList);
+        }
+    }
+
+    /**
+     * Retrieves the Redis key to use.
+     *
+     * @param key The Bucket key
+     * @return The Redis key
+     * @since 1.17.0
+     */
+    private byte[] toRedisKey(final String key) {
+
+        return (this.keyPrefix + key).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Retrieves the current time, in nanoseconds, from the client side clock if configured.
+     *
+     * @return The current time in nanoseconds
+     * @since 1.17.0
+     */
+    private long currentTimeNanos() {
+
+        final Long clientSideTime = this.getClientSideTime();
+        return clientSideTime != null ? clientSideTime : System.currentTimeMillis() * 1_000_000;
+    }
+}
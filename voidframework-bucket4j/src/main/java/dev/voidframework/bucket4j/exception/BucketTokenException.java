@@ -30,6 +30,18 @@ public class BucketTokenException extends RuntimeException {
         super(message, cause);
     }
 
+    /**
+     * Build a new instance.
+     *
+     * @param message            The detail message
+     * @param writableStackTrace Whether the stack trace should be writable
+     * @since 1.17.0
+     */
+    protected BucketTokenException(final String message, final boolean writableStackTrace) {
+
+        super(message, null, false, writableStackTrace);
+    }
+
     /**
      * Exception indicates that requested Bucket does not exist.
      *
@@ -48,6 +60,66 @@ public class BucketTokenException extends RuntimeException {
         }
     }
 
+    /**
+     * Exception indicates that the distributed backend used by a Bucket is not available.
+     *
+     * @since 1.17.0
+     */
+    public static class BackendNotAvailable extends BucketTokenException {
+
+        /**
+         * Build a new instance.
+         *
+         * @param configurationPath The Bucket configuration path
+         * @param reason            The reason why the backend is not available
+         * @since 1.17.0
+         */
+        public BackendNotAvailable(final String configurationPath, final String reason) {
+
+            super("Backend of Bucket '" + configurationPath + "' is not available: " + reason);
+        }
+    }
+
+    /**
+     * Exception indicates that the key expression is invalid.
+     *
+     * @since 1.17.0
+     */
+    public static class InvalidKeyExpression extends BucketTokenException {
+
+        /**
+         * Build a new instance.
+         *
+         * @param keyExpression The key expression
+         * @param reason        The reason why the key expression is invalid
+         * @since 1.17.0
+         */
+        public InvalidKeyExpression(final String keyExpression, final String reason) {
+
+            super("Invalid key expression '" + keyExpression + "': " + reason);
+        }
+    }
+
+    /**
+     * Exception indicates that the key of a keyed Bucket is invalid.
+     *
+     * @since 1.17.0
+     */
+    public static class InvalidKey extends BucketTokenException {
+
+        /**
+         * Build a new instance.
+         *
+         * @param bucketName The name of the Bucket
+         * @param reason     The reason why the key is invalid
+         * @since 1.17.0
+         */
+        public InvalidKey(final String bucketName, final String reason) {
+
+            super("Invalid key for Bucket '" + bucketName + "': " + reason);
+        }
+    }
+
     /**
      * Exception indicates that specified refill strategy is unknown.
      *
@@ -66,6 +138,25 @@ public class BucketTokenException extends RuntimeException {
         }
     }
 
+    /**
+     * Exception indicates that the configured JDBC table name is not a valid SQL identifier.
+     *
+     * @since 1.17.0
+     */
+    public static class InvalidTableName extends BucketTokenException {
+
+        /**
+         * Build a new instance.
+         *
+         * @param tableName The invalid table name
+         * @since 1.17.0
+         */
+        public InvalidTableName(final String tableName) {
+
+            super("'" + tableName + "' is not a valid table name");
+        }
+    }
+
     /**
      * Exception indicates that Bucket does not have enough
      * tokens to enter protected method.
@@ -83,7 +174,19 @@ public class BucketTokenException extends RuntimeException {
          */
         public NoEnoughTokensAvailable(final String bucketName) {
 
-            super("Bucket '" + bucketName + "' does not have enough tokens available");
+            this(bucketName, true);
+        }
+
+        /**
+         * Build a new instance. An instance without stack trace is cheap to throw.
+         *
+         * @param bucketName         The bucket name
+         * @param writableStackTrace Whether the stack trace should be writable
+         * @since 1.17.0
+         */
+        public NoEnoughTokensAvailable(final String bucketName, final boolean writableStackTrace) {
+
+            super("Bucket '" + bucketName + "' does not have enough tokens available", writableStackTrace);
             this.bucketName = bucketName;
         }
 
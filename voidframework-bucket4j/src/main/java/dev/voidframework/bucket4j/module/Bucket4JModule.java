@@ -2,6 +2,7 @@ package dev.voidframework.bucket4j.module;
 
 import com.google.inject.AbstractModule;
 import com.google.inject.Inject;
+import com.google.inject.Injector;
 import com.google.inject.matcher.Matchers;
 import com.typesafe.config.Config;
 import dev.voidframework.bucket4j.BucketTokenRegistry;
@@ -36,13 +37,13 @@ public final class Bucket4JModule extends AbstractModule implements OrderedModul
     protected void configure() {
 
         // Create Bucket registry
-        final BucketTokenRegistry bucketTokenRegistry = new BucketTokenRegistry(this.configuration);
+        final BucketTokenRegistry bucketTokenRegistry = new BucketTokenRegistry(this.configuration, getProvider(Injector.class));
         bind(BucketTokenRegistry.class).toInstance(bucketTokenRegistry);
 
         // Force creation of all Buckets
         final Set<String> bucketNameSet = ConfigurationUtils.getAllRootLevelPaths(this.configuration, "voidframework.bucket4j");
         for (final String bucketName : bucketNameSet) {
-            bucketTokenRegistry.bucket(bucketName);
+            bucketTokenRegistry.initializeBucket(bucketName);
         }
 
         // Create method call interceptor
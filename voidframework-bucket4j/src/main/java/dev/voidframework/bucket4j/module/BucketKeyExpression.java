@@ -0,0 +1,182 @@
+package dev.voidframework.bucket4j.module;
+
+import dev.voidframework.bucket4j.exception.BucketTokenException;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Key expression, compiled once against the signature of the protected method,
+ * used to compute the Bucket key from the method arguments.
+ *
+ * @see dev.voidframework.bucket4j.annotation.BucketToken#key()
+ * @since 1.17.0
+ */
+public final class BucketKeyExpression {
+
+    private static final Pattern ARGUMENT_PATTERN = Pattern.compile("^#(\\d+)$");
+    private static final Pattern PROPERTY_PATTERN = Pattern.compile("^([A-Za-z_$][A-Za-z0-9_$]*)(?:\\('([^']*)'\\))?$");
+
+    private final int argumentIndex;
+    private final List<PropertyAccessor> propertyAccessorList;
+
+    /**
+     * Build a new instance.
+     *
+     * @param argumentIndex        Index of the method argument to use
+     * @param propertyAccessorList Accessors to apply on the method argument
+     * @since 1.17.0
+     */
+    private BucketKeyExpression(final int argumentIndex, final List<PropertyAccessor> propertyAccessorList) {
+
+        this.argumentIndex = argumentIndex;
+        this.propertyAccessorList = propertyAccessorList;
+    }
+
+    /**
+     * Compiles a key expression.
+     *
+     * @param keyExpression The key expression
+     * @param method        The method on which the expression will be evaluated
+     * @return The compiled key expression
+     * @throws BucketTokenException.InvalidKeyExpression If the expression is not valid for the given method
+     * @since 1.17.0
+     */
+    public static BucketKeyExpression compile(final String keyExpression, final Method method) {
+
+        final String[] segmentArray = keyExpression.trim().split("\\.(?=(?:[^']*'[^']*')*[^']*$)");
+
+        final Matcher argumentMatcher = ARGUMENT_PATTERN.matcher(segmentArray[0]);
+        if (!argumentMatcher.matches()) {
+            throw new BucketTokenException.InvalidKeyExpression(keyExpression, "must start with the argument index (ie: #0)");
+        }
+
+        final int argumentIndex = Integer.parseInt(argumentMatcher.group(1));
+        if (argumentIndex >= method.getParameterCount()) {
+            throw new BucketTokenException.InvalidKeyExpression(
+                keyExpression,
+                "method '" + method.getName() + "' only have " + method.getParameterCount() + " argument(s)");
+        }
+
+        final List<PropertyAccessor> propertyAccessorList = new ArrayList<>();
+        Class<?> currentClassType = method.getParameterTypes()[argumentIndex];
+        for (int idx = 1; idx < segmentArray.length; idx += 1) {
+            final Matcher propertyMatcher = PROPERTY_PATTERN.matcher(segmentArray[idx]);
+            if (!propertyMatcher.matches()) {
+                throw new BucketTokenException.InvalidKeyExpression(keyExpression, "invalid property '" + segmentArray[idx] + "'");
+            }
+
+            final PropertyAccessor propertyAccessor = resolvePropertyAccessor(
+                currentClassType,
+                propertyMatcher.group(1),
+                propertyMatcher.group(2));
+            if (propertyAccessor == null) {
+                throw new BucketTokenException.InvalidKeyExpression(
+                    keyExpression,
+                    "property '" + segmentArray[idx] + "' not found on " + currentClassType.getName());
+            }
+
+            propertyAccessorList.add(propertyAccessor);
+            currentClassType = propertyAccessor.returnClassType();
+        }
+
+        return new BucketKeyExpression(argumentIndex, List.copyOf(propertyAccessorList));
+    }
+
+    /**
+     * Evaluates the key expression. A {@code null} value is converted to the key "null",
+     * so all callers without value share the same Bucket.
+     *
+     * @param argumentArray The method arguments
+     * @return The key, never {@code null}
+     * @since 1.17.0
+     */
+    public String evaluate(final Object[] argumentArray) {
+
+        Object value = argumentArray[this.argumentIndex];
+        for (final PropertyAccessor propertyAccessor : this.propertyAccessorList) {
+            if (value == null) {
+                break;
+            }
+
+            value = propertyAccessor.access(value);
+        }
+
+        return String.valueOf(value);
+    }
+
+    /**
+     * Resolves the accessor for a property.
+     *
+     * @param classType    The type of the object holding the property
+     * @param propertyName The property name
+     * @param argument     The property argument, can be {@code null}
+     * @return The property accessor, otherwise, {@code null} if the property does not exist
+     * @since 1.17.0
+     */
+    private static PropertyAccessor resolvePropertyAccessor(final Class<?> classType,
+                                                            final String propertyName,
+                                                            final String argument) {
+
+        final String capitalizedPropertyName = Character.toUpperCase(propertyName.charAt(0)) + propertyName.substring(1);
+        final Class<?>[] parameterTypeArray = argument == null ? new Class<?>[0] : new Class<?>[]{String.class};
+        final Object[] argumentArray = argument == null ? new Object[0] : new Object[]{argument};
+
+        for (final String methodName : List.of("get" + capitalizedPropertyName, "is" + capitalizedPropertyName, propertyName)) {
+            try {
+                final Method method = classType.getMethod(methodName, parameterTypeArray);
+                if (!Modifier.isStatic(method.getModifiers()) && method.getReturnType() != void.class) {
+                    method.trySetAccessible();
+                    return new PropertyAccessor(method, argumentArray, method.getReturnType());
+                }
+            } catch (final NoSuchMethodException ignore) {
+                // Try next method name
+            }
+        }
+
+        if (Map.class.isAssignableFrom(classType)) {
+            return new PropertyAccessor(null, new Object[]{argument == null ? propertyName : argument}, Object.class);
+        }
+
+        return null;
+    }
+
+    /**
+     * Accessor to a single property.
+     *
+     * @param method          The method to call, or {@code null} to use map lookup
+     * @param argumentArray   The arguments to use when calling the method
+     * @param returnClassType The type of the accessed value
+     * @since 1.17.0
+     */
+    private record PropertyAccessor(Method method,
+                                    Object[] argumentArray,
+                                    Class<?> returnClassType) {
+
+        /**
+         * Accesses the property.
+         *
+         * @param instance The instance holding the property
+         * @return The property value
+         * @since 1.17.0
+         */
+        Object access(final Object instance) {
+
+            if (this.method == null) {
+                return ((Map<?, ?>) instance).get(this.argumentArray[0]);
+            }
+
+            try {
+                return this.method.invoke(instance, this.argumentArray);
+            } catch (final IllegalAccessException | InvocationTargetException exception) {
+                throw new IllegalStateException("Can't access property '" + this.method.getName() + "'", exception);
+            }
+        }
+    }
+}
@@ -8,8 +8,13 @@ import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
 import org.apache.commons.lang3.StringUtils;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Intercepts method calls to apply "bucket-token" algorithm.
@@ -18,7 +23,13 @@ import java.util.Objects;
  */
 public class BucketTokenInterceptor implements MethodInterceptor {
 
+    private static final MethodType FALLBACK_METHOD_TYPE = MethodType.methodType(
+        Object.class,
+        Object.class,
+        BucketTokenException.NoEnoughTokensAvailable.class);
+
     private final BucketTokenRegistry bucketTokenRegistry;
+    private final ClassValue<Map<Method, InterceptionPlan>> interceptionPlanPerMethodPerClass;
 
     /**
      * Build a new instance.
@@ -29,46 +40,126 @@ public class BucketTokenInterceptor implements MethodInterceptor {
     public BucketTokenInterceptor(final BucketTokenRegistry bucketTokenRegistry) {
 
         this.bucketTokenRegistry = bucketTokenRegistry;
+        this.interceptionPlanPerMethodPerClass = new ClassValue<>() {
+
+            @Override
+            protected Map<Method, InterceptionPlan> computeValue(final Class<?> classType) {
+
+                return new ConcurrentHashMap<>();
+            }
+        };
     }
 
     @Override
     public Object invoke(final MethodInvocation methodInvocation) throws Throwable {
 
-        // Retrieve annotation
-        BucketToken bucketTokenAnnotation = methodInvocation.getMethod().getAnnotation(BucketToken.class);
-        if (bucketTokenAnnotation == null) {
-            bucketTokenAnnotation = methodInvocation.getThis().getClass().getAnnotation(BucketToken.class);
+        // Retrieve the interception plan, resolved on the first call only. The class-level annotation
+        // and the fallback method depend on the concrete class, plans are therefore cached per class
+        final Class<?> classType = methodInvocation.getThis().getClass();
+        final Map<Method, InterceptionPlan> interceptionPlanPerMethodMap = this.interceptionPlanPerMethodPerClass.get(classType);
+        InterceptionPlan interceptionPlan = interceptionPlanPerMethodMap.get(methodInvocation.getMethod());
+        if (interceptionPlan == null) {
+            interceptionPlan = interceptionPlanPerMethodMap.computeIfAbsent(
+                methodInvocation.getMethod(),
+                method -> this.createInterceptionPlan(method, classType));
         }
 
         // Retrieve bucket
-        final Bucket bucket = this.bucketTokenRegistry.bucket(bucketTokenAnnotation.value());
+        Bucket bucket = interceptionPlan.bucket();
         if (bucket == null) {
-            throw new BucketTokenException.BucketDoesNotExist(bucketTokenAnnotation.value());
+            final String key = interceptionPlan.keyExpression().evaluate(methodInvocation.getArguments());
+            bucket = this.bucketTokenRegistry.keyedBucket(interceptionPlan.bucketName(), key);
         }
 
         // Try to enter protected method
-        if (bucket.tryConsume(bucketTokenAnnotation.tokenToConsume())) {
+        if (bucket.tryConsume(interceptionPlan.tokenToConsume())) {
             return methodInvocation.proceed();
         }
 
-        // Can't enter protected method
-        final Exception exceptionToThrow = new BucketTokenException.NoEnoughTokensAvailable(bucketTokenAnnotation.value());
+        // Can't enter protected method: try to run fallback method (if provided). The exception is
+        // never shared between calls, but it is created without stack trace to be cheap
+        final BucketTokenException.NoEnoughTokensAvailable rejection = new BucketTokenException.NoEnoughTokensAvailable(
+            interceptionPlan.bucketName(), false);
+        if (interceptionPlan.fallbackMethodHandle() != null) {
+            return (Object) interceptionPlan.fallbackMethodHandle().invokeExact(methodInvocation.getThis(), rejection);
+        }
 
-        // Try to run fallback method (if provided)
-        if (StringUtils.isNotBlank(bucketTokenAnnotation.fallbackMethod())) {
-            final Method fallbackMethod = this.retrieveBestMatchingFallbackMethod(
-                bucketTokenAnnotation.fallbackMethod(),
-                methodInvocation.getThis().getClass());
+        // No other alternatives, we're throwing an exception
+        throw rejection;
+    }
 
+    /**
+     * Creates the interception plan of a protected method.
+     *
+     * @param method    The protected method
+     * @param classType The type of the class containing the method
+     * @return Newly created interception plan
+     * @since 1.17.0
+     */
+    private InterceptionPlan createInterceptionPlan(final Method method, final Class<?> classType) {
+
+        // Retrieve annotation
+        BucketToken bucketTokenAnnotation = method.getAnnotation(BucketToken.class);
+        if (bucketTokenAnnotation == null) {
+            bucketTokenAnnotation = classType.getAnnotation(BucketToken.class);
+        }
+
+        // Retrieve bucket (keyed buckets are retrieved on each call)
+        final Bucket bucket;
+        final BucketKeyExpression keyExpression;
+        if (StringUtils.isBlank(bucketTokenAnnotation.key())) {
+            bucket = this.bucketTokenRegistry.bucket(bucketTokenAnnotation.value());
+            if (bucket == null) {
+                throw new BucketTokenException.BucketDoesNotExist(bucketTokenAnnotation.value());
+            }
+            keyExpression = null;
+        } else {
+            bucket = null;
+            keyExpression = BucketKeyExpression.compile(bucketTokenAnnotation.key(), method);
+        }
+
+        // Retrieve fallback method (if provided)
+        MethodHandle fallbackMethodHandle = null;
+        if (StringUtils.isNotBlank(bucketTokenAnnotation.fallbackMethod())) {
+            final Method fallbackMethod = this.retrieveBestMatchingFallbackMethod(bucketTokenAnnotation.fallbackMethod(), classType);
             if (fallbackMethod != null) {
-                return fallbackMethod.getParameterCount() == 1
-                    ? fallbackMethod.invoke(methodInvocation.getThis(), exceptionToThrow)
-                    : fallbackMethod.invoke(methodInvocation.getThis());
+                fallbackMethodHandle = this.createFallbackMethodHandle(fallbackMethod);
             }
         }
 
-        // No other alternatives, we're throwing an exception
-        throw exceptionToThrow;
+        return new InterceptionPlan(
+            bucketTokenAnnotation.value(),
+            bucketTokenAnnotation.tokenToConsume(),
+            bucket,
+            keyExpression,
+            fallbackMethodHandle);
+    }
+
+    /**
+     * Creates a method handle to call the fallback method. The created method handle always
+     * takes the instance and the exception {@code NoEnoughTokensAvailable} as parameters,
+     * regardless of whether the fallback method uses the exception or not.
+     *
+     * @param fallbackMethod The fallback method
+     * @return Newly created method handle
+     * @since 1.17.0
+     */
+    private MethodHandle createFallbackMethodHandle(final Method fallbackMethod) {
+
+        fallbackMethod.trySetAccessible();
+
+        MethodHandle methodHandle;
+        try {
+            methodHandle = MethodHandles.lookup().unreflect(fallbackMethod);
+        } catch (final IllegalAccessException exception) {
+            throw new IllegalStateException("Can't access fallback method '" + fallbackMethod.getName() + "'", exception);
+        }
+
+        if (fallbackMethod.getParameterCount() == 0) {
+            methodHandle = MethodHandles.dropArguments(methodHandle, 1, BucketTokenException.NoEnoughTokensAvailable.class);
+        }
+
+        return methodHandle.asType(FALLBACK_METHOD_TYPE);
     }
 
     /**
@@ -109,4 +200,21 @@ public class BucketTokenInterceptor implements MethodInterceptor {
         return (method.getParameterCount() == 0)
             || (method.getParameterCount() == 1 && method.getParameterTypes()[0] == BucketTokenException.NoEnoughTokensAvailable.class);
     }
+
+    /**
+     * Everything needed to intercept calls to a protected method.
+     *
+     * @param bucketName           The name of the Bucket
+     * @param tokenToConsume       Number of token to consume
+     * @param bucket               The Bucket, or {@code null} if Bucket is keyed
+     * @param keyExpression        The key expression, or {@code null} if Bucket is not keyed
+     * @param fallbackMethodHandle The fallback method, or {@code null} if not provided
+     * @since 1.17.0
+     */
+    private record InterceptionPlan(String bucketName,
+                                    int tokenToConsume,
+                                    Bucket bucket,
+                                    BucketKeyExpression keyExpression,
+                                    MethodHandle fallbackMethodHandle) {
+    }
 }
@@ -1,16 +1,24 @@
 package dev.voidframework.bucket4j;
 
+import com.google.inject.Guice;
+import com.google.inject.Injector;
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
 import dev.voidframework.bucket4j.exception.BucketTokenException;
+import dev.voidframework.datasource.DataSourceManager;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
+import io.github.bucket4j.distributed.BucketProxy;
 import io.github.bucket4j.local.LocalBucket;
+import org.hsqldb.jdbc.JDBCDataSource;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.time.Duration;
 import java.util.Map;
 
@@ -165,4 +173,173 @@ final class BucketTokenRegistryTest {
         Assertions.assertEquals(1, localBucket2.getConfiguration().getBandwidths().length);
         Assertions.assertEquals("two", localBucket2.getConfiguration().getBandwidths()[0].getId());
     }
+
+    @Test
+    void keyedBucket() {
+
+        // Arrange
+        final Config configuration = ConfigFactory.parseString("""
+            voidframework.bucket4j.bucketAPI1.bandwidthLimits.0.id = "one"
+            voidframework.bucket4j.bucketAPI1.bandwidthLimits.0.capacity = 2
+            voidframework.bucket4j.bucketAPI1.bandwidthLimits.0.refill.strategy = "GREEDY"
+            voidframework.bucket4j.bucketAPI1.bandwidthLimits.0.refill.tokens = 2
+            voidframework.bucket4j.bucketAPI1.bandwidthLimits.0.refill.period = "24 hours"
+            """);
+        final BucketTokenRegistry bucketTokenRegistry = new BucketTokenRegistry(configuration);
+
+        // Act
+        final Bucket bucketKeyA = bucketTokenRegistry.keyedBucket("bucketAPI1", "127.0.0.1");
+        final Bucket bucketKeyASecondCall = bucketTokenRegistry.keyedBucket("bucketAPI1", "127.0.0.1");
+        final Bucket bucketKeyB = bucketTokenRegistry.keyedBucket("bucketAPI1", "192.168.1.1");
+
+        // Assert
+        Assertions.assertSame(bucketKeyA, bucketKeyASecondCall);
+        Assertions.assertNotSame(bucketKeyA, bucketKeyB);
+
+        Assertions.assertTrue(bucketKeyA.tryConsume(2));
+        Assertions.assertFalse(bucketKeyA.tryConsume(1));
+        Assertions.assertTrue(bucketKeyB.tryConsume(2));
+
+        final LocalBucket localBucketKeyB = (LocalBucket) bucketKeyB;
+        Assertions.assertEquals("one", localBucketKeyB.getConfiguration().getBandwidths()[0].getId());
+        Assertions.assertEquals(2, localBucketKeyB.getConfiguration().getBandwidths()[0].getCapacity());
+    }
+
+    @Test
+    void keyedBucketMaximumSize() {
+
+        // Arrange
+        final Config configuration = ConfigFactory.parseString("""
+            voidframework.bucket4j.bucketAPI1.keyedBuckets.maximumSize = 1
+            voidframework.bucket4j.bucketAPI1.keyedBuckets.expireAfterAccess = "1 minutes"
+
+            voidframework.bucket4j.bucketAPI1.bandwidthLimits.0.id = "one"
+            voidframework.bucket4j.bucketAPI1.bandwidthLimits.0.capacity = 2
+            voidframework.bucket4j.bucketAPI1.bandwidthLimits.0.refill.strategy = "GREEDY"
+            voidframework.bucket4j.bucketAPI1.bandwidthLimits.0.refill.tokens = 2
+            voidframework.bucket4j.bucketAPI1.bandwidthLimits.0.refill.period = "24 hours"
+            """);
+        final BucketTokenRegistry bucketTokenRegistry = new BucketTokenRegistry(configuration);
+
+        // Act
+        final Bucket bucketKeyA = bucketTokenRegistry.keyedBucket("bucketAPI1", "127.0.0.1");
+        bucketTokenRegistry.keyedBucket("bucketAPI1", "192.168.1.1");
+        final Bucket bucketKeyASecondCall = bucketTokenRegistry.keyedBucket("bucketAPI1", "127.0.0.1");
+
+        // Assert
+        Assertions.assertNotSame(bucketKeyA, bucketKeyASecondCall);
+    }
+
+    @Test
+    void keyedBucketIntervallyAlignedTimeOfFirstRefill() throws InterruptedException {
+
+        // Arrange
+        final Config configuration = ConfigFactory.parseString("""
+            voidframework.bucket4j.bucketAPI1.bandwidthLimits.0.id = "one"
+            voidframework.bucket4j.bucketAPI1.bandwidthLimits.0.capacity = 2
+            voidframework.bucket4j.bucketAPI1.bandwidthLimits.0.refill.strategy = "INTERVALLY_ALIGNED"
+            voidframework.bucket4j.bucketAPI1.bandwidthLimits.0.refill.tokens = 2
+            voidframework.bucket4j.bucketAPI1.bandwidthLimits.0.refill.period = "1 hours"
+            voidframework.bucket4j.bucketAPI1.bandwidthLimits.0.refill.timeOfFirstRefill = "10 minutes"
+            voidframework.bucket4j.bucketAPI1.bandwidthLimits.0.refill.useAdaptiveInitialTokens = false
+            """);
+        final BucketTokenRegistry bucketTokenRegistry = new BucketTokenRegistry(configuration);
+
+        // Act
+        final LocalBucket bucketKeyA = (LocalBucket) bucketTokenRegistry.keyedBucket("bucketAPI1", "127.0.0.1");
+        Thread.sleep(50);
+        final LocalBucket bucketKeyB = (LocalBucket) bucketTokenRegistry.keyedBucket("bucketAPI1", "192.168.1.1");
+
+        // Assert
+        final long timeOfFirstRefillKeyA = bucketKeyA.getConfiguration().getBandwidths()[0].getTimeOfFirstRefillMillis();
+        final long timeOfFirstRefillKeyB = bucketKeyB.getConfiguration().getBandwidths()[0].getTimeOfFirstRefillMillis();
+        Assertions.assertTrue(timeOfFirstRefillKeyB - timeOfFirstRefillKeyA >= 50);
+    }
+
+    @Test
+    void keyedBucketNullKey() {
+
+        // Arrange
+        final Config configuration = ConfigFactory.parseString("""
+            voidframework.bucket4j.bucketAPI1.bandwidthLimits.0.id = "one"
+            voidframework.bucket4j.bucketAPI1.bandwidthLimits.0.capacity = 2
+            voidframework.bucket4j.bucketAPI1.bandwidthLimits.0.refill.strategy = "GREEDY"
+            voidframework.bucket4j.bucketAPI1.bandwidthLimits.0.refill.tokens = 2
+            voidframework.bucket4j.bucketAPI1.bandwidthLimits.0.refill.period = "24 hours"
+            """);
+        final BucketTokenRegistry bucketTokenRegistry = new BucketTokenRegistry(configuration);
+
+        // Act
+        final BucketTokenException.InvalidKey exception = Assertions.assertThrows(
+            BucketTokenException.InvalidKey.class,
+            () -> bucketTokenRegistry.keyedBucket("bucketAPI1", null));
+
+        // Assert
+        Assertions.assertEquals("Invalid key for Bucket 'bucketAPI1': key can't be null", exception.getMessage());
+    }
+
+    @Test
+    void bucketDistributedWithJdbcBackend() throws SQLException {
+
+        // Arrange
+        final Config configuration = ConfigFactory.parseString("""
+            voidframework.bucket4j.bucketAPI1.backend = "JDBC"
+            voidframework.bucket4j.bucketAPI1.jdbc.tableName = "bucket_registry_state"
+            voidframework.bucket4j.bucketAPI1.optimization.strategy = "BATCHING"
+
+            voidframework.bucket4j.bucketAPI1.bandwidthLimits.0.id = "one"
+            voidframework.bucket4j.bucketAPI1.bandwidthLimits.0.capacity = 2
+            voidframework.bucket4j.bucketAPI1.bandwidthLimits.0.refill.strategy = "GREEDY"
+            voidframework.bucket4j.bucketAPI1.bandwidthLimits.0.refill.tokens = 2
+            voidframework.bucket4j.bucketAPI1.bandwidthLimits.0.refill.period = "24 hours"
+            """);
+
+        final JDBCDataSource dataSource = new JDBCDataSource();
+        dataSource.setURL("jdbc:hsqldb:mem:bucket4j_registry_unit_tests");
+        dataSource.setUser("sa");
+        dataSource.setPassword("");
+        try (final Connection connection = dataSource.getConnection();
+             final Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE bucket_registry_state (id VARCHAR(255) NOT NULL PRIMARY KEY, state VARBINARY(4096) NOT NULL, version BIGINT NOT NULL, expires_at BIGINT)");
+        }
+
+        final Injector injector = Guice.createInjector(binder -> binder.bind(DataSourceManager.class)
+            .toInstance(new DataSourceManager(Map.of("default", dataSource))));
+        final BucketTokenRegistry bucketTokenRegistry = new BucketTokenRegistry(configuration, () -> injector);
+
+        // Act
+        bucketTokenRegistry.initializeBucket("bucketAPI1");
+        final Bucket bucket = bucketTokenRegistry.bucket("bucketAPI1");
+
+        // Assert
+        Assertions.assertInstanceOf(BucketProxy.class, bucket);
+        Assertions.assertTrue(bucket.tryConsume(2));
+        Assertions.assertFalse(bucket.tryConsume(1));
+    }
+
+    @Test
+    void bucketDistributedWithoutInjector() {
+
+        // Arrange
+        final Config configuration = ConfigFactory.parseString("""
+            voidframework.bucket4j.bucketAPI1.backend = "REDIS"
+
+            voidframework.bucket4j.bucketAPI1.bandwidthLimits.0.id = "one"
+            voidframework.bucket4j.bucketAPI1.bandwidthLimits.0.capacity = 2
+            voidframework.bucket4j.bucketAPI1.bandwidthLimits.0.refill.strategy = "GREEDY"
+            voidframework.bucket4j.bucketAPI1.bandwidthLimits.0.refill.tokens = 2
+            voidframework.bucket4j.bucketAPI1.bandwidthLimits.0.refill.period = "24 hours"
+            """);
+        final BucketTokenRegistry bucketTokenRegistry = new BucketTokenRegistry(configuration);
+
+        // Act
+        final Exception exception = Assertions.assertThrows(
+            BucketTokenException.BackendNotAvailable.class,
+            () -> bucketTokenRegistry.bucket("bucketAPI1"));
+
+        // Assert
+        Assertions.assertEquals(
+            "Backend of Bucket 'voidframework.bucket4j.bucketAPI1' is not available: no injector available",
+            exception.getMessage());
+    }
 }
@@ -0,0 +1,176 @@
+package dev.voidframework.bucket4j.distributed;
+
+import dev.voidframework.bucket4j.exception.BucketTokenException;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.TimeMeter;
+import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
+import io.github.bucket4j.distributed.proxy.ClientSideConfig;
+import org.hsqldb.jdbc.JDBCDataSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+@TestMethodOrder(MethodOrderer.MethodName.class)
+final class JdbcProxyManagerTest {
+
+    private static JDBCDataSource dataSource;
+
+    @BeforeAll
+    static void beforeAll() throws SQLException {
+
+        dataSource = new JDBCDataSource();
+        dataSource.setURL("jdbc:hsqldb:mem:bucket4j_unit_tests");
+        dataSource.setUser("sa");
+        dataSource.setPassword("");
+
+        try (final Connection connection = dataSource.getConnection();
+             final Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE bucket4j_state (id VARCHAR(255) NOT NULL PRIMARY KEY, state VARBINARY(4096) NOT NULL, version BIGINT NOT NULL, expires_at BIGINT)");
+        }
+    }
+
+    @Test
+    void tryConsumeSharedBetweenProxyManagers() {
+
+        // Arrange
+        final BucketConfiguration bucketConfiguration = BucketConfiguration.builder()
+            .addLimit(limit -> limit.capacity(3).refillGreedy(3, Duration.ofHours(1)))
+            .build();
+
+        // Simulates two application instances
+        final JdbcProxyManager proxyManagerNodeA = new JdbcProxyManager(dataSource, "bucket4j_state", ClientSideConfig.getDefault());
+        final JdbcProxyManager proxyManagerNodeB = new JdbcProxyManager(dataSource, "bucket4j_state", ClientSideConfig.getDefault());
+
+        final Bucket bucketNodeA = proxyManagerNodeA.builder().build("shared", bucketConfiguration);
+        final Bucket bucketNodeB = proxyManagerNodeB.builder().build("shared", bucketConfiguration);
+
+        // Act
+        final boolean firstConsume = bucketNodeA.tryConsume(2);
+        final boolean secondConsume = bucketNodeB.tryConsume(1);
+        final boolean thirdConsume = bucketNodeA.tryConsume(1);
+
+        // Assert
+        Assertions.assertTrue(firstConsume);
+        Assertions.assertTrue(secondConsume);
+        Assertions.assertFalse(thirdConsume);
+        Assertions.assertTrue(proxyManagerNodeB.getProxyConfiguration("shared").isPresent());
+    }
+
+    @Test
+    void invalidTableName() {
+
+        // Act
+        final BucketTokenException.InvalidTableName exception = Assertions.assertThrows(
+            BucketTokenException.InvalidTableName.class,
+            () -> new JdbcProxyManager(dataSource, "bucket4j_state; DROP TABLE users", ClientSideConfig.getDefault()));
+
+        // Assert
+        Assertions.assertEquals("'bucket4j_state; DROP TABLE users' is not a valid table name", exception.getMessage());
+    }
+
+    @Test
+    void removeProxy() {
+
+        // Arrange
+        final BucketConfiguration bucketConfiguration = BucketConfiguration.builder()
+            .addLimit(limit -> limit.capacity(1).refillGreedy(1, Duration.ofHours(1)))
+            .build();
+        final JdbcProxyManager proxyManager = new JdbcProxyManager(dataSource, "bucket4j_state", ClientSideConfig.getDefault());
+        final Bucket bucket = proxyManager.builder().build("toRemove", bucketConfiguration);
+        Assertions.assertTrue(bucket.tryConsume(1));
+
+        // Act
+        proxyManager.removeProxy("toRemove");
+
+        // Assert
+        Assertions.assertFalse(proxyManager.getProxyConfiguration("toRemove").isPresent());
+        Assertions.assertTrue(bucket.tryConsume(1));
+    }
+
+    @Test
+    void purgeExpiredStates() {
+
+        // Arrange
+        final AtomicLong currentTimeNanos = new AtomicLong(Duration.ofDays(1).toNanos());
+        final BucketConfiguration bucketConfiguration = BucketConfiguration.builder()
+            .addLimit(limit -> limit.capacity(1).refillGreedy(1, Duration.ofSeconds(10)))
+            .build();
+        final JdbcProxyManager proxyManager = new JdbcProxyManager(
+            dataSource,
+            "bucket4j_state",
+            createExpiringClientSideConfig(currentTimeNanos),
+            Duration.ofHours(1));
+        final Bucket bucket = proxyManager.builder().build("toPurge", bucketConfiguration);
+        Assertions.assertTrue(bucket.tryConsume(1));
+
+        // Act
+        final int purgedCountBeforeRefill = proxyManager.purgeExpiredStates();
+        currentTimeNanos.addAndGet(Duration.ofSeconds(11).toNanos());
+        final int purgedCountAfterRefill = proxyManager.purgeExpiredStates();
+
+        // Assert
+        Assertions.assertEquals(0, purgedCountBeforeRefill);
+        Assertions.assertEquals(1, purgedCountAfterRefill);
+        Assertions.assertFalse(proxyManager.getProxyConfiguration("toPurge").isPresent());
+    }
+
+    @Test
+    void tryConsumePurgeExpiredStates() {
+
+        // Arrange
+        final AtomicLong currentTimeNanos = new AtomicLong(Duration.ofDays(2).toNanos());
+        final BucketConfiguration bucketConfiguration = BucketConfiguration.builder()
+            .addLimit(limit -> limit.capacity(1).refillGreedy(1, Duration.ofSeconds(10)))
+            .build();
+        final JdbcProxyManager proxyManager = new JdbcProxyManager(
+            dataSource,
+            "bucket4j_state",
+            createExpiringClientSideConfig(currentTimeNanos),
+            Duration.ZERO);
+        Assertions.assertTrue(proxyManager.builder().build("idle", bucketConfiguration).tryConsume(1));
+
+        // Act
+        currentTimeNanos.addAndGet(Duration.ofSeconds(11).toNanos());
+        final boolean isConsumed = proxyManager.builder().build("active", bucketConfiguration).tryConsume(1);
+
+        // Assert
+        Assertions.assertTrue(isConsumed);
+        Assertions.assertFalse(proxyManager.getProxyConfiguration("idle").isPresent());
+        Assertions.assertTrue(proxyManager.getProxyConfiguration("active").isPresent());
+    }
+
+    /**
+     * Creates a client side configuration expiring Bucket states as soon as they are full again.
+     *
+     * @param currentTimeNanos The current time, in nanoseconds
+     * @return Newly created client side configuration
+     */
+    private static ClientSideConfig createExpiringClientSideConfig(final AtomicLong currentTimeNanos) {
+
+        return ClientSideConfig.getDefault()
+            .withClientClock(new TimeMeter() {
+
+                @Override
+                public long currentTimeNanos() {
+
+                    return currentTimeNanos.get();
+                }
+
+                @Override
+                public boolean isWallClockBased() {
+
+                    return true;
+                }
+            })
+            .withExpirationAfterWriteStrategy(ExpirationAfterWriteStrategy.basedOnTimeForRefillingBucketUpToMax(Duration.ZERO));
+    }
+}
@@ -0,0 +1,163 @@
+package dev.voidframework.bucket4j.distributed;
+
+import com.github.fppt.jedismock.RedisServer;
+import dev.voidframework.redis.Redis;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
+import io.github.bucket4j.distributed.proxy.ClientSideConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.mockito.Mockito;
+import redis.clients.jedis.Jedis;
+
+import java.io.IOException;
+import java.time.Duration;
+
+@TestMethodOrder(MethodOrderer.MethodName.class)
+final class RedisProxyManagerTest {
+
+    private static RedisServer redisServer;
+
+    private Redis redis;
+
+    @BeforeAll
+    static void beforeAll() throws IOException {
+
+        // Embedded Redis server: the compare-and-swap Lua script is really evaluated
+        redisServer = RedisServer.newRedisServer().start();
+    }
+
+    @AfterAll
+    static void afterAll() throws IOException {
+
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void beforeEach() {
+
+        this.redis = Mockito.mock(Redis.class);
+        Mockito.when(this.redis.getConnection()).thenAnswer(invocation -> createConnection());
+
+        try (final Jedis jedis = createConnection()) {
+            jedis.flushAll();
+        }
+    }
+
+    @Test
+    void tryConsumeScriptReloaded() {
+
+        // Arrange
+        final BucketConfiguration bucketConfiguration = BucketConfiguration.builder()
+            .addLimit(limit -> limit.capacity(3).refillGreedy(3, Duration.ofHours(1)))
+            .build();
+        final RedisProxyManager proxyManager = new RedisProxyManager(this.redis, "bucket4j:", ClientSideConfig.getDefault());
+        final Bucket bucket = proxyManager.builder().build("reloaded", bucketConfiguration);
+
+        // Act
+        final boolean firstConsume = bucket.tryConsume(1);
+        final boolean secondConsume = bucket.tryConsume(1);
+        try (final Jedis jedis = createConnection()) {
+            jedis.scriptFlush(); // Simulates a Redis restart
+        }
+        final boolean thirdConsume = bucket.tryConsume(1);
+        final boolean fourthConsume = bucket.tryConsume(1);
+
+        // Assert
+        Assertions.assertTrue(firstConsume);
+        Assertions.assertTrue(secondConsume);
+        Assertions.assertTrue(thirdConsume);
+        Assertions.assertFalse(fourthConsume);
+    }
+
+    @Test
+    void tryConsumeSharedBetweenProxyManagers() {
+
+        // Arrange
+        final BucketConfiguration bucketConfiguration = BucketConfiguration.builder()
+            .addLimit(limit -> limit.capacity(3).refillGreedy(3, Duration.ofHours(1)))
+            .build();
+
+        // Simulates two application instances
+        final RedisProxyManager proxyManagerNodeA = new RedisProxyManager(this.redis, "bucket4j:", ClientSideConfig.getDefault());
+        final RedisProxyManager proxyManagerNodeB = new RedisProxyManager(this.redis, "bucket4j:", ClientSideConfig.getDefault());
+
+        final Bucket bucketNodeA = proxyManagerNodeA.builder().build("shared", bucketConfiguration);
+        final Bucket bucketNodeB = proxyManagerNodeB.builder().build("shared", bucketConfiguration);
+
+        // Act
+        final boolean firstConsume = bucketNodeA.tryConsume(2);
+        final boolean secondConsume = bucketNodeB.tryConsume(1);
+        final boolean thirdConsume = bucketNodeA.tryConsume(1);
+
+        // Assert
+        Assertions.assertTrue(firstConsume);
+        Assertions.assertTrue(secondConsume);
+        Assertions.assertFalse(thirdConsume);
+        try (final Jedis jedis = createConnection()) {
+            Assertions.assertTrue(jedis.exists("bucket4j:shared"));
+            Assertions.assertEquals(-1, jedis.pttl("bucket4j:shared"));
+        }
+    }
+
+    @Test
+    void tryConsumeExpireAfterWrite() {
+
+        // Arrange
+        final BucketConfiguration bucketConfiguration = BucketConfiguration.builder()
+            .addLimit(limit -> limit.capacity(3).refillGreedy(3, Duration.ofMinutes(1)))
+            .build();
+        final ClientSideConfig clientSideConfig = ClientSideConfig.getDefault()
+            .withExpirationAfterWriteStrategy(ExpirationAfterWriteStrategy.basedOnTimeForRefillingBucketUpToMax(Duration.ofMinutes(10)));
+        final RedisProxyManager proxyManager = new RedisProxyManager(this.redis, "bucket4j:", clientSideConfig);
+        final Bucket bucket = proxyManager.builder().build("expiring", bucketConfiguration);
+
+        // Act
+        final boolean isConsumed = bucket.tryConsume(3);
+
+        // Assert
+        Assertions.assertTrue(isConsumed);
+        try (final Jedis jedis = createConnection()) {
+            final long timeToLiveMillis = jedis.pttl("bucket4j:expiring");
+            Assertions.assertTrue(timeToLiveMillis > Duration.ofMinutes(10).toMillis());
+            Assertions.assertTrue(timeToLiveMillis <= Duration.ofMinutes(11).toMillis());
+        }
+    }
+
+    @Test
+    void removeProxy() {
+
+        // Arrange
+        final BucketConfiguration bucketConfiguration = BucketConfiguration.builder()
+            .addLimit(limit -> limit.capacity(1).refillGreedy(1, Duration.ofHours(1)))
+            .build();
+        final RedisProxyManager proxyManager = new RedisProxyManager(this.redis, "bucket4j:", ClientSideConfig.getDefault());
+        final Bucket bucket = proxyManager.builder().build("toRemove", bucketConfiguration);
+        Assertions.assertTrue(bucket.tryConsume(1));
+
+        // Act
+        proxyManager.removeProxy("toRemove");
+
+        // Assert
+        try (final Jedis jedis = createConnection()) {
+            Assertions.assertFalse(jedis.exists("bucket4j:toRemove"));
+        }
+        Assertions.assertTrue(bucket.tryConsume(1));
+    }
+
+    /**
+     * Creates a new connection to the embedded Redis server.
+     *
+     * @return Newly created connection
+     */
+    private static Jedis createConnection() {
+
+        return new Jedis(redisServer.getHost(), redisServer.getBindPort());
+    }
+}
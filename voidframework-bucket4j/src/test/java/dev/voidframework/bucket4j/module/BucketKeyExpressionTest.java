@@ -0,0 +1,163 @@
+package dev.voidframework.bucket4j.module;
+
+import dev.voidframework.bucket4j.exception.BucketTokenException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+
+@TestMethodOrder(MethodOrderer.MethodName.class)
+final class BucketKeyExpressionTest {
+
+    @Test
+    void evaluateArgument() throws NoSuchMethodException {
+
+        // Arrange
+        final Method method = DummyService.class.getDeclaredMethod("call", String.class, DummyRequest.class);
+        final BucketKeyExpression bucketKeyExpression = BucketKeyExpression.compile("#0", method);
+
+        // Act
+        final String key = bucketKeyExpression.evaluate(new Object[]{"api-key", null});
+
+        // Assert
+        Assertions.assertEquals("api-key", key);
+    }
+
+    @Test
+    void evaluateGetter() throws NoSuchMethodException {
+
+        // Arrange
+        final Method method = DummyService.class.getDeclaredMethod("call", String.class, DummyRequest.class);
+        final BucketKeyExpression bucketKeyExpression = BucketKeyExpression.compile("#1.remoteHostName", method);
+
+        // Act
+        final String key = bucketKeyExpression.evaluate(new Object[]{null, new DummyRequest("127.0.0.1", Map.of())});
+
+        // Assert
+        Assertions.assertEquals("127.0.0.1", key);
+    }
+
+    @Test
+    void evaluateMapValue() throws NoSuchMethodException {
+
+        // Arrange
+        final Method method = DummyService.class.getDeclaredMethod("call", String.class, DummyRequest.class);
+        final BucketKeyExpression bucketKeyExpression = BucketKeyExpression.compile("#1.headers.userId", method);
+
+        // Act
+        final String key = bucketKeyExpression.evaluate(new Object[]{null, new DummyRequest("127.0.0.1", Map.of("userId", "42"))});
+
+        // Assert
+        Assertions.assertEquals("42", key);
+    }
+
+    @Test
+    void evaluateMethodWithArgument() throws NoSuchMethodException {
+
+        // Arrange
+        final Method method = DummyService.class.getDeclaredMethod("call", String.class, DummyRequest.class);
+        final BucketKeyExpression bucketKeyExpression = BucketKeyExpression.compile("#1.header('X-Api.Key')", method);
+
+        // Act
+        final String key = bucketKeyExpression.evaluate(new Object[]{null, new DummyRequest("127.0.0.1", Map.of("X-Api.Key", "secret"))});
+
+        // Assert
+        Assertions.assertEquals("secret", key);
+    }
+
+    @Test
+    void evaluateNullIntermediateValue() throws NoSuchMethodException {
+
+        // Arrange
+        final Method method = DummyService.class.getDeclaredMethod("call", String.class, DummyRequest.class);
+        final BucketKeyExpression bucketKeyExpression = BucketKeyExpression.compile("#1.remoteHostName", method);
+
+        // Act
+        final String key = bucketKeyExpression.evaluate(new Object[]{null, null});
+
+        // Assert
+        Assertions.assertEquals("null", key);
+    }
+
+    @Test
+    void compileInvalidArgumentIndex() throws NoSuchMethodException {
+
+        // Arrange
+        final Method method = DummyService.class.getDeclaredMethod("call", String.class, DummyRequest.class);
+
+        // Act
+        final BucketTokenException.InvalidKeyExpression exception = Assertions.assertThrows(
+            BucketTokenException.InvalidKeyExpression.class,
+            () -> BucketKeyExpression.compile("#2", method));
+
+        // Assert
+        Assertions.assertEquals("Invalid key expression '#2': method 'call' only have 2 argument(s)", exception.getMessage());
+    }
+
+    @Test
+    void compileUnknownProperty() throws NoSuchMethodException {
+
+        // Arrange
+        final Method method = DummyService.class.getDeclaredMethod("call", String.class, DummyRequest.class);
+
+        // Act
+        final BucketTokenException.InvalidKeyExpression exception = Assertions.assertThrows(
+            BucketTokenException.InvalidKeyExpression.class,
+            () -> BucketKeyExpression.compile("#1.unknown", method));
+
+        // Assert
+        Assertions.assertEquals(
+            "Invalid key expression '#1.unknown': property 'unknown' not found on " + DummyRequest.class.getName(),
+            exception.getMessage());
+    }
+
+    /**
+     * Dummy request.
+     */
+    public static final class DummyRequest {
+
+        private final String remoteHostName;
+        private final Map<String, String> headers;
+
+        /**
+         * Build a new instance.
+         *
+         * @param remoteHostName The remote host name
+         * @param headers        The headers
+         */
+        public DummyRequest(final String remoteHostName, final Map<String, String> headers) {
+
+            this.remoteHostName = remoteHostName;
+            this.headers = headers;
+        }
+
+        public String getRemoteHostName() {
+
+            return this.remoteHostName;
+        }
+
+        public Map<String, String> getHeaders() {
+
+            return this.headers;
+        }
+
+        public String getHeader(final String headerName) {
+
+            return this.headers.get(headerName);
+        }
+    }
+
+    /**
+     * Dummy service.
+     */
+    private static final class DummyService {
+
+        public String call(final String apiKey, final DummyRequest request) {
+
+            return "CALL";
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
 import dev.voidframework.bucket4j.BucketTokenRegistry;
 import dev.voidframework.bucket4j.annotation.BucketToken;
+import dev.voidframework.bucket4j.exception.BucketTokenException;
 import org.aopalliance.intercept.MethodInvocation;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.MethodOrderer;
@@ -74,6 +75,120 @@ final class BucketTokenInterceptorTest {
         Assertions.assertEquals( "FALLBACK", value);
     }
 
+    @Test
+    void invoke_keyedBucket() throws Throwable {
+
+        // Arrange
+        final Config configuration = ConfigFactory.parseString("""
+            voidframework.bucket4j.bucketAPI2.bandwidthLimits.0.id = "one"
+            voidframework.bucket4j.bucketAPI2.bandwidthLimits.0.capacity = 1
+            voidframework.bucket4j.bucketAPI2.bandwidthLimits.0.refill.strategy = "GREEDY"
+            voidframework.bucket4j.bucketAPI2.bandwidthLimits.0.refill.tokens = 1
+            voidframework.bucket4j.bucketAPI2.bandwidthLimits.0.refill.period = "24 hours"
+            """);
+        final BucketTokenRegistry bucketTokenRegistry = new BucketTokenRegistry(configuration);
+        final BucketTokenInterceptor interceptor = new BucketTokenInterceptor(bucketTokenRegistry);
+
+        final DummService dummService = new DummService();
+        final Method methodPerClient = DummService.class.getDeclaredMethod("perClient", String.class);
+
+        // Act
+        final Object valueClientA = interceptor.invoke(new FakeMethodInvocation(dummService, methodPerClient, new Object[]{"A"}));
+        final Object valueClientB = interceptor.invoke(new FakeMethodInvocation(dummService, methodPerClient, new Object[]{"B"}));
+        final Object valueClientASecondCall = interceptor.invoke(new FakeMethodInvocation(dummService, methodPerClient, new Object[]{"A"}));
+
+        // Assert
+        Assertions.assertEquals("PER-CLIENT A", valueClientA);
+        Assertions.assertEquals("PER-CLIENT B", valueClientB);
+        Assertions.assertEquals("FALLBACK", valueClientASecondCall);
+    }
+
+    @Test
+    void invoke_noEnoughTokensAvailable() throws Throwable {
+
+        // Arrange
+        final Config configuration = ConfigFactory.parseString("""
+            voidframework.bucket4j.bucketAPI3.bandwidthLimits.0.id = "one"
+            voidframework.bucket4j.bucketAPI3.bandwidthLimits.0.capacity = 1
+            voidframework.bucket4j.bucketAPI3.bandwidthLimits.0.refill.strategy = "GREEDY"
+            voidframework.bucket4j.bucketAPI3.bandwidthLimits.0.refill.tokens = 1
+            voidframework.bucket4j.bucketAPI3.bandwidthLimits.0.refill.period = "24 hours"
+            voidframework.bucket4j.bucketAPI3.bandwidthLimits.0.refill.initialTokens = 0
+            """);
+        final BucketTokenRegistry bucketTokenRegistry = new BucketTokenRegistry(configuration);
+        final BucketTokenInterceptor interceptor = new BucketTokenInterceptor(bucketTokenRegistry);
+
+        final DummService dummService = new DummService();
+        final Method methodWithoutFallback = DummService.class.getDeclaredMethod("withoutFallback");
+        final MethodInvocation methodInvocation = new FakeMethodInvocation(dummService, methodWithoutFallback);
+
+        // Act
+        final BucketTokenException.NoEnoughTokensAvailable exception = Assertions.assertThrows(
+            BucketTokenException.NoEnoughTokensAvailable.class,
+            () -> interceptor.invoke(methodInvocation));
+        final BucketTokenException.NoEnoughTokensAvailable exceptionSecondCall = Assertions.assertThrows(
+            BucketTokenException.NoEnoughTokensAvailable.class,
+            () -> interceptor.invoke(methodInvocation));
+
+        // Assert
+        Assertions.assertEquals("bucketAPI3", exception.getBucketName());
+        Assertions.assertEquals("Bucket 'bucketAPI3' does not have enough tokens available", exception.getMessage());
+        Assertions.assertEquals(0, exception.getStackTrace().length);
+        Assertions.assertNotSame(exception, exceptionSecondCall);
+    }
+
+    @Test
+    void invoke_fallbackMethodWithException() throws Throwable {
+
+        // Arrange
+        final Config configuration = ConfigFactory.parseString("""
+            voidframework.bucket4j.bucketAPI3.bandwidthLimits.0.id = "one"
+            voidframework.bucket4j.bucketAPI3.bandwidthLimits.0.capacity = 1
+            voidframework.bucket4j.bucketAPI3.bandwidthLimits.0.refill.strategy = "GREEDY"
+            voidframework.bucket4j.bucketAPI3.bandwidthLimits.0.refill.tokens = 1
+            voidframework.bucket4j.bucketAPI3.bandwidthLimits.0.refill.period = "24 hours"
+            voidframework.bucket4j.bucketAPI3.bandwidthLimits.0.refill.initialTokens = 0
+            """);
+        final BucketTokenRegistry bucketTokenRegistry = new BucketTokenRegistry(configuration);
+        final BucketTokenInterceptor interceptor = new BucketTokenInterceptor(bucketTokenRegistry);
+
+        final DummService dummService = new DummService();
+        final Method methodWithFallbackException = DummService.class.getDeclaredMethod("withFallbackException");
+        final MethodInvocation methodInvocation = new FakeMethodInvocation(dummService, methodWithFallbackException);
+
+        // Act
+        final Object value = interceptor.invoke(methodInvocation);
+
+        // Assert
+        Assertions.assertEquals("FALLBACK bucketAPI3", value);
+    }
+
+    @Test
+    void invoke_fallbackMethodPerConcreteClass() throws Throwable {
+
+        // Arrange
+        final Config configuration = ConfigFactory.parseString("""
+            voidframework.bucket4j.bucketAPI1.bandwidthLimits.0.id = "one"
+            voidframework.bucket4j.bucketAPI1.bandwidthLimits.0.capacity = 1
+            voidframework.bucket4j.bucketAPI1.bandwidthLimits.0.refill.strategy = "GREEDY"
+            voidframework.bucket4j.bucketAPI1.bandwidthLimits.0.refill.tokens = 1
+            voidframework.bucket4j.bucketAPI1.bandwidthLimits.0.refill.period = "24 hours"
+            voidframework.bucket4j.bucketAPI1.bandwidthLimits.0.refill.initialTokens = 0
+            """);
+        final BucketTokenRegistry bucketTokenRegistry = new BucketTokenRegistry(configuration);
+        final BucketTokenInterceptor interceptor = new BucketTokenInterceptor(bucketTokenRegistry);
+
+        final Method methodPrimary = AbstractService.class.getDeclaredMethod("primary");
+
+        // Act
+        final Object valueFirstService = interceptor.invoke(new FakeMethodInvocation(new FirstService(), methodPrimary));
+        final Object valueSecondService = interceptor.invoke(new FakeMethodInvocation(new SecondService(), methodPrimary));
+
+        // Assert
+        Assertions.assertEquals("FALLBACK FIRST", valueFirstService);
+        Assertions.assertEquals("FALLBACK SECOND", valueSecondService);
+    }
+
     /**
      * A fake method invocation.
      */
@@ -171,5 +286,62 @@ final class BucketTokenInterceptorTest {
 
             return "PRIMARY";
         }
+
+        public String fallbackException(final BucketTokenException.NoEnoughTokensAvailable exception) {
+
+            return "FALLBACK " + exception.getBucketName();
+        }
+
+        @BucketToken("bucketAPI3")
+        public String withoutFallback() {
+
+            return "WITHOUT-FALLBACK";
+        }
+
+        @BucketToken(value = "bucketAPI3", fallbackMethod = "fallbackException")
+        public String withFallbackException() {
+
+            return "WITH-FALLBACK-EXCEPTION";
+        }
+
+        @BucketToken(value = "bucketAPI2", key = "#0", fallbackMethod = "fallback")
+        public String perClient(final String clientId) {
+
+            return "PER-CLIENT " + clientId;
+        }
+    }
+
+    /**
+     * Service with a protected method whose fallback method is defined by each implementation.
+     */
+    private abstract static class AbstractService {
+
+        @BucketToken(value = "bucketAPI1", fallbackMethod = "fallback")
+        public String primary() {
+
+            return "PRIMARY";
+        }
+    }
+
+    /**
+     * First implementation of {@link AbstractService}.
+     */
+    private static final class FirstService extends AbstractService {
+
+        public String fallback() {
+
+            return "FALLBACK FIRST";
+        }
+    }
+
+    /**
+     * Second implementation of {@link AbstractService}.
+     */
+    private static final class SecondService extends AbstractService {
+
+        public String fallback() {
+
+            return "FALLBACK SECOND";
+        }
     }
 }
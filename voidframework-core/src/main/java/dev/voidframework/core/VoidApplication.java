@@ -28,10 +28,16 @@ import java.io.InputStream;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Application launcher are expected to instantiate and run all parts of an
@@ -43,6 +49,7 @@ public class VoidApplication {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(VoidApplication.class);
 
+    private final Map<StartupPhase, Duration> startupPhaseDurationMap;
     private Injector injector;
     private LifeCycleManager lifeCycleManager;
 
@@ -53,6 +60,7 @@ public class VoidApplication {
      */
     public VoidApplication() {
 
+        this.startupPhaseDurationMap = new EnumMap<>(StartupPhase.class);
         this.injector = null;
         this.lifeCycleManager = null;
     }
@@ -75,26 +83,20 @@ public class VoidApplication {
 
         // Load configuration
         final long startTimeMillis = System.currentTimeMillis();
+        long phaseStartTimeMillis = startTimeMillis;
 
         LOGGER.info("Fetching configuration");
         final Config localConfiguration = ConfigFactory.load(this.getClass().getClassLoader());
         final Config remoteConfiguration = RemoteConfigurationLoader.processAllProviders(localConfiguration);
         final Config configuration = remoteConfiguration.withFallback(localConfiguration);
         LOGGER.info("Configuration fetched with success ({} keys)", configuration.entrySet().size());
+        phaseStartTimeMillis = this.endStartupPhase(StartupPhase.CONFIGURATION, phaseStartTimeMillis);
 
         // Find useful classes to load
         LOGGER.info("Scanning class path");
-        final InputStream inputStream = this.getClass().getResourceAsStream("/classpath.bootstrap");
-        final ScannedClassesToLoad scannedClassesToLoad;
-        if (inputStream != null) {
-            scannedClassesToLoad = ClassesToLoadScanner.restoreClassesToLoad(inputStream);
-        } else {
-            scannedClassesToLoad = ClassesToLoadScanner.findClassesToLoad(
-                configuration.getStringList("voidframework.core.acceptedScanPaths"),
-                configuration.getStringList("voidframework.core.rejectedScanPaths"),
-                configuration.getStringList("voidframework.core.bindExtraInterfaces"));
-        }
+        final ScannedClassesToLoad scannedClassesToLoad = this.retrieveClassesToLoad(configuration);
         LOGGER.info("Found {} useful classes", scannedClassesToLoad.count());
+        phaseStartTimeMillis = this.endStartupPhase(StartupPhase.SCAN, phaseStartTimeMillis);
 
         // Configure components
         final ConditionalFeatureVerifier conditionalFeatureVerifier = new ConditionalFeatureVerifier(configuration);
@@ -133,6 +135,7 @@ public class VoidApplication {
         // Create injector
         this.injector = Guice.createInjector(Stage.PRODUCTION, coreModule, Modules.combine(appModuleList), scanClassBindModule);
         LOGGER.info("Modules loaded ({} modules)", appModuleList.size());
+        phaseStartTimeMillis = this.endStartupPhase(StartupPhase.INJECTOR, phaseStartTimeMillis);
 
         // Register detected converters
         LOGGER.info("Registering converters");
@@ -142,13 +145,29 @@ public class VoidApplication {
             converterManager.registerConverter(converterInfo.sourceTypeClass(), converterInfo.targetTypeClass(), converter);
         }
         LOGGER.info("{} converter(s) has been registered", converterManager.count());
+        phaseStartTimeMillis = this.endStartupPhase(StartupPhase.CONVERTERS, phaseStartTimeMillis);
 
         // Execute all registered "start" handlers
         this.lifeCycleManager.startAll();
+        this.endStartupPhase(StartupPhase.LIFECYCLE, phaseStartTimeMillis);
 
         // Ready
         final long endTimeMillis = System.currentTimeMillis();
-        LOGGER.info("Application started in {}ms", endTimeMillis - startTimeMillis);
+        LOGGER.info("Application started in {}ms ({})", endTimeMillis - startTimeMillis, this.startupPhaseDurationMap.entrySet()
+            .stream()
+            .map(entry -> entry.getKey().name().toLowerCase(Locale.ENGLISH) + ": " + entry.getValue().toMillis() + "ms")
+            .collect(Collectors.joining(", ")));
+    }
+
+    /**
+     * Retrieves the duration of each phase of the application startup.
+     *
+     * @return The duration of each startup phase, in execution order
+     * @since 1.17.0
+     */
+    public Map<StartupPhase, Duration> getStartupPhaseDurations() {
+
+        return Collections.unmodifiableMap(this.startupPhaseDurationMap);
     }
 
     /**
@@ -198,6 +217,62 @@ public class VoidApplication {
         LOGGER.info("Application was gracefully terminated");
     }
 
+    /**
+     * Retrieves useful classes to load. If enabled, the bootstrap indexes generated at compile time
+     * are exclusively used. Otherwise, the "classpath.bootstrap" file is used if it exists and is
+     * not outdated, otherwise, the class path is scanned.
+     *
+     * @param configuration The application configuration
+     * @return The classes to load
+     * @since 1.17.0
+     */
+    private ScannedClassesToLoad retrieveClassesToLoad(final Config configuration) {
+
+        final List<String> acceptedScanPathList = configuration.getStringList("voidframework.core.acceptedScanPaths");
+        final List<String> rejectedScanPathList = configuration.getStringList("voidframework.core.rejectedScanPaths");
+        final List<String> extraInterfaceList = configuration.getStringList("voidframework.core.bindExtraInterfaces");
+
+        if (configuration.getBoolean("voidframework.core.useBootstrapIndex")) {
+            return ClassesToLoadScanner.restoreClassesToLoadFromIndexes(
+                this.getClass().getClassLoader(),
+                acceptedScanPathList,
+                rejectedScanPathList,
+                extraInterfaceList);
+        }
+
+        final InputStream inputStream = this.getClass().getResourceAsStream("/classpath.bootstrap");
+        if (inputStream != null) {
+            final String expectedFingerprint = configuration.getBoolean("voidframework.core.checkClasspathBootstrapFingerprint")
+                ? ClassesToLoadScanner.computeClasspathFingerprint(acceptedScanPathList, rejectedScanPathList, extraInterfaceList)
+                : null;
+
+            final ScannedClassesToLoad scannedClassesToLoad = ClassesToLoadScanner.restoreClassesToLoad(inputStream, expectedFingerprint);
+            if (scannedClassesToLoad != null) {
+                return scannedClassesToLoad;
+            }
+
+            LOGGER.warn("File 'classpath.bootstrap' is outdated or uses an unknown format and will be ignored, class path will be scanned");
+        }
+
+        return ClassesToLoadScanner.findClassesToLoad(acceptedScanPathList, rejectedScanPathList, extraInterfaceList);
+    }
+
+    /**
+     * Records the duration of a startup phase.
+     *
+     * @param startupPhase         The startup phase
+     * @param phaseStartTimeMillis The time at which the phase started
+     * @return The time at which the phase ended
+     * @since 1.17.0
+     */
+    private long endStartupPhase(final StartupPhase startupPhase, final long phaseStartTimeMillis) {
+
+        final long phaseEndTimeMillis = System.currentTimeMillis();
+        this.startupPhaseDurationMap.put(startupPhase, Duration.ofMillis(phaseEndTimeMillis - phaseStartTimeMillis));
+
+        return phaseEndTimeMillis;
+    }
+
     /**
      * Instantiates a specific Guice module.
      *
@@ -282,4 +357,47 @@ public class VoidApplication {
 
         return null;
     }
+
+    /**
+     * Phases of the application startup.
+     *
+     * @since 1.17.0
+     */
+    public enum StartupPhase {
+
+        /**
+         * Local and remote configuration loading.
+         *
+         * @since 1.17.0
+         */
+        CONFIGURATION,
+
+        /**
+         * Class path scanning (or "classpath.bootstrap" restoration).
+         *
+         * @since 1.17.0
+         */
+        SCAN,
+
+        /**
+         * Modules instantiation and Guice injector creation.
+         *
+         * @since 1.17.0
+         */
+        INJECTOR,
+
+        /**
+         * Converters registration.
+         *
+         * @since 1.17.0
+         */
+        CONVERTERS,
+
+        /**
+         * Execution of the "start" lifecycle handlers.
+         *
+         * @since 1.17.0
+         */
+        LIFECYCLE
+    }
 }
@@ -1,35 +1,50 @@
 package dev.voidframework.core.classestoload;
 
 import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.KryoException;
 import com.esotericsoftware.kryo.io.Input;
 import com.esotericsoftware.kryo.io.Output;
 import com.google.inject.Module;
 import dev.voidframework.core.bindable.Bindable;
+import dev.voidframework.core.constant.CharConstants;
 import dev.voidframework.core.constant.StringConstants;
 import dev.voidframework.core.conversion.TypeConverter;
+import dev.voidframework.core.exception.AppLauncherException;
 import dev.voidframework.core.exception.ConversionException;
 import dev.voidframework.core.proxyable.Proxyable;
 import dev.voidframework.core.utils.ClassResolverUtils;
 import io.github.classgraph.ClassGraph;
 import io.github.classgraph.ClassInfo;
-import io.github.classgraph.MethodInfo;
-import io.github.classgraph.MethodInfoList;
 import io.github.classgraph.ScanResult;
 import io.github.classgraph.TypeArgument;
+import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.aspectj.lang.annotation.Aspect;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Classpath scanner to fin classes to load.
@@ -40,6 +55,19 @@ public final class ClassesToLoadScanner {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ClassesToLoadScanner.class);
 
+    private static final String BOOTSTRAP_INDEX_RESOURCE_NAME = "META-INF/voidframework/bootstrap.index";
+    private static final byte[] BOOTSTRAP_FILE_MAGIC = "VFBS".getBytes(StandardCharsets.US_ASCII);
+    private static final int BOOTSTRAP_FILE_FORMAT_VERSION = 2;
+    private static final int NUMBER_OF_SCAN_WORKER_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+    private static final Map<String, Integer> BOOTSTRAP_INDEX_ENTRY_PART_COUNT_MAP = Map.of(
+        "bindable", 2,
+        "interface", 3,
+        "extra", 3,
+        "module", 2,
+        "converter", 4,
+        "proxyable", 2,
+        "aspect", 2);
+
     /**
      * Default constructor.
      *
@@ -75,8 +103,7 @@ public final class ClassesToLoadScanner {
             .acceptPackages(acceptedScanPathList.stream().filter(StringUtils::isNotBlank).toArray(String[]::new))
             .rejectPackages(rejectedScanPathList.stream().filter(StringUtils::isNotBlank).toArray(String[]::new))
             .enableAnnotationInfo()
-            .enableMethodInfo()
-            .scan()) {
+            .scan(NUMBER_OF_SCAN_WORKER_THREADS)) {
 
             for (final ClassInfo classInfo : scanResult.getAllClasses()) {
 
@@ -113,16 +140,8 @@ public final class ClassesToLoadScanner {
                             classInfo.getName(), "Can't retrieve Class<?> from '" + targetClassName + StringConstants.SIMPLE_QUOTE);
                     }
 
-                    // Retrieves constructor
-                    final MethodInfoList constructorInfoList = classInfo.getConstructorInfo();
-                    if (constructorInfoList.isEmpty()) {
-                        throw new ConversionException.InvalidConverter(classInfo.getName(), "No constructor found");
-                    }
-
-                    final MethodInfo constructorInfo = constructorInfoList.get(0);
-
                     scannedClassesToLoad.converterInformationList().add(
-                        new ConverterInformation(sourceClassType, targetClassType, constructorInfo.loadClassAndGetConstructor().getDeclaringClass()));
+                        new ConverterInformation(sourceClassType, targetClassType, classInfo.loadClass(false)));
                 } else if (isProxyable(classInfo)) {
                     scannedClassesToLoad.proxyableList().add(classInfo.loadClass(false));
                 } else if (classInfo.hasAnnotation(Aspect.class)) {
@@ -134,22 +153,160 @@ public final class ClassesToLoadScanner {
         return scannedClassesToLoad;
     }
 
+    /**
+     * Retrieves classes to load from the bootstrap indexes generated at compile time by
+     * {@code voidframework-bootstrap-processor}. All indexes available from the given class
+     * loader are merged, the class path is never scanned. Classes located in JARs built without
+     * the processor will not be found.
+     * <p>
+     * Implementations of extra interfaces are indexed by the processor as candidates, they are only
+     * bound if the interface is part of the given extra interfaces, as with a class path scan.
+     *
+     * @param classLoader          The class loader to use to read indexes and load classes
+     * @param acceptedScanPathList The locations to scan for classes to bind
+     * @param rejectedScanPathList The locations to exclude from the scan
+     * @param extraInterfaceList   The extra interface for which consider implementations as useful classes to load
+     * @return Classes to load
+     * @see AppLauncherException.InvalidBootstrapIndexEntry
+     * @since 1.17.0
+     */
+    public static ScannedClassesToLoad restoreClassesToLoadFromIndexes(final ClassLoader classLoader,
+                                                                       final List<String> acceptedScanPathList,
+                                                                       final List<String> rejectedScanPathList,
+                                                                       final List<String> extraInterfaceList) {
+
+        final ScannedClassesToLoad scannedClassesToLoad = new ScannedClassesToLoad(
+            new ArrayList<>(),
+            new ArrayList<>(),
+            new ArrayList<>(),
+            new ArrayList<>(),
+            new ArrayList<>(),
+            new HashMap<>());
+
+        final List<String> acceptedList = acceptedScanPathList.stream().filter(StringUtils::isNotBlank).toList();
+        final List<String> rejectedList = rejectedScanPathList.stream().filter(StringUtils::isNotBlank).toList();
+        final Set<String> extraInterfaceSet = new HashSet<>(extraInterfaceList);
+        final Set<Class<?>> boundClassSet = new HashSet<>();
+        final Set<String> alreadyProcessedEntrySet = new HashSet<>();
+
+        try {
+            final Enumeration<URL> indexUrlEnumeration = classLoader.getResources(BOOTSTRAP_INDEX_RESOURCE_NAME);
+            while (indexUrlEnumeration.hasMoreElements()) {
+                final URL indexUrl = indexUrlEnumeration.nextElement();
+                try (final BufferedReader reader = new BufferedReader(new InputStreamReader(indexUrl.openStream(), StandardCharsets.UTF_8))) {
+                    String line;
+                    int lineNumber = 0;
+                    while ((line = reader.readLine()) != null) {
+                        lineNumber += 1;
+                        line = line.trim();
+                        if (line.isEmpty() || line.startsWith(StringConstants.HASHTAG) || !alreadyProcessedEntrySet.add(line)) {
+                            continue;
+                        }
+
+                        final String[] entryPartArray = line.split(StringConstants.COLON);
+                        final Integer expectedPartCount = BOOTSTRAP_INDEX_ENTRY_PART_COUNT_MAP.get(entryPartArray[0]);
+                        if (expectedPartCount == null || expectedPartCount != entryPartArray.length) {
+                            throw new AppLauncherException.InvalidBootstrapIndexEntry(indexUrl.toString(), lineNumber, line);
+                        }
+
+                        if (isAccepted(entryPartArray[1], acceptedList, rejectedList)) {
+                            applyIndexEntry(
+                                scannedClassesToLoad, entryPartArray, acceptedList, rejectedList, extraInterfaceSet, boundClassSet, classLoader);
+                        }
+                    }
+                }
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException("Can't read bootstrap indexes", ex);
+        }
+
+        return scannedClassesToLoad;
+    }
+
+    /**
+     * Computes the fingerprint of the classes to scan. The fingerprint depends on the scan
+     * configuration and on the path, size and last modification time of each class path
+     * element (directory or JAR), in class path order. Neither class files nor JAR content
+     * are read, so the fingerprint is cheap enough to be checked on each startup. As it
+     * depends on class path element locations, the fingerprint must be computed with the
+     * class path used to run the application.
+     *
+     * @param acceptedScanPathList The locations to scan for classes to bind
+     * @param rejectedScanPathList The locations to exclude from the scan
+     * @param extraInterfaceList   The extra interface for which consider implementations as useful classes to load
+     * @return The fingerprint
+     * @since 1.17.0
+     */
+    public static String computeClasspathFingerprint(final List<String> acceptedScanPathList,
+                                                     final List<String> rejectedScanPathList,
+                                                     final List<String> extraInterfaceList) {
+
+        final MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+
+        updateDigest(messageDigest, "accepted=" + String.join(",", acceptedScanPathList));
+        updateDigest(messageDigest, "rejected=" + String.join(",", rejectedScanPathList));
+        updateDigest(messageDigest, "extraInterfaces=" + String.join(",", extraInterfaceList));
+
+        for (final File classpathElementFile : new ClassGraph().getClasspathFiles()) {
+            updateDigest(
+                messageDigest,
+                classpathElementFile.getAbsolutePath()
+                    + StringConstants.COLON + classpathElementFile.length()
+                    + StringConstants.COLON + classpathElementFile.lastModified());
+        }
+
+        return HexFormat.of().formatHex(messageDigest.digest());
+    }
+
     /**
      * Restore a {@code ScannedClassesToLoad} from the given stream.
      *
      * @param inputStream The stream to use to restore {@code ScannedClassesToLoad}
-     * @return Restored {@code ScannedClassesToLoad}
+     * @return Restored {@code ScannedClassesToLoad}, otherwise, {@code null} if the stream was not written in the current format
      * @since 1.0.0
      */
     public static ScannedClassesToLoad restoreClassesToLoad(final InputStream inputStream) {
 
+        return restoreClassesToLoad(inputStream, null);
+    }
+
+    /**
+     * Restore a {@code ScannedClassesToLoad} from the given stream, only if the fingerprint
+     * recorded when the stream was created matches the expected one.
+     *
+     * @param inputStream         The stream to use to restore {@code ScannedClassesToLoad}
+     * @param expectedFingerprint The expected fingerprint, or {@code null} to skip verification
+     * @return Restored {@code ScannedClassesToLoad}, otherwise, {@code null} if the fingerprint does not match
+     * or if the stream was not written in the current format
+     * @see #computeClasspathFingerprint(List, List, List)
+     * @since 1.17.0
+     */
+    public static ScannedClassesToLoad restoreClassesToLoad(final InputStream inputStream, final String expectedFingerprint) {
+
         final Kryo kryo = ClassesToLoadScanner.initializeKryo();
 
-        final Input input = new Input(inputStream);
-        final ScannedClassesToLoad scannedClassesToLoad = kryo.readObject(input, ScannedClassesToLoad.class);
-        input.close();
+        try (final Input input = new Input(inputStream)) {
+            if (!Arrays.equals(BOOTSTRAP_FILE_MAGIC, input.readBytes(BOOTSTRAP_FILE_MAGIC.length))
+                || input.readVarInt(true) != BOOTSTRAP_FILE_FORMAT_VERSION) {
+                LOGGER.debug("Bootstrap file format is unknown or outdated");
+                return null;
+            }
 
-        return scannedClassesToLoad;
+            final String fingerprint = input.readString();
+            if (expectedFingerprint != null && !expectedFingerprint.equals(fingerprint)) {
+                return null;
+            }
+
+            return kryo.readObject(input, ScannedClassesToLoad.class);
+        } catch (final KryoException ex) {
+            LOGGER.debug("Can't read bootstrap file", ex);
+            return null;
+        }
     }
 
     /**
@@ -162,11 +319,30 @@ public final class ClassesToLoadScanner {
     public static void persistClassesToLoad(final ScannedClassesToLoad scannedClassesToLoad,
                                             final Path outputDirectoryPath) {
 
+        persistClassesToLoad(scannedClassesToLoad, null, outputDirectoryPath);
+    }
+
+    /**
+     * Persists a {@code ScannedClassesToLoad} object.
+     *
+     * @param scannedClassesToLoad The {@code ScannedClassesToLoad} object to persist
+     * @param fingerprint          The fingerprint of the scanned classes, can be {@code null}
+     * @param outputDirectoryPath  Output directory
+     * @see #computeClasspathFingerprint(List, List, List)
+     * @since 1.17.0
+     */
+    public static void persistClassesToLoad(final ScannedClassesToLoad scannedClassesToLoad,
+                                            final String fingerprint,
+                                            final Path outputDirectoryPath) {
+
         final Kryo kryo = ClassesToLoadScanner.initializeKryo();
 
         try {
             final File outputFile = outputDirectoryPath.resolve("classpath.bootstrap").toFile();
             final Output output = new Output(new FileOutputStream(outputFile));
+            output.writeBytes(BOOTSTRAP_FILE_MAGIC);
+            output.writeVarInt(BOOTSTRAP_FILE_FORMAT_VERSION, true);
+            output.writeString(fingerprint);
             kryo.writeObject(output, scannedClassesToLoad);
             output.close();
         } catch (final IOException ex) {
@@ -192,6 +368,154 @@ public final class ClassesToLoadScanner {
         return kryo;
     }
 
+    /**
+     * Applies a bootstrap index entry.
+     *
+     * @param scannedClassesToLoad The classes to load
+     * @param entryPartArray       The entry parts (type, class name, ...)
+     * @param acceptedList         The accepted locations
+     * @param rejectedList         The rejected locations
+     * @param extraInterfaceSet    The extra interfaces for which implementations are bound
+     * @param boundClassSet        The classes already bound
+     * @param classLoader          The class loader to use to load classes
+     * @since 1.17.0
+     */
+    private static void applyIndexEntry(final ScannedClassesToLoad scannedClassesToLoad,
+                                        final String[] entryPartArray,
+                                        final List<String> acceptedList,
+                                        final List<String> rejectedList,
+                                        final Set<String> extraInterfaceSet,
+                                        final Set<Class<?>> boundClassSet,
+                                        final ClassLoader classLoader) {
+
+        final Class<?> classType = ClassResolverUtils.forName(entryPartArray[1], classLoader);
+        if (classType == null) {
+            LOGGER.warn("Class '{}' referenced by a bootstrap index can't be found", entryPartArray[1]);
+            return;
+        }
+
+        switch (entryPartArray[0]) {
+            case "bindable" -> {
+                if (boundClassSet.add(classType)) {
+                    scannedClassesToLoad.bindableList().add(classType);
+                }
+            }
+            case "extra" -> {
+                // Like class path scan, interfaces implemented by the class are counted once it is bound
+                if (extraInterfaceSet.contains(entryPartArray[2]) && boundClassSet.add(classType)) {
+                    scannedClassesToLoad.bindableList().add(classType);
+                    for (final Class<?> interfaceClassType : ClassUtils.getAllInterfaces(classType)) {
+                        if (isAccepted(interfaceClassType.getName(), acceptedList, rejectedList)) {
+                            scannedClassesToLoad
+                                .interfaceImplementationCountMap()
+                                .compute(interfaceClassType, (key, value) -> Objects.requireNonNullElse(value, 0) + 1);
+                        }
+                    }
+                }
+            }
+            case "interface" -> {
+                // Like class path scan, only interfaces located in accepted locations are counted
+                final Class<?> interfaceClassType = ClassResolverUtils.forName(entryPartArray[2], classLoader);
+                if (interfaceClassType != null && isAccepted(entryPartArray[2], acceptedList, rejectedList)) {
+                    scannedClassesToLoad
+                        .interfaceImplementationCountMap()
+                        .compute(interfaceClassType, (key, value) -> Objects.requireNonNullElse(value, 0) + 1);
+                }
+            }
+            case "module" -> scannedClassesToLoad.moduleList().add(classType);
+            case "converter" -> {
+                final Class<?> sourceClassType = ClassResolverUtils.forName(entryPartArray[2], classLoader);
+                if (sourceClassType == null) {
+                    throw new ConversionException.InvalidConverter(
+                        entryPartArray[1], "Can't retrieve Class<?> from '" + entryPartArray[2] + StringConstants.SIMPLE_QUOTE);
+                }
+
+                final Class<?> targetClassType = ClassResolverUtils.forName(entryPartArray[3], classLoader);
+                if (targetClassType == null) {
+                    throw new ConversionException.InvalidConverter(
+                        entryPartArray[1], "Can't retrieve Class<?> from '" + entryPartArray[3] + StringConstants.SIMPLE_QUOTE);
+                }
+
+                scannedClassesToLoad.converterInformationList().add(new ConverterInformation(sourceClassType, targetClassType, classType));
+            }
+            case "proxyable" -> scannedClassesToLoad.proxyableList().add(classType);
+            case "aspect" -> scannedClassesToLoad.aspectList().add(classType);
+        }
+    }
+
+    /**
+     * Checks if a class is located in an accepted location.
+     *
+     * @param className    The class name
+     * @param acceptedList The accepted locations (all locations are accepted if empty)
+     * @param rejectedList The rejected locations
+     * @return {@code true} if the class is located in an accepted location, otherwise {@code false}
+     * @since 1.17.0
+     */
+    private static boolean isAccepted(final String className, final List<String> acceptedList, final List<String> rejectedList) {
+
+        for (final String rejected : rejectedList) {
+            if (isLocatedIn(className, rejected)) {
+                return false;
+            }
+        }
+
+        if (acceptedList.isEmpty()) {
+            return true;
+        }
+
+        for (final String accepted : acceptedList) {
+            if (isLocatedIn(className, accepted)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks if a class is located in the given location (package or class name).
+     *
+     * @param className The class name
+     * @param location  The location
+     * @return {@code true} if the class is located in the location, otherwise {@code false}
+     * @since 1.17.0
+     */
+    private static boolean isLocatedIn(final String className, final String location) {
+
+        return className.equals(location)
+            || (className.startsWith(location)
+            && (className.charAt(location.length()) == CharConstants.DOT || className.charAt(location.length()) == '$'));
+    }
+
+    /**
+     * Converts package names to paths.
+     *
+     * @param packageNameList The package names
+     * @return The paths
+     * @since 1.17.0
+     */
+    private static String[] toPathArray(final List<String> packageNameList) {
+
+        return packageNameList.stream()
+            .filter(StringUtils::isNotBlank)
+            .map(packageName -> packageName.replace(CharConstants.DOT, CharConstants.SLASH))
+            .toArray(String[]::new);
+    }
+
+    /**
+     * Updates the digest with the given entry.
+     *
+     * @param messageDigest The digest to update
+     * @param entry         The entry
+     * @since 1.17.0
+     */
+    private static void updateDigest(final MessageDigest messageDigest, final String entry) {
+
+        messageDigest.update(entry.getBytes(StandardCharsets.UTF_8));
+        messageDigest.update((byte) '\n');
+    }
+
     /**
      * Checks if current class can be bind.
      *
@@ -36,13 +36,20 @@ public final class ClasspathBootstrapGenerator {
         final Config configuration = applicationConfiguration.withFallback(referenceConfiguration).resolve();
 
         // Scan classpath
+        final List<String> acceptedScanPathList = resolveConfigAsStringList(configuration, "voidframework.core.acceptedScanPaths");
+        final List<String> rejectedScanPathList = resolveConfigAsStringList(configuration, "voidframework.core.rejectedScanPaths");
+        final List<String> extraInterfaceList = resolveConfigAsStringList(configuration, "voidframework.core.bindExtraInterfaces");
         final ScannedClassesToLoad scannedClassesToLoad = ClassesToLoadScanner.findClassesToLoad(
-            resolveConfigAsStringList(configuration, "voidframework.core.acceptedScanPaths"),
-            resolveConfigAsStringList(configuration, "voidframework.core.rejectedScanPaths"),
-            resolveConfigAsStringList(configuration, "voidframework.core.bindExtraInterfaces"));
+            acceptedScanPathList,
+            rejectedScanPathList,
+            extraInterfaceList);
+        final String fingerprint = ClassesToLoadScanner.computeClasspathFingerprint(
+            acceptedScanPathList,
+            rejectedScanPathList,
+            extraInterfaceList);
 
         // Create "classpath.bootstrap" file
-        ClassesToLoadScanner.persistClassesToLoad(scannedClassesToLoad, Paths.get(args[0]));
+        ClassesToLoadScanner.persistClassesToLoad(scannedClassesToLoad, fingerprint, Paths.get(args[0]));
     }
 
     /**
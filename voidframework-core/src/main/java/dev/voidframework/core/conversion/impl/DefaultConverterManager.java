@@ -4,14 +4,27 @@ import com.google.inject.Singleton;
 import dev.voidframework.core.conversion.ConverterManager;
 import dev.voidframework.core.conversion.TypeConverter;
 import dev.voidframework.core.exception.ConversionException;
+import org.apache.commons.lang3.ClassUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Default implementation of {@link ConverterManager}.
+ * <p>
+ * Registered converters are kept in an immutable map, replaced on each registration, so
+ * converters can be safely registered at any time. Resolved converters are memoized per
+ * source and target types: a lookup does not allocate anything once a couple of types has
+ * been resolved. If no converter has been registered for the exact couple of types, the
+ * converter is searched by using the boxed type of primitive types and the supertypes of
+ * the source type, closest supertypes first.
  *
  * @since 1.0.0
  */
@@ -20,7 +33,10 @@ public final class DefaultConverterManager implements ConverterManager {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultConverterManager.class);
 
-    private final Map<ConverterCompositeKey, TypeConverter<?, ?>> converterMap;
+    private static final TypeConverter<?, ?> NO_CONVERTER = source -> null;
+
+    private volatile Map<ConverterCompositeKey, TypeConverter<?, ?>> converterMap;
+    private volatile ClassValue<Map<Class<?>, TypeConverter<?, ?>>> resolvedConverterCache;
 
     /**
      * Build a new instance.
@@ -29,32 +45,50 @@ public final class DefaultConverterManager implements ConverterManager {
      */
     public DefaultConverterManager() {
 
-        this.converterMap = new HashMap<>();
+        this.converterMap = Map.of();
+        this.resolvedConverterCache = this.createResolvedConverterCache();
     }
 
     @Override
     public <S, T> boolean hasConvertFor(final Class<S> sourceClassType, final Class<T> targetClassType) {
 
-        return this.converterMap.containsKey(new ConverterCompositeKey(sourceClassType, targetClassType));
+        return this.getConverter(sourceClassType, targetClassType) != null;
     }
 
     @Override
-    public void registerConverter(final Class<?> sourceClassType,
-                                  final Class<?> targetClassType,
-                                  final TypeConverter<?, ?> converter) {
+    public synchronized void registerConverter(final Class<?> sourceClassType,
+                                               final Class<?> targetClassType,
+                                               final TypeConverter<?, ?> converter) {
 
         LOGGER.debug("Register new Converter<source={}, target={}>", sourceClassType, targetClassType);
-        if (this.converterMap.put(new ConverterCompositeKey(sourceClassType, targetClassType), converter) != null) {
+
+        final ConverterCompositeKey key = new ConverterCompositeKey(sourceClassType, targetClassType);
+        if (this.converterMap.containsKey(key)) {
             throw new ConversionException.ConverterAlreadyRegistered(sourceClassType, targetClassType);
         }
+
+        final Map<ConverterCompositeKey, TypeConverter<?, ?>> newConverterMap = new HashMap<>(this.converterMap);
+        newConverterMap.put(key, converter);
+
+        // Previously resolved converters may no longer be the best matching ones
+        this.converterMap = Map.copyOf(newConverterMap);
+        this.resolvedConverterCache = this.createResolvedConverterCache();
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public <S, T> TypeConverter<S, T> getConverter(final Class<S> sourceClassType, final Class<T> targetClassType) {
 
-        return (TypeConverter<S, T>) this.converterMap.get(
-            new ConverterCompositeKey(sourceClassType, targetClassType));
+        final Map<Class<?>, TypeConverter<?, ?>> converterPerTargetMap = this.resolvedConverterCache.get(sourceClassType);
+
+        TypeConverter<?, ?> converter = converterPerTargetMap.get(targetClassType);
+        if (converter == null) {
+            converter = converterPerTargetMap.computeIfAbsent(
+                targetClassType,
+                key -> this.resolveConverter(sourceClassType, targetClassType));
+        }
+
+        return converter == NO_CONVERTER ? null : (TypeConverter<S, T>) converter;
     }
 
     @Override
@@ -62,4 +96,109 @@ public final class DefaultConverterManager implements ConverterManager {
 
         return this.converterMap.size();
     }
+
+    /**
+     * Creates the resolved converters cache. The cache is keyed by source type, then by target type.
+     *
+     * @return Newly created cache
+     * @since 1.17.0
+     */
+    private ClassValue<Map<Class<?>, TypeConverter<?, ?>>> createResolvedConverterCache() {
+
+        return new ClassValue<>() {
+
+            @Override
+            protected Map<Class<?>, TypeConverter<?, ?>> computeValue(final Class<?> sourceClassType) {
+
+                return new ConcurrentHashMap<>();
+            }
+        };
+    }
+
+    /**
+     * Resolves the converter to use. Source types are tried from the closest to the farthest:
+     * the source type itself (or its boxed type), then its direct superclass and interfaces,
+     * then their own supertypes, and so on, level by level. {@code Object} is always tried
+     * last. For each source type, the target type itself is tried first, then its boxed or
+     * primitive counterpart.
+     *
+     * @param sourceClassType The source type class
+     * @param targetClassType The target type class
+     * @return The converter, or {@link #NO_CONVERTER} if no converter matches
+     * @since 1.17.0
+     */
+    private TypeConverter<?, ?> resolveConverter(final Class<?> sourceClassType, final Class<?> targetClassType) {
+
+        final Map<ConverterCompositeKey, TypeConverter<?, ?>> currentConverterMap = this.converterMap;
+        final Class<?> alternativeTargetClassType = targetClassType.isPrimitive()
+            ? ClassUtils.primitiveToWrapper(targetClassType)
+            : ClassUtils.wrapperToPrimitive(targetClassType);
+
+        final Set<Class<?>> visitedClassTypeSet = new HashSet<>();
+        final Deque<Class<?>> classTypeToVisitDeque = new ArrayDeque<>();
+        classTypeToVisitDeque.add(ClassUtils.primitiveToWrapper(sourceClassType));
+
+        while (!classTypeToVisitDeque.isEmpty()) {
+            final Class<?> currentClassType = classTypeToVisitDeque.poll();
+            if (currentClassType == Object.class || !visitedClassTypeSet.add(currentClassType)) {
+                continue;
+            }
+
+            final TypeConverter<?, ?> converter = findConverter(
+                currentConverterMap, currentClassType, targetClassType, alternativeTargetClassType);
+            if (converter != null) {
+                if (currentClassType != sourceClassType) {
+                    LOGGER.debug(
+                        "Converter<source={}, target={}> resolved as Converter<source={}, target={}>",
+                        sourceClassType,
+                        targetClassType,
+                        currentClassType,
+                        targetClassType);
+                }
+
+                return converter;
+            }
+
+            // Breadth-first: direct supertypes are all tried before their own supertypes
+            if (currentClassType.getSuperclass() != null) {
+                classTypeToVisitDeque.addLast(currentClassType.getSuperclass());
+            }
+
+            for (final Class<?> interfaceClassType : currentClassType.getInterfaces()) {
+                classTypeToVisitDeque.addLast(interfaceClassType);
+            }
+        }
+
+        final TypeConverter<?, ?> objectConverter = findConverter(
+            currentConverterMap, Object.class, targetClassType, alternativeTargetClassType);
+        if (objectConverter != null) {
+            return objectConverter;
+        }
+
+        return NO_CONVERTER;
+    }
+
+    /**
+     * Retrieves the converter registered for the given source type and the target type, or
+     * its boxed or primitive counterpart.
+     *
+     * @param converterMap               The registered converters
+     * @param sourceClassType            The source type class
+     * @param targetClassType            The target type class
+     * @param alternativeTargetClassType The boxed or primitive counterpart of the target type, can be {@code null}
+     * @return The converter, otherwise, {@code null}
+     * @since 1.17.0
+     */
+    private static TypeConverter<?, ?> findConverter(final Map<ConverterCompositeKey, TypeConverter<?, ?>> converterMap,
+                                                     final Class<?> sourceClassType,
+                                                     final Class<?> targetClassType,
+                                                     final Class<?> alternativeTargetClassType) {
+
+        final TypeConverter<?, ?> converter = converterMap.get(new ConverterCompositeKey(sourceClassType, targetClassType));
+        if (converter == null && alternativeTargetClassType != null) {
+            return converterMap.get(new ConverterCompositeKey(sourceClassType, alternativeTargetClassType));
+        }
+
+        return converter;
+    }
 }
@@ -86,4 +86,25 @@ public class AppLauncherException extends RuntimeException {
             super("Constructor not found for the module '" + moduleClass + "'");
         }
     }
+
+    /**
+     * Exception indicates that a bootstrap index contains an invalid entry.
+     *
+     * @since 1.17.0
+     */
+    public static class InvalidBootstrapIndexEntry extends AppLauncherException {
+
+        /**
+         * Build a new instance.
+         *
+         * @param indexUrl   The URL of the bootstrap index
+         * @param lineNumber The line number of the invalid entry
+         * @param line       The invalid entry
+         * @since 1.17.0
+         */
+        public InvalidBootstrapIndexEntry(final String indexUrl, final int lineNumber, final String line) {
+
+            super("Invalid entry '" + line + "' in bootstrap index '" + indexUrl + "' (line " + lineNumber + ")");
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package dev.voidframework.core.jackson;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import dev.voidframework.core.lang.CUID;
@@ -8,7 +9,8 @@ import dev.voidframework.core.lang.CUID;
 import java.io.IOException;
 
 /**
- * Jackson deserializer for {@code CUID}.
+ * Jackson deserializer for {@code CUID}. Both string and native binary
+ * (ie: Smile, CBOR) forms are accepted.
  *
  * @see CUID
  * @since 1.3.0
@@ -40,6 +42,10 @@ public final class CUIDDeserializer extends StdDeserializer<CUID> {
     public CUID deserialize(final JsonParser jsonParser,
                             final DeserializationContext deserializationContext) throws IOException {
 
+        if (jsonParser.currentToken() == JsonToken.VALUE_EMBEDDED_OBJECT) {
+            return CUID.fromBytes(jsonParser.getBinaryValue());
+        }
+
         return CUID.fromString(jsonParser.getText());
     }
 }
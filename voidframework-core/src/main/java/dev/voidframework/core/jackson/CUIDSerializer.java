@@ -4,20 +4,29 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import dev.voidframework.core.lang.CUID;
+import dev.voidframework.core.utils.CUIDSerializationUtils;
 
 import java.io.IOException;
 
 /**
- * Jackson serializer for {@code CUID}.
+ * Jackson serializer for {@code CUID}. By default, CUIDs are written using their
+ * string form. When the binary form is enabled (see configuration key
+ * "voidframework.core.cuid.useBinaryForm") and the underlying format supports native
+ * binary data (ie: Smile, CBOR), canonical CUIDs are written using their compact
+ * binary form (16 bytes), which can only be read since version 1.17.0. Both forms
+ * can always be read.
  *
  * @see CUID
  * @since 1.3.0
  */
 public final class CUIDSerializer extends StdSerializer<CUID> {
 
+    private final boolean useBinaryForm;
+
     /**
-     * @since 1.3.0
      * Build a new instance.
+     *
+     * @since 1.3.0
      */
     public CUIDSerializer() {
 
@@ -32,7 +41,31 @@ public final class CUIDSerializer extends StdSerializer<CUID> {
      */
     public CUIDSerializer(final Class<CUID> cuidClassType) {
 
+        this(cuidClassType, CUIDSerializationUtils.isBinaryFormEnabled());
+    }
+
+    /**
+     * Build a new instance.
+     *
+     * @param useBinaryForm {@code true} to write canonical CUIDs using their binary form when supported by the format
+     * @since 1.17.0
+     */
+    public CUIDSerializer(final boolean useBinaryForm) {
+
+        this(null, useBinaryForm);
+    }
+
+    /**
+     * Build a new instance.
+     *
+     * @param cuidClassType The CUID class type
+     * @param useBinaryForm {@code true} to write canonical CUIDs using their binary form when supported by the format
+     * @since 1.17.0
+     */
+    public CUIDSerializer(final Class<CUID> cuidClassType, final boolean useBinaryForm) {
+
         super(cuidClassType);
+        this.useBinaryForm = useBinaryForm;
     }
 
     @Override
@@ -40,10 +73,12 @@ public final class CUIDSerializer extends StdSerializer<CUID> {
                           final JsonGenerator jsonGenerator,
                           final SerializerProvider serializerProvider) throws IOException {
 
-        if (cuid != null) {
-            jsonGenerator.writeString(cuid.toString());
-        } else {
+        if (cuid == null) {
             jsonGenerator.writeNull();
+        } else if (this.useBinaryForm && jsonGenerator.canWriteBinaryNatively() && cuid.isCanonical()) {
+            jsonGenerator.writeBinary(cuid.toBytes());
+        } else {
+            jsonGenerator.writeString(cuid.toString());
         }
     }
 }
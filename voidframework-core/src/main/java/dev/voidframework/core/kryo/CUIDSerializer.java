@@ -5,23 +5,67 @@ import com.esotericsoftware.kryo.io.Input;
 import com.esotericsoftware.kryo.io.Output;
 import com.esotericsoftware.kryo.serializers.ImmutableSerializer;
 import dev.voidframework.core.lang.CUID;
+import dev.voidframework.core.utils.CUIDSerializationUtils;
 
 /**
- * Kryo serializer for Java {@code CUID}.
+ * Kryo serializer for Java {@code CUID}. By default, CUIDs are written using their
+ * string form, which can be read by all versions. When the binary form is enabled
+ * (see configuration key "voidframework.core.cuid.useBinaryForm"),
+ * canonical CUIDs are written using their compact binary form (16 bytes, preceded by
+ * a marker byte), which can only be read since version 1.17.0: only enable it once
+ * all the applications sharing serialized data have been upgraded. Both forms can
+ * always be read.
  *
  * @since 1.11.0
  */
 public final class CUIDSerializer extends ImmutableSerializer<CUID> {
 
+    private static final int CUID_BINARY_LENGTH = 16;
+    private static final byte BINARY_FORM_MARKER = 0;
+
+    private final boolean useBinaryForm;
+
+    /**
+     * Build a new instance using the configured form.
+     *
+     * @since 1.11.0
+     */
+    public CUIDSerializer() {
+
+        this(CUIDSerializationUtils.isBinaryFormEnabled());
+    }
+
+    /**
+     * Build a new instance.
+     *
+     * @param useBinaryForm {@code true} to write canonical CUIDs using their binary form
+     * @since 1.17.0
+     */
+    public CUIDSerializer(final boolean useBinaryForm) {
+
+        this.useBinaryForm = useBinaryForm;
+    }
+
     @Override
     public void write(final Kryo kryo, final Output output, final CUID cuid) {
 
-        output.writeString(cuid.toString());
+        if (this.useBinaryForm && cuid.isCanonical()) {
+            output.writeByte(BINARY_FORM_MARKER);
+            output.writeBytes(cuid.toBytes());
+        } else {
+            output.writeString(cuid.toString());
+        }
     }
 
     @Override
     public CUID read(final Kryo kryo, final Input input, final Class<? extends CUID> type) {
 
+        // String form always starts with the CUID start character, never with the marker
+        if (input.readByte() == BINARY_FORM_MARKER) {
+            return CUID.fromBytes(input.readBytes(CUID_BINARY_LENGTH));
+        }
+
+        input.setPosition(input.position() - 1);
         final String cuidAsString = input.readString();
 
         return CUID.fromString(cuidAsString);
@@ -4,6 +4,7 @@ import java.io.Serial;
 import java.lang.management.ManagementFactory;
 import java.security.SecureRandom;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Collision-resistant ID optimized for horizontal scaling and performance.
@@ -20,13 +21,16 @@ public final class CUID implements java.io.Serializable, Comparable<CUID> {
     // CUID configuration.
     private static final int NUMBER_BASE = 36;
     private static final int BLOCK_SIZE = 4;
+    private static final int TIMESTAMP_SIZE = 8;
     private static final int CUID_VALUE_LENGTH = 25;
     private static final String START_CHARACTER = "c";
     private static final int RANDOM_BUFFER_SIZE = 4096;
+    private static final int BINARY_LENGTH = 16;
+    private static final int BINARY_HALF_SIZE = 12;
+    private static final char[] DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz".toCharArray();
 
     // Counter
-    private static int counter = 0;
-    private static int randomBufferIndex = RANDOM_BUFFER_SIZE;
+    private static final AtomicInteger COUNTER = new AtomicInteger();
 
     // CUID value
     private final String value;
@@ -50,11 +54,28 @@ public final class CUID implements java.io.Serializable, Comparable<CUID> {
      */
     public static CUID randomCUID() {
 
-        final String timestamp = Long.toString(System.currentTimeMillis(), NUMBER_BASE);
-        final String counter = padWithZero(Integer.toString(nextCounterValue(), NUMBER_BASE), BLOCK_SIZE);
-        final String random = getRandomBlock() + getRandomBlock();
+        final RandomState randomState = Holder.RANDOM_STATE.get();
+        final char[] cuidCharArray = new char[CUID_VALUE_LENGTH];
+        int position = 0;
 
-        return new CUID(START_CHARACTER + timestamp + counter + Holder.MACHINE_FINGERPRINT + random);
+        cuidCharArray[position] = START_CHARACTER.charAt(0);
+        position += 1;
+
+        writeBase36(cuidCharArray, position, TIMESTAMP_SIZE, System.currentTimeMillis());
+        position += TIMESTAMP_SIZE;
+
+        writeBase36(cuidCharArray, position, BLOCK_SIZE, Math.floorMod(COUNTER.getAndIncrement(), Holder.DISCRETE_VALUES));
+        position += BLOCK_SIZE;
+
+        System.arraycopy(Holder.MACHINE_FINGERPRINT, 0, cuidCharArray, position, BLOCK_SIZE);
+        position += BLOCK_SIZE;
+
+        writeBase36(cuidCharArray, position, BLOCK_SIZE, Math.floorMod(randomState.nextInt(), Holder.DISCRETE_VALUES));
+        position += BLOCK_SIZE;
+
+        writeBase36(cuidCharArray, position, BLOCK_SIZE, Math.floorMod(randomState.nextInt(), Holder.DISCRETE_VALUES));
+
+        return new CUID(new String(cuidCharArray));
     }
 
     /**
@@ -75,59 +96,103 @@ public final class CUID implements java.io.Serializable, Comparable<CUID> {
     }
 
     /**
-     * Retrieves the counter next value.
+     * Creates a {@code CUID} from the binary representation.
      *
-     * @return The counter next value
-     * @since 1.3.0
+     * @param cuidAsBytes The binary representation of a {@code CUID}
+     * @return A {@code CUID} with the specified value
+     * @throws IllegalArgumentException If the binary representation is not conform
+     * @see #toBytes()
+     * @since 1.17.0
      */
-    private static synchronized int nextCounterValue() {
+    public static CUID fromBytes(final byte[] cuidAsBytes) {
+
+        if (cuidAsBytes == null || cuidAsBytes.length != BINARY_LENGTH) {
+            throw new IllegalArgumentException("CUID binary representation is invalid: must be " + BINARY_LENGTH + " bytes long");
+        }
 
-        counter = counter < Holder.DISCRETE_VALUES ? counter : 0;
-        return counter++;
+        final long highValue = readLong(cuidAsBytes, 0);
+        final long lowValue = readLong(cuidAsBytes, Long.BYTES);
+        if (!isInBinaryRange(highValue) || !isInBinaryRange(lowValue)) {
+            throw new IllegalArgumentException("CUID binary representation is invalid: value out of range");
+        }
+
+        final char[] cuidCharArray = new char[CUID_VALUE_LENGTH];
+        cuidCharArray[0] = START_CHARACTER.charAt(0);
+        writeBase36(cuidCharArray, 1, BINARY_HALF_SIZE, highValue);
+        writeBase36(cuidCharArray, 1 + BINARY_HALF_SIZE, BINARY_HALF_SIZE, lowValue);
+
+        return new CUID(new String(cuidCharArray));
     }
 
     /**
-     * Generates a random block of data.
+     * Writes the base 36 representation of a value, padded with leading zero, into a char array.
+     * Only the last "size" digits are written.
      *
-     * @return Newly generated block of data
-     * @since 1.3.0
+     * @param charArray The char array to write into
+     * @param offset    The position of the first digit
+     * @param size      The number of digits to write
+     * @param value     The value to write
+     * @since 1.17.0
      */
-    private static String getRandomBlock() {
+    private static void writeBase36(final char[] charArray, final int offset, final int size, final long value) {
 
-        return padWithZero(Integer.toString(nextIntValue() * Holder.DISCRETE_VALUES, NUMBER_BASE), BLOCK_SIZE);
+        long remainingValue = value;
+        for (int idx = offset + size - 1; idx >= offset; idx -= 1) {
+            charArray[idx] = DIGITS[(int) (remainingValue % NUMBER_BASE)];
+            remainingValue /= NUMBER_BASE;
+        }
     }
 
     /**
-     * Retrieves next random integer value.
+     * Reads a value written in base 36.
      *
-     * @return A random integer
-     * @since 1.3.0
+     * @param str    The string to read from
+     * @param offset The position of the first digit
+     * @param size   The number of digits to read
+     * @return The value
+     * @since 1.17.0
      */
-    private static synchronized int nextIntValue() {
+    private static long readBase36(final String str, final int offset, final int size) {
 
-        if (randomBufferIndex == RANDOM_BUFFER_SIZE) {
-            Holder.NUMBER_GENERATOR.nextBytes(Holder.RANDOM_BUFFER);
-            randomBufferIndex = 0;
+        long value = 0;
+        for (int idx = offset; idx < offset + size; idx += 1) {
+            value = value * NUMBER_BASE + Character.digit(str.charAt(idx), NUMBER_BASE);
         }
 
-        return Holder.RANDOM_BUFFER[randomBufferIndex++] << 24
-            | (Holder.RANDOM_BUFFER[randomBufferIndex++] & 0xff) << 16
-            | (Holder.RANDOM_BUFFER[randomBufferIndex++] & 0xff) << 8
-            | (Holder.RANDOM_BUFFER[randomBufferIndex++] & 0xff);
+        return value;
     }
 
     /**
-     * Pads string with leading zero.
+     * Reads a big-endian long value.
      *
-     * @param str  The string to pad
-     * @param size The size to keep
-     * @return The padded string
-     * @since 1.3.0
+     * @param byteArray The byte array to read from
+     * @param offset    The position of the first byte
+     * @return The long value
+     * @since 1.17.0
+     */
+    private static long readLong(final byte[] byteArray, final int offset) {
+
+        long value = 0;
+        for (int idx = offset; idx < offset + Long.BYTES; idx += 1) {
+            value = (value << 8) | (byteArray[idx] & 0xff);
+        }
+
+        return value;
+    }
+
+    /**
+     * Writes a big-endian long value.
+     *
+     * @param byteArray The byte array to write into
+     * @param offset    The position of the first byte
+     * @param value     The long value
+     * @since 1.17.0
      */
-    private static String padWithZero(final String str, final int size) {
+    private static void writeLong(final byte[] byteArray, final int offset, final long value) {
 
-        final String paddedString = "000000000" + str;
-        return paddedString.substring(paddedString.length() - size);
+        for (int idx = offset + Long.BYTES - 1; idx >= offset; idx -= 1) {
+            byteArray[idx] = (byte) (value >>> (8 * (offset + Long.BYTES - 1 - idx)));
+        }
     }
 
     /**
@@ -147,6 +212,77 @@ public final class CUID implements java.io.Serializable, Comparable<CUID> {
             .count() == 0;
     }
 
+    /**
+     * Retrieves the compact binary representation (16 bytes) of this {@code CUID}. The 24
+     * characters following the start character are read as two base 36 numbers of 12 digits
+     * each, stored as two big-endian longs. Letters are always lower case in the binary form,
+     * so only {@link #isCanonical() canonical} CUIDs can be converted.
+     *
+     * @return The binary representation
+     * @throws IllegalStateException If this {@code CUID} is not in canonical form
+     * @see #fromBytes(byte[])
+     * @since 1.17.0
+     */
+    public byte[] toBytes() {
+
+        if (!this.isCanonical()) {
+            throw new IllegalStateException("CUID is not in canonical form and can't be converted to binary: '" + this.value + "'");
+        }
+
+        final byte[] cuidAsBytes = new byte[BINARY_LENGTH];
+        writeLong(cuidAsBytes, 0, readBase36(this.value, 1, BINARY_HALF_SIZE));
+        writeLong(cuidAsBytes, Long.BYTES, readBase36(this.value, 1 + BINARY_HALF_SIZE, BINARY_HALF_SIZE));
+
+        return cuidAsBytes;
+    }
+
+    /**
+     * Checks if this {@code CUID} is in canonical form (lower case only). Generated CUIDs are
+     * always in canonical form.
+     *
+     * @return {@code true} if this {@code CUID} is in canonical form, otherwise, {@code false}
+     * @since 1.17.0
+     */
+    public boolean isCanonical() {
+
+        for (int idx = 0; idx < this.value.length(); idx += 1) {
+            final char c = this.value.charAt(idx);
+            if (c >= 'A' && c <= 'Z') {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks the {@code CUID} from the binary representation.
+     *
+     * @param cuidAsBytes The binary representation of a {@code CUID}
+     * @return {@code true} If the binary representation is conform, otherwise, {@code false}
+     * @see #toBytes()
+     * @since 1.17.0
+     */
+    public static boolean isValidBinary(final byte[] cuidAsBytes) {
+
+        return cuidAsBytes != null
+            && cuidAsBytes.length == BINARY_LENGTH
+            && isInBinaryRange(readLong(cuidAsBytes, 0))
+            && isInBinaryRange(readLong(cuidAsBytes, Long.BYTES));
+    }
+
+    /**
+     * Checks if a value read from the binary representation can be written using 12 base 36 digits.
+     *
+     * @param value The value to check
+     * @return {@code true} if the value is in range, otherwise, {@code false}
+     * @since 1.17.0
+     */
+    private static boolean isInBinaryRange(final long value) {
+
+        return value >= 0 && value < Holder.HALF_DISCRETE_VALUES;
+    }
+
     @Override
     public int compareTo(final CUID cuid) {
 
@@ -184,10 +320,10 @@ public final class CUID implements java.io.Serializable, Comparable<CUID> {
      */
     private static final class Holder {
 
-        static final byte[] RANDOM_BUFFER = new byte[RANDOM_BUFFER_SIZE];
-        static final SecureRandom NUMBER_GENERATOR = new SecureRandom();
-        static final String MACHINE_FINGERPRINT = getMachineFingerprint();
-        private static final int DISCRETE_VALUES = (int) Math.pow(NUMBER_BASE, BLOCK_SIZE);
+        static final ThreadLocal<RandomState> RANDOM_STATE = ThreadLocal.withInitial(RandomState::new);
+        static final int DISCRETE_VALUES = (int) Math.pow(NUMBER_BASE, BLOCK_SIZE);
+        static final long HALF_DISCRETE_VALUES = (long) Math.pow(NUMBER_BASE, BINARY_HALF_SIZE);
+        static final char[] MACHINE_FINGERPRINT = getMachineFingerprint().toCharArray();
 
         /**
          * retrieves the machine fingerprint.
@@ -212,5 +348,49 @@ public final class CUID implements java.io.Serializable, Comparable<CUID> {
 
             return idBlock + nameBlock;
         }
+
+        /**
+         * Pads string with leading zero.
+         *
+         * @param str  The string to pad
+         * @param size The size to keep
+         * @return The padded string
+         * @since 1.3.0
+         */
+        private static String padWithZero(final String str, final int size) {
+
+            final String paddedString = "000000000" + str;
+            return paddedString.substring(paddedString.length() - size);
+        }
+    }
+
+    /*
+     * Per-thread random state: avoids contention between threads generating CUIDs.
+     * @since 1.17.0
+     */
+    private static final class RandomState {
+
+        private final SecureRandom numberGenerator = new SecureRandom();
+        private final byte[] randomBuffer = new byte[RANDOM_BUFFER_SIZE];
+        private int randomBufferIndex = RANDOM_BUFFER_SIZE;
+
+        /**
+         * Retrieves next random integer value.
+         *
+         * @return A random integer
+         * @since 1.17.0
+         */
+        int nextInt() {
+
+            if (this.randomBufferIndex == RANDOM_BUFFER_SIZE) {
+                this.numberGenerator.nextBytes(this.randomBuffer);
+                this.randomBufferIndex = 0;
+            }
+
+            return this.randomBuffer[this.randomBufferIndex++] << 24
+                | (this.randomBuffer[this.randomBufferIndex++] & 0xff) << 16
+                | (this.randomBuffer[this.randomBufferIndex++] & 0xff) << 8
+                | (this.randomBuffer[this.randomBufferIndex++] & 0xff);
+        }
     }
 }
@@ -9,25 +9,45 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
 
 /**
  * Life cycle manager takes care of executing the various hooks defined by the use of
  * the {@link LifeCycleStart} and {@link LifeCycleStop}
  * annotations.
+ * <p>
+ * Hooks are executed by ascending priority. Hooks sharing the same priority do not depend
+ * on each other: they can be executed concurrently (see {@code voidframework.core.lifeCycle.parallelism}),
+ * the next priority is only executed once all hooks of the current priority are done.
+ * "STOP" hooks exceeding their graceful stop timeout are not interrupted.
  *
  * @since 1.0.0
  */
 public final class LifeCycleManager {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LifeCycleManager.class);
+    private static final String CONFIGURATION_KEY_PARALLELISM = "voidframework.core.lifeCycle.parallelism";
 
     private final Config configuration;
     private final List<StartHandler> startHandlerList;
     private final List<StopHandler> stopHandlerList;
+    private final List<TimelineEntry> startTimelineList;
+    private final ThreadFactory lifeCycleThreadFactory;
 
     private Injector injector;
     private boolean isRunning;
@@ -43,6 +63,8 @@ public final class LifeCycleManager {
         this.configuration = configuration;
         this.startHandlerList = new ArrayList<>();
         this.stopHandlerList = new ArrayList<>();
+        this.startTimelineList = new ArrayList<>();
+        this.lifeCycleThreadFactory = new LifeCycleThreadFactory();
         this.isRunning = false;
     }
 
@@ -71,7 +93,8 @@ public final class LifeCycleManager {
         LOGGER.debug("Register LifeCycle 'START' {}::{} (priority={})", classType.getName(), method.getName(), priority);
 
         if (this.isRunning) {
-            this.invokeMethodStart(new StartHandler(classType, method, priority));
+            final StartHandler startHandler = new StartHandler(classType, method, priority);
+            this.invokeMethodStart(startHandler, this.injector.getInstance(classType), System.nanoTime());
         } else {
             this.startHandlerList.add(new StartHandler(classType, method, priority));
         }
@@ -101,16 +124,23 @@ public final class LifeCycleManager {
 
         if (!this.isRunning) {
             this.isRunning = true;
+            this.startTimelineList.clear();
 
+            final ExecutorService executorService = this.createExecutorService();
             try {
-                this.startHandlerList
-                    .stream()
-                    .sorted(Comparator.comparingInt(StartHandler::priority))
-                    .forEach(this::invokeMethodStart);
+                final long originNanoTime = System.nanoTime();
+                for (final List<StartHandler> startHandlerGroupList : groupByPriority(this.startHandlerList, StartHandler::priority)) {
+                    this.startTimelineList.addAll(this.invokeMethodStartGroup(startHandlerGroupList, executorService, originNanoTime));
+                }
             } catch (final LifeCycleException.InvocationFailure ex) {
                 LOGGER.error("Registered \"START\" method throw an exception, application will shutdown right now", ex);
                 System.exit(-1);
+            } finally {
+                executorService.shutdownNow();
             }
+
+            this.startTimelineList.sort(Comparator.comparing(TimelineEntry::startOffset));
+            this.logStartTimeline();
         }
     }
 
@@ -122,48 +152,129 @@ public final class LifeCycleManager {
     public void stopAll() {
 
         if (this.isRunning) {
-            this.stopHandlerList
-                .stream()
-                .sorted(Comparator.comparingInt(StopHandler::priority))
-                .forEach(this::invokeMethodStop);
+            final int parallelism = this.retrieveParallelism();
+            for (final List<StopHandler> stopHandlerGroupList : groupByPriority(this.stopHandlerList, StopHandler::priority)) {
+                for (int idx = 0; idx < stopHandlerGroupList.size(); idx += parallelism) {
+                    this.invokeMethodStopBatch(stopHandlerGroupList.subList(idx, Math.min(idx + parallelism, stopHandlerGroupList.size())));
+                }
+            }
 
             this.isRunning = false;
         }
     }
 
+    /**
+     * Retrieves the timeline of the last execution of all "START" methods. Entries are
+     * sorted by start time.
+     *
+     * @return The timeline
+     * @since 1.17.0
+     */
+    public List<TimelineEntry> getStartTimeline() {
+
+        return Collections.unmodifiableList(this.startTimelineList);
+    }
+
+    /**
+     * Invokes a group of "START" methods sharing the same priority. Instances are retrieved
+     * on the current thread, then methods are invoked concurrently.
+     *
+     * @param startHandlerGroupList The method handlers
+     * @param executorService       The executor to use
+     * @param originNanoTime        The timeline origin
+     * @return The timeline entries
+     * @since 1.17.0
+     */
+    private List<TimelineEntry> invokeMethodStartGroup(final List<StartHandler> startHandlerGroupList,
+                                                       final ExecutorService executorService,
+                                                       final long originNanoTime) {
+
+        if (startHandlerGroupList.size() == 1) {
+            final StartHandler startHandler = startHandlerGroupList.get(0);
+            return List.of(this.invokeMethodStart(startHandler, this.injector.getInstance(startHandler.classType), originNanoTime));
+        }
+
+        final List<Future<TimelineEntry>> futureList = new ArrayList<>();
+        for (final StartHandler startHandler : startHandlerGroupList) {
+            final Object classInstance = this.injector.getInstance(startHandler.classType);
+            futureList.add(executorService.submit(() -> this.invokeMethodStart(startHandler, classInstance, originNanoTime)));
+        }
+
+        // All methods are awaited, even if one of them failed
+        final List<TimelineEntry> timelineEntryList = new ArrayList<>();
+        LifeCycleException.InvocationFailure invocationFailure = null;
+        for (int idx = 0; idx < futureList.size(); idx += 1) {
+            try {
+                timelineEntryList.add(futureList.get(idx).get());
+            } catch (final ExecutionException ex) {
+                if (invocationFailure == null) {
+                    invocationFailure = ex.getCause() instanceof final LifeCycleException.InvocationFailure failure
+                        ? failure
+                        : new LifeCycleException.InvocationFailure(
+                            startHandlerGroupList.get(idx).classType.getName(), startHandlerGroupList.get(idx).method.getName(), ex.getCause());
+                }
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new LifeCycleException.InvocationFailure(
+                    startHandlerGroupList.get(idx).classType.getName(), startHandlerGroupList.get(idx).method.getName(), ex);
+            }
+        }
+
+        if (invocationFailure != null) {
+            throw invocationFailure;
+        }
+
+        return timelineEntryList;
+    }
+
     /**
      * Invokes a "START" method.
      *
-     * @param startHandler The method handler
+     * @param startHandler   The method handler
+     * @param classInstance  The instance on which invoke the method
+     * @param originNanoTime The timeline origin
+     * @return The timeline entry
      * @since 1.0.0
      */
-    private void invokeMethodStart(final StartHandler startHandler) {
-
-        final Object classInstance = this.injector.getInstance(startHandler.classType);
+    private TimelineEntry invokeMethodStart(final StartHandler startHandler, final Object classInstance, final long originNanoTime) {
 
         try {
-            final long start = System.currentTimeMillis();
+            final long start = System.nanoTime();
             startHandler.method.invoke(classInstance);
-            final long end = System.currentTimeMillis();
+            final long end = System.nanoTime();
+
+            final TimelineEntry timelineEntry = new TimelineEntry(
+                classInstance.getClass().getName(),
+                startHandler.method.getName(),
+                startHandler.priority,
+                Duration.ofNanos(start - originNanoTime),
+                Duration.ofNanos(end - start));
 
-            LOGGER.info("{}::{} executed in {}ms", classInstance.getClass().getName(), startHandler.method.getName(), end - start);
+            LOGGER.info("{}::{} executed in {}ms", timelineEntry.className, timelineEntry.methodName, timelineEntry.duration.toMillis());
+            return timelineEntry;
         } catch (final Exception ex) {
             throw new LifeCycleException.InvocationFailure(classInstance.getClass().getName(), startHandler.method.getName(), ex);
         }
     }
 
     /**
-     * Invokes a "STOP" method.
+     * Invokes a batch of "STOP" methods sharing the same priority. Each method is invoked
+     * on its own thread and awaited until its graceful stop timeout is reached. A method
+     * exceeding its timeout is never interrupted: it keeps running in the background while
+     * the next methods are invoked.
      *
-     * @param stopHandler The method handler
-     * @since 1.0.0
+     * @param stopHandlerBatchList The method handlers
+     * @since 1.17.0
      */
-    private void invokeMethodStop(final StopHandler stopHandler) {
+    private void invokeMethodStopBatch(final List<StopHandler> stopHandlerBatchList) {
 
-        final Object classInstance = this.injector.getInstance(stopHandler.classType);
+        final long start = System.nanoTime();
 
-        try {
-            final Thread thread = new Thread(() -> {
+        final List<Object> classInstanceList = new ArrayList<>();
+        final List<Thread> threadList = new ArrayList<>();
+        for (final StopHandler stopHandler : stopHandlerBatchList) {
+            final Object classInstance = this.injector.getInstance(stopHandler.classType);
+            final Thread thread = this.lifeCycleThreadFactory.newThread(() -> {
                 try {
                     stopHandler.method.invoke(classInstance);
                 } catch (final Exception ex) {
@@ -171,23 +282,152 @@ public final class LifeCycleManager {
                 }
             });
 
-            long gracefulStopTimeout = 0;
-            if (StringUtils.isNotBlank(stopHandler.gracefulStopTimeoutConfigKey)
-                && this.configuration.hasPath(stopHandler.gracefulStopTimeoutConfigKey)) {
+            classInstanceList.add(classInstance);
+            threadList.add(thread);
+            thread.start();
+        }
+
+        for (int idx = 0; idx < threadList.size(); idx += 1) {
+            final StopHandler stopHandler = stopHandlerBatchList.get(idx);
+            final String className = classInstanceList.get(idx).getClass().getName();
+            final long gracefulStopTimeout = this.retrieveGracefulStopTimeout(stopHandler);
+            final Thread thread = threadList.get(idx);
+
+            try {
+                if (gracefulStopTimeout > 0) {
+                    final long remainingNanos = start + TimeUnit.MILLISECONDS.toNanos(gracefulStopTimeout) - System.nanoTime();
+                    if (remainingNanos > 0) {
+                        thread.join(TimeUnit.NANOSECONDS.toMillis(remainingNanos) + 1);
+                    }
+                } else {
+                    thread.join();
+                }
 
-                gracefulStopTimeout = this.configuration.getDuration(stopHandler.gracefulStopTimeoutConfigKey, TimeUnit.MILLISECONDS);
+                if (thread.isAlive()) {
+                    LOGGER.info("{}::{} did not stop within {}ms", className, stopHandler.method.getName(), gracefulStopTimeout);
+                } else {
+                    LOGGER.info("{}::{} executed in {}ms", className, stopHandler.method.getName(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                }
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                LOGGER.info("{}::{} INTERRUPTED!", className, stopHandler.method.getName());
             }
+        }
+    }
 
-            final long start = System.currentTimeMillis();
-            thread.setName("LifeCycle");
-            thread.start();
-            thread.join(gracefulStopTimeout);
-            final long end = System.currentTimeMillis();
+    /**
+     * Retrieves the graceful stop timeout of a "STOP" method.
+     *
+     * @param stopHandler The method handler
+     * @return The graceful stop timeout in milliseconds, {@code 0} to wait indefinitely
+     * @since 1.17.0
+     */
+    private long retrieveGracefulStopTimeout(final StopHandler stopHandler) {
+
+        if (StringUtils.isNotBlank(stopHandler.gracefulStopTimeoutConfigKey)
+            && this.configuration.hasPath(stopHandler.gracefulStopTimeoutConfigKey)) {
 
-            LOGGER.info("{}::{} executed in {}ms", classInstance.getClass().getName(), stopHandler.method.getName(), end - start);
-        } catch (final InterruptedException e) {
-            LOGGER.info("{}::{} INTERRUPTED!", classInstance.getClass().getName(), stopHandler.method.getName());
+            return this.configuration.getDuration(stopHandler.gracefulStopTimeoutConfigKey, TimeUnit.MILLISECONDS);
         }
+
+        return 0;
+    }
+
+    /**
+     * Creates the executor used to invoke methods sharing the same priority.
+     *
+     * @return Newly created executor
+     * @since 1.17.0
+     */
+    private ExecutorService createExecutorService() {
+
+        return Executors.newFixedThreadPool(this.retrieveParallelism(), this.lifeCycleThreadFactory);
+    }
+
+    /**
+     * Retrieves the maximum number of methods sharing the same priority to be executed concurrently.
+     *
+     * @return The parallelism, at least {@code 1}
+     * @since 1.17.0
+     */
+    private int retrieveParallelism() {
+
+        final int parallelism = this.configuration.hasPath(CONFIGURATION_KEY_PARALLELISM)
+            ? this.configuration.getInt(CONFIGURATION_KEY_PARALLELISM)
+            : 1;
+
+        return Math.max(parallelism, 1);
+    }
+
+    /**
+     * Logs the "START" timeline. The critical path is made of the slowest method of each
+     * priority, it is the minimum time needed to execute all "START" methods.
+     *
+     * @since 1.17.0
+     */
+    private void logStartTimeline() {
+
+        if (this.startTimelineList.isEmpty()) {
+            return;
+        }
+
+        final List<TimelineEntry> criticalPathList = new ArrayList<>();
+        for (final List<TimelineEntry> timelineEntryGroupList : groupByPriority(this.startTimelineList, TimelineEntry::priority)) {
+            timelineEntryGroupList.stream()
+                .max(Comparator.comparing(TimelineEntry::duration))
+                .ifPresent(criticalPathList::add);
+        }
+
+        final long criticalPathMillis = criticalPathList.stream().mapToLong(entry -> entry.duration.toMillis()).sum();
+        final long totalMillis = this.startTimelineList.stream().mapToLong(entry -> entry.duration.toMillis()).sum();
+        LOGGER.info("Life cycle \"START\" methods executed in {}ms (critical path), {}ms if executed sequentially", criticalPathMillis, totalMillis);
+
+        if (LOGGER.isDebugEnabled()) {
+            for (final TimelineEntry timelineEntry : this.startTimelineList) {
+                LOGGER.debug("  {} +{}ms {}ms {}::{}{}",
+                    timelineEntry.priority,
+                    timelineEntry.startOffset.toMillis(),
+                    timelineEntry.duration.toMillis(),
+                    timelineEntry.className,
+                    timelineEntry.methodName,
+                    criticalPathList.contains(timelineEntry) ? " (critical path)" : StringUtils.EMPTY);
+            }
+        }
+    }
+
+    /**
+     * Groups elements by ascending priority.
+     *
+     * @param elementList       The elements to group
+     * @param priorityExtractor The function to retrieve the priority of an element
+     * @param <T>               The type of elements
+     * @return Elements grouped by ascending priority
+     * @since 1.17.0
+     */
+    private static <T> List<List<T>> groupByPriority(final List<T> elementList, final ToIntFunction<T> priorityExtractor) {
+
+        final Map<Integer, List<T>> elementPerPriorityMap = elementList
+            .stream()
+            .collect(Collectors.groupingBy(priorityExtractor::applyAsInt, TreeMap::new, Collectors.toList()));
+
+        return new ArrayList<>(elementPerPriorityMap.values());
+    }
+
+    /**
+     * Life cycle execution of a method.
+     *
+     * @param className   The class name
+     * @param methodName  The method name
+     * @param priority    The priority
+     * @param startOffset The time elapsed between the beginning of the life cycle phase and the method invocation
+     * @param duration    The method execution duration
+     * @since 1.17.0
+     */
+    public record TimelineEntry(String className,
+                                String methodName,
+                                int priority,
+                                Duration startOffset,
+                                Duration duration) {
     }
 
     /**
@@ -217,4 +457,25 @@ public final class LifeCycleManager {
                                int priority,
                                String gracefulStopTimeoutConfigKey) {
     }
+
+    /**
+     * Life cycle thread factory. Threads are daemon to not prevent the application
+     * to exit if a "STOP" method does not honor its graceful stop timeout.
+     *
+     * @since 1.17.0
+     */
+    private static final class LifeCycleThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        @Override
+        @SuppressWarnings("NullableProblems")
+        public Thread newThread(final Runnable runnable) {
+
+            final Thread thread = new Thread(runnable, "LifeCycle-" + this.threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+
+            return thread;
+        }
+    }
 }
@@ -0,0 +1,51 @@
+package dev.voidframework.core.utils;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Utility methods to retrieve the {@code CUID} serialization settings shared by the Jackson
+ * and Kryo serializers.
+ *
+ * @since 1.17.0
+ */
+public final class CUIDSerializationUtils {
+
+    /**
+     * Configuration key indicating whether canonical CUIDs are written using their compact binary form.
+     *
+     * @since 1.17.0
+     */
+    public static final String CONFIGURATION_KEY_USE_BINARY_FORM = "voidframework.core.cuid.useBinaryForm";
+
+    private static Boolean useBinaryFormCache = null;
+
+    /**
+     * Default constructor.
+     *
+     * @since 1.17.0
+     */
+    private CUIDSerializationUtils() {
+
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Checks whether canonical CUIDs must be written using their compact binary form. The value
+     * is read once from the local configuration, serializers can be created before the
+     * application is started.
+     *
+     * @return {@code true} if the binary form is enabled, otherwise {@code false}
+     * @since 1.17.0
+     */
+    public static boolean isBinaryFormEnabled() {
+
+        if (useBinaryFormCache == null) {
+            useBinaryFormCache = ConfigurationUtils.getBooleanOrDefault(
+                ConfigFactory.load(CUIDSerializationUtils.class.getClassLoader()),
+                CONFIGURATION_KEY_USE_BINARY_FORM,
+                false);
+        }
+
+        return useBinaryFormCache;
+    }
+}
@@ -1,5 +1,7 @@
 package dev.voidframework.core.classestoload;
 
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.io.Output;
 import dev.voidframework.core.classestoload.classes.AccountService;
 import dev.voidframework.core.classestoload.classes.GuiceModule;
 import dev.voidframework.core.classestoload.classes.Named;
@@ -7,13 +9,19 @@ import dev.voidframework.core.classestoload.classes.Person;
 import dev.voidframework.core.classestoload.classes.ProxInterface;
 import dev.voidframework.core.classestoload.classes.ShippingService;
 import dev.voidframework.core.classestoload.classes.StringToIntegerConverter;
+import dev.voidframework.core.exception.AppLauncherException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Comparator;
@@ -118,4 +126,210 @@ final class ClassesToLoadScannerTest {
         Assertions.assertEquals(1, proxyableList.size());
         Assertions.assertEquals(ProxInterface.class, proxyableList.get(0));
     }
+
+    @Test
+    void computeClasspathFingerprint() {
+
+        // Arrange
+        final List<String> acceptedScanPathList = List.of("dev.voidframework.core.classestoload.classes");
+        final List<String> rejectedScanPathList = List.of("dev.voidframework.core.classestoload.classes.excluded");
+        final List<String> extraInterfaceList = List.of("dev.voidframework.core.classestoload.classes.Named");
+
+        // Act
+        final String fingerprint = ClassesToLoadScanner.computeClasspathFingerprint(
+            acceptedScanPathList,
+            rejectedScanPathList,
+            extraInterfaceList);
+        final String fingerprintSameConfiguration = ClassesToLoadScanner.computeClasspathFingerprint(
+            acceptedScanPathList,
+            rejectedScanPathList,
+            extraInterfaceList);
+        final String fingerprintWithoutRejection = ClassesToLoadScanner.computeClasspathFingerprint(
+            acceptedScanPathList,
+            List.of(),
+            extraInterfaceList);
+
+        // Assert
+        Assertions.assertNotNull(fingerprint);
+        Assertions.assertEquals(64, fingerprint.length());
+        Assertions.assertEquals(fingerprint, fingerprintSameConfiguration);
+        Assertions.assertNotEquals(fingerprint, fingerprintWithoutRejection);
+    }
+
+    @Test
+    void persistAndRestoreClassesToLoadWithFingerprint() throws IOException {
+
+        // Arrange
+        final Path outputPath = Files.createTempDirectory("classpath-bootstrap");
+        final List<String> acceptedScanPathList = List.of("dev.voidframework.core.classestoload.classes");
+        final List<String> rejectedScanPathList = List.of("dev.voidframework.core.classestoload.classes.excluded");
+        final List<String> extraInterfaceList = List.of("dev.voidframework.core.classestoload.classes.Named");
+
+        final ScannedClassesToLoad scannedClassesToLoadPersist = ClassesToLoadScanner.findClassesToLoad(
+            acceptedScanPathList,
+            rejectedScanPathList,
+            extraInterfaceList);
+        final String fingerprint = ClassesToLoadScanner.computeClasspathFingerprint(
+            acceptedScanPathList,
+            rejectedScanPathList,
+            extraInterfaceList);
+
+        // Act
+        ClassesToLoadScanner.persistClassesToLoad(scannedClassesToLoadPersist, fingerprint, outputPath);
+
+        final ScannedClassesToLoad scannedClassesToLoadRestored;
+        try (final InputStream inputStream = Files.newInputStream(outputPath.resolve("classpath.bootstrap"))) {
+            scannedClassesToLoadRestored = ClassesToLoadScanner.restoreClassesToLoad(inputStream, fingerprint);
+        }
+
+        final ScannedClassesToLoad scannedClassesToLoadOutdated;
+        try (final InputStream inputStream = Files.newInputStream(outputPath.resolve("classpath.bootstrap"))) {
+            scannedClassesToLoadOutdated = ClassesToLoadScanner.restoreClassesToLoad(inputStream, "outdated");
+        }
+
+        // Assert
+        Assertions.assertNotNull(scannedClassesToLoadRestored);
+        Assertions.assertEquals(6, scannedClassesToLoadRestored.count());
+        Assertions.assertNull(scannedClassesToLoadOutdated);
+    }
+
+    @Test
+    void restoreClassesToLoadLegacyFormat() {
+
+        // Arrange
+        final ScannedClassesToLoad scannedClassesToLoad = ClassesToLoadScanner.findClassesToLoad(
+            List.of("dev.voidframework.core.classestoload.classes"),
+            List.of("dev.voidframework.core.classestoload.classes.excluded"),
+            List.of("dev.voidframework.core.classestoload.classes.Named"));
+
+        final Kryo kryo = new Kryo();
+        kryo.setRegistrationRequired(false);
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (final Output output = new Output(byteArrayOutputStream)) {
+            kryo.writeObject(output, scannedClassesToLoad);
+        }
+
+        // Act
+        final ScannedClassesToLoad scannedClassesToLoadRestored = ClassesToLoadScanner.restoreClassesToLoad(
+            new ByteArrayInputStream(byteArrayOutputStream.toByteArray()));
+
+        // Assert
+        Assertions.assertNull(scannedClassesToLoadRestored);
+    }
+
+    @Test
+    void restoreClassesToLoadFromIndexes() throws IOException {
+
+        // Arrange
+        final Path indexDirectory = Files.createTempDirectory("bootstrap-index");
+        final Path indexFile = indexDirectory.resolve("META-INF/voidframework/bootstrap.index");
+        Files.createDirectories(indexFile.getParent());
+        Files.writeString(indexFile, """
+            # Void Framework bootstrap index, generated at compile time
+            module:dev.voidframework.core.classestoload.classes.GuiceModule
+            converter:dev.voidframework.core.classestoload.classes.StringToIntegerConverter:java.lang.String:java.lang.Integer
+            proxyable:dev.voidframework.core.classestoload.classes.ProxInterface
+            bindable:dev.voidframework.core.classestoload.classes.AccountService
+            extra:dev.voidframework.core.classestoload.classes.Person:dev.voidframework.core.classestoload.classes.Named
+            bindable:dev.voidframework.core.classestoload.classes.ShippingService
+            bindable:dev.voidframework.core.classestoload.classes.excluded.BankService
+            bindable:dev.voidframework.core.classestoload.classes.DoesNotExist
+            """, StandardCharsets.UTF_8);
+
+        final List<String> acceptedScanPathList = List.of("dev.voidframework.core.classestoload.classes");
+        final List<String> rejectedScanPathList = List.of("dev.voidframework.core.classestoload.classes.excluded");
+        final List<String> extraInterfaceList = List.of("dev.voidframework.core.classestoload.classes.Named");
+
+        // Act
+        final ScannedClassesToLoad scannedClassesToLoad;
+        try (final URLClassLoader classLoader = new URLClassLoader(
+            new URL[]{indexDirectory.toUri().toURL()},
+            this.getClass().getClassLoader())) {
+
+            scannedClassesToLoad = ClassesToLoadScanner.restoreClassesToLoadFromIndexes(
+                classLoader,
+                acceptedScanPathList,
+                rejectedScanPathList,
+                extraInterfaceList);
+        }
+
+        // Assert
+        Assertions.assertNotNull(scannedClassesToLoad);
+        Assertions.assertEquals(6, scannedClassesToLoad.count());
+
+        final List<ConverterInformation> converterInformationList = scannedClassesToLoad.converterInformationList();
+        Assertions.assertEquals(1, converterInformationList.size());
+        Assertions.assertEquals(StringToIntegerConverter.class, converterInformationList.get(0).converterTypeClass());
+        Assertions.assertEquals(String.class, converterInformationList.get(0).sourceTypeClass());
+        Assertions.assertEquals(Integer.class, converterInformationList.get(0).targetTypeClass());
+
+        final List<Class<?>> bindableList = scannedClassesToLoad.bindableList();
+        bindableList.sort(Comparator.comparing(Class::getName));
+        Assertions.assertEquals(List.of(AccountService.class, Person.class, ShippingService.class), bindableList);
+
+        Assertions.assertEquals(List.of(GuiceModule.class), scannedClassesToLoad.moduleList());
+        Assertions.assertEquals(List.of(ProxInterface.class), scannedClassesToLoad.proxyableList());
+        Assertions.assertEquals(Map.of(Named.class, 1), scannedClassesToLoad.interfaceImplementationCountMap());
+    }
+
+    @Test
+    void restoreClassesToLoadFromIndexesExtraInterfaceNotConfigured() throws IOException {
+
+        // Arrange
+        final Path indexDirectory = Files.createTempDirectory("bootstrap-index");
+        final Path indexFile = indexDirectory.resolve("META-INF/voidframework/bootstrap.index");
+        Files.createDirectories(indexFile.getParent());
+        Files.writeString(indexFile, """
+            bindable:dev.voidframework.core.classestoload.classes.AccountService
+            extra:dev.voidframework.core.classestoload.classes.Person:dev.voidframework.core.classestoload.classes.Named
+            """, StandardCharsets.UTF_8);
+
+        // Act
+        final ScannedClassesToLoad scannedClassesToLoad;
+        try (final URLClassLoader classLoader = new URLClassLoader(
+            new URL[]{indexDirectory.toUri().toURL()},
+            this.getClass().getClassLoader())) {
+
+            scannedClassesToLoad = ClassesToLoadScanner.restoreClassesToLoadFromIndexes(
+                classLoader,
+                List.of(AccountService.class.getName(), Person.class.getName()),
+                List.of(),
+                List.of());
+        }
+
+        // Assert
+        Assertions.assertEquals(List.of(AccountService.class), scannedClassesToLoad.bindableList());
+        Assertions.assertTrue(scannedClassesToLoad.interfaceImplementationCountMap().isEmpty());
+    }
+
+    @Test
+    void restoreClassesToLoadFromIndexesInvalidEntry() throws IOException {
+
+        // Arrange
+        final Path indexDirectory = Files.createTempDirectory("bootstrap-index");
+        final Path indexFile = indexDirectory.resolve("META-INF/voidframework/bootstrap.index");
+        Files.createDirectories(indexFile.getParent());
+        Files.writeString(indexFile, """
+            # Void Framework bootstrap index, generated at compile time
+            bindable:dev.voidframework.core.classestoload.classes.AccountService
+            interface:dev.voidframework.core.classestoload.classes.Person
+            """, StandardCharsets.UTF_8);
+
+        // Act
+        final AppLauncherException.InvalidBootstrapIndexEntry exception;
+        try (final URLClassLoader classLoader = new URLClassLoader(
+            new URL[]{indexDirectory.toUri().toURL()},
+            this.getClass().getClassLoader())) {
+
+            exception = Assertions.assertThrows(
+                AppLauncherException.InvalidBootstrapIndexEntry.class,
+                () -> ClassesToLoadScanner.restoreClassesToLoadFromIndexes(classLoader, List.of(), List.of(), List.of()));
+        }
+
+        // Assert
+        Assertions.assertEquals(
+            "Invalid entry 'interface:dev.voidframework.core.classestoload.classes.Person' in bootstrap index '"
+                + indexFile.toUri().toURL() + "' (line 3)",
+            exception.getMessage());
+    }
 }
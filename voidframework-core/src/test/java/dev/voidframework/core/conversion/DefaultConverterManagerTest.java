@@ -83,6 +83,95 @@ final class DefaultConverterManagerTest {
             exception.getMessage());
     }
 
+    @Test
+    void getConverterPrimitiveTypeFallback() {
+
+        // Arrange
+        final ConverterManager converterManager = new DefaultConverterManager();
+        converterManager.registerConverter(Integer.class, String.class, new IntegerToStringConverter());
+        converterManager.registerConverter(String.class, Integer.class, new StringToIntegerConverter());
+
+        // Act
+        final TypeConverter<Integer, String> primitiveSourceConverter = converterManager.getConverter(int.class, String.class);
+        final TypeConverter<String, Integer> primitiveTargetConverter = converterManager.getConverter(String.class, int.class);
+
+        // Assert
+        Assertions.assertInstanceOf(IntegerToStringConverter.class, primitiveSourceConverter);
+        Assertions.assertInstanceOf(StringToIntegerConverter.class, primitiveTargetConverter);
+    }
+
+    @Test
+    void getConverterSupertypeFallback() {
+
+        // Arrange
+        final ConverterManager converterManager = new DefaultConverterManager();
+        converterManager.registerConverter(CharSequence.class, Integer.class, new CharSequenceToIntegerConverter());
+
+        // Act
+        final TypeConverter<String, Integer> converter = converterManager.getConverter(String.class, Integer.class);
+        final TypeConverter<StringBuilder, Integer> otherConverter = converterManager.getConverter(StringBuilder.class, Integer.class);
+
+        // Assert
+        Assertions.assertInstanceOf(CharSequenceToIntegerConverter.class, converter);
+        Assertions.assertInstanceOf(CharSequenceToIntegerConverter.class, otherConverter);
+        Assertions.assertEquals(42, converter.convert("42"));
+        Assertions.assertEquals(1, converterManager.count());
+    }
+
+    @Test
+    void getConverterClosestSupertypeBeforeObject() {
+
+        // Arrange
+        final ConverterManager converterManager = new DefaultConverterManager();
+        converterManager.registerConverter(Object.class, Integer.class, new ObjectToIntegerConverter());
+        converterManager.registerConverter(CharSequence.class, Integer.class, new CharSequenceToIntegerConverter());
+
+        // Act
+        final TypeConverter<String, Integer> converter = converterManager.getConverter(String.class, Integer.class);
+        final TypeConverter<Boolean, Integer> objectConverter = converterManager.getConverter(Boolean.class, Integer.class);
+
+        // Assert
+        Assertions.assertInstanceOf(CharSequenceToIntegerConverter.class, converter);
+        Assertions.assertInstanceOf(ObjectToIntegerConverter.class, objectConverter);
+    }
+
+    @Test
+    void getConverterInterfaceBeforeFartherSuperclass() {
+
+        // Arrange
+        final ConverterManager converterManager = new DefaultConverterManager();
+        converterManager.registerConverter(GrandParent.class, String.class, new GrandParentToStringConverter());
+        converterManager.registerConverter(Marker.class, String.class, new MarkerToStringConverter());
+
+        // Act
+        final TypeConverter<Child, String> converter = converterManager.getConverter(Child.class, String.class);
+        final TypeConverter<Parent, String> parentConverter = converterManager.getConverter(Parent.class, String.class);
+
+        // Assert
+        Assertions.assertInstanceOf(MarkerToStringConverter.class, converter);
+        Assertions.assertInstanceOf(GrandParentToStringConverter.class, parentConverter);
+    }
+
+    @Test
+    void getConverterRegisteredAfterResolution() {
+
+        // Arrange
+        final ConverterManager converterManager = new DefaultConverterManager();
+        converterManager.registerConverter(CharSequence.class, Integer.class, new CharSequenceToIntegerConverter());
+        final TypeConverter<String, Integer> converterBeforeRegistration = converterManager.getConverter(String.class, Integer.class);
+        final boolean hasConverterBeforeRegistration = converterManager.hasConvertFor(Integer.class, String.class);
+
+        // Act
+        converterManager.registerConverter(String.class, Integer.class, new StringToIntegerConverter());
+        converterManager.registerConverter(Integer.class, String.class, new IntegerToStringConverter());
+
+        // Assert
+        Assertions.assertInstanceOf(CharSequenceToIntegerConverter.class, converterBeforeRegistration);
+        Assertions.assertFalse(hasConverterBeforeRegistration);
+        Assertions.assertInstanceOf(StringToIntegerConverter.class, converterManager.getConverter(String.class, Integer.class));
+        Assertions.assertTrue(converterManager.hasConvertFor(Integer.class, String.class));
+    }
+
     /**
      * Converter from Integer to String.
      */
@@ -94,4 +183,88 @@ final class DefaultConverterManagerTest {
             return source.toString();
         }
     }
+
+    /**
+     * Converter from String to Integer.
+     */
+    public static class StringToIntegerConverter implements TypeConverter<String, Integer> {
+
+        @Override
+        public Integer convert(final String source) {
+
+            return Integer.valueOf(source);
+        }
+    }
+
+    /**
+     * Converter from CharSequence to Integer.
+     */
+    public static class CharSequenceToIntegerConverter implements TypeConverter<CharSequence, Integer> {
+
+        @Override
+        public Integer convert(final CharSequence source) {
+
+            return Integer.valueOf(source.toString());
+        }
+    }
+
+    /**
+     * Converter from Object to Integer.
+     */
+    public static class ObjectToIntegerConverter implements TypeConverter<Object, Integer> {
+
+        @Override
+        public Integer convert(final Object source) {
+
+            return source.hashCode();
+        }
+    }
+
+    /**
+     * Converter from GrandParent to String.
+     */
+    public static class GrandParentToStringConverter implements TypeConverter<GrandParent, String> {
+
+        @Override
+        public String convert(final GrandParent source) {
+
+            return "GrandParent";
+        }
+    }
+
+    /**
+     * Converter from Marker to String.
+     */
+    public static class MarkerToStringConverter implements TypeConverter<Marker, String> {
+
+        @Override
+        public String convert(final Marker source) {
+
+            return "Marker";
+        }
+    }
+
+    /**
+     * Marker interface.
+     */
+    public interface Marker {
+    }
+
+    /**
+     * Top of the class hierarchy.
+     */
+    public static class GrandParent {
+    }
+
+    /**
+     * Middle of the class hierarchy.
+     */
+    public static class Parent extends GrandParent {
+    }
+
+    /**
+     * Bottom of the class hierarchy.
+     */
+    public static class Child extends Parent implements Marker {
+    }
 }
@@ -1,5 +1,11 @@
 package dev.voidframework.core.jackson;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import dev.voidframework.core.lang.CUID;
 import dev.voidframework.core.utils.JsonUtils;
 import org.junit.jupiter.api.Assertions;
@@ -7,6 +13,7 @@ import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 
+import java.io.IOException;
 import java.util.List;
 
 @TestMethodOrder(MethodOrderer.MethodName.class)
@@ -26,4 +33,49 @@ final class CUIDSerializerTest {
         // Assert
         Assertions.assertEquals("[\"cl9hjgoq500000047op34bbb4\",\"cl9hjgos200010047m6f4i9s0\"]", jsonDocumentAsString);
     }
+
+    @Test
+    void cuidSerializerBinaryFormatStringFormByDefault() throws IOException {
+
+        // Arrange
+        final ObjectMapper objectMapper = JsonMapper.builder().addModule(new VoidFrameworkModule()).build();
+        final CUID cuid = CUID.fromString("cl9hjgoq500000047op34bbb4");
+
+        // Act
+        final TokenBuffer tokenBuffer = new TokenBuffer(objectMapper, false);
+        objectMapper.writeValue(tokenBuffer, cuid);
+
+        final JsonParser jsonParser = tokenBuffer.asParser(objectMapper);
+        final JsonToken jsonToken = jsonParser.nextToken();
+        final CUID deserializedCuid = objectMapper.readValue(jsonParser, CUID.class);
+
+        // Assert
+        Assertions.assertTrue(tokenBuffer.canWriteBinaryNatively());
+        Assertions.assertEquals(JsonToken.VALUE_STRING, jsonToken);
+        Assertions.assertEquals(cuid, deserializedCuid);
+    }
+
+    @Test
+    void cuidSerializerBinaryFormatBinaryFormEnabled() throws IOException {
+
+        // Arrange
+        final ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new SimpleModule()
+                .addSerializer(CUID.class, new CUIDSerializer(true))
+                .addDeserializer(CUID.class, new CUIDDeserializer()))
+            .build();
+        final CUID cuid = CUID.fromString("cl9hjgoq500000047op34bbb4");
+
+        // Act
+        final TokenBuffer tokenBuffer = new TokenBuffer(objectMapper, false);
+        objectMapper.writeValue(tokenBuffer, cuid);
+
+        final JsonParser jsonParser = tokenBuffer.asParser(objectMapper);
+        final JsonToken jsonToken = jsonParser.nextToken();
+        final CUID deserializedCuid = objectMapper.readValue(jsonParser, CUID.class);
+
+        // Assert
+        Assertions.assertEquals(JsonToken.VALUE_EMBEDDED_OBJECT, jsonToken);
+        Assertions.assertEquals(cuid, deserializedCuid);
+    }
 }
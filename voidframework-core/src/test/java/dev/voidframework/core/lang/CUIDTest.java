@@ -5,8 +5,14 @@ import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 @TestMethodOrder(MethodOrderer.MethodName.class)
 final class CUIDTest {
@@ -42,6 +48,132 @@ final class CUIDTest {
         Assertions.assertEquals("CUID string is invalid: 'invalid-cuid'", exception.getMessage());
     }
 
+    @Test
+    void fromBytes() {
+
+        // Arrange
+        final byte[] cuidAsBytes = new byte[]{38, -42, -33, -78, 102, -60, 0, 117, 5, -54, 76, -4, 60, -97, 32, 0};
+
+        // Act
+        final CUID cuid = CUID.fromBytes(cuidAsBytes);
+
+        // Assert
+        Assertions.assertNotNull(cuid);
+        Assertions.assertEquals("cl9gts1kw00393647w1z4v2tc", cuid.toString());
+    }
+
+    @Test
+    void fromBytesInvalidLength() {
+
+        // Arrange
+        final byte[] cuidAsBytes = new byte[]{38, -42, -33, -78};
+
+        // Act
+        final IllegalArgumentException exception = Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> CUID.fromBytes(cuidAsBytes));
+
+        // Assert
+        Assertions.assertNotNull(exception);
+        Assertions.assertEquals("CUID binary representation is invalid: must be 16 bytes long", exception.getMessage());
+    }
+
+    @Test
+    void fromBytesInvalidValue() {
+
+        // Arrange
+        final byte[] cuidAsBytes = new byte[]{-1, -1, -1, -1, -1, -1, -1, -1, 0, 0, 0, 0, 0, 0, 0, 0};
+
+        // Act
+        final IllegalArgumentException exception = Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> CUID.fromBytes(cuidAsBytes));
+
+        // Assert
+        Assertions.assertNotNull(exception);
+        Assertions.assertEquals("CUID binary representation is invalid: value out of range", exception.getMessage());
+    }
+
+    @Test
+    void isCanonical() {
+
+        // Arrange
+        final CUID cuidLowerCase = CUID.fromString("cl9gts1kw00393647w1z4v2tc");
+        final CUID cuidUpperCase = CUID.fromString("cL9GTS1KW00393647W1Z4V2TC");
+
+        // Act
+        final boolean isLowerCaseCanonical = cuidLowerCase.isCanonical();
+        final boolean isUpperCaseCanonical = cuidUpperCase.isCanonical();
+
+        // Assert
+        Assertions.assertTrue(isLowerCaseCanonical);
+        Assertions.assertFalse(isUpperCaseCanonical);
+    }
+
+    @Test
+    void isValidBinary() {
+
+        // Arrange
+        final byte[] validCuidAsBytes = new byte[]{38, -42, -33, -78, 102, -60, 0, 117, 5, -54, 76, -4, 60, -97, 32, 0};
+        final byte[] outOfRangeCuidAsBytes = new byte[]{-1, -1, -1, -1, -1, -1, -1, -1, 0, 0, 0, 0, 0, 0, 0, 0};
+        final byte[] tooShortCuidAsBytes = new byte[]{38, -42, -33, -78};
+
+        // Act
+        final boolean isValid = CUID.isValidBinary(validCuidAsBytes);
+        final boolean isOutOfRangeValid = CUID.isValidBinary(outOfRangeCuidAsBytes);
+        final boolean isTooShortValid = CUID.isValidBinary(tooShortCuidAsBytes);
+        final boolean isNullValid = CUID.isValidBinary(null);
+
+        // Assert
+        Assertions.assertTrue(isValid);
+        Assertions.assertFalse(isOutOfRangeValid);
+        Assertions.assertFalse(isTooShortValid);
+        Assertions.assertFalse(isNullValid);
+    }
+
+    @Test
+    void toBytes() {
+
+        // Arrange
+        final CUID cuid = CUID.fromString("cl9gts1kw00393647w1z4v2tc");
+
+        // Act
+        final byte[] cuidAsBytes = cuid.toBytes();
+
+        // Assert
+        Assertions.assertArrayEquals(
+            new byte[]{38, -42, -33, -78, 102, -60, 0, 117, 5, -54, 76, -4, 60, -97, 32, 0},
+            cuidAsBytes);
+    }
+
+    @Test
+    void toBytesNotCanonical() {
+
+        // Arrange
+        final CUID cuid = CUID.fromString("cl9gts1kw00393647W1Z4V2TC");
+
+        // Act
+        final IllegalStateException exception = Assertions.assertThrows(IllegalStateException.class, cuid::toBytes);
+
+        // Assert
+        Assertions.assertEquals(
+            "CUID is not in canonical form and can't be converted to binary: 'cl9gts1kw00393647W1Z4V2TC'",
+            exception.getMessage());
+    }
+
+    @Test
+    void toBytesRoundTrip() {
+
+        // Arrange
+        final CUID cuid = CUID.randomCUID();
+
+        // Act
+        final CUID cuidFromBytes = CUID.fromBytes(cuid.toBytes());
+
+        // Assert
+        Assertions.assertEquals(cuid, cuidFromBytes);
+    }
+
     @Test
     void randomCUID() {
 
@@ -106,4 +238,35 @@ final class CUIDTest {
         // Assert
         Assertions.assertEquals(500000, cuidSet.size());
     }
+
+    @Test
+    void unicityOver500000MultiThreaded() throws Exception {
+
+        // Arrange
+        final Set<CUID> cuidSet = ConcurrentHashMap.newKeySet();
+        final List<Future<?>> futureList = new ArrayList<>();
+
+        // Act
+        final ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            for (int threadIdx = 0; threadIdx < 4; threadIdx += 1) {
+                futureList.add(executorService.submit(() -> {
+                    for (int i = 0; i < 125000; i += 1) {
+                        final CUID cuid = CUID.randomCUID();
+                        Assertions.assertTrue(CUID.isValid(cuid.toString()));
+                        cuidSet.add(cuid);
+                    }
+                }));
+            }
+
+            for (final Future<?> future : futureList) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdown();
+        }
+
+        // Assert
+        Assertions.assertEquals(500000, cuidSet.size());
+    }
 }
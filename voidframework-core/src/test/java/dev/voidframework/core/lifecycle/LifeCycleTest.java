@@ -2,6 +2,7 @@ package dev.voidframework.core.lifecycle;
 
 import com.google.inject.AbstractModule;
 import com.google.inject.Guice;
+import com.google.inject.Inject;
 import com.google.inject.Injector;
 import com.google.inject.Stage;
 import com.google.inject.matcher.Matchers;
@@ -14,6 +15,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 @TestMethodOrder(MethodOrderer.MethodName.class)
 final class LifeCycleTest {
@@ -118,6 +121,108 @@ final class LifeCycleTest {
         Assertions.assertTrue((stopTime - startTime) < 1000);
     }
 
+    @Test
+    void lifeCycleHandlerStartAllConcurrently() {
+
+        // Arrange
+        final Config configuration = ConfigFactory.parseString("""
+            voidframework.core.lifeCycle.parallelism = 2
+            """);
+
+        final LifeCycleManager lifeCycleManager = new LifeCycleManager(configuration);
+        final Injector injector = Guice.createInjector(Stage.PRODUCTION, new AbstractModule() {
+            @Override
+            protected void configure() {
+                bindListener(Matchers.any(), new LifeCycleAnnotationListener(lifeCycleManager));
+                requestInjection(lifeCycleManager);
+
+                bind(CountDownLatch.class).toInstance(new CountDownLatch(2));
+                bind(ConcurrentExampleA.class).asEagerSingleton();
+                bind(ConcurrentExampleB.class).asEagerSingleton();
+                bind(Example.class).asEagerSingleton();
+            }
+        });
+
+        // Act
+        lifeCycleManager.startAll();
+
+        // Assert
+        Assertions.assertTrue(injector.getInstance(ConcurrentExampleA.class).isStartedConcurrently);
+        Assertions.assertTrue(injector.getInstance(ConcurrentExampleB.class).isStartedConcurrently);
+        Assertions.assertEquals(1, injector.getInstance(Example.class).startCallCount);
+
+        final List<LifeCycleManager.TimelineEntry> startTimelineList = lifeCycleManager.getStartTimeline();
+        Assertions.assertEquals(3, startTimelineList.size());
+        Assertions.assertEquals(42, startTimelineList.get(0).priority());
+        Assertions.assertEquals(100, startTimelineList.get(1).priority());
+        Assertions.assertEquals(100, startTimelineList.get(2).priority());
+    }
+
+    @Test
+    void lifeCycleHandlerStopAllConcurrently() {
+
+        // Arrange
+        final Config configuration = ConfigFactory.parseString("""
+            voidframework.core.lifeCycle.parallelism = 2
+            cfg.gracefulStopTimeoutConfigKey = 500 ms
+            """);
+
+        final LifeCycleManager lifeCycleManager = new LifeCycleManager(configuration);
+        final Injector injector = Guice.createInjector(Stage.PRODUCTION, new AbstractModule() {
+            @Override
+            protected void configure() {
+                bindListener(Matchers.any(), new LifeCycleAnnotationListener(lifeCycleManager));
+                requestInjection(lifeCycleManager);
+
+                bind(Example.class).asEagerSingleton();
+                bind(OtherExample.class).asEagerSingleton();
+            }
+        });
+
+        ReflectionUtils.setFieldValue(lifeCycleManager, "isRunning", true);
+
+        // Act
+        final long startTime = System.currentTimeMillis();
+        lifeCycleManager.stopAll();
+        final long stopTime = System.currentTimeMillis();
+
+        // Assert
+        Assertions.assertEquals(1, injector.getInstance(Example.class).stopCallCount);
+        Assertions.assertEquals(1, injector.getInstance(OtherExample.class).stopCallCount);
+        Assertions.assertTrue((stopTime - startTime) < 1000);
+    }
+
+    @Test
+    void lifeCycleHandlerStopAllTimeoutNotInterrupted() throws InterruptedException {
+
+        // Arrange
+        final Config configuration = ConfigFactory.parseString("""
+            cfg.gracefulStopTimeoutConfigKey = 50 ms
+            """);
+
+        final LifeCycleManager lifeCycleManager = new LifeCycleManager(configuration);
+        final Injector injector = Guice.createInjector(Stage.PRODUCTION, new AbstractModule() {
+            @Override
+            protected void configure() {
+                bindListener(Matchers.any(), new LifeCycleAnnotationListener(lifeCycleManager));
+                requestInjection(lifeCycleManager);
+
+                bind(SlowStopExample.class).asEagerSingleton();
+            }
+        });
+
+        ReflectionUtils.setFieldValue(lifeCycleManager, "isRunning", true);
+
+        // Act
+        lifeCycleManager.stopAll();
+        final SlowStopExample slowStopExample = injector.getInstance(SlowStopExample.class);
+        final boolean isStopCompleted = slowStopExample.stopCompletedCountDownLatch.await(5, TimeUnit.SECONDS);
+
+        // Assert
+        Assertions.assertTrue(isStopCompleted);
+        Assertions.assertFalse(slowStopExample.isInterrupted);
+    }
+
     /**
      * A simple class with life cycle methods.
      */
@@ -144,4 +249,65 @@ final class LifeCycleTest {
             }
         }
     }
+
+    /**
+     * A simple class with a life cycle method sharing the priority of {@link Example}.
+     */
+    public static class OtherExample extends Example {
+    }
+
+    /**
+     * A class with a "STOP" method exceeding its graceful stop timeout.
+     */
+    public static class SlowStopExample {
+
+        public final CountDownLatch stopCompletedCountDownLatch = new CountDownLatch(1);
+        public volatile boolean isInterrupted = false;
+
+        @LifeCycleStop(gracefulStopTimeoutConfigKey = "cfg.gracefulStopTimeoutConfigKey")
+        public void stop() {
+
+            try {
+                Thread.sleep(300);
+            } catch (final InterruptedException ignore) {
+                isInterrupted = true;
+            }
+
+            stopCompletedCountDownLatch.countDown();
+        }
+    }
+
+    /**
+     * A class with a "START" method waiting for {@link ConcurrentExampleB}.
+     */
+    public static class ConcurrentExampleA {
+
+        private final CountDownLatch countDownLatch;
+        public boolean isStartedConcurrently = false;
+
+        @Inject
+        public ConcurrentExampleA(final CountDownLatch countDownLatch) {
+
+            this.countDownLatch = countDownLatch;
+        }
+
+        @LifeCycleStart(priority = 100)
+        public void start() throws InterruptedException {
+
+            countDownLatch.countDown();
+            isStartedConcurrently = countDownLatch.await(5, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * A class with a "START" method waiting for {@link ConcurrentExampleA}.
+     */
+    public static class ConcurrentExampleB extends ConcurrentExampleA {
+
+        @Inject
+        public ConcurrentExampleB(final CountDownLatch countDownLatch) {
+
+            super(countDownLatch);
+        }
+    }
 }
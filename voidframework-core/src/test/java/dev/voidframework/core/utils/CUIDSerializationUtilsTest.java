@@ -0,0 +1,37 @@
+package dev.voidframework.core.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+@TestMethodOrder(MethodOrderer.MethodName.class)
+final class CUIDSerializationUtilsTest {
+
+    @Test
+    void constructor() throws NoSuchMethodException {
+
+        // Act
+        final Constructor<CUIDSerializationUtils> constructor = CUIDSerializationUtils.class.getDeclaredConstructor();
+        constructor.setAccessible(true);
+
+        final InvocationTargetException exception = Assertions.assertThrows(InvocationTargetException.class, constructor::newInstance);
+
+        // Assert
+        Assertions.assertNotNull(exception.getCause());
+        Assertions.assertEquals("This is a utility class and cannot be instantiated", exception.getCause().getMessage());
+    }
+
+    @Test
+    void isBinaryFormEnabled() {
+
+        // Act
+        final boolean isBinaryFormEnabled = CUIDSerializationUtils.isBinaryFormEnabled();
+
+        // Assert
+        Assertions.assertFalse(isBinaryFormEnabled);
+    }
+}
@@ -1,6 +1,9 @@
 package dev.voidframework.core.utils;
 
 import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import dev.voidframework.core.kryo.CUIDSerializer;
 import dev.voidframework.core.lang.CUID;
 import dev.voidframework.core.lang.Either;
 import dev.voidframework.core.lang.TypedMap;
@@ -36,6 +39,9 @@ final class KryoUtilsTest {
             Arguments.of(new byte[]{1, 99, 108, 57, 103, 116, 115, 49, 107, 119, 48, 48, 51, 57, 51, 54, 52, 55, 119, 49, 122, 52, 118, 50, 116, -29},
                 CUID.class,
                 CUID.fromString("cl9gts1kw00393647w1z4v2tc")),
+            Arguments.of(new byte[]{1, 0, 38, -42, -33, -78, 102, -60, 0, 117, 5, -54, 76, -4, 60, -97, 32, 0},
+                CUID.class,
+                CUID.fromString("cl9gts1kw00393647w1z4v2tc")),
             Arguments.of(new byte[0], String.class, null),
             Arguments.of(new byte[]{0}, Set.class, null));
     }
@@ -67,6 +73,8 @@ final class KryoUtilsTest {
             Arguments.of(new TestDTO("Clémence"), new byte[]{1, -119, 67, 108, -61, -87, 109, 101, 110, 99, 101}),
             Arguments.of(CUID.fromString("cl9gts1kw00393647w1z4v2tc"),
                 new byte[]{1, 99, 108, 57, 103, 116, 115, 49, 107, 119, 48, 48, 51, 57, 51, 54, 52, 55, 119, 49, 122, 52, 118, 50, 116, -29}),
+            Arguments.of(CUID.fromString("cl9gts1kw00393647W1Z4V2TC"),
+                new byte[]{1, 99, 108, 57, 103, 116, 115, 49, 107, 119, 48, 48, 51, 57, 51, 54, 52, 55, 87, 49, 90, 52, 86, 50, 84, -61}),
             Arguments.of(Either.ofLeft("LEFT"), new byte[]{1, 3, 76, 69, 70, -44, 0}),
             Arguments.of(Either.ofRight("RIGHT"), new byte[]{1, 0, 3, 82, 73, 71, 72, -44}),
             Arguments.of(List.of("Apple", "Banana"), new byte[]{1, 2, 3, 65, 112, 112, 108, -27, 3, 66, 97, 110, 97, 110, -31}),
@@ -98,6 +106,50 @@ final class KryoUtilsTest {
         Assertions.assertNotNull(kryo);
     }
 
+    @Test
+    void serializeCUIDBinaryForm() {
+
+        // Arrange
+        final Kryo kryo = new Kryo();
+        kryo.setRegistrationRequired(false);
+        kryo.addDefaultSerializer(CUID.class, new CUIDSerializer(true));
+        final CUID cuid = CUID.fromString("cl9gts1kw00393647w1z4v2tc");
+
+        // Act
+        final Output output = new Output(32);
+        kryo.writeObject(output, cuid);
+        final byte[] serialized = output.toBytes();
+        final CUID deserialized = kryo.readObject(new Input(serialized), CUID.class);
+
+        // Assert
+        Assertions.assertArrayEquals(new byte[]{0, 38, -42, -33, -78, 102, -60, 0, 117, 5, -54, 76, -4, 60, -97, 32, 0}, serialized);
+        Assertions.assertEquals(cuid, deserialized);
+    }
+
+    @Test
+    void serializeCUIDStringFormReadWithBinaryFormEnabled() {
+
+        // Arrange
+        final Kryo kryoStringForm = new Kryo();
+        kryoStringForm.setRegistrationRequired(false);
+        kryoStringForm.addDefaultSerializer(CUID.class, new CUIDSerializer(false));
+        final Kryo kryoBinaryForm = new Kryo();
+        kryoBinaryForm.setRegistrationRequired(false);
+        kryoBinaryForm.addDefaultSerializer(CUID.class, new CUIDSerializer(true));
+        final CUID cuid = CUID.fromString("cl9gts1kw00393647w1z4v2tc");
+
+        // Act
+        final Output output = new Output(32);
+        kryoStringForm.writeObject(output, cuid);
+        final byte[] serialized = output.toBytes();
+        final CUID deserialized = kryoBinaryForm.readObject(new Input(serialized), CUID.class);
+
+        // Assert
+        Assertions.assertEquals(cuid.toString(), new Input(serialized).readString());
+        Assertions.assertEquals(cuid, deserialized);
+        Assertions.assertEquals(cuid, KryoUtils.deserialize(KryoUtils.serialize(cuid), CUID.class));
+    }
+
     @ParameterizedTest
     @MethodSource("getDeserializeArguments")
     void deserialize(final byte[] toDeserialize, final Class<?> outputClassType, final Object expected) {
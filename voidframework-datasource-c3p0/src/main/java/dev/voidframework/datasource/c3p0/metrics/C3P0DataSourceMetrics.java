@@ -0,0 +1,98 @@
+package dev.voidframework.datasource.c3p0.metrics;
+
+import com.mchange.v2.c3p0.ComboPooledDataSource;
+import dev.voidframework.datasource.exception.DataSourceException;
+import dev.voidframework.datasource.metrics.ConnectionAcquireTimeHistogram;
+import dev.voidframework.datasource.metrics.DataSourceMetrics;
+
+import java.sql.SQLException;
+
+/**
+ * Metrics of a C3P0 pool. C3P0 does not report the time spent waiting for a connection,
+ * no acquire time histogram is therefore available.
+ *
+ * @since 1.17.0
+ */
+public final class C3P0DataSourceMetrics implements DataSourceMetrics {
+
+    private final ComboPooledDataSource comboPooledDataSource;
+
+    /**
+     * Build a new instance.
+     *
+     * @param comboPooledDataSource The C3P0 data source
+     * @since 1.17.0
+     */
+    public C3P0DataSourceMetrics(final ComboPooledDataSource comboPooledDataSource) {
+
+        this.comboPooledDataSource = comboPooledDataSource;
+    }
+
+    @Override
+    public String getPoolName() {
+
+        return this.comboPooledDataSource.getDataSourceName();
+    }
+
+    @Override
+    public int getActiveConnections() {
+
+        try {
+            return this.comboPooledDataSource.getNumBusyConnectionsDefaultUser();
+        } catch (final SQLException exception) {
+            throw new DataSourceException.MetricsUnavailable(this.getPoolName(), exception);
+        }
+    }
+
+    @Override
+    public int getIdleConnections() {
+
+        try {
+            return this.comboPooledDataSource.getNumIdleConnectionsDefaultUser();
+        } catch (final SQLException exception) {
+            throw new DataSourceException.MetricsUnavailable(this.getPoolName(), exception);
+        }
+    }
+
+    @Override
+    public int getTotalConnections() {
+
+        try {
+            return this.comboPooledDataSource.getNumConnectionsDefaultUser();
+        } catch (final SQLException exception) {
+            throw new DataSourceException.MetricsUnavailable(this.getPoolName(), exception);
+        }
+    }
+
+    @Override
+    public int getPendingThreads() {
+
+        try {
+            return this.comboPooledDataSource.getNumThreadsAwaitingCheckoutDefaultUser();
+        } catch (final SQLException exception) {
+            throw new DataSourceException.MetricsUnavailable(this.getPoolName(), exception);
+        }
+    }
+
+    @Override
+    public int getMaximumPoolSize() {
+
+        return this.comboPooledDataSource.getMaxPoolSize();
+    }
+
+    @Override
+    public long getConnectionTimeoutCount() {
+
+        try {
+            return this.comboPooledDataSource.getNumFailedCheckoutsDefaultUser();
+        } catch (final SQLException exception) {
+            throw new DataSourceException.MetricsUnavailable(this.getPoolName(), exception);
+        }
+    }
+
+    @Override
+    public ConnectionAcquireTimeHistogram getConnectionAcquireTimeHistogram() {
+
+        return null;
+    }
+}
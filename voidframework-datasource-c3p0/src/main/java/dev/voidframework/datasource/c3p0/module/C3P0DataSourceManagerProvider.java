@@ -6,7 +6,9 @@ import com.mchange.v2.c3p0.ComboPooledDataSource;
 import com.typesafe.config.Config;
 import dev.voidframework.datasource.AbstractDataSourceProvider;
 import dev.voidframework.datasource.DataSourceManager;
+import dev.voidframework.datasource.c3p0.metrics.C3P0DataSourceMetrics;
 import dev.voidframework.datasource.exception.DataSourceException;
+import dev.voidframework.datasource.metrics.DataSourceMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -55,35 +57,64 @@ public class C3P0DataSourceManagerProvider extends AbstractDataSourceProvider {
 
         // Configuration of the different data sources
         final Map<String, DataSource> c3p0DataSourcePerNameMap = new HashMap<>();
+        final Map<String, DataSourceMetrics> dataSourceMetricsPerPoolNameMap = new HashMap<>();
         for (final String dbConfigurationName : this.retrieveDataSourceConfigurationNames(this.configuration)) {
 
             final Config dbConfiguration = this.configuration.getConfig(PREFIX_CONFIGURATION_KEY_DATASOURCE + dbConfigurationName);
 
-            final ComboPooledDataSource comboPooledDataSource = new ComboPooledDataSource();
-            comboPooledDataSource.setDataSourceName(dbConfigurationName);
-            comboPooledDataSource.setJdbcUrl(dbConfiguration.getString("url"));
-            comboPooledDataSource.setUser(dbConfiguration.getString("username"));
-            comboPooledDataSource.setPassword(dbConfiguration.getString("password"));
-            try {
-                comboPooledDataSource.setDriverClass(dbConfiguration.getString("driver"));
-            } catch (final PropertyVetoException exception) {
-                throw new DataSourceException.DriverLoadFailure(dbConfiguration.getString("driver"), exception);
-            }
+            final DataSource primaryDataSource = this.createComboPooledDataSource(
+                dbConfigurationName, dbConfiguration, optionalHikariConfigToApplyMap, dataSourceMetricsPerPoolNameMap);
 
-            for (final Map.Entry<String, BiConsumer<ComboPooledDataSource, Config>> entrySet : optionalHikariConfigToApplyMap.entrySet()) {
-                if (dbConfiguration.hasPath(entrySet.getKey())) {
-                    entrySet.getValue().accept(comboPooledDataSource, dbConfiguration);
-                }
-            }
-
-            c3p0DataSourcePerNameMap.put(dbConfigurationName, comboPooledDataSource);
+            c3p0DataSourcePerNameMap.put(dbConfigurationName, this.createRoutingDataSourceIfNeeded(
+                dbConfigurationName,
+                dbConfiguration,
+                primaryDataSource,
+                (replicaDataSourceName, replicaConfiguration) -> this.createComboPooledDataSource(
+                    replicaDataSourceName, replicaConfiguration, optionalHikariConfigToApplyMap, dataSourceMetricsPerPoolNameMap)));
         }
 
         // Create data source manager
-        this.dataSourceManager = new DataSourceManager(c3p0DataSourcePerNameMap);
+        this.dataSourceManager = new DataSourceManager(c3p0DataSourcePerNameMap, dataSourceMetricsPerPoolNameMap);
         return this.dataSourceManager;
     }
 
+    /**
+     * Creates a C3P0 data source and registers its metrics.
+     *
+     * @param dataSourceName                  The data source name
+     * @param dbConfiguration                 The data source configuration
+     * @param optionalHikariConfigToApplyMap  The parameters of the data source which are optional
+     * @param dataSourceMetricsPerPoolNameMap The metrics of the connection pools
+     * @return Newly created data source
+     * @since 1.17.0
+     */
+    private ComboPooledDataSource createComboPooledDataSource(final String dataSourceName,
+                                                              final Config dbConfiguration,
+                                                              final Map<String, BiConsumer<ComboPooledDataSource, Config>> optionalHikariConfigToApplyMap,
+                                                              final Map<String, DataSourceMetrics> dataSourceMetricsPerPoolNameMap) {
+
+        final ComboPooledDataSource comboPooledDataSource = new ComboPooledDataSource();
+        comboPooledDataSource.setDataSourceName(dataSourceName);
+        comboPooledDataSource.setJdbcUrl(dbConfiguration.getString("url"));
+        comboPooledDataSource.setUser(dbConfiguration.getString("username"));
+        comboPooledDataSource.setPassword(dbConfiguration.getString("password"));
+        try {
+            comboPooledDataSource.setDriverClass(dbConfiguration.getString("driver"));
+        } catch (final PropertyVetoException exception) {
+            throw new DataSourceException.DriverLoadFailure(dbConfiguration.getString("driver"), exception);
+        }
+
+        for (final Map.Entry<String, BiConsumer<ComboPooledDataSource, Config>> entrySet : optionalHikariConfigToApplyMap.entrySet()) {
+            if (dbConfiguration.hasPath(entrySet.getKey())) {
+                entrySet.getValue().accept(comboPooledDataSource, dbConfiguration);
+            }
+        }
+
+        dataSourceMetricsPerPoolNameMap.put(dataSourceName, new C3P0DataSourceMetrics(comboPooledDataSource));
+
+        return comboPooledDataSource;
+    }
+
     /**
      * Defines the parameters of the data source which are optional.
      *
@@ -126,6 +157,18 @@ public class C3P0DataSourceManagerProvider extends AbstractDataSourceProvider {
         optionalHikariConfigToApplyMap.put(
             "acquireIncrement",
             (c3p0Cfg, appCfg) -> c3p0Cfg.setAcquireIncrement(appCfg.getInt("acquireIncrement")));
+        optionalHikariConfigToApplyMap.put(
+            "unreturnedConnectionTimeout",
+            (c3p0Cfg, appCfg) -> {
+                final long unreturnedConnectionTimeoutMillis = appCfg.getLong("unreturnedConnectionTimeout");
+                c3p0Cfg.setUnreturnedConnectionTimeout((int) Math.ceil(unreturnedConnectionTimeoutMillis / 1000.0));
+                c3p0Cfg.setDebugUnreturnedConnectionStackTraces(unreturnedConnectionTimeoutMillis > 0);
+            });
+        optionalHikariConfigToApplyMap.put(
+            "leakDetectionThreshold",
+            (c3p0Cfg, appCfg) -> LOGGER.warn(
+                "Parameter 'leakDetectionThreshold' is not supported by C3P0, use 'unreturnedConnectionTimeout' instead "
+                    + "(unreturned connections will be closed)"));
 
         return optionalHikariConfigToApplyMap;
     }
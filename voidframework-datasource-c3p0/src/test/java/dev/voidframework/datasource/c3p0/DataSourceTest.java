@@ -9,6 +9,7 @@ import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
 import dev.voidframework.datasource.DataSourceManager;
 import dev.voidframework.datasource.c3p0.module.C3P0DataSourceModule;
+import dev.voidframework.datasource.metrics.DataSourceMetrics;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Test;
@@ -37,6 +38,7 @@ final class DataSourceTest {
             voidframework.datasource.second.url = "jdbc:hsqldb:mem:unit_tests_2;sql.syntax_ora=true"
             voidframework.datasource.second.username = "sa"
             voidframework.datasource.second.password = "sa"
+            voidframework.datasource.second.unreturnedConnectionTimeout = 60000
             """);
         this.injector = Guice.createInjector(Stage.PRODUCTION, new AbstractModule() {
             @Override
@@ -47,6 +49,28 @@ final class DataSourceTest {
         });
     }
 
+    @Test
+    void dataSourceMetrics() throws SQLException {
+
+        // Arrange
+        final DataSourceManager dataSourceManager = this.injector.getInstance(DataSourceManager.class);
+        final DataSourceMetrics dataSourceMetrics = dataSourceManager.getDataSourceMetrics("second");
+
+        // Act
+        final int activeConnections;
+        try (final Connection ignore = dataSourceManager.getConnection("second")) {
+            activeConnections = dataSourceMetrics.getActiveConnections();
+        }
+
+        // Assert
+        Assertions.assertEquals(2, dataSourceManager.getDataSourceMetrics().size());
+        Assertions.assertEquals("second", dataSourceMetrics.getPoolName());
+        Assertions.assertEquals(1, activeConnections);
+        Assertions.assertFalse(dataSourceMetrics.isSaturated());
+        Assertions.assertEquals(60, ((ComboPooledDataSource) dataSourceManager.getDataSource("second")).getUnreturnedConnectionTimeout());
+        Assertions.assertNull(dataSourceMetrics.getConnectionAcquireTimeHistogram());
+    }
+
     @Test
     void defaultConnection() throws SQLException {
 
@@ -0,0 +1,82 @@
+package dev.voidframework.healthcheck.checker;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.google.inject.Singleton;
+import dev.voidframework.core.bindable.Bindable;
+import dev.voidframework.datasource.DataSourceManager;
+import dev.voidframework.datasource.metrics.ConnectionAcquireTimeHistogram;
+import dev.voidframework.datasource.metrics.DataSourceMetrics;
+import dev.voidframework.healthcheck.Health;
+import dev.voidframework.healthcheck.HealthChecker;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Data source health checker. Reports the metrics of each connection pool. A saturated pool
+ * is only reported in the details: a briefly busy instance must not be removed from the load
+ * balancer, this would move its load to the other instances.
+ *
+ * @since 1.17.0
+ */
+@Bindable
+@Singleton
+public class DataSourceHealthChecker implements HealthChecker {
+
+    private final Provider<DataSourceManager> dataSourceManagerProvider;
+
+    /**
+     * Build a new instance.
+     *
+     * @param dataSourceManagerProvider Data source manager provider
+     * @since 1.17.0
+     */
+    @Inject
+    public DataSourceHealthChecker(final Provider<DataSourceManager> dataSourceManagerProvider) {
+
+        this.dataSourceManagerProvider = dataSourceManagerProvider;
+    }
+
+    @Override
+    public String getName() {
+
+        return "DataSource";
+    }
+
+    @Override
+    public Health checkHealth() {
+
+        final DataSourceManager dataSourceManager = this.dataSourceManagerProvider.get();
+
+        final Map<String, Object> detailsMap = new LinkedHashMap<>();
+        for (final DataSourceMetrics dataSourceMetrics : dataSourceManager.getDataSourceMetrics()
+            .stream()
+            .sorted(Comparator.comparing(DataSourceMetrics::getPoolName))
+            .toList()) {
+
+            final Map<String, Object> poolDetailsMap = new LinkedHashMap<>();
+            poolDetailsMap.put("active", dataSourceMetrics.getActiveConnections());
+            poolDetailsMap.put("idle", dataSourceMetrics.getIdleConnections());
+            poolDetailsMap.put("total", dataSourceMetrics.getTotalConnections());
+            poolDetailsMap.put("pending", dataSourceMetrics.getPendingThreads());
+            poolDetailsMap.put("max", dataSourceMetrics.getMaximumPoolSize());
+            poolDetailsMap.put("usage", dataSourceMetrics.getUsage());
+            poolDetailsMap.put("timeouts", dataSourceMetrics.getConnectionTimeoutCount());
+
+            final ConnectionAcquireTimeHistogram connectionAcquireTimeHistogram = dataSourceMetrics.getConnectionAcquireTimeHistogram();
+            if (connectionAcquireTimeHistogram != null) {
+                poolDetailsMap.put("acquireTimeMean", connectionAcquireTimeHistogram.getMean().toMillis());
+                poolDetailsMap.put("acquireTimeP99", connectionAcquireTimeHistogram.getPercentile(99).toMillis());
+                poolDetailsMap.put("acquireTimeMax", connectionAcquireTimeHistogram.getMax().toMillis());
+            }
+
+            poolDetailsMap.put("saturated", dataSourceMetrics.isSaturated());
+
+            detailsMap.put(dataSourceMetrics.getPoolName(), poolDetailsMap);
+        }
+
+        return new Health(Health.Status.UP, detailsMap);
+    }
+}
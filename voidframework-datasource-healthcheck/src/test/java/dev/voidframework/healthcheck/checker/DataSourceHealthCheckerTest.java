@@ -0,0 +1,86 @@
+package dev.voidframework.healthcheck.checker;
+
+import dev.voidframework.datasource.DataSourceManager;
+import dev.voidframework.datasource.metrics.DataSourceMetrics;
+import dev.voidframework.healthcheck.Health;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.mockito.Mockito;
+
+import java.util.Map;
+
+@TestMethodOrder(MethodOrderer.MethodName.class)
+final class DataSourceHealthCheckerTest {
+
+    @Test
+    void checkHealthSaturated() {
+
+        // Arrange
+        final DataSourceMetrics dataSourceMetrics = createDataSourceMetrics("default", 10, 3);
+        final DataSourceManager dataSourceManager = new DataSourceManager(Map.of(), Map.of("default", dataSourceMetrics));
+        final DataSourceHealthChecker dataSourceHealthChecker = new DataSourceHealthChecker(() -> dataSourceManager);
+
+        // Act
+        final Health health = dataSourceHealthChecker.checkHealth();
+
+        // Assert
+        Assertions.assertEquals(Health.Status.UP, health.status());
+
+        final Map<?, ?> poolDetailsMap = (Map<?, ?>) health.details().get("default");
+        Assertions.assertEquals(10, poolDetailsMap.get("active"));
+        Assertions.assertEquals(3, poolDetailsMap.get("pending"));
+        Assertions.assertEquals(1.0, poolDetailsMap.get("usage"));
+        Assertions.assertEquals(true, poolDetailsMap.get("saturated"));
+    }
+
+    @Test
+    void checkHealthUp() {
+
+        // Arrange
+        final DataSourceMetrics defaultDataSourceMetrics = createDataSourceMetrics("default", 5, 0);
+        final DataSourceMetrics secondDataSourceMetrics = createDataSourceMetrics("second", 10, 0);
+        final DataSourceManager dataSourceManager = new DataSourceManager(
+            Map.of(),
+            Map.of("default", defaultDataSourceMetrics, "second", secondDataSourceMetrics));
+        final DataSourceHealthChecker dataSourceHealthChecker = new DataSourceHealthChecker(() -> dataSourceManager);
+
+        // Act
+        final Health health = dataSourceHealthChecker.checkHealth();
+
+        // Assert
+        Assertions.assertEquals(Health.Status.UP, health.status());
+        Assertions.assertEquals(2, health.details().size());
+
+        final Map<?, ?> poolDetailsMap = (Map<?, ?>) health.details().get("default");
+        Assertions.assertEquals(5, poolDetailsMap.get("active"));
+        Assertions.assertEquals(10, poolDetailsMap.get("max"));
+        Assertions.assertEquals(0.5, poolDetailsMap.get("usage"));
+        Assertions.assertEquals(false, poolDetailsMap.get("saturated"));
+        Assertions.assertFalse(poolDetailsMap.containsKey("acquireTimeMean"));
+    }
+
+    /**
+     * Creates data source metrics of a pool allowing up to 10 connections.
+     *
+     * @param poolName          The pool name
+     * @param activeConnections The number of active connections
+     * @param pendingThreads    The number of threads waiting for a connection
+     * @return The newly created data source metrics
+     */
+    private static DataSourceMetrics createDataSourceMetrics(final String poolName, final int activeConnections, final int pendingThreads) {
+
+        final DataSourceMetrics dataSourceMetrics = Mockito.mock(DataSourceMetrics.class, Mockito.CALLS_REAL_METHODS);
+        Mockito.doReturn(poolName).when(dataSourceMetrics).getPoolName();
+        Mockito.doReturn(activeConnections).when(dataSourceMetrics).getActiveConnections();
+        Mockito.doReturn(10 - activeConnections).when(dataSourceMetrics).getIdleConnections();
+        Mockito.doReturn(10).when(dataSourceMetrics).getTotalConnections();
+        Mockito.doReturn(pendingThreads).when(dataSourceMetrics).getPendingThreads();
+        Mockito.doReturn(10).when(dataSourceMetrics).getMaximumPoolSize();
+        Mockito.doReturn(0L).when(dataSourceMetrics).getConnectionTimeoutCount();
+        Mockito.doReturn(null).when(dataSourceMetrics).getConnectionAcquireTimeHistogram();
+
+        return dataSourceMetrics;
+    }
+}
@@ -0,0 +1,83 @@
+package dev.voidframework.datasource.hikaricp.metrics;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import dev.voidframework.datasource.metrics.ConnectionAcquireTimeHistogram;
+import dev.voidframework.datasource.metrics.DataSourceMetrics;
+
+/**
+ * Metrics of a HikariCP pool.
+ *
+ * @since 1.17.0
+ */
+public final class HikariCpDataSourceMetrics implements DataSourceMetrics {
+
+    private final HikariDataSource hikariDataSource;
+    private final HikariCpMetricsTrackerFactory metricsTrackerFactory;
+
+    /**
+     * Build a new instance.
+     *
+     * @param hikariDataSource The HikariCP data source
+     * @since 1.17.0
+     */
+    public HikariCpDataSourceMetrics(final HikariDataSource hikariDataSource) {
+
+        this.hikariDataSource = hikariDataSource;
+        this.metricsTrackerFactory = hikariDataSource.getMetricsTrackerFactory() instanceof final HikariCpMetricsTrackerFactory factory
+            ? factory
+            : null;
+    }
+
+    @Override
+    public String getPoolName() {
+
+        return this.hikariDataSource.getPoolName();
+    }
+
+    @Override
+    public int getActiveConnections() {
+
+        final HikariPoolMXBean hikariPoolMXBean = this.hikariDataSource.getHikariPoolMXBean();
+        return hikariPoolMXBean != null ? hikariPoolMXBean.getActiveConnections() : 0;
+    }
+
+    @Override
+    public int getIdleConnections() {
+
+        final HikariPoolMXBean hikariPoolMXBean = this.hikariDataSource.getHikariPoolMXBean();
+        return hikariPoolMXBean != null ? hikariPoolMXBean.getIdleConnections() : 0;
+    }
+
+    @Override
+    public int getTotalConnections() {
+
+        final HikariPoolMXBean hikariPoolMXBean = this.hikariDataSource.getHikariPoolMXBean();
+        return hikariPoolMXBean != null ? hikariPoolMXBean.getTotalConnections() : 0;
+    }
+
+    @Override
+    public int getPendingThreads() {
+
+        final HikariPoolMXBean hikariPoolMXBean = this.hikariDataSource.getHikariPoolMXBean();
+        return hikariPoolMXBean != null ? hikariPoolMXBean.getThreadsAwaitingConnection() : 0;
+    }
+
+    @Override
+    public int getMaximumPoolSize() {
+
+        return this.hikariDataSource.getMaximumPoolSize();
+    }
+
+    @Override
+    public long getConnectionTimeoutCount() {
+
+        return this.metricsTrackerFactory != null ? this.metricsTrackerFactory.getConnectionTimeoutCount() : 0;
+    }
+
+    @Override
+    public ConnectionAcquireTimeHistogram getConnectionAcquireTimeHistogram() {
+
+        return this.metricsTrackerFactory != null ? this.metricsTrackerFactory.getConnectionAcquireTimeHistogram() : null;
+    }
+}
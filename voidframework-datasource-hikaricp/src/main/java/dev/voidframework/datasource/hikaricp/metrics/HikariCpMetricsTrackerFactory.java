@@ -0,0 +1,71 @@
+package dev.voidframework.datasource.hikaricp.metrics;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import dev.voidframework.datasource.metrics.ConnectionAcquireTimeHistogram;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects the connection acquire times and timeouts reported by a HikariCP pool.
+ *
+ * @since 1.17.0
+ */
+public final class HikariCpMetricsTrackerFactory implements MetricsTrackerFactory {
+
+    private final ConnectionAcquireTimeHistogram connectionAcquireTimeHistogram;
+    private final LongAdder connectionTimeoutCount;
+
+    /**
+     * Build a new instance.
+     *
+     * @since 1.17.0
+     */
+    public HikariCpMetricsTrackerFactory() {
+
+        this.connectionAcquireTimeHistogram = new ConnectionAcquireTimeHistogram();
+        this.connectionTimeoutCount = new LongAdder();
+    }
+
+    @Override
+    public IMetricsTracker create(final String poolName, final PoolStats poolStats) {
+
+        return new IMetricsTracker() {
+
+            @Override
+            public void recordConnectionAcquiredNanos(final long elapsedAcquiredNanos) {
+
+                connectionAcquireTimeHistogram.record(elapsedAcquiredNanos);
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+
+                connectionTimeoutCount.increment();
+            }
+        };
+    }
+
+    /**
+     * Retrieves the connection acquire time histogram.
+     *
+     * @return The connection acquire time histogram
+     * @since 1.17.0
+     */
+    public ConnectionAcquireTimeHistogram getConnectionAcquireTimeHistogram() {
+
+        return this.connectionAcquireTimeHistogram;
+    }
+
+    /**
+     * Retrieves the number of connection acquisitions which have timed out.
+     *
+     * @return The number of timeouts
+     * @since 1.17.0
+     */
+    public long getConnectionTimeoutCount() {
+
+        return this.connectionTimeoutCount.sum();
+    }
+}
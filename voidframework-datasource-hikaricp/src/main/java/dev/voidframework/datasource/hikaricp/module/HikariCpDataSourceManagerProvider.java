@@ -8,6 +8,9 @@ import com.zaxxer.hikari.HikariDataSource;
 import dev.voidframework.datasource.AbstractDataSourceProvider;
 import dev.voidframework.datasource.DataSourceManager;
 import dev.voidframework.datasource.exception.DataSourceException;
+import dev.voidframework.datasource.hikaricp.metrics.HikariCpDataSourceMetrics;
+import dev.voidframework.datasource.hikaricp.metrics.HikariCpMetricsTrackerFactory;
+import dev.voidframework.datasource.metrics.DataSourceMetrics;
 
 import javax.sql.DataSource;
 import java.util.HashMap;
@@ -42,6 +45,7 @@ public class HikariCpDataSourceManagerProvider extends AbstractDataSourceProvide
     private static final String CONFIGURATION_KEY_CONNECTION_POOL_MINIMUM_IDLE = "minimumIdle";
     private static final String CONFIGURATION_KEY_CONNECTION_POOL_MAXIMUM_SIZE = "maximumPoolSize";
     private static final String CONFIGURATION_KEY_MAXIMUM_CONNECTION_AGE = "maxConnectionAge";
+    private static final String CONFIGURATION_KEY_LEAK_DETECTION_THRESHOLD = "leakDetectionThreshold";
 
     private final Config configuration;
     private DataSourceManager dataSourceManager;
@@ -110,35 +114,70 @@ public class HikariCpDataSourceManagerProvider extends AbstractDataSourceProvide
         optionalHikariConfigToApplyMap.put(
             CONFIGURATION_KEY_MAXIMUM_CONNECTION_AGE,
             (hikariCfg, appCfg) -> hikariCfg.setMaxLifetime(appCfg.getInt(CONFIGURATION_KEY_MAXIMUM_CONNECTION_AGE)));
+        optionalHikariConfigToApplyMap.put(
+            CONFIGURATION_KEY_LEAK_DETECTION_THRESHOLD,
+            (hikariCfg, appCfg) -> hikariCfg.setLeakDetectionThreshold(appCfg.getLong(CONFIGURATION_KEY_LEAK_DETECTION_THRESHOLD)));
 
         // Configuration of the different data sources
         final Map<String, DataSource> hikariDataSourcePerNameMap = new HashMap<>();
+        final Map<String, DataSourceMetrics> dataSourceMetricsPerPoolNameMap = new HashMap<>();
         for (final String dbConfigurationName : this.retrieveDataSourceConfigurationNames(this.configuration)) {
 
             final Config dbConfiguration = this.configuration.getConfig(PREFIX_CONFIGURATION_KEY_DATASOURCE + dbConfigurationName);
 
-            final HikariConfig hikariConfig = new HikariConfig();
-            hikariConfig.setPoolName(dbConfigurationName);
-            hikariConfig.setJdbcUrl(dbConfiguration.getString(CONFIGURATION_KEY_URL));
-            hikariConfig.setUsername(dbConfiguration.getString(CONFIGURATION_KEY_USERNAME));
-            hikariConfig.setPassword(dbConfiguration.getString(CONFIGURATION_KEY_PASSWORD));
-            try {
-                hikariConfig.setDriverClassName(dbConfiguration.getString(CONFIGURATION_KEY_DRIVER_CLASS));
-            } catch (final RuntimeException exception) {
-                throw new DataSourceException.DriverLoadFailure(dbConfiguration.getString(CONFIGURATION_KEY_DRIVER_CLASS), exception);
-            }
-
-            for (final Map.Entry<String, BiConsumer<HikariConfig, Config>> entrySet : optionalHikariConfigToApplyMap.entrySet()) {
-                if (dbConfiguration.hasPath(entrySet.getKey())) {
-                    entrySet.getValue().accept(hikariConfig, dbConfiguration);
-                }
-            }
+            final DataSource primaryDataSource = this.createHikariDataSource(
+                dbConfigurationName, dbConfiguration, optionalHikariConfigToApplyMap, dataSourceMetricsPerPoolNameMap);
 
-            hikariDataSourcePerNameMap.put(dbConfigurationName, new HikariDataSource(hikariConfig));
+            hikariDataSourcePerNameMap.put(dbConfigurationName, this.createRoutingDataSourceIfNeeded(
+                dbConfigurationName,
+                dbConfiguration,
+                primaryDataSource,
+                (replicaPoolName, replicaConfiguration) -> this.createHikariDataSource(
+                    replicaPoolName, replicaConfiguration, optionalHikariConfigToApplyMap, dataSourceMetricsPerPoolNameMap)));
         }
 
         // Create data source manager
-        this.dataSourceManager = new DataSourceManager(hikariDataSourcePerNameMap);
+        this.dataSourceManager = new DataSourceManager(hikariDataSourcePerNameMap, dataSourceMetricsPerPoolNameMap);
         return this.dataSourceManager;
     }
+
+    /**
+     * Creates a HikariCP data source and registers its metrics.
+     *
+     * @param poolName                        The pool name
+     * @param dbConfiguration                 The data source configuration
+     * @param optionalHikariConfigToApplyMap  The parameters of the data source which are optional
+     * @param dataSourceMetricsPerPoolNameMap The metrics of the connection pools
+     * @return Newly created data source
+     * @since 1.17.0
+     */
+    private HikariDataSource createHikariDataSource(final String poolName,
+                                                    final Config dbConfiguration,
+                                                    final Map<String, BiConsumer<HikariConfig, Config>> optionalHikariConfigToApplyMap,
+                                                    final Map<String, DataSourceMetrics> dataSourceMetricsPerPoolNameMap) {
+
+        final HikariConfig hikariConfig = new HikariConfig();
+        hikariConfig.setPoolName(poolName);
+        hikariConfig.setJdbcUrl(dbConfiguration.getString(CONFIGURATION_KEY_URL));
+        hikariConfig.setUsername(dbConfiguration.getString(CONFIGURATION_KEY_USERNAME));
+        hikariConfig.setPassword(dbConfiguration.getString(CONFIGURATION_KEY_PASSWORD));
+        try {
+            hikariConfig.setDriverClassName(dbConfiguration.getString(CONFIGURATION_KEY_DRIVER_CLASS));
+        } catch (final RuntimeException exception) {
+            throw new DataSourceException.DriverLoadFailure(dbConfiguration.getString(CONFIGURATION_KEY_DRIVER_CLASS), exception);
+        }
+
+        for (final Map.Entry<String, BiConsumer<HikariConfig, Config>> entrySet : optionalHikariConfigToApplyMap.entrySet()) {
+            if (dbConfiguration.hasPath(entrySet.getKey())) {
+                entrySet.getValue().accept(hikariConfig, dbConfiguration);
+            }
+        }
+
+        hikariConfig.setMetricsTrackerFactory(new HikariCpMetricsTrackerFactory());
+
+        final HikariDataSource hikariDataSource = new HikariDataSource(hikariConfig);
+        dataSourceMetricsPerPoolNameMap.put(poolName, new HikariCpDataSourceMetrics(hikariDataSource));
+
+        return hikariDataSource;
+    }
 }
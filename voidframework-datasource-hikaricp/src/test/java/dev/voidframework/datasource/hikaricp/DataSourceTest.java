@@ -9,6 +9,7 @@ import com.typesafe.config.ConfigFactory;
 import com.zaxxer.hikari.HikariDataSource;
 import dev.voidframework.datasource.DataSourceManager;
 import dev.voidframework.datasource.hikaricp.module.HikariCpDataSourceModule;
+import dev.voidframework.datasource.metrics.DataSourceMetrics;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Test;
@@ -48,6 +49,7 @@ final class DataSourceTest {
             voidframework.datasource.second.url = "jdbc:hsqldb:mem:unit_tests_2;sql.syntax_ora=true;"
             voidframework.datasource.second.username = "sa"
             voidframework.datasource.second.password = "sa"
+            voidframework.datasource.second.leakDetectionThreshold = 60000
             """);
         this.injector = Guice.createInjector(Stage.PRODUCTION, new AbstractModule() {
             @Override
@@ -58,6 +60,28 @@ final class DataSourceTest {
         });
     }
 
+    @Test
+    void dataSourceMetrics() throws SQLException {
+
+        // Arrange
+        final DataSourceManager dataSourceManager = this.injector.getInstance(DataSourceManager.class);
+        final DataSourceMetrics dataSourceMetrics = dataSourceManager.getDataSourceMetrics("second");
+
+        // Act
+        final int activeConnections;
+        try (final Connection ignore = dataSourceManager.getConnection("second")) {
+            activeConnections = dataSourceMetrics.getActiveConnections();
+        }
+
+        // Assert
+        Assertions.assertEquals(2, dataSourceManager.getDataSourceMetrics().size());
+        Assertions.assertEquals("second", dataSourceMetrics.getPoolName());
+        Assertions.assertEquals(1, activeConnections);
+        Assertions.assertFalse(dataSourceMetrics.isSaturated());
+        Assertions.assertEquals(60000, ((HikariDataSource) dataSourceManager.getDataSource("second")).getLeakDetectionThreshold());
+        Assertions.assertEquals(1, dataSourceMetrics.getConnectionAcquireTimeHistogram().getCount());
+    }
+
     @Test
     void defaultConnection() throws SQLException {
 
@@ -0,0 +1,280 @@
+package dev.voidframework.datasource.hikaricp;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Stage;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import dev.voidframework.datasource.DataSourceManager;
+import dev.voidframework.datasource.hikaricp.module.HikariCpDataSourceModule;
+import dev.voidframework.datasource.routing.DataSourceRoute;
+import dev.voidframework.datasource.routing.DataSourceRoutingContext;
+import dev.voidframework.datasource.routing.LoadBalancingStrategy;
+import dev.voidframework.datasource.routing.RoutingDataSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.mockito.Mockito;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+@TestMethodOrder(MethodOrderer.MethodName.class)
+final class RoutingDataSourceTest {
+
+    private static final String CONFIGURATION = """
+        voidframework.core.runInDevMode = true
+        voidframework.datasource.default.driver = "org.hsqldb.jdbc.JDBCDriver"
+        voidframework.datasource.default.url = "jdbc:hsqldb:mem:unit_tests_primary"
+        voidframework.datasource.default.username = "sa"
+        voidframework.datasource.default.password = "sa"
+        voidframework.datasource.default.minimumIdle = 1
+        voidframework.datasource.default.maximumPoolSize = 2
+        voidframework.datasource.default.replicas.replica1.url = "jdbc:hsqldb:mem:unit_tests_replica_1"
+        voidframework.datasource.default.replicas.replica2.url = "jdbc:hsqldb:mem:unit_tests_replica_2"
+        """;
+
+    @Test
+    void primaryRoute() throws SQLException {
+
+        // Arrange
+        final DataSourceManager dataSourceManager = createDataSourceManager("");
+
+        // Act
+        final String url;
+        try (final Connection connection = dataSourceManager.getConnection()) {
+            url = connection.getMetaData().getURL();
+        }
+
+        // Assert
+        Assertions.assertInstanceOf(RoutingDataSource.class, dataSourceManager.getDataSource());
+        Assertions.assertEquals("jdbc:hsqldb:mem:unit_tests_primary", url);
+    }
+
+    @Test
+    void replicaRouteLeastActive() throws SQLException {
+
+        // Arrange
+        final DataSourceManager dataSourceManager = createDataSourceManager(
+            "voidframework.datasource.default.routing.loadBalancing = \"LEAST_ACTIVE\"");
+
+        // Act
+        final String firstUrl;
+        final String secondUrl;
+        final String thirdUrl;
+        try (final Connection firstConnection = dataSourceManager.getConnection("default", DataSourceRoute.REPLICA)) {
+            firstUrl = firstConnection.getMetaData().getURL();
+            try (final Connection secondConnection = dataSourceManager.getConnection("default", DataSourceRoute.REPLICA)) {
+                secondUrl = secondConnection.getMetaData().getURL();
+            }
+            try (final Connection thirdConnection = dataSourceManager.getConnection("default", DataSourceRoute.REPLICA)) {
+                thirdUrl = thirdConnection.getMetaData().getURL();
+            }
+        }
+
+        // Assert
+        Assertions.assertEquals("jdbc:hsqldb:mem:unit_tests_replica_1", firstUrl);
+        Assertions.assertEquals("jdbc:hsqldb:mem:unit_tests_replica_2", secondUrl);
+        Assertions.assertEquals("jdbc:hsqldb:mem:unit_tests_replica_2", thirdUrl);
+    }
+
+    @Test
+    void replicaRouteReplicationLag() throws SQLException {
+
+        // Arrange
+        final DataSourceManager dataSourceManager = createDataSourceManager("""
+            voidframework.datasource.default.routing.replicationLagQuery = "CALL 5000"
+            voidframework.datasource.default.routing.maxReplicationLag = 1 second
+            """);
+
+        // Act
+        final String url;
+        try (final Connection connection = dataSourceManager.getConnection("default", DataSourceRoute.REPLICA)) {
+            url = connection.getMetaData().getURL();
+        }
+
+        // Assert
+        Assertions.assertEquals("jdbc:hsqldb:mem:unit_tests_primary", url);
+    }
+
+    @Test
+    void replicaRouteReplicationLagBelowMaximum() throws SQLException, InterruptedException {
+
+        // Arrange
+        final Connection primaryConnection = Mockito.mock(Connection.class);
+        final DataSource primaryDataSource = Mockito.mock(DataSource.class);
+        Mockito.when(primaryDataSource.getConnection()).thenReturn(primaryConnection);
+
+        final ResultSet resultSet = Mockito.mock(ResultSet.class);
+        Mockito.when(resultSet.next()).thenReturn(true);
+        Mockito.when(resultSet.getLong(1)).thenReturn(10L);
+        final Statement statement = Mockito.mock(Statement.class);
+        Mockito.when(statement.executeQuery("SELECT lag")).thenReturn(resultSet);
+        final Connection replicaConnection = Mockito.mock(Connection.class);
+        Mockito.when(replicaConnection.createStatement()).thenReturn(statement);
+        final DataSource replicaDataSource = Mockito.mock(DataSource.class);
+        Mockito.when(replicaDataSource.getConnection()).thenReturn(replicaConnection);
+
+        // Act
+        Connection connection = null;
+        try (final RoutingDataSource routingDataSource = new RoutingDataSource(
+            "default",
+            primaryDataSource,
+            List.of(replicaDataSource),
+            LoadBalancingStrategy.ROUND_ROBIN,
+            new RoutingDataSource.RoutingSettings("SELECT lag", Duration.ofSeconds(1), Duration.ofSeconds(5), Duration.ofMinutes(1)))) {
+
+            DataSourceRoutingContext.push(DataSourceRoute.REPLICA);
+            try {
+                for (int attempt = 0; attempt < 100 && connection != replicaConnection; attempt += 1) {
+                    Thread.sleep(20);
+                    connection = routingDataSource.getConnection();
+                }
+            } finally {
+                DataSourceRoutingContext.pop();
+            }
+        }
+
+        // Assert
+        Assertions.assertSame(replicaConnection, connection);
+        Mockito.verify(statement, Mockito.times(1)).setQueryTimeout(5);
+        Mockito.verify(statement, Mockito.times(1)).executeQuery("SELECT lag");
+    }
+
+    @Test
+    void replicaRouteReplicationLagHungReplica() throws SQLException, InterruptedException {
+
+        // Arrange
+        final Connection primaryConnection = Mockito.mock(Connection.class);
+        final DataSource primaryDataSource = Mockito.mock(DataSource.class);
+        Mockito.when(primaryDataSource.getConnection()).thenReturn(primaryConnection);
+
+        final DataSource hungReplicaDataSource = Mockito.mock(DataSource.class);
+        Mockito.when(hungReplicaDataSource.getConnection()).thenAnswer(invocation -> {
+            Thread.sleep(Duration.ofMinutes(1).toMillis());
+            return null;
+        });
+
+        final ResultSet resultSet = Mockito.mock(ResultSet.class);
+        Mockito.when(resultSet.next()).thenReturn(true);
+        Mockito.when(resultSet.getLong(1)).thenReturn(10L);
+        final Statement statement = Mockito.mock(Statement.class);
+        Mockito.when(statement.executeQuery("SELECT lag")).thenReturn(resultSet);
+        final Connection replicaConnection = Mockito.mock(Connection.class);
+        Mockito.when(replicaConnection.createStatement()).thenReturn(statement);
+        final DataSource replicaDataSource = Mockito.mock(DataSource.class);
+        Mockito.when(replicaDataSource.getConnection()).thenReturn(replicaConnection);
+
+        // Act
+        final Connection firstConnection;
+        final Connection secondConnection;
+        try (final RoutingDataSource routingDataSource = new RoutingDataSource(
+            "default",
+            primaryDataSource,
+            List.of(hungReplicaDataSource, replicaDataSource),
+            LoadBalancingStrategy.ROUND_ROBIN,
+            new RoutingDataSource.RoutingSettings("SELECT lag", Duration.ofSeconds(1), Duration.ofMillis(200), Duration.ofMinutes(1)))) {
+
+            Mockito.verify(statement, Mockito.timeout(2_000).atLeastOnce()).executeQuery("SELECT lag");
+            Thread.sleep(300);
+
+            DataSourceRoutingContext.push(DataSourceRoute.REPLICA);
+            try {
+                firstConnection = routingDataSource.getConnection();
+                secondConnection = routingDataSource.getConnection();
+            } finally {
+                DataSourceRoutingContext.pop();
+            }
+        }
+
+        // Assert
+        Assertions.assertSame(replicaConnection, firstConnection);
+        Assertions.assertSame(replicaConnection, secondConnection);
+        Mockito.verify(statement, Mockito.atLeastOnce()).setQueryTimeout(1);
+        Mockito.verify(hungReplicaDataSource, Mockito.times(1)).getConnection();
+    }
+
+    @Test
+    void replicaRouteRoundRobin() throws SQLException {
+
+        // Arrange
+        final DataSourceManager dataSourceManager = createDataSourceManager("");
+
+        // Act
+        final String firstUrl;
+        final String secondUrl;
+        final String thirdUrl;
+        DataSourceRoutingContext.push(DataSourceRoute.REPLICA);
+        try (final Connection firstConnection = dataSourceManager.getConnection();
+             final Connection secondConnection = dataSourceManager.getConnection();
+             final Connection thirdConnection = dataSourceManager.getConnection()) {
+            firstUrl = firstConnection.getMetaData().getURL();
+            secondUrl = secondConnection.getMetaData().getURL();
+            thirdUrl = thirdConnection.getMetaData().getURL();
+        } finally {
+            DataSourceRoutingContext.pop();
+        }
+
+        // Assert
+        Assertions.assertEquals("jdbc:hsqldb:mem:unit_tests_replica_1", firstUrl);
+        Assertions.assertEquals("jdbc:hsqldb:mem:unit_tests_replica_2", secondUrl);
+        Assertions.assertEquals("jdbc:hsqldb:mem:unit_tests_replica_1", thirdUrl);
+        Assertions.assertEquals(DataSourceRoute.PRIMARY, DataSourceRoutingContext.current());
+    }
+
+    @Test
+    void replicaRouteUnavailableReplica() throws SQLException {
+
+        // Arrange
+        final Connection primaryConnection = Mockito.mock(Connection.class);
+        final DataSource primaryDataSource = Mockito.mock(DataSource.class);
+        Mockito.when(primaryDataSource.getConnection()).thenReturn(primaryConnection);
+
+        final DataSource replicaDataSource = Mockito.mock(DataSource.class);
+        Mockito.when(replicaDataSource.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+        final RoutingDataSource routingDataSource = new RoutingDataSource(
+            "default",
+            primaryDataSource,
+            List.of(replicaDataSource),
+            LoadBalancingStrategy.ROUND_ROBIN,
+            new RoutingDataSource.RoutingSettings(null, Duration.ZERO, Duration.ofSeconds(5), Duration.ofMinutes(1)));
+
+        // Act
+        final Connection firstConnection;
+        final Connection secondConnection;
+        DataSourceRoutingContext.push(DataSourceRoute.REPLICA);
+        try {
+            firstConnection = routingDataSource.getConnection();
+            secondConnection = routingDataSource.getConnection();
+        } finally {
+            DataSourceRoutingContext.pop();
+        }
+
+        // Assert
+        Assertions.assertSame(primaryConnection, firstConnection);
+        Assertions.assertSame(primaryConnection, secondConnection);
+        Mockito.verify(replicaDataSource, Mockito.times(1)).getConnection();
+    }
+
+    private static DataSourceManager createDataSourceManager(final String additionalConfiguration) {
+
+        final Config configuration = ConfigFactory.parseString(CONFIGURATION + additionalConfiguration);
+        final Injector injector = Guice.createInjector(Stage.PRODUCTION, new AbstractModule() {
+            @Override
+            protected void configure() {
+                install(new HikariCpDataSourceModule());
+                bind(Config.class).toInstance(configuration);
+            }
+        });
+
+        return injector.getInstance(DataSourceManager.class);
+    }
+}
@@ -3,10 +3,19 @@ package dev.voidframework.datasource;
 import com.google.inject.Provider;
 import com.typesafe.config.Config;
 import dev.voidframework.core.constant.StringConstants;
+import dev.voidframework.core.utils.ConfigurationUtils;
 import dev.voidframework.datasource.exception.DataSourceException;
+import dev.voidframework.datasource.routing.LoadBalancingStrategy;
+import dev.voidframework.datasource.routing.RoutingDataSource;
 
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
 /**
@@ -18,6 +27,13 @@ public abstract class AbstractDataSourceProvider implements Provider<DataSourceM
 
     protected static final String PREFIX_CONFIGURATION_KEY_DATASOURCE = "voidframework.datasource.";
     private static final String CONFIGURATION_KEY_DATASOURCE = "voidframework.datasource";
+    private static final String CONFIGURATION_KEY_REPLICAS = "replicas";
+    private static final String CONFIGURATION_KEY_ROUTING = "routing";
+    private static final String CONFIGURATION_KEY_ROUTING_LOAD_BALANCING = "routing.loadBalancing";
+    private static final String CONFIGURATION_KEY_ROUTING_REPLICATION_LAG_QUERY = "routing.replicationLagQuery";
+    private static final String CONFIGURATION_KEY_ROUTING_MAX_REPLICATION_LAG = "routing.maxReplicationLag";
+    private static final String CONFIGURATION_KEY_ROUTING_REPLICATION_LAG_CHECK_INTERVAL = "routing.replicationLagCheckInterval";
+    private static final String CONFIGURATION_KEY_ROUTING_UNAVAILABLE_REPLICA_RETRY_DELAY = "routing.unavailableReplicaRetryDelay";
 
     /**
      * Retrieves all DataSource configuration name.
@@ -46,4 +62,54 @@ public abstract class AbstractDataSourceProvider implements Provider<DataSourceM
 
         return dbConfigurationNameSet;
     }
+
+    /**
+     * Creates the replicas of a data source, if any, and wraps them together with the primary
+     * data source into a {@link RoutingDataSource}. Each replica is configured under
+     * {@code replicas.[replica name]} and inherits all settings of the primary data source it
+     * does not redefine.
+     *
+     * @param dbConfigurationName      The data source configuration name
+     * @param dbConfiguration          The data source configuration
+     * @param primaryDataSource        The primary data source
+     * @param replicaDataSourceFactory Creates a replica data source from its name and configuration
+     * @return The routing data source, or the primary data source if no replica is configured
+     * @since 1.17.0
+     */
+    protected DataSource createRoutingDataSourceIfNeeded(final String dbConfigurationName,
+                                                         final Config dbConfiguration,
+                                                         final DataSource primaryDataSource,
+                                                         final BiFunction<String, Config, DataSource> replicaDataSourceFactory) {
+
+        if (!dbConfiguration.hasPath(CONFIGURATION_KEY_REPLICAS)) {
+            return primaryDataSource;
+        }
+
+        final Config replicasConfiguration = dbConfiguration.getConfig(CONFIGURATION_KEY_REPLICAS);
+        final Config sharedConfiguration = dbConfiguration.withoutPath(CONFIGURATION_KEY_REPLICAS).withoutPath(CONFIGURATION_KEY_ROUTING);
+
+        final List<DataSource> replicaDataSourceList = new ArrayList<>();
+        for (final String replicaName : new TreeSet<>(replicasConfiguration.root().keySet())) {
+            final Config replicaConfiguration = replicasConfiguration.getConfig(replicaName).withFallback(sharedConfiguration);
+            replicaDataSourceList.add(replicaDataSourceFactory.apply(dbConfigurationName + StringConstants.HYPHEN + replicaName, replicaConfiguration));
+        }
+
+        if (replicaDataSourceList.isEmpty()) {
+            return primaryDataSource;
+        }
+
+        return new RoutingDataSource(
+            dbConfigurationName,
+            primaryDataSource,
+            replicaDataSourceList,
+            ConfigurationUtils.getEnumOrDefault(
+                dbConfiguration, CONFIGURATION_KEY_ROUTING_LOAD_BALANCING, LoadBalancingStrategy.class, LoadBalancingStrategy.ROUND_ROBIN),
+            new RoutingDataSource.RoutingSettings(
+                ConfigurationUtils.getStringOrDefault(dbConfiguration, CONFIGURATION_KEY_ROUTING_REPLICATION_LAG_QUERY, null),
+                ConfigurationUtils.getDurationOrDefault(dbConfiguration, CONFIGURATION_KEY_ROUTING_MAX_REPLICATION_LAG, Duration.ZERO),
+                ConfigurationUtils.getDurationOrDefault(
+                    dbConfiguration, CONFIGURATION_KEY_ROUTING_REPLICATION_LAG_CHECK_INTERVAL, Duration.ofSeconds(5)),
+                ConfigurationUtils.getDurationOrDefault(
+                    dbConfiguration, CONFIGURATION_KEY_ROUTING_UNAVAILABLE_REPLICA_RETRY_DELAY, Duration.ofSeconds(30))));
+    }
 }
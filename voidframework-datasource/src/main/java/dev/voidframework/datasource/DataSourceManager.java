@@ -1,9 +1,14 @@
 package dev.voidframework.datasource;
 
+import dev.voidframework.datasource.metrics.DataSourceMetrics;
+import dev.voidframework.datasource.routing.DataSourceRoute;
+import dev.voidframework.datasource.routing.DataSourceRoutingContext;
+
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.SQLTimeoutException;
+import java.util.Collection;
 import java.util.Map;
 
 /**
@@ -14,6 +19,7 @@ import java.util.Map;
 public final class DataSourceManager {
 
     private final Map<String, DataSource> dataSourcePerNameMap;
+    private final Map<String, DataSourceMetrics> dataSourceMetricsPerPoolNameMap;
 
     /**
      * Build a new instance.
@@ -23,7 +29,21 @@ public final class DataSourceManager {
      */
     public DataSourceManager(final Map<String, DataSource> dataSourcePerNameMap) {
 
+        this(dataSourcePerNameMap, Map.of());
+    }
+
+    /**
+     * Build a new instance.
+     *
+     * @param dataSourcePerNameMap            Handled data sources
+     * @param dataSourceMetricsPerPoolNameMap Metrics of the connection pools, including replica ones
+     * @since 1.17.0
+     */
+    public DataSourceManager(final Map<String, DataSource> dataSourcePerNameMap,
+                             final Map<String, DataSourceMetrics> dataSourceMetricsPerPoolNameMap) {
+
         this.dataSourcePerNameMap = dataSourcePerNameMap;
+        this.dataSourceMetricsPerPoolNameMap = dataSourceMetricsPerPoolNameMap;
     }
 
     /**
@@ -54,6 +74,27 @@ public final class DataSourceManager {
         return dataSource != null ? dataSource.getConnection() : null;
     }
 
+    /**
+     * Retrieves a connection from a specific data source, using the given route. The route is
+     * only meaningful for data sources with configured replicas.
+     *
+     * @param dataSourceName  The datasource name
+     * @param dataSourceRoute The route to use
+     * @return A connection to the data source
+     * @throws SQLException        If a database access error occurs
+     * @throws SQLTimeoutException If a timeout occur during database access
+     * @since 1.17.0
+     */
+    public Connection getConnection(final String dataSourceName, final DataSourceRoute dataSourceRoute) throws SQLException {
+
+        DataSourceRoutingContext.push(dataSourceRoute);
+        try {
+            return this.getConnection(dataSourceName);
+        } finally {
+            DataSourceRoutingContext.pop();
+        }
+    }
+
     /**
      * Retrieves the default data source.
      *
@@ -76,4 +117,27 @@ public final class DataSourceManager {
 
         return this.dataSourcePerNameMap.get(dataSourceName);
     }
+
+    /**
+     * Retrieves the metrics of all connection pools.
+     *
+     * @return The metrics of all connection pools
+     * @since 1.17.0
+     */
+    public Collection<DataSourceMetrics> getDataSourceMetrics() {
+
+        return this.dataSourceMetricsPerPoolNameMap.values();
+    }
+
+    /**
+     * Retrieves the metrics of a specific connection pool.
+     *
+     * @param poolName The pool name
+     * @return The metrics of the connection pool
+     * @since 1.17.0
+     */
+    public DataSourceMetrics getDataSourceMetrics(final String poolName) {
+
+        return this.dataSourceMetricsPerPoolNameMap.get(poolName);
+    }
 }
@@ -67,4 +67,24 @@ public class DataSourceException extends RuntimeException {
             super("DataSource is not configured");
         }
     }
+
+    /**
+     * Exception indicates that metrics of a connection pool can't be retrieved.
+     *
+     * @since 1.17.0
+     */
+    public static class MetricsUnavailable extends DataSourceException {
+
+        /**
+         * Build a new instance.
+         *
+         * @param poolName The pool name
+         * @param cause    The cause
+         * @since 1.17.0
+         */
+        public MetricsUnavailable(final String poolName, final Throwable cause) {
+
+            super("Can't retrieve metrics of the pool '" + poolName + "'", cause);
+        }
+    }
 }
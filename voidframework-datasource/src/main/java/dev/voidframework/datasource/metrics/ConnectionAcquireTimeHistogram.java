@@ -0,0 +1,139 @@
+package dev.voidframework.datasource.metrics;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Distribution of the time spent waiting for a connection. Times are counted into fixed
+ * buckets, recording a value is lock-free and does not allocate.
+ *
+ * @since 1.17.0
+ */
+public final class ConnectionAcquireTimeHistogram {
+
+    private static final long[] BUCKET_UPPER_BOUND_MILLIS = {1, 5, 10, 25, 50, 100, 250, 500, 1_000, 2_500, 5_000, 10_000, Long.MAX_VALUE};
+
+    private final LongAdder[] bucketCountArray;
+    private final LongAdder count;
+    private final LongAdder totalNanos;
+    private final LongAccumulator maxNanos;
+
+    /**
+     * Build a new instance.
+     *
+     * @since 1.17.0
+     */
+    public ConnectionAcquireTimeHistogram() {
+
+        this.bucketCountArray = new LongAdder[BUCKET_UPPER_BOUND_MILLIS.length];
+        for (int idx = 0; idx < this.bucketCountArray.length; idx += 1) {
+            this.bucketCountArray[idx] = new LongAdder();
+        }
+
+        this.count = new LongAdder();
+        this.totalNanos = new LongAdder();
+        this.maxNanos = new LongAccumulator(Math::max, 0);
+    }
+
+    /**
+     * Records the time spent waiting for a connection.
+     *
+     * @param elapsedNanos The elapsed time (in nanoseconds)
+     * @since 1.17.0
+     */
+    public void record(final long elapsedNanos) {
+
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        int bucketIndex = 0;
+        while (elapsedMillis > BUCKET_UPPER_BOUND_MILLIS[bucketIndex]) {
+            bucketIndex += 1;
+        }
+
+        this.bucketCountArray[bucketIndex].increment();
+        this.count.increment();
+        this.totalNanos.add(elapsedNanos);
+        this.maxNanos.accumulate(elapsedNanos);
+    }
+
+    /**
+     * Retrieves the number of recorded acquisitions.
+     *
+     * @return The number of recorded acquisitions
+     * @since 1.17.0
+     */
+    public long getCount() {
+
+        return this.count.sum();
+    }
+
+    /**
+     * Retrieves the mean time spent waiting for a connection.
+     *
+     * @return The mean acquire time
+     * @since 1.17.0
+     */
+    public Duration getMean() {
+
+        final long currentCount = this.count.sum();
+        return currentCount > 0 ? Duration.ofNanos(this.totalNanos.sum() / currentCount) : Duration.ZERO;
+    }
+
+    /**
+     * Retrieves the longest time spent waiting for a connection.
+     *
+     * @return The maximum acquire time
+     * @since 1.17.0
+     */
+    public Duration getMax() {
+
+        return Duration.ofNanos(this.maxNanos.get());
+    }
+
+    /**
+     * Retrieves an estimation of a percentile: the upper bound of the bucket containing it.
+     *
+     * @param percentile The percentile, between 0 and 100
+     * @return The estimated acquire time, bounded by the maximum recorded value
+     * @since 1.17.0
+     */
+    public Duration getPercentile(final double percentile) {
+
+        final long currentCount = this.count.sum();
+        if (currentCount == 0) {
+            return Duration.ZERO;
+        }
+
+        final long rank = (long) Math.ceil(currentCount * Math.max(0, Math.min(100, percentile)) / 100.0);
+        long cumulativeCount = 0;
+        for (int idx = 0; idx < this.bucketCountArray.length; idx += 1) {
+            cumulativeCount += this.bucketCountArray[idx].sum();
+            if (cumulativeCount >= rank && BUCKET_UPPER_BOUND_MILLIS[idx] != Long.MAX_VALUE) {
+                final Duration upperBound = Duration.ofMillis(BUCKET_UPPER_BOUND_MILLIS[idx]);
+                final Duration max = this.getMax();
+                return upperBound.compareTo(max) < 0 ? upperBound : max;
+            }
+        }
+
+        return this.getMax();
+    }
+
+    /**
+     * Retrieves the number of acquisitions per bucket.
+     *
+     * @return The number of acquisitions per bucket upper bound (in milliseconds)
+     * @since 1.17.0
+     */
+    public Map<Long, Long> getBucketCountMap() {
+
+        final Map<Long, Long> bucketCountMap = new LinkedHashMap<>();
+        for (int idx = 0; idx < this.bucketCountArray.length; idx += 1) {
+            bucketCountMap.put(BUCKET_UPPER_BOUND_MILLIS[idx], this.bucketCountArray[idx].sum());
+        }
+
+        return bucketCountMap;
+    }
+}
@@ -0,0 +1,98 @@
+package dev.voidframework.datasource.metrics;
+
+/**
+ * Metrics of a connection pool. Values reflect the state of the pool at the time they are
+ * retrieved and can therefore be exposed as-is to any metrics registry.
+ *
+ * @since 1.17.0
+ */
+public interface DataSourceMetrics {
+
+    /**
+     * Retrieves the pool name.
+     *
+     * @return The pool name
+     * @since 1.17.0
+     */
+    String getPoolName();
+
+    /**
+     * Retrieves the number of connections currently in use.
+     *
+     * @return The number of active connections
+     * @since 1.17.0
+     */
+    int getActiveConnections();
+
+    /**
+     * Retrieves the number of connections currently idle in the pool.
+     *
+     * @return The number of idle connections
+     * @since 1.17.0
+     */
+    int getIdleConnections();
+
+    /**
+     * Retrieves the number of connections currently open.
+     *
+     * @return The number of open connections
+     * @since 1.17.0
+     */
+    int getTotalConnections();
+
+    /**
+     * Retrieves the number of threads waiting for a connection.
+     *
+     * @return The number of pending threads
+     * @since 1.17.0
+     */
+    int getPendingThreads();
+
+    /**
+     * Retrieves the maximum number of connections allowed in the pool.
+     *
+     * @return The maximum pool size
+     * @since 1.17.0
+     */
+    int getMaximumPoolSize();
+
+    /**
+     * Retrieves the number of attempts to retrieve a connection which have failed or timed out.
+     *
+     * @return The number of failed connection acquisitions
+     * @since 1.17.0
+     */
+    long getConnectionTimeoutCount();
+
+    /**
+     * Retrieves the distribution of the time spent waiting for a connection.
+     *
+     * @return The connection acquire time histogram, or {@code null} if the pool does not provide it
+     * @since 1.17.0
+     */
+    ConnectionAcquireTimeHistogram getConnectionAcquireTimeHistogram();
+
+    /**
+     * Retrieves the pool usage.
+     *
+     * @return The ratio of active connections to the maximum pool size, between 0 and 1
+     * @since 1.17.0
+     */
+    default double getUsage() {
+
+        final int maximumPoolSize = this.getMaximumPoolSize();
+        return maximumPoolSize > 0 ? Math.min(1.0, (double) this.getActiveConnections() / maximumPoolSize) : 0;
+    }
+
+    /**
+     * Checks whether the pool is saturated: all connections are in use and threads are waiting
+     * for a connection to be released.
+     *
+     * @return {@code true} if the pool is saturated, otherwise {@code false}
+     * @since 1.17.0
+     */
+    default boolean isSaturated() {
+
+        return this.getPendingThreads() > 0 && this.getActiveConnections() >= this.getMaximumPoolSize();
+    }
+}
@@ -0,0 +1,24 @@
+package dev.voidframework.datasource.routing;
+
+/**
+ * Indicates which data source of a routed data source must serve the connections.
+ *
+ * @since 1.17.0
+ */
+public enum DataSourceRoute {
+
+    /**
+     * Connections are served by the primary data source.
+     *
+     * @since 1.17.0
+     */
+    PRIMARY,
+
+    /**
+     * Connections are served by one of the replicas. If no replica is available,
+     * the primary data source is used.
+     *
+     * @since 1.17.0
+     */
+    REPLICA
+}
@@ -0,0 +1,63 @@
+package dev.voidframework.datasource.routing;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Holds the route to use, for the current thread, when a connection is retrieved from a
+ * {@link RoutingDataSource}. Routes are stacked: each call to {@link #push(DataSourceRoute)}
+ * must be followed by a call to {@link #pop()}.
+ *
+ * @since 1.17.0
+ */
+public final class DataSourceRoutingContext {
+
+    private static final ThreadLocal<Deque<DataSourceRoute>> CURRENT_ROUTE = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /**
+     * Default constructor.
+     *
+     * @since 1.17.0
+     */
+    private DataSourceRoutingContext() {
+
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Retrieves the current route.
+     *
+     * @return The current route, {@link DataSourceRoute#PRIMARY} if none has been defined
+     * @since 1.17.0
+     */
+    public static DataSourceRoute current() {
+
+        final DataSourceRoute dataSourceRoute = CURRENT_ROUTE.get().peek();
+        return dataSourceRoute != null ? dataSourceRoute : DataSourceRoute.PRIMARY;
+    }
+
+    /**
+     * Defines the route to use until the next call to {@link #pop()}.
+     *
+     * @param dataSourceRoute The route to use
+     * @since 1.17.0
+     */
+    public static void push(final DataSourceRoute dataSourceRoute) {
+
+        CURRENT_ROUTE.get().push(dataSourceRoute);
+    }
+
+    /**
+     * Restores the previously defined route.
+     *
+     * @since 1.17.0
+     */
+    public static void pop() {
+
+        final Deque<DataSourceRoute> dataSourceRouteDeque = CURRENT_ROUTE.get();
+        dataSourceRouteDeque.poll();
+        if (dataSourceRouteDeque.isEmpty()) {
+            CURRENT_ROUTE.remove();
+        }
+    }
+}
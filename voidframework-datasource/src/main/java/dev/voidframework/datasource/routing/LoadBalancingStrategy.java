@@ -0,0 +1,23 @@
+package dev.voidframework.datasource.routing;
+
+/**
+ * Strategies used to select the replica that will serve a connection.
+ *
+ * @since 1.17.0
+ */
+public enum LoadBalancingStrategy {
+
+    /**
+     * Replicas are selected one after the other.
+     *
+     * @since 1.17.0
+     */
+    ROUND_ROBIN,
+
+    /**
+     * The replica with the fewest connections currently in use is selected.
+     *
+     * @since 1.17.0
+     */
+    LEAST_ACTIVE
+}
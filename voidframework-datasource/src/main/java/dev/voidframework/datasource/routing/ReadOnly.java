@@ -0,0 +1,21 @@
+package dev.voidframework.datasource.routing;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Indicates that a transaction only reads data. When used together with {@code @Transactional},
+ * connections of the newly created transaction are served by a replica of the data source.
+ *
+ * @since 1.17.0
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface ReadOnly {
+}
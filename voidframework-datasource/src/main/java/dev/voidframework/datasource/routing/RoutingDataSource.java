@@ -0,0 +1,489 @@
+package dev.voidframework.datasource.routing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Data source routing connections either to a primary data source or to one of its replicas,
+ * depending on the route defined in the {@link DataSourceRoutingContext}. A replica which fails
+ * to serve a connection, or which lags too far behind the primary, is ignored for a while and
+ * the primary data source is used instead.
+ * <p>
+ * The replication lag is queried by a background task, never while serving a connection. Until
+ * the first check of a replica has completed, this replica is considered as lagging. Each replica
+ * is checked by its own thread and the lag query times out after the check interval: a hung
+ * replica can't delay the checks of the others. A replica whose check fails, times out or is
+ * still running after the check interval is considered as lagging.
+ *
+ * @since 1.17.0
+ */
+public final class RoutingDataSource implements DataSource, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RoutingDataSource.class);
+
+    private final String name;
+    private final DataSource primaryDataSource;
+    private final List<DataSource> replicaDataSourceList;
+    private final List<Replica> replicaList;
+    private final LoadBalancingStrategy loadBalancingStrategy;
+    private final RoutingSettings routingSettings;
+    private final AtomicInteger roundRobinCounter;
+    private final long lagCheckTimeoutNanos;
+    private final ScheduledExecutorService lagCheckExecutorService;
+
+    /**
+     * Build a new instance.
+     *
+     * @param name                  The data source name
+     * @param primaryDataSource     The primary data source
+     * @param replicaDataSourceList The replica data sources
+     * @param loadBalancingStrategy The strategy used to select a replica
+     * @param routingSettings       The routing settings
+     * @since 1.17.0
+     */
+    public RoutingDataSource(final String name,
+                             final DataSource primaryDataSource,
+                             final List<DataSource> replicaDataSourceList,
+                             final LoadBalancingStrategy loadBalancingStrategy,
+                             final RoutingSettings routingSettings) {
+
+        this.name = name;
+        this.primaryDataSource = primaryDataSource;
+        this.replicaDataSourceList = List.copyOf(replicaDataSourceList);
+        this.replicaList = this.replicaDataSourceList.stream()
+            .map(replicaDataSource -> new Replica(replicaDataSource, routingSettings.isReplicationLagCheckEnabled()))
+            .toList();
+        this.loadBalancingStrategy = loadBalancingStrategy;
+        this.routingSettings = routingSettings;
+        this.roundRobinCounter = new AtomicInteger();
+        this.lagCheckTimeoutNanos = routingSettings.replicationLagCheckInterval().toNanos();
+
+        if (routingSettings.isReplicationLagCheckEnabled()) {
+            this.lagCheckExecutorService = Executors.newScheduledThreadPool(
+                this.replicaList.size(),
+                new LagCheckThreadFactory(name));
+            final long checkIntervalMillis = routingSettings.replicationLagCheckInterval().toMillis();
+            for (int idx = 0; idx < this.replicaList.size(); idx += 1) {
+                final int replicaIndex = idx;
+                final Replica replica = this.replicaList.get(idx);
+                this.lagCheckExecutorService.scheduleWithFixedDelay(
+                    () -> this.checkReplicationLag(replicaIndex, replica),
+                    0,
+                    checkIntervalMillis,
+                    TimeUnit.MILLISECONDS);
+            }
+        } else {
+            this.lagCheckExecutorService = null;
+        }
+    }
+
+    /**
+     * Retrieves the primary data source.
+     *
+     * @return The primary data source
+     * @since 1.17.0
+     */
+    public DataSource getPrimaryDataSource() {
+
+        return this.primaryDataSource;
+    }
+
+    /**
+     * Retrieves the replica data sources.
+     *
+     * @return The replica data sources
+     * @since 1.17.0
+     */
+    public List<DataSource> getReplicaDataSourceList() {
+
+        return this.replicaDataSourceList;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+
+        if (DataSourceRoutingContext.current() == DataSourceRoute.REPLICA) {
+            final Connection connection = this.getReplicaConnection();
+            if (connection != null) {
+                return connection;
+            }
+        }
+
+        return this.primaryDataSource.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+
+        return this.primaryDataSource.getConnection(username, password);
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+
+        return this.primaryDataSource.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(final PrintWriter printWriter) throws SQLException {
+
+        this.primaryDataSource.setLogWriter(printWriter);
+    }
+
+    @Override
+    public void setLoginTimeout(final int seconds) throws SQLException {
+
+        this.primaryDataSource.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+
+        return this.primaryDataSource.getLoginTimeout();
+    }
+
+    @Override
+    public java.util.logging.Logger getParentLogger() throws SQLFeatureNotSupportedException {
+
+        return this.primaryDataSource.getParentLogger();
+    }
+
+    @Override
+    public <T> T unwrap(final Class<T> iface) throws SQLException {
+
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+
+        return this.primaryDataSource.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(final Class<?> iface) throws SQLException {
+
+        return iface.isInstance(this) || this.primaryDataSource.isWrapperFor(iface);
+    }
+
+    /**
+     * Stops the replication lag checks. Primary and replica data sources are not closed.
+     *
+     * @since 1.17.0
+     */
+    @Override
+    public void close() {
+
+        if (this.lagCheckExecutorService != null) {
+            this.lagCheckExecutorService.shutdownNow();
+        }
+    }
+
+    /**
+     * Retrieves a connection from one of the available replicas.
+     *
+     * @return A connection to a replica, or {@code null} if no replica is available
+     * @since 1.17.0
+     */
+    private Connection getReplicaConnection() {
+
+        final int replicaCount = this.replicaList.size();
+        final int offset = this.loadBalancingStrategy == LoadBalancingStrategy.ROUND_ROBIN
+            ? Math.floorMod(this.roundRobinCounter.getAndIncrement(), replicaCount)
+            : 0;
+
+        // Tries each available replica once, starting with the preferred one
+        final boolean[] alreadyTriedArray = new boolean[replicaCount];
+        for (int attempt = 0; attempt < replicaCount; attempt += 1) {
+            final int replicaIndex = this.selectReplicaIndex(offset, alreadyTriedArray);
+            if (replicaIndex < 0) {
+                break;
+            }
+
+            alreadyTriedArray[replicaIndex] = true;
+            final Replica replica = this.replicaList.get(replicaIndex);
+
+            try {
+                final Connection connection = replica.dataSource.getConnection();
+                if (this.loadBalancingStrategy == LoadBalancingStrategy.LEAST_ACTIVE) {
+                    return replica.trackConnection(connection);
+                }
+
+                return connection;
+            } catch (final SQLException exception) {
+                LOGGER.warn("Replica #{} of data source '{}' is unavailable", replicaIndex, this.name, exception);
+                replica.markUnavailable(this.routingSettings.unavailableReplicaRetryDelay());
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Selects the next replica to use.
+     *
+     * @param offset            The index of the replica to start with
+     * @param alreadyTriedArray Replicas which have already been tried
+     * @return The index of the selected replica, or -1 if no replica is available
+     * @since 1.17.0
+     */
+    private int selectReplicaIndex(final int offset, final boolean[] alreadyTriedArray) {
+
+        final int replicaCount = this.replicaList.size();
+
+        int selectedReplicaIndex = -1;
+        int selectedReplicaActiveCount = Integer.MAX_VALUE;
+        for (int idx = 0; idx < replicaCount; idx += 1) {
+            final int replicaIndex = (offset + idx) % replicaCount;
+            if (alreadyTriedArray[replicaIndex]) {
+                continue;
+            }
+
+            final Replica replica = this.replicaList.get(replicaIndex);
+            if (!replica.isAvailable() || replica.isLagging || replica.isLagCheckOverdue(this.lagCheckTimeoutNanos)) {
+                continue;
+            }
+
+            if (this.loadBalancingStrategy == LoadBalancingStrategy.ROUND_ROBIN) {
+                return replicaIndex;
+            }
+
+            final int activeCount = replica.activeConnectionCount.get();
+            if (activeCount < selectedReplicaActiveCount) {
+                selectedReplicaIndex = replicaIndex;
+                selectedReplicaActiveCount = activeCount;
+            }
+        }
+
+        return selectedReplicaIndex;
+    }
+
+    /**
+     * Queries the replication lag of the replica and updates its state. This method is
+     * periodically called by the background lag check task.
+     *
+     * @param replicaIndex The replica index
+     * @param replica      The replica
+     * @since 1.17.0
+     */
+    private void checkReplicationLag(final int replicaIndex, final Replica replica) {
+
+        replica.lagCheckStartNanoTime = System.nanoTime();
+        replica.isLagCheckRunning = true;
+
+        try (final Connection connection = replica.dataSource.getConnection();
+             final Statement statement = connection.createStatement()) {
+
+            statement.setQueryTimeout(this.computeLagCheckQueryTimeoutSeconds());
+            try (final ResultSet resultSet = statement.executeQuery(this.routingSettings.replicationLagQuery())) {
+                final long replicationLagMillis = resultSet.next() ? resultSet.getLong(1) : 0;
+                replica.isLagging = replicationLagMillis > this.routingSettings.maxReplicationLag().toMillis();
+                if (replica.isLagging) {
+                    LOGGER.warn("Replica #{} of data source '{}' lags {}ms behind the primary", replicaIndex, this.name, replicationLagMillis);
+                }
+            }
+        } catch (final SQLException | RuntimeException exception) {
+            LOGGER.warn("Can't retrieve replication lag of replica #{} of data source '{}'", replicaIndex, this.name, exception);
+            replica.isLagging = true;
+        } finally {
+            replica.isLagCheckRunning = false;
+        }
+    }
+
+    /**
+     * Computes the replication lag query timeout, derived from the check interval.
+     *
+     * @return The query timeout in seconds (at least 1 second)
+     * @since 1.17.0
+     */
+    private int computeLagCheckQueryTimeoutSeconds() {
+
+        final long checkIntervalMillis = this.routingSettings.replicationLagCheckInterval().toMillis();
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(1, (checkIntervalMillis + 999) / 1000));
+    }
+
+    /**
+     * Routing settings.
+     *
+     * @param replicationLagQuery          The SQL query returning the replication lag (in milliseconds), empty to disable the check
+     * @param maxReplicationLag            The maximum allowed replication lag
+     * @param replicationLagCheckInterval  The interval between two replication lag checks
+     * @param unavailableReplicaRetryDelay The time to wait before using again a replica which failed to serve a connection
+     * @since 1.17.0
+     */
+    public record RoutingSettings(String replicationLagQuery,
+                                  Duration maxReplicationLag,
+                                  Duration replicationLagCheckInterval,
+                                  Duration unavailableReplicaRetryDelay) {
+
+        /**
+         * Checks whether the replication lag must be checked.
+         *
+         * @return {@code true} if the replication lag must be checked, otherwise {@code false}
+         * @since 1.17.0
+         */
+        public boolean isReplicationLagCheckEnabled() {
+
+            return this.replicationLagQuery != null
+                && !this.replicationLagQuery.isBlank()
+                && this.maxReplicationLag.toMillis() > 0;
+        }
+    }
+
+    /**
+     * A replica and its state.
+     *
+     * @since 1.17.0
+     */
+    private static final class Replica {
+
+        private final DataSource dataSource;
+        private final AtomicInteger activeConnectionCount;
+        private volatile long unavailableUntilNanoTime;
+        private volatile boolean isUnavailable;
+        private volatile boolean isLagging;
+        private volatile long lagCheckStartNanoTime;
+        private volatile boolean isLagCheckRunning;
+
+        /**
+         * Build a new instance.
+         *
+         * @param dataSource The replica data source
+         * @param isLagging  The initial replication lag state
+         * @since 1.17.0
+         */
+        private Replica(final DataSource dataSource, final boolean isLagging) {
+
+            this.dataSource = dataSource;
+            this.activeConnectionCount = new AtomicInteger();
+            this.isLagging = isLagging;
+        }
+
+        /**
+         * Checks whether the replica can be used.
+         *
+         * @return {@code true} if the replica can be used, otherwise {@code false}
+         * @since 1.17.0
+         */
+        private boolean isAvailable() {
+
+            if (this.isUnavailable && System.nanoTime() - this.unavailableUntilNanoTime >= 0) {
+                this.isUnavailable = false;
+            }
+
+            return !this.isUnavailable;
+        }
+
+        /**
+         * Checks whether the running replication lag check has exceeded the given timeout.
+         *
+         * @param timeoutNanos The timeout in nanoseconds
+         * @return {@code true} if the check is still running after the timeout, otherwise {@code false}
+         * @since 1.17.0
+         */
+        private boolean isLagCheckOverdue(final long timeoutNanos) {
+
+            return this.isLagCheckRunning && System.nanoTime() - this.lagCheckStartNanoTime > timeoutNanos;
+        }
+
+        /**
+         * Marks the replica as unavailable.
+         *
+         * @param retryDelay The time to wait before using again the replica
+         * @since 1.17.0
+         */
+        private void markUnavailable(final Duration retryDelay) {
+
+            this.unavailableUntilNanoTime = System.nanoTime() + retryDelay.toNanos();
+            this.isUnavailable = true;
+        }
+
+        /**
+         * Counts the connection as active until it is closed.
+         *
+         * @param connection The connection served by the replica
+         * @return The tracked connection
+         * @since 1.17.0
+         */
+        private Connection trackConnection(final Connection connection) {
+
+            this.activeConnectionCount.incrementAndGet();
+            final AtomicBoolean isClosed = new AtomicBoolean();
+
+            return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "close":
+                            if (isClosed.compareAndSet(false, true)) {
+                                this.activeConnectionCount.decrementAndGet();
+                            }
+                            break;
+                        default:
+                            break;
+                    }
+
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (final InvocationTargetException exception) {
+                        throw exception.getCause();
+                    }
+                });
+        }
+    }
+
+    /**
+     * Replication lag check thread factory. Threads are daemon to not prevent the
+     * application to exit.
+     *
+     * @since 1.17.0
+     */
+    private static final class LagCheckThreadFactory implements ThreadFactory {
+
+        private final String dataSourceName;
+        private final AtomicInteger threadCounter;
+
+        /**
+         * Build a new instance.
+         *
+         * @param dataSourceName The data source name
+         * @since 1.17.0
+         */
+        private LagCheckThreadFactory(final String dataSourceName) {
+
+            this.dataSourceName = dataSourceName;
+            this.threadCounter = new AtomicInteger();
+        }
+
+        @Override
+        @SuppressWarnings("NullableProblems")
+        public Thread newThread(final Runnable runnable) {
+
+            final Thread thread = new Thread(runnable, "RoutingDataSource-" + this.dataSourceName + "-LagCheck-" + this.threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package dev.voidframework.healthcheck;
+
+/**
+ * Groups of health checkers.
+ *
+ * @since 1.17.0
+ */
+public enum HealthCheckGroup {
+
+    /**
+     * Checks indicating whether the application is running properly. A failure
+     * means the application must be restarted.
+     *
+     * @since 1.17.0
+     */
+    LIVENESS,
+
+    /**
+     * Checks indicating whether the application is able to serve requests,
+     * usually by checking the external dependencies.
+     *
+     * @since 1.17.0
+     */
+    READINESS
+}
@@ -2,19 +2,40 @@ package dev.voidframework.healthcheck;
 
 import com.google.inject.Inject;
 import com.google.inject.Injector;
+import com.typesafe.config.Config;
+import dev.voidframework.core.utils.ConfigurationUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Health check manager takes care of executing the various hooks defined by the
  * use of the {@link dev.voidframework.healthcheck.HealthChecker} annotation.
+ * Health checkers are executed in parallel on a bounded pool, each one being bounded
+ * by a timeout. A health checker which is still running from a previous report is not
+ * executed again, the new report waits for the pending execution instead. The resulting
+ * report is kept for a configurable time to live: once expired, the last report is still
+ * served while a new one is computed in the background.
  *
  * @since 1.0.0
  */
@@ -23,8 +44,23 @@ public final class HealthCheckManager {
     private static final Logger LOGGER = LoggerFactory.getLogger(HealthCheckManager.class);
     private static final Comparator<Class<? extends HealthChecker>> HEALTHCHECKER_COMPARATOR = Comparator.comparing(Class::getName);
 
+    private static final String CONFIGURATION_KEY_TIMEOUT = "voidframework.healthcheck.timeout";
+    private static final String CONFIGURATION_KEY_CACHE_TIME_TO_LIVE = "voidframework.healthcheck.cacheTimeToLive";
+    private static final String CONFIGURATION_KEY_MAX_THREADS = "voidframework.healthcheck.maxThreads";
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration DEFAULT_CACHE_TIME_TO_LIVE = Duration.ofSeconds(1);
+    private static final int DEFAULT_MAX_THREADS = 4;
+
     private final List<Class<? extends HealthChecker>> healthCheckerList;
+    private final AtomicReference<CompletableFuture<HealthReport>> refreshInProgress;
+    private final ExecutorService refreshExecutorService;
+    private final ThreadPoolExecutor healthCheckerExecutorService;
+    private final Map<HealthChecker, CompletableFuture<Health>> pendingHealthCheckPerHealthCheckerMap;
     private Injector injector;
+    private Duration timeout;
+    private Duration cacheTimeToLive;
+    private volatile List<HealthChecker> resolvedHealthCheckerList;
+    private volatile HealthReport latestHealthReport;
 
     /**
      * Build a new instance.
@@ -34,6 +70,19 @@ public final class HealthCheckManager {
     public HealthCheckManager() {
 
         this.healthCheckerList = new ArrayList<>();
+        this.refreshInProgress = new AtomicReference<>();
+        this.refreshExecutorService = Executors.newSingleThreadExecutor(new HealthCheckThreadFactory());
+        this.healthCheckerExecutorService = new ThreadPoolExecutor(
+            DEFAULT_MAX_THREADS,
+            DEFAULT_MAX_THREADS,
+            60,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new HealthCheckThreadFactory());
+        this.healthCheckerExecutorService.allowCoreThreadTimeOut(true);
+        this.pendingHealthCheckPerHealthCheckerMap = new ConcurrentHashMap<>();
+        this.timeout = DEFAULT_TIMEOUT;
+        this.cacheTimeToLive = DEFAULT_CACHE_TIME_TO_LIVE;
     }
 
     /**
@@ -48,16 +97,41 @@ public final class HealthCheckManager {
         this.injector = injector;
     }
 
+    /**
+     * Sets the application configuration.
+     *
+     * @param configuration The application configuration
+     * @since 1.17.0
+     */
+    @Inject(optional = true)
+    public void setConfiguration(final Config configuration) {
+
+        this.timeout = ConfigurationUtils.getDurationOrDefault(configuration, CONFIGURATION_KEY_TIMEOUT, DEFAULT_TIMEOUT);
+        this.cacheTimeToLive = ConfigurationUtils.getDurationOrDefault(
+            configuration, CONFIGURATION_KEY_CACHE_TIME_TO_LIVE, DEFAULT_CACHE_TIME_TO_LIVE);
+
+        final int maxThreads = Math.max(1, ConfigurationUtils.getIntOrDefault(configuration, CONFIGURATION_KEY_MAX_THREADS, DEFAULT_MAX_THREADS));
+        if (maxThreads > this.healthCheckerExecutorService.getMaximumPoolSize()) {
+            this.healthCheckerExecutorService.setMaximumPoolSize(maxThreads);
+            this.healthCheckerExecutorService.setCorePoolSize(maxThreads);
+        } else {
+            this.healthCheckerExecutorService.setCorePoolSize(maxThreads);
+            this.healthCheckerExecutorService.setMaximumPoolSize(maxThreads);
+        }
+    }
+
     /**
      * Registers a new health checker.
      *
      * @param healthCheckerClassType The health checker to register
      * @since 1.0.0
      */
-    public void registerHealthCheck(final Class<? extends HealthChecker> healthCheckerClassType) {
+    public synchronized void registerHealthCheck(final Class<? extends HealthChecker> healthCheckerClassType) {
 
         LOGGER.debug("Register HealthCheck {}", healthCheckerClassType.getSimpleName());
         this.healthCheckerList.add(healthCheckerClassType);
+        this.resolvedHealthCheckerList = null;
+        this.latestHealthReport = null;
     }
 
     /**
@@ -68,21 +142,163 @@ public final class HealthCheckManager {
      */
     public Map<String, Health> checkHealth() {
 
-        final Map<String, Health> healthPerNameMap = new HashMap<>();
+        return this.getHealthReport().getHealthPerNameMap();
+    }
+
+    /**
+     * Checks the health status of the components belonging to a specific group.
+     *
+     * @param healthCheckGroup The health check group
+     * @return The health status report
+     * @since 1.17.0
+     */
+    public Map<String, Health> checkHealth(final HealthCheckGroup healthCheckGroup) {
+
+        return this.getHealthReport().getHealthPerNameMap(healthCheckGroup);
+    }
+
+    /**
+     * Retrieves the health report. The last report is returned as long as it is not expired. An
+     * expired report is still returned while a new one is computed in the background.
+     *
+     * @return The health report
+     * @since 1.17.0
+     */
+    public HealthReport getHealthReport() {
+
+        final HealthReport healthReport = this.latestHealthReport;
+        if (healthReport == null || this.cacheTimeToLive.isZero()) {
+            return this.refreshHealthReport().join();
+        } else if (healthReport.isExpired(this.cacheTimeToLive)) {
+            this.refreshHealthReport();
+        }
+
+        return healthReport;
+    }
+
+    /**
+     * Computes a new health report, unless a computation is already in progress.
+     *
+     * @return A future completed with the new health report
+     * @since 1.17.0
+     */
+    private CompletableFuture<HealthReport> refreshHealthReport() {
+
+        final CompletableFuture<HealthReport> newRefresh = new CompletableFuture<>();
+        while (true) {
+            final CompletableFuture<HealthReport> currentRefresh = this.refreshInProgress.get();
+            if (currentRefresh != null) {
+                return currentRefresh;
+            } else if (this.refreshInProgress.compareAndSet(null, newRefresh)) {
+                break;
+            }
+        }
+
+        this.refreshExecutorService.execute(() -> {
+            try {
+                final HealthReport healthReport = this.computeHealthReport();
+                this.latestHealthReport = healthReport;
+                newRefresh.complete(healthReport);
+            } catch (final Throwable throwable) {
+                newRefresh.completeExceptionally(throwable);
+            } finally {
+                this.refreshInProgress.set(null);
+            }
+        });
+
+        return newRefresh;
+    }
 
-        this.healthCheckerList.stream().sorted(HEALTHCHECKER_COMPARATOR).forEach(healthCheckerClassType -> {
-            final HealthChecker healthChecker = this.injector.getInstance(healthCheckerClassType);
+    /**
+     * Executes all health checkers in parallel.
+     *
+     * @return The health report
+     * @since 1.17.0
+     */
+    private HealthReport computeHealthReport() {
+
+        final List<HealthChecker> healthCheckerToExecuteList = this.resolveHealthCheckers();
+
+        final List<CompletableFuture<Health>> futureList = new ArrayList<>(healthCheckerToExecuteList.size());
+        for (final HealthChecker healthChecker : healthCheckerToExecuteList) {
+            futureList.add(this.pendingHealthCheckPerHealthCheckerMap.compute(healthChecker, (key, pendingFuture) ->
+                pendingFuture != null && !pendingFuture.isDone()
+                    ? pendingFuture
+                    : CompletableFuture.supplyAsync(healthChecker::checkHealth, this.healthCheckerExecutorService)));
+        }
+
+        final Map<String, Health> healthPerNameMap = new LinkedHashMap<>();
+        final Map<String, HealthCheckGroup> healthCheckGroupPerNameMap = new HashMap<>();
+        final long deadlineNanoTime = System.nanoTime() + this.timeout.toNanos();
+        for (int idx = 0; idx < healthCheckerToExecuteList.size(); idx += 1) {
+            final HealthChecker healthChecker = healthCheckerToExecuteList.get(idx);
+            final CompletableFuture<Health> future = futureList.get(idx);
 
             Health health;
             try {
-                health = healthChecker.checkHealth();
-            } catch (final Exception ignore) {
+                health = future.get(Math.max(0, deadlineNanoTime - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (final TimeoutException ignore) {
+                // Execution keeps running, it will be awaited again by the next report
+                LOGGER.warn("HealthCheck {} did not complete within {}ms", healthChecker.getName(), this.timeout.toMillis());
+                health = new Health(Health.Status.DOWN, Collections.singletonMap("timeout", true));
+            } catch (final InterruptedException ignore) {
+                Thread.currentThread().interrupt();
+                health = new Health(Health.Status.DOWN, Collections.emptyMap());
+            } catch (final ExecutionException ignore) {
                 health = new Health(Health.Status.DOWN, Collections.emptyMap());
             }
 
             healthPerNameMap.put(healthChecker.getName(), health);
-        });
+            healthCheckGroupPerNameMap.put(healthChecker.getName(), healthChecker.getGroup());
+        }
+
+        return new HealthReport(healthPerNameMap, healthCheckGroupPerNameMap);
+    }
+
+    /**
+     * Retrieves the instances of all registered health checkers. Instances are
+     * only retrieved from the injector once.
+     *
+     * @return The health checkers, sorted by class name
+     * @since 1.17.0
+     */
+    private List<HealthChecker> resolveHealthCheckers() {
+
+        List<HealthChecker> healthCheckerInstanceList = this.resolvedHealthCheckerList;
+        if (healthCheckerInstanceList == null) {
+            synchronized (this) {
+                healthCheckerInstanceList = this.resolvedHealthCheckerList;
+                if (healthCheckerInstanceList == null) {
+                    healthCheckerInstanceList = this.healthCheckerList.stream()
+                        .sorted(HEALTHCHECKER_COMPARATOR)
+                        .map(healthCheckerClassType -> (HealthChecker) this.injector.getInstance(healthCheckerClassType))
+                        .toList();
+                    this.resolvedHealthCheckerList = healthCheckerInstanceList;
+                }
+            }
+        }
+
+        return healthCheckerInstanceList;
+    }
+
+    /**
+     * Health check thread factory. Threads are daemon to not prevent the application
+     * to exit while a health checker is still running.
+     *
+     * @since 1.17.0
+     */
+    private static final class HealthCheckThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        @Override
+        @SuppressWarnings("NullableProblems")
+        public Thread newThread(final Runnable runnable) {
+
+            final Thread thread = new Thread(runnable, "HealthCheck-" + this.threadNumber.getAndIncrement());
+            thread.setDaemon(true);
 
-        return healthPerNameMap;
+            return thread;
+        }
     }
 }
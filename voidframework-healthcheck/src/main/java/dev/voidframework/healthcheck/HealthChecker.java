@@ -22,4 +22,15 @@ public interface HealthChecker {
      * @since 1.0.0
      */
     Health checkHealth();
+
+    /**
+     * Group to which the health check belongs.
+     *
+     * @return The health check group
+     * @since 1.17.0
+     */
+    default HealthCheckGroup getGroup() {
+
+        return HealthCheckGroup.READINESS;
+    }
 }
@@ -0,0 +1,243 @@
+package dev.voidframework.healthcheck;
+
+import dev.voidframework.core.utils.JsonUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Result of the execution of all health checkers. The JSON and text representations are
+ * computed once, when the report is created, to be served as-is.
+ *
+ * @since 1.17.0
+ */
+public final class HealthReport {
+
+    private final Map<String, Health> healthPerNameMap;
+    private final byte[] json;
+    private final Map<HealthCheckGroup, Map<String, Health>> healthPerNamePerGroupMap;
+    private final Map<HealthCheckGroup, byte[]> jsonPerGroupMap;
+    private final byte[] text;
+    private final long creationNanoTime;
+
+    /**
+     * Build a new instance.
+     *
+     * @param healthPerNameMap           The health status per health check name
+     * @param healthCheckGroupPerNameMap The group per health check name
+     * @since 1.17.0
+     */
+    HealthReport(final Map<String, Health> healthPerNameMap, final Map<String, HealthCheckGroup> healthCheckGroupPerNameMap) {
+
+        this.healthPerNameMap = Collections.unmodifiableMap(healthPerNameMap);
+        this.json = toJsonByteArray(this.healthPerNameMap);
+
+        this.healthPerNamePerGroupMap = new EnumMap<>(HealthCheckGroup.class);
+        this.jsonPerGroupMap = new EnumMap<>(HealthCheckGroup.class);
+        for (final HealthCheckGroup healthCheckGroup : HealthCheckGroup.values()) {
+            final Map<String, Health> groupHealthPerNameMap = new LinkedHashMap<>();
+            healthPerNameMap.forEach((name, health) -> {
+                if (healthCheckGroupPerNameMap.get(name) == healthCheckGroup) {
+                    groupHealthPerNameMap.put(name, health);
+                }
+            });
+
+            this.healthPerNamePerGroupMap.put(healthCheckGroup, Collections.unmodifiableMap(groupHealthPerNameMap));
+            this.jsonPerGroupMap.put(healthCheckGroup, toJsonByteArray(groupHealthPerNameMap));
+        }
+
+        this.text = toTextByteArray(this.healthPerNameMap);
+        this.creationNanoTime = System.nanoTime();
+    }
+
+    /**
+     * Retrieves the health status of all health checks.
+     *
+     * @return The health status per health check name
+     * @since 1.17.0
+     */
+    public Map<String, Health> getHealthPerNameMap() {
+
+        return this.healthPerNameMap;
+    }
+
+    /**
+     * Retrieves the health status of the health checks belonging to a specific group.
+     *
+     * @param healthCheckGroup The health check group
+     * @return The health status per health check name
+     * @since 1.17.0
+     */
+    public Map<String, Health> getHealthPerNameMap(final HealthCheckGroup healthCheckGroup) {
+
+        return this.healthPerNamePerGroupMap.get(healthCheckGroup);
+    }
+
+    /**
+     * Checks whether all health checks are up.
+     *
+     * @return {@code true} if all health checks are up, otherwise {@code false}
+     * @since 1.17.0
+     */
+    public boolean isUp() {
+
+        return isUp(this.healthPerNameMap);
+    }
+
+    /**
+     * Checks whether all health checks belonging to a specific group are up.
+     *
+     * @param healthCheckGroup The health check group
+     * @return {@code true} if all health checks of the group are up, otherwise {@code false}
+     * @since 1.17.0
+     */
+    public boolean isUp(final HealthCheckGroup healthCheckGroup) {
+
+        return isUp(this.healthPerNamePerGroupMap.get(healthCheckGroup));
+    }
+
+    /**
+     * Retrieves the JSON representation of all health checks.
+     *
+     * @return The JSON representation, encoded in UTF-8
+     * @since 1.17.0
+     */
+    public byte[] toJson() {
+
+        return this.json;
+    }
+
+    /**
+     * Retrieves the JSON representation of the health checks belonging to a specific group.
+     *
+     * @param healthCheckGroup The health check group
+     * @return The JSON representation, encoded in UTF-8
+     * @since 1.17.0
+     */
+    public byte[] toJson(final HealthCheckGroup healthCheckGroup) {
+
+        return this.jsonPerGroupMap.get(healthCheckGroup);
+    }
+
+    /**
+     * Retrieves the text representation of all health checks, in the Prometheus exposition
+     * format. The status of each health check is exposed as {@code voidframework_health_status}
+     * and each numeric or boolean detail as {@code voidframework_health_detail}, nested details
+     * names being joined with a dot.
+     *
+     * @return The text representation, encoded in UTF-8
+     * @since 1.17.0
+     */
+    public byte[] toText() {
+
+        return this.text;
+    }
+
+    /**
+     * Checks whether the report is older than the given time to live.
+     *
+     * @param timeToLive The time to live
+     * @return {@code true} if the report is expired, otherwise {@code false}
+     * @since 1.17.0
+     */
+    boolean isExpired(final Duration timeToLive) {
+
+        return System.nanoTime() - this.creationNanoTime >= timeToLive.toNanos();
+    }
+
+    /**
+     * Checks whether all health status are up.
+     *
+     * @param healthPerNameMap The health status per health check name
+     * @return {@code true} if all health status are up, otherwise {@code false}
+     * @since 1.17.0
+     */
+    private static boolean isUp(final Map<String, Health> healthPerNameMap) {
+
+        return healthPerNameMap.values().stream().allMatch(health -> health.status() == Health.Status.UP);
+    }
+
+    /**
+     * Serializes health status to JSON.
+     *
+     * @param healthPerNameMap The health status per health check name
+     * @return The JSON representation, encoded in UTF-8
+     * @since 1.17.0
+     */
+    private static byte[] toJsonByteArray(final Map<String, Health> healthPerNameMap) {
+
+        return JsonUtils.toString(healthPerNameMap).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Serializes health status to the Prometheus exposition format.
+     *
+     * @param healthPerNameMap The health status per health check name
+     * @return The text representation, encoded in UTF-8
+     * @since 1.17.0
+     */
+    private static byte[] toTextByteArray(final Map<String, Health> healthPerNameMap) {
+
+        final StringBuilder statusStringBuilder = new StringBuilder("# TYPE voidframework_health_status gauge\n");
+        final StringBuilder detailStringBuilder = new StringBuilder("# TYPE voidframework_health_detail gauge\n");
+        healthPerNameMap.forEach((name, health) -> {
+            statusStringBuilder.append("voidframework_health_status{check=\"")
+                .append(escapeLabelValue(name))
+                .append("\"} ")
+                .append(health.status() == Health.Status.UP ? 1 : 0)
+                .append('\n');
+
+            if (health.details() != null) {
+                appendDetails(detailStringBuilder, name, null, health.details());
+            }
+        });
+
+        return statusStringBuilder.append(detailStringBuilder).toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Appends numeric and boolean details, walking through nested details.
+     *
+     * @param stringBuilder The string builder to append to
+     * @param checkName     The health check name
+     * @param prefix        The name of the parent detail, or {@code null}
+     * @param detailsMap    The details to append
+     * @since 1.17.0
+     */
+    private static void appendDetails(final StringBuilder stringBuilder,
+                                      final String checkName,
+                                      final String prefix,
+                                      final Map<?, ?> detailsMap) {
+
+        detailsMap.forEach((key, value) -> {
+            final String detailName = prefix == null ? String.valueOf(key) : prefix + '.' + key;
+            if (value instanceof final Map<?, ?> nestedDetailsMap) {
+                appendDetails(stringBuilder, checkName, detailName, nestedDetailsMap);
+            } else if (value instanceof Number || value instanceof Boolean) {
+                stringBuilder.append("voidframework_health_detail{check=\"")
+                    .append(escapeLabelValue(checkName))
+                    .append("\",name=\"")
+                    .append(escapeLabelValue(detailName))
+                    .append("\"} ")
+                    .append(value instanceof final Boolean booleanValue ? (booleanValue ? 1 : 0) : value)
+                    .append('\n');
+            }
+        });
+    }
+
+    /**
+     * Escapes a label value.
+     *
+     * @param labelValue The label value to escape
+     * @return The escaped label value
+     * @since 1.17.0
+     */
+    private static String escapeLabelValue(final String labelValue) {
+
+        return labelValue.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -2,6 +2,7 @@ package dev.voidframework.healthcheck.checker;
 
 import com.google.inject.Singleton;
 import dev.voidframework.healthcheck.Health;
+import dev.voidframework.healthcheck.HealthCheckGroup;
 import dev.voidframework.healthcheck.HealthChecker;
 
 import java.util.LinkedHashMap;
@@ -21,6 +22,12 @@ public class JavaVirtualMachineHealthChecker implements HealthChecker {
         return "JVM";
     }
 
+    @Override
+    public HealthCheckGroup getGroup() {
+
+        return HealthCheckGroup.LIVENESS;
+    }
+
     @Override
     public Health checkHealth() {
 
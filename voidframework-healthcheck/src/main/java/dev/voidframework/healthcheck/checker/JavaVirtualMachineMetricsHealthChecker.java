@@ -0,0 +1,131 @@
+package dev.voidframework.healthcheck.checker;
+
+import com.google.inject.Singleton;
+import dev.voidframework.healthcheck.Health;
+import dev.voidframework.healthcheck.HealthCheckGroup;
+import dev.voidframework.healthcheck.HealthChecker;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryUsage;
+import java.lang.management.ThreadMXBean;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Java Virtual Machine metrics health checker. Reports garbage collectors activity, memory
+ * and buffer pools usage, threads and loaded classes, as exposed by the platform MXBeans.
+ *
+ * @since 1.17.0
+ */
+@Singleton
+public class JavaVirtualMachineMetricsHealthChecker implements HealthChecker {
+
+    private final MemoryMXBean memoryMXBean;
+    private final ThreadMXBean threadMXBean;
+    private final ClassLoadingMXBean classLoadingMXBean;
+    private final List<GarbageCollectorMXBean> garbageCollectorMXBeanList;
+    private final List<MemoryPoolMXBean> memoryPoolMXBeanList;
+    private final List<BufferPoolMXBean> bufferPoolMXBeanList;
+
+    /**
+     * Build a new instance.
+     *
+     * @since 1.17.0
+     */
+    public JavaVirtualMachineMetricsHealthChecker() {
+
+        this.memoryMXBean = ManagementFactory.getMemoryMXBean();
+        this.threadMXBean = ManagementFactory.getThreadMXBean();
+        this.classLoadingMXBean = ManagementFactory.getClassLoadingMXBean();
+        this.garbageCollectorMXBeanList = ManagementFactory.getGarbageCollectorMXBeans();
+        this.memoryPoolMXBeanList = ManagementFactory.getMemoryPoolMXBeans();
+        this.bufferPoolMXBeanList = ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class);
+    }
+
+    @Override
+    public String getName() {
+
+        return "JVM_METRICS";
+    }
+
+    @Override
+    public HealthCheckGroup getGroup() {
+
+        return HealthCheckGroup.LIVENESS;
+    }
+
+    @Override
+    public Health checkHealth() {
+
+        final Map<String, Object> detailsMap = new LinkedHashMap<>();
+
+        detailsMap.put("uptime", ManagementFactory.getRuntimeMXBean().getUptime());
+        detailsMap.put("heap", toMap(this.memoryMXBean.getHeapMemoryUsage()));
+        detailsMap.put("nonHeap", toMap(this.memoryMXBean.getNonHeapMemoryUsage()));
+
+        final Map<String, Object> memoryPoolMap = new LinkedHashMap<>();
+        for (final MemoryPoolMXBean memoryPoolMXBean : this.memoryPoolMXBeanList) {
+            final MemoryUsage memoryUsage = memoryPoolMXBean.getUsage();
+            if (memoryPoolMXBean.isValid() && memoryUsage != null) {
+                memoryPoolMap.put(memoryPoolMXBean.getName(), toMap(memoryUsage));
+            }
+        }
+        detailsMap.put("memoryPools", memoryPoolMap);
+
+        final Map<String, Object> garbageCollectorMap = new LinkedHashMap<>();
+        for (final GarbageCollectorMXBean garbageCollectorMXBean : this.garbageCollectorMXBeanList) {
+            final Map<String, Object> collectorMap = new LinkedHashMap<>();
+            collectorMap.put("count", garbageCollectorMXBean.getCollectionCount());
+            collectorMap.put("time", garbageCollectorMXBean.getCollectionTime());
+            garbageCollectorMap.put(garbageCollectorMXBean.getName(), collectorMap);
+        }
+        detailsMap.put("garbageCollectors", garbageCollectorMap);
+
+        final Map<String, Object> bufferPoolMap = new LinkedHashMap<>();
+        for (final BufferPoolMXBean bufferPoolMXBean : this.bufferPoolMXBeanList) {
+            final Map<String, Object> poolMap = new LinkedHashMap<>();
+            poolMap.put("count", bufferPoolMXBean.getCount());
+            poolMap.put("used", bufferPoolMXBean.getMemoryUsed());
+            poolMap.put("capacity", bufferPoolMXBean.getTotalCapacity());
+            bufferPoolMap.put(bufferPoolMXBean.getName(), poolMap);
+        }
+        detailsMap.put("bufferPools", bufferPoolMap);
+
+        final Map<String, Object> threadMap = new LinkedHashMap<>();
+        threadMap.put("live", this.threadMXBean.getThreadCount());
+        threadMap.put("daemon", this.threadMXBean.getDaemonThreadCount());
+        threadMap.put("peak", this.threadMXBean.getPeakThreadCount());
+        threadMap.put("totalStarted", this.threadMXBean.getTotalStartedThreadCount());
+        detailsMap.put("threads", threadMap);
+
+        final Map<String, Object> classMap = new LinkedHashMap<>();
+        classMap.put("loaded", this.classLoadingMXBean.getLoadedClassCount());
+        classMap.put("unloaded", this.classLoadingMXBean.getUnloadedClassCount());
+        detailsMap.put("classes", classMap);
+
+        return new Health(Health.Status.UP, detailsMap);
+    }
+
+    /**
+     * Converts a memory usage to a map.
+     *
+     * @param memoryUsage The memory usage
+     * @return The memory usage as map
+     * @since 1.17.0
+     */
+    private static Map<String, Object> toMap(final MemoryUsage memoryUsage) {
+
+        final Map<String, Object> memoryUsageMap = new LinkedHashMap<>();
+        memoryUsageMap.put("used", memoryUsage.getUsed());
+        memoryUsageMap.put("committed", memoryUsage.getCommitted());
+        memoryUsageMap.put("max", memoryUsage.getMax());
+
+        return memoryUsageMap;
+    }
+}
@@ -4,6 +4,8 @@ import com.google.inject.AbstractModule;
 import com.google.inject.Guice;
 import com.google.inject.Injector;
 import com.google.inject.Stage;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
 import dev.voidframework.core.utils.ReflectionUtils;
 import dev.voidframework.healthcheck.checker.JavaVirtualMachineHealthChecker;
 import dev.voidframework.healthcheck.module.HealthCheckModule;
@@ -14,15 +16,123 @@ import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestMethodOrder;
 
 import java.util.Arrays;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @TestMethodOrder(MethodOrderer.MethodName.class)
 final class HealthCheckTest {
 
+    @Test
+    void checkHealthCached() throws InterruptedException {
+
+        // Arrange
+        final Injector injector = createInjector("voidframework.healthcheck.cacheTimeToLive = 500 milliseconds", CountingChecker.class);
+        final HealthCheckManager healthCheckManager = injector.getInstance(HealthCheckManager.class);
+        final CountingChecker countingChecker = injector.getInstance(CountingChecker.class);
+
+        // Act
+        final HealthReport firstHealthReport = healthCheckManager.getHealthReport();
+        final HealthReport secondHealthReport = healthCheckManager.getHealthReport();
+        Thread.sleep(600);
+        final HealthReport staleHealthReport = healthCheckManager.getHealthReport();
+        Thread.sleep(200);
+        final HealthReport refreshedHealthReport = healthCheckManager.getHealthReport();
+
+        // Assert
+        Assertions.assertSame(firstHealthReport, secondHealthReport);
+        Assertions.assertSame(firstHealthReport, staleHealthReport);
+        Assertions.assertNotSame(firstHealthReport, refreshedHealthReport);
+        Assertions.assertEquals(2, countingChecker.counter.get());
+    }
+
+    @Test
+    void checkHealthGroup() {
+
+        // Arrange
+        final Injector injector = createInjector("", JavaVirtualMachineHealthChecker.class, DummyChecker.class);
+        final HealthCheckManager healthCheckManager = injector.getInstance(HealthCheckManager.class);
+
+        // Act
+        final Map<String, Health> livenessHealthPerNameMap = healthCheckManager.checkHealth(HealthCheckGroup.LIVENESS);
+        final Map<String, Health> readinessHealthPerNameMap = healthCheckManager.checkHealth(HealthCheckGroup.READINESS);
+
+        // Assert
+        Assertions.assertEquals(List.of("JVM"), List.copyOf(livenessHealthPerNameMap.keySet()));
+        Assertions.assertEquals(List.of("DUMMY_CHECKER"), List.copyOf(readinessHealthPerNameMap.keySet()));
+        Assertions.assertTrue(healthCheckManager.getHealthReport().isUp(HealthCheckGroup.LIVENESS));
+    }
+
+    @Test
+    void checkHealthTimeout() {
+
+        // Arrange
+        final Injector injector = createInjector("voidframework.healthcheck.timeout = 100 milliseconds", SlowChecker.class, DummyChecker.class);
+        final HealthCheckManager healthCheckManager = injector.getInstance(HealthCheckManager.class);
+
+        // Act
+        final long startTimeMillis = System.currentTimeMillis();
+        final HealthReport healthReport = healthCheckManager.getHealthReport();
+        final long elapsedTimeMillis = System.currentTimeMillis() - startTimeMillis;
+
+        // Assert
+        Assertions.assertTrue(elapsedTimeMillis < 2000);
+        Assertions.assertEquals(Health.Status.DOWN, healthReport.getHealthPerNameMap().get("SLOW_CHECKER").status());
+        Assertions.assertEquals(Boolean.TRUE, healthReport.getHealthPerNameMap().get("SLOW_CHECKER").details().get("timeout"));
+        Assertions.assertEquals(Health.Status.UP, healthReport.getHealthPerNameMap().get("DUMMY_CHECKER").status());
+        Assertions.assertFalse(healthReport.isUp());
+        Assertions.assertTrue(new String(healthReport.toJson()).contains("SLOW_CHECKER"));
+    }
+
+    @Test
+    void checkHealthTimeoutNotResubmitted() {
+
+        // Arrange
+        final Injector injector = createInjector("""
+            voidframework.healthcheck.timeout = 50 milliseconds
+            voidframework.healthcheck.cacheTimeToLive = 0
+            """, SlowChecker.class);
+        final HealthCheckManager healthCheckManager = injector.getInstance(HealthCheckManager.class);
+        final SlowChecker slowChecker = injector.getInstance(SlowChecker.class);
+
+        // Act
+        final HealthReport firstHealthReport = healthCheckManager.getHealthReport();
+        final HealthReport secondHealthReport = healthCheckManager.getHealthReport();
+
+        // Assert
+        Assertions.assertEquals(Health.Status.DOWN, firstHealthReport.getHealthPerNameMap().get("SLOW_CHECKER").status());
+        Assertions.assertEquals(Health.Status.DOWN, secondHealthReport.getHealthPerNameMap().get("SLOW_CHECKER").status());
+        Assertions.assertEquals(1, slowChecker.counter.get());
+    }
+
+    @Test
+    void healthReportText() {
+
+        // Arrange
+        final Map<String, Health> healthPerNameMap = new LinkedHashMap<>();
+        healthPerNameMap.put("DUMMY_CHECKER", new Health(Health.Status.UP, Map.of("latency", 12)));
+        healthPerNameMap.put("NESTED \"CHECKER\"", new Health(Health.Status.DOWN, Map.of("pool", Map.of("saturated", true, "name", "main"))));
+        final HealthReport healthReport = new HealthReport(healthPerNameMap, Map.of());
+
+        // Act
+        final String text = new String(healthReport.toText(), StandardCharsets.UTF_8);
+
+        // Assert
+        Assertions.assertEquals("""
+            # TYPE voidframework_health_status gauge
+            voidframework_health_status{check="DUMMY_CHECKER"} 1
+            voidframework_health_status{check="NESTED \\"CHECKER\\""} 0
+            # TYPE voidframework_health_detail gauge
+            voidframework_health_detail{check="DUMMY_CHECKER",name="latency"} 12
+            voidframework_health_detail{check="NESTED \\"CHECKER\\"",name="pool.saturated"} 1
+            """, text);
+    }
+
     @Test
     void test() {
 
@@ -72,4 +182,62 @@ final class HealthCheckTest {
             return new Health(Health.Status.UP, Collections.emptyMap());
         }
     }
+
+    private static Injector createInjector(final String configurationContent, final Class<?>... healthCheckerClassTypeArray) {
+
+        final Config configuration = ConfigFactory.parseString(configurationContent);
+        return Guice.createInjector(Stage.PRODUCTION, new AbstractModule() {
+            @Override
+            protected void configure() {
+
+                install(new HealthCheckModule());
+                bind(Config.class).toInstance(configuration);
+                for (final Class<?> healthCheckerClassType : healthCheckerClassTypeArray) {
+                    bind(healthCheckerClassType).asEagerSingleton();
+                }
+            }
+        });
+    }
+
+    public static final class CountingChecker implements HealthChecker {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public String getName() {
+
+            return "COUNTING_CHECKER";
+        }
+
+        @Override
+        public Health checkHealth() {
+
+            this.counter.incrementAndGet();
+            return new Health(Health.Status.UP, Collections.emptyMap());
+        }
+    }
+
+    public static final class SlowChecker implements HealthChecker {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public String getName() {
+
+            return "SLOW_CHECKER";
+        }
+
+        @Override
+        public Health checkHealth() {
+
+            this.counter.incrementAndGet();
+            try {
+                Thread.sleep(10_000);
+            } catch (final InterruptedException ignore) {
+                Thread.currentThread().interrupt();
+            }
+
+            return new Health(Health.Status.UP, Collections.emptyMap());
+        }
+    }
 }
@@ -0,0 +1,56 @@
+package dev.voidframework.healthcheck.checker;
+
+import dev.voidframework.healthcheck.Health;
+import dev.voidframework.healthcheck.HealthCheckGroup;
+import dev.voidframework.healthcheck.HealthChecker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.Map;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.MethodName.class)
+final class JavaVirtualMachineMetricsHealthCheckerTest {
+
+    @Test
+    void getName() {
+
+        // Arrange
+        final HealthChecker healthChecker = new JavaVirtualMachineMetricsHealthChecker();
+
+        // Act
+        final String name = healthChecker.getName();
+
+        // Assert
+        Assertions.assertEquals("JVM_METRICS", name);
+        Assertions.assertEquals(HealthCheckGroup.LIVENESS, healthChecker.getGroup());
+    }
+
+    @Test
+    void checkHealth() {
+
+        // Arrange
+        final HealthChecker healthChecker = new JavaVirtualMachineMetricsHealthChecker();
+
+        // Act
+        final Health health = healthChecker.checkHealth();
+
+        // Assert
+        Assertions.assertNotNull(health);
+        Assertions.assertEquals(Health.Status.UP, health.status());
+        Assertions.assertNotNull(health.details());
+
+        final Map<?, ?> heapMap = (Map<?, ?>) health.details().get("heap");
+        Assertions.assertTrue((Long) heapMap.get("used") > 0L);
+
+        final Map<?, ?> threadMap = (Map<?, ?>) health.details().get("threads");
+        Assertions.assertTrue((Integer) threadMap.get("live") > 0);
+
+        Assertions.assertFalse(((Map<?, ?>) health.details().get("garbageCollectors")).isEmpty());
+        Assertions.assertFalse(((Map<?, ?>) health.details().get("memoryPools")).isEmpty());
+        Assertions.assertTrue(((Map<?, ?>) health.details().get("bufferPools")).containsKey("direct"));
+    }
+}
@@ -4,11 +4,14 @@ import java.text.MessageFormat;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
-import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Resource bundle based internationalization.
+ * <p>
+ * Resource bundles are loaded once per locale into immutable maps. Message formats are
+ * compiled on first use and cached per locale and key.
  *
  * @since 1.0.0
  */
@@ -16,8 +19,9 @@ public final class ResourceBundleInternationalization implements Internationaliz
 
     private static final String BUNDLE_BASE_NAME = "messages";
     private static final String UNKNOWN_KEY_SURROUNDING = "%";
+    private static final String[] PLURAL_FORM_SUFFIX_ARRAY = {".0", ".1", ".2"};
 
-    private final Map<Locale, ResourceBundle> bundlePerLocaleCacheMap;
+    private final Map<Locale, LocalizedMessages> localizedMessagesPerLocaleCacheMap;
 
     /**
      * Build a new instance.
@@ -26,7 +30,7 @@ public final class ResourceBundleInternationalization implements Internationaliz
      */
     public ResourceBundleInternationalization() {
 
-        this.bundlePerLocaleCacheMap = new HashMap<>();
+        this.localizedMessagesPerLocaleCacheMap = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -36,60 +40,205 @@ public final class ResourceBundleInternationalization implements Internationaliz
             return UNKNOWN_KEY_SURROUNDING + key + UNKNOWN_KEY_SURROUNDING;
         }
 
-        final ResourceBundle resourceBundle = this.bundlePerLocaleCacheMap.computeIfAbsent(locale, this::createResourceBundle);
-
-        try {
-            return resourceBundle.getString(key);
-        } catch (final MissingResourceException ignore) {
-            return UNKNOWN_KEY_SURROUNDING + key + UNKNOWN_KEY_SURROUNDING;
-        }
+        final String message = this.retrieveLocalizedMessages(locale).messagePerKeyMap.get(key);
+        return message != null ? message : UNKNOWN_KEY_SURROUNDING + key + UNKNOWN_KEY_SURROUNDING;
     }
 
     @Override
     public String getMessage(final Locale locale, final String key, final Object... argumentArray) {
 
-        return MessageFormat.format(this.getMessage(locale, key), argumentArray);
+        if (locale == null) {
+            return MessageFormat.format(UNKNOWN_KEY_SURROUNDING + key + UNKNOWN_KEY_SURROUNDING, argumentArray);
+        }
+
+        return this.retrieveLocalizedMessages(locale).format(key, argumentArray);
     }
 
     @Override
     public String getMessage(final Locale locale, final long quantity, final String key, final Object... argumentArray) {
 
-        final String resolvedMessageFormat;
+        final int pluralFormIndex;
         if (quantity == 0) {
-            resolvedMessageFormat = this.getMessage(locale, key + ".0");
+            pluralFormIndex = 0;
         } else if (quantity == 1 || quantity == -1) {
-            resolvedMessageFormat = this.getMessage(locale, key + ".1");
+            pluralFormIndex = 1;
         } else {
-            resolvedMessageFormat = this.getMessage(locale, key + ".2");
+            pluralFormIndex = 2;
         }
 
-        return MessageFormat.format(resolvedMessageFormat, argumentArray);
+        if (locale == null) {
+            return MessageFormat.format(
+                UNKNOWN_KEY_SURROUNDING + key + PLURAL_FORM_SUFFIX_ARRAY[pluralFormIndex] + UNKNOWN_KEY_SURROUNDING,
+                argumentArray);
+        }
+
+        final LocalizedMessages localizedMessages = this.retrieveLocalizedMessages(locale);
+        final String[] pluralKeyArray = localizedMessages.pluralKeyPerKeyMap.get(key);
+        final String pluralKey = pluralKeyArray != null
+            ? pluralKeyArray[pluralFormIndex]
+            : key + PLURAL_FORM_SUFFIX_ARRAY[pluralFormIndex];
+
+        return localizedMessages.format(pluralKey, argumentArray);
     }
 
     @Override
     public Map<String, String> getAllMessages(final Locale locale) {
 
-        final ResourceBundle resourceBundle = this.bundlePerLocaleCacheMap.computeIfAbsent(locale, this::createResourceBundle);
+        return new HashMap<>(this.retrieveLocalizedMessages(locale).messagePerKeyMap);
+    }
+
+    /**
+     * Retrieves messages of the given locale. Resource bundle is loaded on first call.
+     *
+     * @param locale The locale
+     * @return The localized messages
+     * @since 1.17.0
+     */
+    private LocalizedMessages retrieveLocalizedMessages(final Locale locale) {
+
+        final LocalizedMessages localizedMessages = this.localizedMessagesPerLocaleCacheMap.get(locale);
+        if (localizedMessages != null) {
+            return localizedMessages;
+        }
+
+        return this.localizedMessagesPerLocaleCacheMap.computeIfAbsent(locale, this::loadLocalizedMessages);
+    }
+
+    /**
+     * Loads messages of the given locale.
+     *
+     * @param locale The locale for which load messages
+     * @return Newly loaded messages
+     * @since 1.17.0
+     */
+    private LocalizedMessages loadLocalizedMessages(final Locale locale) {
+
+        final ResourceBundle resourceBundle = ResourceBundle.getBundle(BUNDLE_BASE_NAME, locale, this.getClass().getClassLoader());
 
         final Map<String, String> messagePerKeyMap = new HashMap<>();
+        final Map<String, String[]> pluralKeyPerKeyMap = new HashMap<>();
         for (final String key : resourceBundle.keySet()) {
-            messagePerKeyMap.put(
-                key,
-                resourceBundle.getString(key));
+            messagePerKeyMap.put(key, resourceBundle.getString(key));
+
+            for (final String pluralFormSuffix : PLURAL_FORM_SUFFIX_ARRAY) {
+                if (key.endsWith(pluralFormSuffix)) {
+                    final String baseKey = key.substring(0, key.length() - pluralFormSuffix.length());
+                    pluralKeyPerKeyMap.computeIfAbsent(baseKey, ResourceBundleInternationalization::createPluralKeyArray);
+                }
+            }
+        }
+
+        return new LocalizedMessages(Map.copyOf(messagePerKeyMap), Map.copyOf(pluralKeyPerKeyMap));
+    }
+
+    /**
+     * Creates the keys of all plural forms of a message.
+     *
+     * @param key The message key
+     * @return The keys of all plural forms
+     * @since 1.17.0
+     */
+    private static String[] createPluralKeyArray(final String key) {
+
+        final String[] pluralKeyArray = new String[PLURAL_FORM_SUFFIX_ARRAY.length];
+        for (int idx = 0; idx < PLURAL_FORM_SUFFIX_ARRAY.length; idx += 1) {
+            pluralKeyArray[idx] = key + PLURAL_FORM_SUFFIX_ARRAY[idx];
+        }
+
+        return pluralKeyArray;
+    }
+
+    /**
+     * Messages of a single locale.
+     *
+     * @since 1.17.0
+     */
+    private static final class LocalizedMessages {
+
+        private final Map<String, String> messagePerKeyMap;
+        private final Map<String, String[]> pluralKeyPerKeyMap;
+        private final Map<String, CompiledMessage> compiledMessagePerKeyMap;
+
+        /**
+         * Build a new instance.
+         *
+         * @param messagePerKeyMap   The messages, per key
+         * @param pluralKeyPerKeyMap The keys of all plural forms, per message key
+         * @since 1.17.0
+         */
+        private LocalizedMessages(final Map<String, String> messagePerKeyMap, final Map<String, String[]> pluralKeyPerKeyMap) {
+
+            this.messagePerKeyMap = messagePerKeyMap;
+            this.pluralKeyPerKeyMap = pluralKeyPerKeyMap;
+            this.compiledMessagePerKeyMap = new ConcurrentHashMap<>();
         }
 
-        return messagePerKeyMap;
+        /**
+         * Formats a message.
+         *
+         * @param key           The message key
+         * @param argumentArray The message arguments
+         * @return The formatted message
+         * @since 1.17.0
+         */
+        private String format(final String key, final Object[] argumentArray) {
+
+            CompiledMessage compiledMessage = this.compiledMessagePerKeyMap.get(key);
+            if (compiledMessage == null) {
+                final String message = this.messagePerKeyMap.get(key);
+                if (message == null) {
+                    // Unknown keys are not cached
+                    return MessageFormat.format(UNKNOWN_KEY_SURROUNDING + key + UNKNOWN_KEY_SURROUNDING, argumentArray);
+                }
+
+                compiledMessage = this.compiledMessagePerKeyMap.computeIfAbsent(key, k -> CompiledMessage.compile(message));
+            }
+
+            return compiledMessage.format(argumentArray);
+        }
     }
 
     /**
-     * Creates a new resource bundle.
+     * A compiled message. Messages without any format element or quote are used as is,
+     * the others are parsed once, then the parsed format is cloned for each use because
+     * {@code MessageFormat} is not thread-safe.
      *
-     * @param locale The locale for which create a resource bundle.
-     * @return Newly created resource bundle
-     * @since 1.14.0
+     * @param literal       The message to use as is, or {@code null}
+     * @param messageFormat The parsed message format, or {@code null}
+     * @since 1.17.0
      */
-    private ResourceBundle createResourceBundle(final Locale locale) {
+    private record CompiledMessage(String literal, MessageFormat messageFormat) {
+
+        /**
+         * Compiles a message.
+         *
+         * @param message The message to compile
+         * @return The compiled message
+         * @since 1.17.0
+         */
+        static CompiledMessage compile(final String message) {
+
+            if (message.indexOf('{') < 0 && message.indexOf('\'') < 0) {
+                return new CompiledMessage(message, null);
+            }
+
+            return new CompiledMessage(null, new MessageFormat(message));
+        }
+
+        /**
+         * Formats the message.
+         *
+         * @param argumentArray The message arguments
+         * @return The formatted message
+         * @since 1.17.0
+         */
+        String format(final Object[] argumentArray) {
 
-        return ResourceBundle.getBundle(BUNDLE_BASE_NAME, locale, this.getClass().getClassLoader());
+            if (this.literal != null) {
+                return this.literal;
+            }
+
+            return ((MessageFormat) this.messageFormat.clone()).format(argumentArray);
+        }
     }
 }
@@ -7,8 +7,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestMethodOrder;
 
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @TestMethodOrder(MethodOrderer.MethodName.class)
@@ -222,4 +229,32 @@ final class InternationalizationTest {
             "This element contains {0,choice,0#no comments|1#one comment|1<{0,number,000} comments}",
             messagesPerKeyMap.get("complex.format"));
     }
+
+    @Test
+    void getMessageConcurrently() throws InterruptedException, ExecutionException {
+
+        // Arrange
+        final ResourceBundleInternationalization internationalization = new ResourceBundleInternationalization();
+        final ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+        // Act
+        final List<Future<String>> futureList = new ArrayList<>();
+        try {
+            for (int idx = 0; idx < 1000; idx += 1) {
+                final int quantity = idx;
+                final Locale locale = idx % 2 == 0 ? Locale.ENGLISH : Locale.FRENCH;
+                futureList.add(executorService.submit(() -> internationalization.getMessage(locale, quantity, "inbox", "BoxName", quantity)));
+            }
+        } finally {
+            executorService.shutdown();
+        }
+
+        // Assert
+        for (int idx = 0; idx < futureList.size(); idx += 1) {
+            final String expectedMessage = idx % 2 == 0
+                ? internationalization.getMessage(Locale.ENGLISH, idx, "inbox", "BoxName", idx)
+                : MessageFormat.format(internationalization.getMessage(Locale.FRENCH, "inbox." + (idx == 1 ? 1 : 2)), "BoxName", idx);
+            Assertions.assertEquals(expectedMessage, futureList.get(idx).get());
+        }
+    }
 }
@@ -0,0 +1,62 @@
+package dev.voidframework.persistence.hibernate;
+
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.cfg.QuerySettings;
+
+import java.util.Map;
+
+/**
+ * Hibernate settings presets. Settings explicitly configured for a data source always take
+ * precedence over the preset ones.
+ *
+ * @since 1.17.0
+ */
+public enum HibernateSettingsPreset {
+
+    /**
+     * No settings, Hibernate defaults are used.
+     *
+     * @since 1.17.0
+     */
+    NONE(Map.of()),
+
+    /**
+     * Settings suitable for write intensive applications: JDBC batching is enabled and
+     * statements are ordered to maximize batches size, rows are fetched by larger chunks
+     * and more query plans are kept in cache.
+     *
+     * @since 1.17.0
+     */
+    HIGH_THROUGHPUT(Map.of(
+        BatchSettings.STATEMENT_BATCH_SIZE, "50",
+        BatchSettings.ORDER_INSERTS, "true",
+        BatchSettings.ORDER_UPDATES, "true",
+        BatchSettings.BATCH_VERSIONED_DATA, "true",
+        JdbcSettings.STATEMENT_FETCH_SIZE, "100",
+        QuerySettings.QUERY_PLAN_CACHE_MAX_SIZE, "4096"));
+
+    private final Map<String, String> settingMap;
+
+    /**
+     * Build a new instance.
+     *
+     * @param settingMap The Hibernate settings
+     * @since 1.17.0
+     */
+    HibernateSettingsPreset(final Map<String, String> settingMap) {
+
+        this.settingMap = settingMap;
+    }
+
+    /**
+     * Retrieves the Hibernate settings.
+     *
+     * @return The Hibernate settings
+     * @since 1.17.0
+     */
+    public Map<String, String> getSettingMap() {
+
+        return this.settingMap;
+    }
+}
@@ -17,4 +17,36 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 @IdGeneratorType(CUIDIdentifierGenerator.class)
 public @interface CuidGenerator {
+
+    /**
+     * Representation to use when the identifier is a byte array. This setting has no
+     * effect on {@code CUID} and {@code String} identifiers: to store a {@code CUID}
+     * identifier as binary, use {@code CUIDBinaryType}.
+     *
+     * @return The byte array representation
+     * @since 1.17.0
+     */
+    Representation representation() default Representation.STRING;
+
+    /**
+     * Byte array representations of a CUID.
+     *
+     * @since 1.17.0
+     */
+    enum Representation {
+
+        /**
+         * The string form encoded in UTF-8 (25 bytes).
+         *
+         * @since 1.17.0
+         */
+        STRING,
+
+        /**
+         * The compact binary form (16 bytes).
+         *
+         * @since 1.17.0
+         */
+        BINARY
+    }
 }
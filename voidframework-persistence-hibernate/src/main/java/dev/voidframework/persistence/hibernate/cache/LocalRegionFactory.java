@@ -0,0 +1,132 @@
+package dev.voidframework.persistence.hibernate.cache;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.access.AccessType;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.util.Map;
+
+/**
+ * Hibernate second-level and query cache region factory storing entries in bounded in-memory
+ * regions. Regions are configured with the following Hibernate settings:
+ * <ul>
+ *     <li>{@code hibernate.cache.local.max_entries}: default maximum number of entries per region</li>
+ *     <li>{@code hibernate.cache.local.time_to_live}: default entries time to live (in seconds)</li>
+ *     <li>{@code hibernate.cache.local.region.[region name].max_entries}: maximum number of entries of a specific region</li>
+ *     <li>{@code hibernate.cache.local.region.[region name].time_to_live}: entries time to live of a specific region</li>
+ * </ul>
+ * The timestamps region is never bounded: evicting its entries could lead to stale query results.
+ *
+ * @since 1.17.0
+ */
+public final class LocalRegionFactory extends RegionFactoryTemplate {
+
+    /**
+     * Setting: default maximum number of entries per region.
+     *
+     * @since 1.17.0
+     */
+    public static final String MAX_ENTRIES = "hibernate.cache.local.max_entries";
+
+    /**
+     * Setting: default entries time to live (in seconds).
+     *
+     * @since 1.17.0
+     */
+    public static final String TIME_TO_LIVE = "hibernate.cache.local.time_to_live";
+
+    /**
+     * Setting prefix: region specific settings.
+     *
+     * @since 1.17.0
+     */
+    public static final String REGION_PREFIX = "hibernate.cache.local.region.";
+
+    private static final int DEFAULT_MAX_ENTRIES = 10_000;
+    private static final long DEFAULT_TIME_TO_LIVE = 0;
+
+    private Map<String, Object> configValueMap;
+
+    @Override
+    protected void prepareForUse(final SessionFactoryOptions settings, final Map<String, Object> configValues) {
+
+        this.configValueMap = configValues;
+    }
+
+    @Override
+    protected void releaseFromUse() {
+
+        this.configValueMap = null;
+    }
+
+    @Override
+    public AccessType getDefaultAccessType() {
+
+        return AccessType.READ_WRITE;
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(final DomainDataRegionConfig regionConfig,
+                                                                    final DomainDataRegionBuildingContext buildingContext) {
+
+        return this.createStorageAccess(regionConfig.getRegionName());
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(final String regionName,
+                                                                  final SessionFactoryImplementor sessionFactory) {
+
+        return this.createStorageAccess(regionName);
+    }
+
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(final String regionName,
+                                                                final SessionFactoryImplementor sessionFactory) {
+
+        return new LocalStorageAccess(0, 0);
+    }
+
+    /**
+     * Creates the storage of a region.
+     *
+     * @param regionName The region name
+     * @return Newly created storage
+     * @since 1.17.0
+     */
+    private LocalStorageAccess createStorageAccess(final String regionName) {
+
+        final long maxEntries = this.resolveSetting(
+            REGION_PREFIX + regionName + ".max_entries",
+            this.resolveSetting(MAX_ENTRIES, DEFAULT_MAX_ENTRIES));
+        final long timeToLive = this.resolveSetting(
+            REGION_PREFIX + regionName + ".time_to_live",
+            this.resolveSetting(TIME_TO_LIVE, DEFAULT_TIME_TO_LIVE));
+
+        return new LocalStorageAccess((int) Math.min(maxEntries, Integer.MAX_VALUE), timeToLive);
+    }
+
+    /**
+     * Resolves a numeric setting.
+     *
+     * @param settingName  The setting name
+     * @param defaultValue The value to use if the setting is not defined
+     * @return The setting value
+     * @since 1.17.0
+     */
+    private long resolveSetting(final String settingName, final long defaultValue) {
+
+        final Object value = this.configValueMap != null ? this.configValueMap.get(settingName) : null;
+        if (value instanceof final Number number) {
+            return number.longValue();
+        } else if (value != null) {
+            return Long.parseLong(value.toString().trim());
+        }
+
+        return defaultValue;
+    }
+}
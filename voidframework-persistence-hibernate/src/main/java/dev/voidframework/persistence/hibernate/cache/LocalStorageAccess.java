@@ -0,0 +1,95 @@
+package dev.voidframework.persistence.hibernate.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import java.time.Duration;
+
+/**
+ * Bounded in-memory storage of a single cache region. When the maximum number of entries is
+ * reached, the least recently used entry is evicted. Entries can also expire after a fixed
+ * time to live.
+ * <p>
+ * Entries are held in a segmented cache: concurrent reads and writes on different segments
+ * never contend on a shared lock, the least recently used order being tracked per segment.
+ *
+ * @since 1.17.0
+ */
+public final class LocalStorageAccess implements DomainDataStorageAccess {
+
+    private final Cache<Object, Object> entryCache;
+
+    /**
+     * Build a new instance.
+     *
+     * @param maxEntries        The maximum number of entries, 0 or less means unbounded
+     * @param timeToLiveSeconds The entries time to live (in seconds), 0 or less means no expiration
+     * @since 1.17.0
+     */
+    public LocalStorageAccess(final int maxEntries, final long timeToLiveSeconds) {
+
+        final CacheBuilder<Object, Object> cacheBuilder = CacheBuilder.newBuilder();
+        if (maxEntries > 0) {
+            cacheBuilder.maximumSize(maxEntries);
+        }
+
+        if (timeToLiveSeconds > 0) {
+            cacheBuilder.expireAfterWrite(Duration.ofSeconds(timeToLiveSeconds));
+        }
+
+        this.entryCache = cacheBuilder.build();
+    }
+
+    @Override
+    public Object getFromCache(final Object key, final SharedSessionContractImplementor session) {
+
+        return this.entryCache.getIfPresent(key);
+    }
+
+    @Override
+    public void putIntoCache(final Object key, final Object value, final SharedSessionContractImplementor session) {
+
+        if (value == null) {
+            this.entryCache.invalidate(key);
+        } else {
+            this.entryCache.put(key, value);
+        }
+    }
+
+    @Override
+    public boolean contains(final Object key) {
+
+        return this.entryCache.getIfPresent(key) != null;
+    }
+
+    @Override
+    public void evictData() {
+
+        this.entryCache.invalidateAll();
+    }
+
+    @Override
+    public void evictData(final Object key) {
+
+        this.entryCache.invalidate(key);
+    }
+
+    @Override
+    public void release() {
+
+        this.entryCache.invalidateAll();
+    }
+
+    /**
+     * Retrieves the number of entries currently stored.
+     *
+     * @return The number of entries
+     * @since 1.17.0
+     */
+    public int size() {
+
+        return (int) this.entryCache.size();
+    }
+}
@@ -47,7 +47,9 @@ public final class CUIDIdentifierGenerator implements IdentifierGenerator {
         } else if (String.class.isAssignableFrom(memberClassType)) {
             this.cuidSupplier = CUIDIdentifierGenerator::generateAsString;
         } else if (byte[].class.isAssignableFrom(memberClassType)) {
-            this.cuidSupplier = CUIDIdentifierGenerator::generateAsByteArray;
+            this.cuidSupplier = config.representation() == CuidGenerator.Representation.BINARY
+                ? CUIDIdentifierGenerator::generateAsBinaryByteArray
+                : CUIDIdentifierGenerator::generateAsByteArray;
         } else {
             throw new HibernateException("Unanticipated return type '" + memberClassType.getName() + "' for CUID conversion");
         }
@@ -86,6 +88,17 @@ public final class CUIDIdentifierGenerator implements IdentifierGenerator {
         return CUID.randomCUID().toString().getBytes(StandardCharsets.UTF_8);
     }
 
+    /**
+     * Generates a random CUID.
+     *
+     * @return Newly generated CUID as compact binary form
+     * @since 1.17.0
+     */
+    private static byte[] generateAsBinaryByteArray() {
+
+        return CUID.randomCUID().toBytes();
+    }
+
     @Override
     public Object generate(final SharedSessionContractImplementor sharedSessionContractImplementor,
                            final Object o) throws HibernateException {
@@ -15,7 +15,10 @@ import jakarta.persistence.spi.PersistenceUnitTransactionType;
 import org.apache.commons.lang3.StringUtils;
 import org.hibernate.cfg.JdbcSettings;
 import org.hibernate.cfg.SchemaToolingSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.jpa.HibernatePersistenceProvider;
+import org.hibernate.query.named.NamedObjectRepository;
+import org.hibernate.query.spi.QueryEngine;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,6 +35,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Entity manager provider. This provider is special, it exposes methods to manually manage
@@ -49,9 +53,10 @@ public class EntityManagerProvider implements Provider<EntityManager> {
     private final String dataSourceName;
     private final String dialect;
     private final String modelsJarUrlPattern;
+    private final Map<String, String> hibernateSettingMap;
     private final ThreadLocal<Deque<EntityManager>> currentEntityManager;
     private Provider<DataSourceManager> dataSourceManagerProvider;
-    private EntityManagerFactory entityManagerFactory;
+    private volatile EntityManagerFactory entityManagerFactory;
 
     /**
      * Build a new instance.
@@ -77,9 +82,27 @@ public class EntityManagerProvider implements Provider<EntityManager> {
                                  final String dialect,
                                  final String modelsJarUrlPattern) {
 
+        this(dataSourceName, dialect, modelsJarUrlPattern, Collections.emptyMap());
+    }
+
+    /**
+     * Build a new instance.
+     *
+     * @param dataSourceName      The data source name
+     * @param dialect             The dialect
+     * @param modelsJarUrlPattern The pattern to identify JAR containing models
+     * @param hibernateSettingMap Extra Hibernate settings
+     * @since 1.17.0
+     */
+    public EntityManagerProvider(final String dataSourceName,
+                                 final String dialect,
+                                 final String modelsJarUrlPattern,
+                                 final Map<String, String> hibernateSettingMap) {
+
         this.dataSourceName = dataSourceName;
         this.dialect = dialect;
         this.modelsJarUrlPattern = modelsJarUrlPattern;
+        this.hibernateSettingMap = hibernateSettingMap;
         this.currentEntityManager = new ThreadLocal<>();
     }
 
@@ -99,8 +122,7 @@ public class EntityManagerProvider implements Provider<EntityManager> {
     public EntityManager get() {
 
         if (this.isEntityManagerMustBeInitialized()) {
-            createEntityManagerFactoryIfNeeded();
-            return this.entityManagerFactory.createEntityManager();
+            return this.createEntityManagerFactoryIfNeeded().createEntityManager();
         }
 
         return this.currentEntityManager.get().getFirst();
@@ -113,14 +135,14 @@ public class EntityManagerProvider implements Provider<EntityManager> {
      */
     public void initializeNewEntityFactoryManager() {
 
-        createEntityManagerFactoryIfNeeded();
+        final EntityManagerFactory currentEntityManagerFactory = this.createEntityManagerFactoryIfNeeded();
 
         Deque<EntityManager> currentEntityManagerDeque = this.currentEntityManager.get();
         if (currentEntityManagerDeque == null) {
             currentEntityManagerDeque = new ArrayDeque<>();
             this.currentEntityManager.set(currentEntityManagerDeque);
         }
-        currentEntityManagerDeque.addFirst(this.entityManagerFactory.createEntityManager());
+        currentEntityManagerDeque.addFirst(currentEntityManagerFactory.createEntityManager());
     }
 
     /**
@@ -158,28 +180,89 @@ public class EntityManagerProvider implements Provider<EntityManager> {
     }
 
     /**
-     * Creates the entity manager factory, if needed.
+     * Initializes the entity manager factory, if not already done.
+     *
+     * @since 1.17.0
+     */
+    public void initializeEntityManagerFactory() {
+
+        this.createEntityManagerFactoryIfNeeded();
+    }
+
+    /**
+     * Warms up the entity manager factory: all named queries are validated, then interpreted
+     * to populate the query interpretation cache. The entity manager factory is initialized
+     * if not already done.
+     *
+     * @return The number of warmed up named queries
+     * @since 1.17.0
+     */
+    public int warmUp() {
+
+        final SessionFactoryImplementor sessionFactory = this.createEntityManagerFactoryIfNeeded().unwrap(SessionFactoryImplementor.class);
+        final QueryEngine queryEngine = sessionFactory.getQueryEngine();
+        final NamedObjectRepository namedObjectRepository = queryEngine.getNamedObjectRepository();
+
+        namedObjectRepository.validateNamedQueries(queryEngine);
+
+        final AtomicInteger warmedUpCount = new AtomicInteger();
+        final EntityManager entityManager = sessionFactory.createEntityManager();
+        try {
+            namedObjectRepository.visitSqmQueryMementos(memento -> {
+                entityManager.createNamedQuery(memento.getRegistrationName());
+                warmedUpCount.incrementAndGet();
+            });
+        } finally {
+            entityManager.close();
+        }
+
+        LOGGER.debug("Data source '{}': {} named query(ies) warmed up", this.dataSourceName, warmedUpCount.get());
+        return warmedUpCount.get();
+    }
+
+    /**
+     * Creates the entity manager factory, if needed. The entity manager factory is created only
+     * once, even if called concurrently.
      *
+     * @return The entity manager factory
      * @since 1.0.0
      */
-    private void createEntityManagerFactoryIfNeeded() {
-
-        if (this.entityManagerFactory == null) {
-            // Creates a list containing all JARs to use to find "Model" classes
-            final List<URL> javaFileUrlList = createModelsJarFileUrls();
-
-            // Creates entity manager
-            final Map<String, Object> properties = new HashMap<>();
-            properties.put(JdbcSettings.JAKARTA_JTA_DATASOURCE, this.dataSourceManagerProvider.get().getDataSource(dataSourceName));
-            properties.put(SchemaToolingSettings.HBM2DDL_AUTO, "none");
-            if (StringUtils.isNotBlank(dialect)) {
-                properties.put(JdbcSettings.DIALECT, dialect);
-            }
+    private EntityManagerFactory createEntityManagerFactoryIfNeeded() {
+
+        EntityManagerFactory currentEntityManagerFactory = this.entityManagerFactory;
+        if (currentEntityManagerFactory != null) {
+            return currentEntityManagerFactory;
+        }
+
+        synchronized (this) {
+            currentEntityManagerFactory = this.entityManagerFactory;
+            if (currentEntityManagerFactory == null) {
+                final long startTimeMillis = System.currentTimeMillis();
+
+                // Creates a list containing all JARs to use to find "Model" classes
+                final List<URL> javaFileUrlList = createModelsJarFileUrls();
 
-            this.entityManagerFactory = new HibernatePersistenceProvider().createContainerEntityManagerFactory(
-                new PersistenceUnitInfoIml(dataSourceName, javaFileUrlList),
-                properties);
+                // Creates entity manager
+                final Map<String, Object> properties = new HashMap<>(this.hibernateSettingMap);
+                properties.put(JdbcSettings.JAKARTA_JTA_DATASOURCE, this.dataSourceManagerProvider.get().getDataSource(dataSourceName));
+                properties.put(SchemaToolingSettings.HBM2DDL_AUTO, "none");
+                if (StringUtils.isNotBlank(dialect)) {
+                    properties.put(JdbcSettings.DIALECT, dialect);
+                }
+
+                currentEntityManagerFactory = new HibernatePersistenceProvider().createContainerEntityManagerFactory(
+                    new PersistenceUnitInfoIml(dataSourceName, javaFileUrlList),
+                    properties);
+                this.entityManagerFactory = currentEntityManagerFactory;
+
+                LOGGER.info(
+                    "EntityManagerFactory for data source '{}' created in {} ms",
+                    this.dataSourceName,
+                    System.currentTimeMillis() - startTimeMillis);
+            }
         }
+
+        return currentEntityManagerFactory;
     }
 
     /**
@@ -4,12 +4,19 @@ import com.google.inject.AbstractModule;
 import com.google.inject.matcher.Matchers;
 import com.google.inject.name.Names;
 import com.typesafe.config.Config;
+import com.typesafe.config.ConfigUtil;
+import com.typesafe.config.ConfigValue;
 import dev.voidframework.core.utils.ConfigurationUtils;
 import dev.voidframework.datasource.exception.DataSourceException;
+import dev.voidframework.persistence.hibernate.HibernateSettingsPreset;
+import dev.voidframework.persistence.hibernate.cache.LocalRegionFactory;
 import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import org.aopalliance.intercept.MethodInterceptor;
+import org.hibernate.cfg.CacheSettings;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -51,11 +58,16 @@ public final class HibernateModule extends AbstractModule {
                 this.configuration,
                 "voidframework.datasource." + dataSourceName + ".dialect",
                 null);
-            final EntityManagerProvider entityManagerProvider = new EntityManagerProvider(dataSourceName, dialect, modelsJarUrlPattern);
+            final EntityManagerProvider entityManagerProvider = new EntityManagerProvider(
+                dataSourceName,
+                dialect,
+                modelsJarUrlPattern,
+                this.resolveHibernateSettings(dataSourceName));
 
             // Guice
             requestInjection(entityManagerProvider);
             bind(EntityManager.class).annotatedWith(Names.named(dataSourceName)).toProvider(entityManagerProvider);
+            bind(EntityManagerProvider.class).annotatedWith(Names.named(dataSourceName)).toInstance(entityManagerProvider);
 
             if (dataSourceName.equals("default")) {
                 bind(EntityManager.class).toProvider(entityManagerProvider);
@@ -68,4 +80,45 @@ public final class HibernateModule extends AbstractModule {
         bindInterceptor(Matchers.annotatedWith(Transactional.class), Matchers.any(), methodInterceptor);
         bindInterceptor(Matchers.any(), Matchers.annotatedWith(Transactional.class), methodInterceptor);
     }
+
+    /**
+     * Resolves extra Hibernate settings to use with the given data source. Settings of the configured
+     * preset are applied first, then settings configured in "voidframework.persistence.hibernate.[name]".
+     * Setting names not starting with "hibernate." or "jakarta." are prefixed with "hibernate.".
+     * If the second-level or query cache is enabled without any region factory, the
+     * {@link LocalRegionFactory} is used.
+     *
+     * @param dataSourceName The data source name
+     * @return The Hibernate settings
+     * @since 1.17.0
+     */
+    private Map<String, String> resolveHibernateSettings(final String dataSourceName) {
+
+        final HibernateSettingsPreset preset = ConfigurationUtils.getEnumOrDefault(
+            this.configuration,
+            "voidframework.persistence.preset",
+            HibernateSettingsPreset.class,
+            HibernateSettingsPreset.NONE);
+        final Map<String, String> hibernateSettingMap = new HashMap<>(preset.getSettingMap());
+
+        final String path = "voidframework.persistence.hibernate." + ConfigUtil.quoteString(dataSourceName);
+        if (this.configuration.hasPath(path)) {
+            for (final Map.Entry<String, ConfigValue> entry : this.configuration.getConfig(path).entrySet()) {
+                final String settingName = String.join(".", ConfigUtil.splitPath(entry.getKey()));
+                final Object settingValue = entry.getValue().unwrapped();
+
+                hibernateSettingMap.put(
+                    settingName.startsWith("hibernate.") || settingName.startsWith("jakarta.") ? settingName : "hibernate." + settingName,
+                    String.valueOf(settingValue));
+            }
+        }
+
+        final boolean isCacheEnabled = Boolean.parseBoolean(hibernateSettingMap.get(CacheSettings.USE_SECOND_LEVEL_CACHE))
+            || Boolean.parseBoolean(hibernateSettingMap.get(CacheSettings.USE_QUERY_CACHE));
+        if (isCacheEnabled && !hibernateSettingMap.containsKey(CacheSettings.CACHE_REGION_FACTORY)) {
+            hibernateSettingMap.put(CacheSettings.CACHE_REGION_FACTORY, LocalRegionFactory.class.getName());
+        }
+
+        return Map.copyOf(hibernateSettingMap);
+    }
 }
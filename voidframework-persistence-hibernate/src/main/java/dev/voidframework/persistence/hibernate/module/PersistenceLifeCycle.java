@@ -3,20 +3,25 @@ package dev.voidframework.persistence.hibernate.module;
 import com.google.inject.Inject;
 import com.google.inject.Injector;
 import com.google.inject.Key;
-import com.google.inject.Provider;
 import com.google.inject.name.Names;
 import com.typesafe.config.Config;
 import dev.voidframework.core.bindable.Bindable;
 import dev.voidframework.core.lifecycle.LifeCycleStart;
 import dev.voidframework.core.utils.ConfigurationUtils;
 import dev.voidframework.datasource.exception.DataSourceException;
-import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
- * This LifeCycle allows to force the initialization of the EntityManagerFactory.
+ * This LifeCycle allows to force the initialization of the EntityManagerFactory. When many
+ * data sources are configured, EntityManagerFactory instances are initialized in parallel.
  *
  * @since 1.2.0
  */
@@ -43,6 +48,7 @@ public final class PersistenceLifeCycle {
 
     /**
      * Force {@link EntityManagerFactory} initialization for each configured data sources.
+     * If enabled, each EntityManagerFactory is warmed up once initialized.
      *
      * @since 1.2.0
      */
@@ -54,14 +60,53 @@ public final class PersistenceLifeCycle {
             throw new DataSourceException.NotConfigured();
         }
 
+        final boolean isWarmUpEnabled = ConfigurationUtils.getBooleanOrDefault(this.configuration, "voidframework.persistence.warmUp", false);
+        final List<Runnable> taskList = new ArrayList<>();
         for (final String dataSourceName : dataSourceNameSet) {
-            final Key<EntityManager> key = Key.get(EntityManager.class, Names.named(dataSourceName));
-            final Provider<EntityManager> entityManagerProvider = this.injector.getProvider(key);
+            final Key<EntityManagerProvider> key = Key.get(EntityManagerProvider.class, Names.named(dataSourceName));
+            final EntityManagerProvider entityManagerProvider = this.injector.getInstance(key);
 
-            final EntityManager entityManager = entityManagerProvider.get();
-            if (entityManager != null) {
-                entityManager.close();
+            taskList.add(() -> {
+                entityManagerProvider.initializeEntityManagerFactory();
+                if (isWarmUpEnabled) {
+                    entityManagerProvider.warmUp();
+                }
+            });
+        }
+
+        if (taskList.size() == 1) {
+            taskList.get(0).run();
+            return;
+        }
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(taskList.size());
+        try {
+            final List<Future<?>> futureList = taskList.stream()
+                .<Future<?>>map(executorService::submit)
+                .toList();
+
+            // All initializations are awaited, the first failure is then rethrown
+            RuntimeException firstException = null;
+            for (final Future<?> future : futureList) {
+                try {
+                    future.get();
+                } catch (final InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while initializing EntityManagerFactory", exception);
+                } catch (final ExecutionException exception) {
+                    if (firstException == null) {
+                        firstException = exception.getCause() instanceof final RuntimeException runtimeException
+                            ? runtimeException
+                            : new IllegalStateException(exception.getCause());
+                    }
+                }
+            }
+
+            if (firstException != null) {
+                throw firstException;
             }
+        } finally {
+            executorService.shutdownNow();
         }
     }
 }
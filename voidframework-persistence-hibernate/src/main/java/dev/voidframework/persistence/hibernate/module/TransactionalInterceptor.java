@@ -2,7 +2,9 @@ package dev.voidframework.persistence.hibernate.module;
 
 import com.google.inject.Inject;
 import dev.voidframework.core.utils.ProxyDetectorUtils;
+import dev.voidframework.datasource.routing.DataSourceRoutingContext;
 import dev.voidframework.persistence.AbstractTransactionalInterceptor;
+import dev.voidframework.persistence.TransactionalMetadata;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityTransaction;
 import jakarta.transaction.InvalidTransactionException;
@@ -37,10 +39,7 @@ public class TransactionalInterceptor extends AbstractTransactionalInterceptor {
         boolean isInitiator = false;
 
         // Retrieves the transaction configuration
-        Transactional transactionalAnnotation = methodInvocation.getMethod().getAnnotation(Transactional.class);
-        if (transactionalAnnotation == null) {
-            transactionalAnnotation = methodInvocation.getThis().getClass().getAnnotation(Transactional.class);
-        }
+        final TransactionalMetadata transactionalMetadata = this.resolveTransactionalMetadata(methodInvocation);
 
         // Creates a new EntityManager for this current thread (must be done once)
         if (this.entityManagerProvider.isEntityManagerMustBeInitialized()) {
@@ -53,7 +52,7 @@ public class TransactionalInterceptor extends AbstractTransactionalInterceptor {
         final EntityTransaction transaction = entityManager.getTransaction();
 
         try {
-            return switch (transactionalAnnotation.value()) {
+            return switch (transactionalMetadata.txType()) {
                 case MANDATORY:
                     if (!transaction.isActive()) {
                         // The configuration indicates that a transaction must already exist
@@ -85,7 +84,7 @@ public class TransactionalInterceptor extends AbstractTransactionalInterceptor {
                     yield methodInvocation.proceed();
                 case REQUIRED:
                     if (!transaction.isActive()) {
-                        yield this.proceedInTransaction(methodInvocation, transaction, transactionalAnnotation);
+                        yield this.proceedInTransaction(methodInvocation, transaction, transactionalMetadata);
                     }
                     yield methodInvocation.proceed();
                 case REQUIRES_NEW:
@@ -96,9 +95,9 @@ public class TransactionalInterceptor extends AbstractTransactionalInterceptor {
                         this.entityManagerProvider.initializeNewEntityFactoryManager();
                         final EntityTransaction newEntityTransaction = this.entityManagerProvider.get().getTransaction();
 
-                        yield this.proceedInTransaction(methodInvocation, newEntityTransaction, transactionalAnnotation);
+                        yield this.proceedInTransaction(methodInvocation, newEntityTransaction, transactionalMetadata);
                     } else {
-                        yield this.proceedInTransaction(methodInvocation, transaction, transactionalAnnotation);
+                        yield this.proceedInTransaction(methodInvocation, transaction, transactionalMetadata);
                     }
                 case SUPPORTS:
                     // A transaction exist or the configuration indicates than method
@@ -115,19 +114,21 @@ public class TransactionalInterceptor extends AbstractTransactionalInterceptor {
     }
 
     /**
-     * Proceeds method in a transaction.
+     * Proceeds method in a transaction. The connection of the transaction is served by a
+     * replica of the data source if the transaction is read-only.
      *
      * @param methodInvocation        The method invocation to proceed
      * @param transaction             The current entity transaction
-     * @param transactionalAnnotation The current transaction annotation
+     * @param transactionalMetadata   The current transaction configuration
      * @return Method invocation returned result
      * @throws Throwable If something goes wrong
      * @since 1.7.0
      */
     private Object proceedInTransaction(final MethodInvocation methodInvocation,
                                         final EntityTransaction transaction,
-                                        final Transactional transactionalAnnotation) throws Throwable {
+                                        final TransactionalMetadata transactionalMetadata) throws Throwable {
 
+        DataSourceRoutingContext.push(transactionalMetadata.dataSourceRoute());
         try {
             transaction.begin();
             final Object result = methodInvocation.proceed();
@@ -135,12 +136,14 @@ public class TransactionalInterceptor extends AbstractTransactionalInterceptor {
 
             return result;
         } catch (final Throwable throwable) {
-            if (this.hasToRollback(transactionalAnnotation, throwable.getClass())) {
+            if (transactionalMetadata.hasToRollback(throwable.getClass())) {
                 transaction.rollback();
             } else {
                 transaction.commit();
             }
             throw throwable;
+        } finally {
+            DataSourceRoutingContext.pop();
         }
     }
 }
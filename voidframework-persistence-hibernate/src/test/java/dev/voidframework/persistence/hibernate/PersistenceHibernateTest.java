@@ -3,24 +3,35 @@ package dev.voidframework.persistence.hibernate;
 import com.google.inject.AbstractModule;
 import com.google.inject.Guice;
 import com.google.inject.Injector;
+import com.google.inject.Key;
 import com.google.inject.Provider;
 import com.google.inject.Stage;
+import com.google.inject.name.Names;
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigFactory;
 import dev.voidframework.datasource.hikaricp.module.HikariCpDataSourceModule;
+import dev.voidframework.core.lang.CUID;
+import dev.voidframework.persistence.hibernate.cuid.CUIDBinaryType;
+import dev.voidframework.persistence.hibernate.model.UnitTestBinaryCUIDModel;
 import dev.voidframework.persistence.hibernate.model.UnitTestModel;
+import dev.voidframework.persistence.hibernate.module.EntityManagerProvider;
 import dev.voidframework.persistence.hibernate.module.HibernateModule;
+import dev.voidframework.persistence.hibernate.module.PersistenceLifeCycle;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityTransaction;
+import org.hibernate.HibernateException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestMethodOrder;
+import org.mockito.Mockito;
 
+import java.sql.PreparedStatement;
 import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
+import java.util.Map;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @TestMethodOrder(MethodOrderer.MethodName.class)
@@ -33,6 +44,10 @@ final class PersistenceHibernateTest {
         final Config configuration = ConfigFactory.parseString("""
             voidframework.core.runInDevMode = true
             voidframework.persistence.modelsJarUrlPattern = "^.*void.*$"
+            voidframework.persistence.warmUp = true
+            voidframework.persistence.preset = "HIGH_THROUGHPUT"
+            voidframework.persistence.hibernate.default.jdbc.batch_size = 25
+            voidframework.persistence.hibernate.default.hibernate.jdbc.time_zone = "UTC"
             voidframework.datasource.default.driver = "org.hsqldb.jdbc.JDBCDriver"
             voidframework.datasource.default.url = "jdbc:hsqldb:mem:unit_tests;sql.syntax_ora=true"
             voidframework.datasource.default.username = "sa"
@@ -61,6 +76,62 @@ final class PersistenceHibernateTest {
         });
     }
 
+    @Test
+    void binaryCUIDEntity() {
+
+        final Provider<EntityManager> entityManagerProvider = this.injector.getProvider(EntityManager.class);
+        Assertions.assertNotNull(entityManagerProvider);
+
+        final EntityManager entityManager = entityManagerProvider.get();
+        final EntityTransaction entityTransaction = entityManager.getTransaction();
+
+        entityTransaction.begin();
+        entityManager.createNativeQuery("""
+            CREATE TABLE UNIT_TEST_BINARY_CUID (
+                ID    BINARY(16)    NOT NULL,
+                NAME  VARCHAR(36),
+                PRIMARY KEY (id)
+            );
+            """).executeUpdate();
+
+        final UnitTestBinaryCUIDModel model = new UnitTestBinaryCUIDModel();
+        model.name = "binary";
+        entityManager.persist(model);
+        entityTransaction.commit();
+        entityManager.clear();
+
+        Assertions.assertNotNull(model.id);
+
+        final UnitTestBinaryCUIDModel result = entityManager.find(UnitTestBinaryCUIDModel.class, model.id);
+        Assertions.assertNotNull(result);
+        Assertions.assertEquals(model.id, result.id);
+        Assertions.assertEquals("binary", result.name);
+
+        final byte[] rawId = (byte[]) entityManager.createNativeQuery("SELECT ID FROM UNIT_TEST_BINARY_CUID").getSingleResult();
+        Assertions.assertEquals(16, rawId.length);
+        Assertions.assertEquals(model.id, CUID.fromBytes(rawId));
+
+        entityManager.close();
+        Assertions.assertFalse(entityManager.isOpen());
+    }
+
+    @Test
+    void binaryCUIDNotCanonical() {
+
+        final CUIDBinaryType cuidBinaryType = new CUIDBinaryType();
+        final PreparedStatement preparedStatement = Mockito.mock(PreparedStatement.class);
+        final CUID cuid = CUID.fromString("cl9gts1kw00393647W1Z4V2TC");
+
+        final HibernateException exception = Assertions.assertThrows(
+            HibernateException.class,
+            () -> cuidBinaryType.nullSafeSet(preparedStatement, cuid, 1, null));
+
+        Assertions.assertEquals(
+            "CUID 'cl9gts1kw00393647W1Z4V2TC' is not in canonical form and can't be stored as binary",
+            exception.getMessage());
+        Mockito.verifyNoInteractions(preparedStatement);
+    }
+
     @Test
     void entityFactory() {
 
@@ -78,6 +149,20 @@ final class PersistenceHibernateTest {
         Assertions.assertFalse(entityManager.isOpen());
     }
 
+    @Test
+    void hibernateSettings() {
+
+        final EntityManager entityManager = this.injector.getInstance(EntityManager.class);
+        final Map<String, Object> propertyMap = entityManager.getEntityManagerFactory().getProperties();
+
+        Assertions.assertEquals("25", propertyMap.get("hibernate.jdbc.batch_size"));
+        Assertions.assertEquals("true", propertyMap.get("hibernate.order_inserts"));
+        Assertions.assertEquals("100", propertyMap.get("hibernate.jdbc.fetch_size"));
+        Assertions.assertEquals("UTC", propertyMap.get("hibernate.jdbc.time_zone"));
+
+        entityManager.close();
+    }
+
     @Test
     void transaction() {
 
@@ -145,4 +230,22 @@ final class PersistenceHibernateTest {
         entityManager.close();
         Assertions.assertFalse(entityManager.isOpen());
     }
+
+    @Test
+    void warmUp() {
+
+        final PersistenceLifeCycle persistenceLifeCycle = this.injector.getInstance(PersistenceLifeCycle.class);
+        persistenceLifeCycle.forceEntityManagerFactoryInitialisation();
+
+        final EntityManagerProvider entityManagerProvider = this.injector.getInstance(
+            Key.get(EntityManagerProvider.class, Names.named("default")));
+        Assertions.assertSame(entityManagerProvider, this.injector.getInstance(EntityManagerProvider.class));
+
+        final int warmedUpCount = entityManagerProvider.warmUp();
+        Assertions.assertEquals(1, warmedUpCount);
+
+        final EntityManager entityManager = entityManagerProvider.get();
+        Assertions.assertNotNull(entityManager.createNamedQuery("UnitTestModel.findAll"));
+        entityManager.close();
+    }
 }
@@ -0,0 +1,132 @@
+package dev.voidframework.persistence.hibernate;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Stage;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import dev.voidframework.datasource.hikaricp.module.HikariCpDataSourceModule;
+import dev.voidframework.persistence.hibernate.cache.LocalRegionFactory;
+import dev.voidframework.persistence.hibernate.model.UnitTestCachedModel;
+import dev.voidframework.persistence.hibernate.module.HibernateModule;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestMethodOrder;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.MethodName.class)
+final class SecondLevelCacheTest {
+
+    private final Injector injector;
+
+    public SecondLevelCacheTest() {
+
+        final Config configuration = ConfigFactory.parseString("""
+            voidframework.core.runInDevMode = true
+            voidframework.persistence.modelsJarUrlPattern = "^.*void.*$"
+            voidframework.persistence.hibernate.default.cache.use_second_level_cache = true
+            voidframework.persistence.hibernate.default.generate_statistics = true
+            voidframework.persistence.hibernate.default.cache.local.region."dev.voidframework.persistence.hibernate.model.UnitTestCachedModel".max_entries = 2
+            voidframework.datasource.default.driver = "org.hsqldb.jdbc.JDBCDriver"
+            voidframework.datasource.default.url = "jdbc:hsqldb:mem:unit_tests_cache;sql.syntax_ora=true"
+            voidframework.datasource.default.username = "sa"
+            voidframework.datasource.default.password = "sa"
+            voidframework.datasource.default.autoCommit = false
+            voidframework.datasource.default.connectionInitSql = "CALL NOW()"
+            voidframework.datasource.default.connectionTestQuery = "CALL NOW()"
+            voidframework.datasource.default.connectionTimeout = 10000
+            voidframework.datasource.default.idleTimeout = 30000
+            voidframework.datasource.default.keepaliveTime = 0
+            voidframework.datasource.default.minimumIdle = 1
+            voidframework.datasource.default.maximumPoolSize = 5
+            """);
+        this.injector = Guice.createInjector(Stage.PRODUCTION, new AbstractModule() {
+
+            @Override
+            protected void configure() {
+
+                install(new HikariCpDataSourceModule());
+                install(new HibernateModule(configuration));
+                bind(Config.class).toInstance(configuration);
+            }
+        });
+
+        final EntityManager entityManager = this.injector.getInstance(EntityManager.class);
+        entityManager.getTransaction().begin();
+        entityManager.createNativeQuery("""
+            CREATE TABLE UNIT_TEST_CACHED (
+                ID    VARCHAR(36)   NOT NULL,
+                NAME  VARCHAR(36),
+                PRIMARY KEY (id)
+            );
+            """).executeUpdate();
+        entityManager.getTransaction().commit();
+        entityManager.close();
+    }
+
+    @Test
+    void findFromSecondLevelCache() {
+
+        // Arrange
+        this.persist("1", "Paris");
+
+        final EntityManagerFactory entityManagerFactory = this.injector.getInstance(EntityManager.class).getEntityManagerFactory();
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        final EntityManager entityManager = this.injector.getInstance(EntityManager.class);
+        final UnitTestCachedModel model = entityManager.find(UnitTestCachedModel.class, "1");
+        entityManager.close();
+
+        // Assert
+        Assertions.assertEquals(
+            LocalRegionFactory.class.getName(),
+            entityManagerFactory.getProperties().get("hibernate.cache.region.factory_class"));
+        Assertions.assertNotNull(model);
+        Assertions.assertEquals("Paris", model.name);
+        Assertions.assertEquals(1, statistics.getSecondLevelCacheHitCount());
+        Assertions.assertEquals(0, statistics.getSecondLevelCacheMissCount());
+    }
+
+    @Test
+    void regionIsBounded() {
+
+        // Act
+        this.persist("10", "Lyon");
+        this.persist("11", "Nantes");
+        this.persist("12", "Rennes");
+
+        // Assert
+        final EntityManagerFactory entityManagerFactory = this.injector.getInstance(EntityManager.class).getEntityManagerFactory();
+        Assertions.assertFalse(entityManagerFactory.getCache().contains(UnitTestCachedModel.class, "10"));
+        Assertions.assertTrue(entityManagerFactory.getCache().contains(UnitTestCachedModel.class, "11"));
+        Assertions.assertTrue(entityManagerFactory.getCache().contains(UnitTestCachedModel.class, "12"));
+    }
+
+    /**
+     * Persists a new cached entity.
+     *
+     * @param id   The entity identifier
+     * @param name The entity name
+     */
+    private void persist(final String id, final String name) {
+
+        final UnitTestCachedModel model = new UnitTestCachedModel();
+        model.id = id;
+        model.name = name;
+
+        final EntityManager entityManager = this.injector.getInstance(EntityManager.class);
+        entityManager.getTransaction().begin();
+        entityManager.persist(model);
+        entityManager.getTransaction().commit();
+        entityManager.close();
+    }
+}
@@ -0,0 +1,103 @@
+package dev.voidframework.persistence.hibernate.cache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@TestMethodOrder(MethodOrderer.MethodName.class)
+final class LocalStorageAccessTest {
+
+    @Test
+    void concurrentAccess() throws InterruptedException {
+
+        // Arrange
+        final LocalStorageAccess localStorageAccess = new LocalStorageAccess(100, 0);
+        final ExecutorService executorService = Executors.newFixedThreadPool(8);
+        final AtomicInteger missingValueCount = new AtomicInteger();
+
+        // Act
+        for (int threadIdx = 0; threadIdx < 8; threadIdx += 1) {
+            final int threadNumber = threadIdx;
+            executorService.submit(() -> {
+                for (int idx = 0; idx < 10_000; idx += 1) {
+                    final String key = "key" + threadNumber + "-" + idx;
+                    localStorageAccess.putIntoCache(key, idx, null);
+                    if (localStorageAccess.getFromCache(key, null) == null) {
+                        missingValueCount.incrementAndGet();
+                    }
+                }
+            });
+        }
+
+        executorService.shutdown();
+        final boolean isTerminated = executorService.awaitTermination(30, TimeUnit.SECONDS);
+
+        // Assert
+        Assertions.assertTrue(isTerminated);
+        Assertions.assertTrue(localStorageAccess.size() <= 100);
+        Assertions.assertTrue(missingValueCount.get() < 8 * 10_000);
+    }
+
+    @Test
+    void evictData() {
+
+        // Arrange
+        final LocalStorageAccess localStorageAccess = new LocalStorageAccess(0, 0);
+        localStorageAccess.putIntoCache("key1", "value1", null);
+        localStorageAccess.putIntoCache("key2", "value2", null);
+
+        // Act
+        localStorageAccess.evictData("key1");
+
+        // Assert
+        Assertions.assertFalse(localStorageAccess.contains("key1"));
+        Assertions.assertEquals("value2", localStorageAccess.getFromCache("key2", null));
+
+        // Act
+        localStorageAccess.evictData();
+
+        // Assert
+        Assertions.assertEquals(0, localStorageAccess.size());
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvicted() {
+
+        // Arrange
+        final LocalStorageAccess localStorageAccess = new LocalStorageAccess(2, 0);
+        localStorageAccess.putIntoCache("key1", "value1", null);
+        localStorageAccess.putIntoCache("key2", "value2", null);
+        localStorageAccess.getFromCache("key1", null);
+
+        // Act
+        localStorageAccess.putIntoCache("key3", "value3", null);
+
+        // Assert
+        Assertions.assertEquals(2, localStorageAccess.size());
+        Assertions.assertEquals("value1", localStorageAccess.getFromCache("key1", null));
+        Assertions.assertNull(localStorageAccess.getFromCache("key2", null));
+        Assertions.assertEquals("value3", localStorageAccess.getFromCache("key3", null));
+    }
+
+    @Test
+    void unboundedStorage() {
+
+        // Arrange
+        final LocalStorageAccess localStorageAccess = new LocalStorageAccess(0, 0);
+
+        // Act
+        for (int idx = 0; idx < 1000; idx += 1) {
+            localStorageAccess.putIntoCache("key" + idx, idx, null);
+        }
+
+        // Assert
+        Assertions.assertEquals(1000, localStorageAccess.size());
+        Assertions.assertEquals(0, localStorageAccess.getFromCache("key0", null));
+    }
+}
@@ -0,0 +1,24 @@
+package dev.voidframework.persistence.hibernate.model;
+
+import dev.voidframework.core.lang.CUID;
+import dev.voidframework.persistence.hibernate.annotation.CuidGenerator;
+import dev.voidframework.persistence.hibernate.cuid.CUIDBinaryType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.Type;
+
+@Entity
+@Table(name = "UNIT_TEST_BINARY_CUID")
+public class UnitTestBinaryCUIDModel {
+
+    @Id
+    @CuidGenerator
+    @Type(CUIDBinaryType.class)
+    @Column(name = "ID", nullable = false, length = 16)
+    public CUID id;
+
+    @Column(name = "NAME")
+    public String name;
+}
@@ -0,0 +1,23 @@
+package dev.voidframework.persistence.hibernate.model;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+@Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "UNIT_TEST_CACHED")
+public class UnitTestCachedModel {
+
+    @Id
+    @Column(name = "ID", nullable = false)
+    public String id;
+
+    @Column(name = "NAME")
+    public String name;
+}
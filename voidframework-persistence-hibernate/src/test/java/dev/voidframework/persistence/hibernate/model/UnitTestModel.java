@@ -3,9 +3,11 @@ package dev.voidframework.persistence.hibernate.model;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.NamedQuery;
 import jakarta.persistence.Table;
 
 @Entity
+@NamedQuery(name = "UnitTestModel.findAll", query = "SELECT u FROM UnitTestModel u")
 @Table(name = "UNIT_TEST")
 public class UnitTestModel {
 
@@ -7,6 +7,7 @@ import dev.voidframework.datasource.DataSourceManager;
 import org.jooq.DSLContext;
 import org.jooq.SQLDialect;
 import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConfiguration;
 
 import java.util.ArrayDeque;
 import java.util.Deque;
@@ -16,6 +17,9 @@ import java.util.Deque;
  * the {@link DSLContext} to return when a user calls the method {@link #get()}. These
  * methods are used to handle transaction with the {@link jakarta.transaction.Transactional}
  * annotation interceptor.
+ * <p>
+ * Outside a transaction, the same DSL context, built once from a reusable configuration,
+ * is shared by all threads.
  *
  * @since 1.4.0
  */
@@ -24,8 +28,9 @@ public class DSLContextProvider implements Provider<DSLContext> {
 
     private final String dataSourceName;
     private final SQLDialect sqlDialect;
-    private final ThreadLocal<Deque<DSLContext>> currentDSLContext;
+    private final ThreadLocal<Deque<StackedDSLContext>> currentDSLContext;
     private Provider<DataSourceManager> dataSourceManagerProvider;
+    private volatile DSLContext sharedDSLContext;
 
     /**
      * Build a new instance.
@@ -60,7 +65,7 @@ public class DSLContextProvider implements Provider<DSLContext> {
             return this.createDSLContext();
         }
 
-        return this.currentDSLContext.get().getFirst();
+        return this.currentDSLContext.get().getFirst().dslContext();
     }
 
     /**
@@ -70,7 +75,7 @@ public class DSLContextProvider implements Provider<DSLContext> {
      */
     public void destroyLatestDSLContext() {
 
-        final Deque<DSLContext> currentDSLContextDeque = this.currentDSLContext.get();
+        final Deque<StackedDSLContext> currentDSLContextDeque = this.currentDSLContext.get();
         if (currentDSLContextDeque != null) {
             currentDSLContextDeque.removeFirst();
 
@@ -87,29 +92,45 @@ public class DSLContextProvider implements Provider<DSLContext> {
      */
     public void initializeNewDSLContext() {
 
-        Deque<DSLContext> currentDSLContextDeque = this.currentDSLContext.get();
-        if (currentDSLContextDeque == null) {
-            currentDSLContextDeque = new ArrayDeque<>();
-            this.currentDSLContext.set(currentDSLContextDeque);
-        }
-        currentDSLContextDeque.addFirst(this.createDSLContext());
+        this.retrieveCurrentDSLContextDeque().addFirst(new StackedDSLContext(this.createDSLContext(), false));
     }
 
     /**
      * Replaces the current DSL context with another one.
      *
+     * @param dslContext The DSL context to use
      * @since 1.4.0
      */
     public void replaceExistingDSLContext(final DSLContext dslContext) {
 
+        this.replaceExistingDSLContext(dslContext, false);
+    }
+
+    /**
+     * Replaces the current DSL context with another one.
+     *
+     * @param dslContext      The DSL context to use
+     * @param isTransactional Whether the DSL context is bound to a transaction
+     * @since 1.17.0
+     */
+    public void replaceExistingDSLContext(final DSLContext dslContext, final boolean isTransactional) {
+
         this.destroyLatestDSLContext();
+        this.retrieveCurrentDSLContextDeque().addFirst(new StackedDSLContext(dslContext, isTransactional));
+    }
 
-        Deque<DSLContext> currentDSLContextDeque = this.currentDSLContext.get();
-        if (currentDSLContextDeque == null) {
-            currentDSLContextDeque = new ArrayDeque<>();
-            this.currentDSLContext.set(currentDSLContextDeque);
-        }
-        currentDSLContextDeque.addFirst(dslContext);
+    /**
+     * Checks if the current DSL context of the current Thread is bound to a transaction.
+     *
+     * @return {@code true} if the current DSL context is bound to a transaction, otherwise, {@code false}
+     * @since 1.17.0
+     */
+    public boolean isTransactionActive() {
+
+        final Deque<StackedDSLContext> currentDSLContextDeque = this.currentDSLContext.get();
+        return currentDSLContextDeque != null
+            && !currentDSLContextDeque.isEmpty()
+            && currentDSLContextDeque.getFirst().isTransactional();
     }
 
     /**
@@ -120,20 +141,53 @@ public class DSLContextProvider implements Provider<DSLContext> {
      */
     public boolean isDSLContextMustBeInitialized() {
 
-        final Deque<DSLContext> currentDSLContextDeque = this.currentDSLContext.get();
+        final Deque<StackedDSLContext> currentDSLContextDeque = this.currentDSLContext.get();
         return currentDSLContextDeque == null || currentDSLContextDeque.isEmpty();
     }
 
     /**
-     * Creates a new DSL context.
+     * Retrieves the DSL contexts of the current Thread.
      *
-     * @return Newly created DSL context
+     * @return The DSL contexts of the current Thread
+     * @since 1.17.0
+     */
+    private Deque<StackedDSLContext> retrieveCurrentDSLContextDeque() {
+
+        Deque<StackedDSLContext> currentDSLContextDeque = this.currentDSLContext.get();
+        if (currentDSLContextDeque == null) {
+            currentDSLContextDeque = new ArrayDeque<>();
+            this.currentDSLContext.set(currentDSLContextDeque);
+        }
+
+        return currentDSLContextDeque;
+    }
+
+    /**
+     * Creates a new DSL context. The DSL context is built once, then reused.
+     *
+     * @return The DSL context
      * @since 1.4.0
      */
     private DSLContext createDSLContext() {
 
-        return DSL.using(
-            this.dataSourceManagerProvider.get().getDataSource(this.dataSourceName),
-            this.sqlDialect);
+        DSLContext dslContext = this.sharedDSLContext;
+        if (dslContext == null) {
+            dslContext = DSL.using(new DefaultConfiguration()
+                .set(this.dataSourceManagerProvider.get().getDataSource(this.dataSourceName))
+                .set(this.sqlDialect));
+            this.sharedDSLContext = dslContext;
+        }
+
+        return dslContext;
+    }
+
+    /**
+     * A DSL context of the current Thread.
+     *
+     * @param dslContext      The DSL context
+     * @param isTransactional Whether the DSL context is bound to a transaction
+     * @since 1.17.0
+     */
+    private record StackedDSLContext(DSLContext dslContext, boolean isTransactional) {
     }
 }
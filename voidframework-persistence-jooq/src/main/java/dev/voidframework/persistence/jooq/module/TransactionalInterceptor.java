@@ -3,15 +3,15 @@ package dev.voidframework.persistence.jooq.module;
 import com.google.inject.Inject;
 import dev.voidframework.core.lang.Either;
 import dev.voidframework.core.utils.ProxyDetectorUtils;
+import dev.voidframework.datasource.routing.DataSourceRoutingContext;
 import dev.voidframework.persistence.AbstractTransactionalInterceptor;
+import dev.voidframework.persistence.TransactionalMetadata;
 import jakarta.transaction.InvalidTransactionException;
 import jakarta.transaction.TransactionRequiredException;
 import jakarta.transaction.Transactional;
 import org.aopalliance.intercept.MethodInvocation;
 import org.jooq.DSLContext;
 
-import java.util.Objects;
-
 /**
  * Intercepts method call when annotation {@link Transactional} is used.
  *
@@ -39,10 +39,7 @@ public class TransactionalInterceptor extends AbstractTransactionalInterceptor {
         boolean isInitiator = false;
 
         // Retrieves the transaction configuration
-        Transactional transactionalAnnotation = methodInvocation.getMethod().getAnnotation(Transactional.class);
-        if (transactionalAnnotation == null) {
-            transactionalAnnotation = methodInvocation.getThis().getClass().getAnnotation(Transactional.class);
-        }
+        final TransactionalMetadata transactionalMetadata = this.resolveTransactionalMetadata(methodInvocation);
 
         // Create a new EntityManager for this current thread (must be done once)
         if (this.dslContextProvider.isDSLContextMustBeInitialized()) {
@@ -54,9 +51,9 @@ public class TransactionalInterceptor extends AbstractTransactionalInterceptor {
         final DSLContext dslContext = this.dslContextProvider.get();
 
         try {
-            return switch (transactionalAnnotation.value()) {
+            return switch (transactionalMetadata.txType()) {
                 case MANDATORY:
-                    if (!this.isTransactionActive(dslContext)) {
+                    if (!this.dslContextProvider.isTransactionActive()) {
                         // The configuration indicates that a transaction must already exist
                         // This is not the case here, so an exception will be thrown
                         throw new TransactionRequiredException("%s::%s called outside a transaction context".formatted(
@@ -67,7 +64,7 @@ public class TransactionalInterceptor extends AbstractTransactionalInterceptor {
                     }
                     yield methodInvocation.proceed();
                 case NEVER:
-                    if (this.isTransactionActive(dslContext)) {
+                    if (this.dslContextProvider.isTransactionActive()) {
                         // The configuration indicates that a transaction must not exist
                         // This is not the case here, so an exception will be thrown
                         throw new InvalidTransactionException("%s::%s called inside a transaction context".formatted(
@@ -79,14 +76,14 @@ public class TransactionalInterceptor extends AbstractTransactionalInterceptor {
                     yield methodInvocation.proceed();
                 case NOT_SUPPORTED:
                     // The configuration indicates that current method must run outside a transaction context
-                    if (this.isTransactionActive(dslContext)) {
+                    if (this.dslContextProvider.isTransactionActive()) {
                         isInitiator = true;
                         this.dslContextProvider.initializeNewDSLContext();
                     }
                     yield methodInvocation.proceed();
                 case REQUIRED:
-                    if (!this.isTransactionActive(dslContext)) {
-                        yield this.proceedInTransaction(methodInvocation, dslContext, transactionalAnnotation);
+                    if (!this.dslContextProvider.isTransactionActive()) {
+                        yield this.proceedInTransaction(methodInvocation, dslContext, transactionalMetadata);
                     }
                     yield methodInvocation.proceed();
                 case REQUIRES_NEW:
@@ -97,9 +94,9 @@ public class TransactionalInterceptor extends AbstractTransactionalInterceptor {
                         this.dslContextProvider.initializeNewDSLContext();
                         final DSLContext newDSLContext = this.dslContextProvider.get();
 
-                        yield this.proceedInTransaction(methodInvocation, newDSLContext, transactionalAnnotation);
+                        yield this.proceedInTransaction(methodInvocation, newDSLContext, transactionalMetadata);
                     } else {
-                        yield this.proceedInTransaction(methodInvocation, dslContext, transactionalAnnotation);
+                        yield this.proceedInTransaction(methodInvocation, dslContext, transactionalMetadata);
                     }
                 case SUPPORTS:
                     // A transaction exist or the configuration indicates than method
@@ -116,35 +113,42 @@ public class TransactionalInterceptor extends AbstractTransactionalInterceptor {
     }
 
     /**
-     * Proceeds method in a transaction.
+     * Proceeds method in a transaction. The connection of the transaction is served by a
+     * replica of the data source if the transaction is read-only.
      *
      * @param methodInvocation        The method invocation to proceed
      * @param dslContext              The current DSL context
-     * @param transactionalAnnotation The current transaction annotation
+     * @param transactionalMetadata   The current transaction configuration
      * @return Method invocation returned result
      * @throws Throwable If something goes wrong
      * @since 1.7.0
      */
     private Object proceedInTransaction(final MethodInvocation methodInvocation,
                                         final DSLContext dslContext,
-                                        final Transactional transactionalAnnotation) throws Throwable {
+                                        final TransactionalMetadata transactionalMetadata) throws Throwable {
 
         // Creates a new transaction and then executes the method. If something goes
         // wrong, and depending on the configuration, a rollback will be performed
-        final Either<Object, Throwable> result = dslContext.transactionResult(configuration -> {
-            try {
-                this.dslContextProvider.replaceExistingDSLContext(configuration.dsl());
-                return Either.ofLeft(methodInvocation.proceed());
-            } catch (final Throwable throwable) {
-                if (this.hasToRollback(transactionalAnnotation, throwable.getClass())) {
-                    throw throwable;
-                }
+        final Either<Object, Throwable> result;
+        DataSourceRoutingContext.push(transactionalMetadata.dataSourceRoute());
+        try {
+            result = dslContext.transactionResult(configuration -> {
+                try {
+                    this.dslContextProvider.replaceExistingDSLContext(configuration.dsl(), true);
+                    return Either.ofLeft(methodInvocation.proceed());
+                } catch (final Throwable throwable) {
+                    if (transactionalMetadata.hasToRollback(throwable.getClass())) {
+                        throw throwable;
+                    }
 
-                return Either.ofRight(throwable);
-            } finally {
-                this.dslContextProvider.destroyLatestDSLContext();
-            }
-        });
+                    return Either.ofRight(throwable);
+                } finally {
+                    this.dslContextProvider.destroyLatestDSLContext();
+                }
+            });
+        } finally {
+            DataSourceRoutingContext.pop();
+        }
 
         if (result.hasRight()) {
             throw result.getRight();
@@ -152,20 +156,4 @@ public class TransactionalInterceptor extends AbstractTransactionalInterceptor {
 
         return result.getLeft();
     }
-
-    /**
-     * Checks if the transaction is active.
-     *
-     * @param dslContext The DSL Context
-     * @return {@code true} if the transaction is active, otherwise, {@code false}
-     * @since 1.4.0
-     */
-    private boolean isTransactionActive(final DSLContext dslContext) {
-
-        return dslContext.data()
-            .keySet()
-            .stream()
-            .map(Object::toString)
-            .anyMatch(toStringValue -> Objects.equals(toStringValue, "DATA_DEFAULT_TRANSACTION_PROVIDER_SAVEPOINTS"));
-    }
 }
@@ -1,7 +1,13 @@
 package dev.voidframework.persistence;
 
+import dev.voidframework.datasource.routing.ReadOnly;
 import jakarta.transaction.Transactional;
 import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Provides base methods for all transactional interceptors.
@@ -10,6 +16,48 @@ import org.aopalliance.intercept.MethodInterceptor;
  */
 public abstract class AbstractTransactionalInterceptor implements MethodInterceptor {
 
+    private final ClassValue<Map<Method, TransactionalMetadata>> transactionalMetadataCache = new ClassValue<>() {
+
+        @Override
+        protected Map<Method, TransactionalMetadata> computeValue(final Class<?> classType) {
+
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * Resolves the transactional configuration of the intercepted method. The annotation on
+     * the method takes precedence over the one on the class. The transaction is read-only if
+     * {@link ReadOnly} is present on the method or on the class. The resolved configuration
+     * is cached per class and method.
+     *
+     * @param methodInvocation The intercepted method invocation
+     * @return The transactional configuration
+     * @since 1.17.0
+     */
+    protected TransactionalMetadata resolveTransactionalMetadata(final MethodInvocation methodInvocation) {
+
+        final Class<?> classType = methodInvocation.getThis().getClass();
+        final Method method = methodInvocation.getMethod();
+        final Map<Method, TransactionalMetadata> transactionalMetadataPerMethodMap = this.transactionalMetadataCache.get(classType);
+
+        final TransactionalMetadata transactionalMetadata = transactionalMetadataPerMethodMap.get(method);
+        if (transactionalMetadata != null) {
+            return transactionalMetadata;
+        }
+
+        return transactionalMetadataPerMethodMap.computeIfAbsent(method, key -> {
+            Transactional transactionalAnnotation = method.getAnnotation(Transactional.class);
+            if (transactionalAnnotation == null) {
+                transactionalAnnotation = classType.getAnnotation(Transactional.class);
+            }
+
+            final boolean readOnly = method.isAnnotationPresent(ReadOnly.class) || classType.isAnnotationPresent(ReadOnly.class);
+
+            return TransactionalMetadata.of(transactionalAnnotation, readOnly);
+        });
+    }
+
     /**
      * Determines whether a rollback should be performed.
      *
@@ -20,27 +68,6 @@ public abstract class AbstractTransactionalInterceptor implements MethodIntercep
      */
     protected boolean hasToRollback(final Transactional transactionalAnnotation, final Class<?> throwableClass) {
 
-        // "dontRollbackOn" always takes precedence
-        for (final Class<?> dontRollbackOn : transactionalAnnotation.dontRollbackOn()) {
-            if (dontRollbackOn == throwableClass) {
-                return false;
-            }
-        }
-
-        // If the list is empty, you simply need to rollback
-        if (transactionalAnnotation.rollbackOn().length == 0
-            && RuntimeException.class.isAssignableFrom(throwableClass)) {
-            return true;
-        }
-
-        // But on the other hand, if it is not, rollback is only allowed
-        // if the exception class is present in the list
-        for (final Class<?> rollbackOn : transactionalAnnotation.rollbackOn()) {
-            if (rollbackOn == throwableClass) {
-                return true;
-            }
-        }
-
-        return false;
+        return TransactionalMetadata.of(transactionalAnnotation).hasToRollback(throwableClass);
     }
 }
@@ -0,0 +1,92 @@
+package dev.voidframework.persistence;
+
+import dev.voidframework.datasource.routing.DataSourceRoute;
+import jakarta.transaction.Transactional;
+
+/**
+ * Resolved {@link Transactional} configuration of an intercepted method. Resolving it once avoids
+ * the annotation lookup, and the copy of the rollback rules arrays, on each invocation.
+ *
+ * @param txType         The transaction type
+ * @param rollbackOn     The exceptions which must cause a rollback
+ * @param dontRollbackOn The exceptions which must not cause a rollback
+ * @param readOnly       Whether the transaction only reads data
+ * @since 1.17.0
+ */
+public record TransactionalMetadata(Transactional.TxType txType,
+                                    Class<?>[] rollbackOn,
+                                    Class<?>[] dontRollbackOn,
+                                    boolean readOnly) {
+
+    /**
+     * Creates a new instance from a {@link Transactional} annotation.
+     *
+     * @param transactionalAnnotation The transactional annotation
+     * @return Newly created instance
+     * @since 1.17.0
+     */
+    public static TransactionalMetadata of(final Transactional transactionalAnnotation) {
+
+        return of(transactionalAnnotation, false);
+    }
+
+    /**
+     * Creates a new instance from a {@link Transactional} annotation.
+     *
+     * @param transactionalAnnotation The transactional annotation
+     * @param readOnly                Whether the transaction only reads data
+     * @return Newly created instance
+     * @since 1.17.0
+     */
+    public static TransactionalMetadata of(final Transactional transactionalAnnotation, final boolean readOnly) {
+
+        return new TransactionalMetadata(
+            transactionalAnnotation.value(),
+            transactionalAnnotation.rollbackOn(),
+            transactionalAnnotation.dontRollbackOn(),
+            readOnly);
+    }
+
+    /**
+     * Retrieves the data source route to use for the connections of a newly created transaction.
+     *
+     * @return The data source route
+     * @since 1.17.0
+     */
+    public DataSourceRoute dataSourceRoute() {
+
+        return this.readOnly ? DataSourceRoute.REPLICA : DataSourceRoute.PRIMARY;
+    }
+
+    /**
+     * Determines whether a rollback should be performed.
+     *
+     * @param throwableClass The caught throwable class
+     * @return {@code true} if a rollback should be performed, otherwise {@code false}
+     * @since 1.17.0
+     */
+    public boolean hasToRollback(final Class<?> throwableClass) {
+
+        // "dontRollbackOn" always takes precedence
+        for (final Class<?> dontRollbackOnClass : this.dontRollbackOn) {
+            if (dontRollbackOnClass == throwableClass) {
+                return false;
+            }
+        }
+
+        // If the list is empty, you simply need to rollback
+        if (this.rollbackOn.length == 0 && RuntimeException.class.isAssignableFrom(throwableClass)) {
+            return true;
+        }
+
+        // But on the other hand, if it is not, rollback is only allowed
+        // if the exception class is present in the list
+        for (final Class<?> rollbackOnClass : this.rollbackOn) {
+            if (rollbackOnClass == throwableClass) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
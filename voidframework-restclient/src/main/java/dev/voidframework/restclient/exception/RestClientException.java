@@ -66,4 +66,56 @@ public class RestClientException extends RuntimeException {
             super("Can't complete call adapter process", cause);
         }
     }
+
+    /**
+     * Exception indicates that the return type of a REST Client method is not supported.
+     *
+     * @since 1.17.0
+     */
+    public static class UnsupportedReturnType extends RestClientException {
+
+        /**
+         * Build a new instance.
+         *
+         * @param returnType The unsupported return type
+         * @since 1.17.0
+         */
+        public UnsupportedReturnType(final String returnType) {
+
+            super("'" + returnType + "' is not a supported return type, type parameter is missing");
+        }
+    }
+
+    /**
+     * Exception indicates that the remote server responded with an unsuccessful HTTP status code.
+     *
+     * @since 1.17.0
+     */
+    public static class UnsuccessfulResponse extends RestClientException {
+
+        private final int httpCode;
+
+        /**
+         * Build a new instance.
+         *
+         * @param httpCode The HTTP status code
+         * @since 1.17.0
+         */
+        public UnsuccessfulResponse(final int httpCode) {
+
+            super("Remote server responded with HTTP " + httpCode);
+            this.httpCode = httpCode;
+        }
+
+        /**
+         * Retrieves the HTTP status code.
+         *
+         * @return The HTTP status code
+         * @since 1.17.0
+         */
+        public int getHttpCode() {
+
+            return this.httpCode;
+        }
+    }
 }
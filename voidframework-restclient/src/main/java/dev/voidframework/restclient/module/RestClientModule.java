@@ -14,7 +14,10 @@ import dev.voidframework.restclient.retrofit.CallAdapterFactory;
 import dev.voidframework.restclient.retrofit.interceptor.ApiKeyAuthenticationInterceptor;
 import dev.voidframework.restclient.retrofit.interceptor.BasicAuthenticationInterceptor;
 import dev.voidframework.restclient.retrofit.interceptor.BearerAuthenticationInterceptor;
+import dev.voidframework.restclient.retrofit.interceptor.RetryInterceptor;
+import okhttp3.Cache;
 import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
 import org.apache.commons.lang3.StringUtils;
@@ -24,6 +27,8 @@ import retrofit2.Retrofit;
 import retrofit2.converter.jackson.JacksonConverterFactory;
 import retrofit2.converter.scalars.ScalarsConverterFactory;
 
+import java.io.File;
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -34,6 +39,9 @@ import java.util.concurrent.TimeUnit;
 public final class RestClientModule extends AbstractModule {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(RestClientModule.class);
+    private static final String CONFIGURATION_KEY_PREFIX = "voidframework.restclient";
+    private static final int DEFAULT_MAX_REQUESTS = 64;
+    private static final int DEFAULT_MAX_REQUESTS_PER_HOST = 16;
 
     private final Config configuration;
     private final ScannedClassesToLoad scannedClassesToLoad;
@@ -55,6 +63,10 @@ public final class RestClientModule extends AbstractModule {
     @SuppressWarnings({"rawtypes", "unchecked"})
     protected void configure() {
 
+        // Creates the base HTTP Client, its connection pool, dispatcher, cache
+        // and TLS context are shared by all REST Clients
+        final OkHttpClient baseOkHttpClient = this.createBaseOkHttpClient();
+
         // Creates REST proxy
         for (final Class<?> proxyable : this.scannedClassesToLoad.proxyableList()) {
             final RestClient restClient = proxyable.getAnnotation(RestClient.class);
@@ -64,19 +76,7 @@ public final class RestClientModule extends AbstractModule {
                 final String restClientConfigurationKeyPrefix = this.retrieveConfigurationKeyPrefix(restClient);
 
                 // Creates HTTP Client
-                final long keepAliveDurationAsMilliseconds = ConfigurationUtils.getDurationOrFallback(
-                    this.configuration,
-                    restClientConfigurationKeyPrefix + ".keepAliveDuration",
-                    TimeUnit.MILLISECONDS,
-                    "voidframework.restclient.keepAliveDuration");
-                final ConnectionPool connectionPool = new ConnectionPool(
-                    ConfigurationUtils.getIntOrFallback(
-                        this.configuration,
-                        restClientConfigurationKeyPrefix + ".maxIdleConnections",
-                        "voidframework.restclient.maxIdleConnections"),
-                    keepAliveDurationAsMilliseconds,
-                    TimeUnit.MILLISECONDS);
-                final OkHttpClient.Builder okHttpClientBuilder = new OkHttpClient.Builder()
+                final OkHttpClient.Builder okHttpClientBuilder = baseOkHttpClient.newBuilder()
                     .readTimeout(
                         ConfigurationUtils.getDurationOrFallback(
                             this.configuration,
@@ -86,8 +86,37 @@ public final class RestClientModule extends AbstractModule {
                         ConfigurationUtils.getDurationOrFallback(
                             this.configuration,
                             restClientConfigurationKeyPrefix + ".connectionTimeout",
-                            "voidframework.restclient.connectionTimeout"))
-                    .connectionPool(connectionPool);
+                            "voidframework.restclient.connectionTimeout"));
+
+                // Service specific connection pool, dispatcher and cache
+                if (ConfigurationUtils.hasAnyPath(
+                    this.configuration,
+                    restClientConfigurationKeyPrefix + ".maxIdleConnections",
+                    restClientConfigurationKeyPrefix + ".keepAliveDuration")) {
+                    okHttpClientBuilder.connectionPool(this.createConnectionPool(restClientConfigurationKeyPrefix));
+                }
+
+                if (ConfigurationUtils.hasAnyPath(
+                    this.configuration,
+                    restClientConfigurationKeyPrefix + ".maxRequests",
+                    restClientConfigurationKeyPrefix + ".maxRequestsPerHost")) {
+                    okHttpClientBuilder.dispatcher(this.configureDispatcher(
+                        restClientConfigurationKeyPrefix,
+                        new Dispatcher(baseOkHttpClient.dispatcher().executorService())));
+                }
+
+                if (this.configuration.hasPath(restClientConfigurationKeyPrefix + ".cache.directory")) {
+                    okHttpClientBuilder.cache(this.createCache(restClientConfigurationKeyPrefix));
+                }
+
+                // Retry interceptor
+                final int maxRetries = ConfigurationUtils.getIntOrFallback(
+                    this.configuration,
+                    restClientConfigurationKeyPrefix + ".retry.maxRetries",
+                    "voidframework.restclient.retry.maxRetries");
+                if (maxRetries > 0) {
+                    okHttpClientBuilder.addInterceptor(createRetryInterceptor(restClientConfigurationKeyPrefix, maxRetries));
+                }
 
                 // Authentication interceptor
                 final boolean needAuthentication = ConfigurationUtils.hasAnyPath(
@@ -129,6 +158,137 @@ public final class RestClientModule extends AbstractModule {
         }
     }
 
+    /**
+     * Creates the base HTTP Client from which all REST Clients HTTP Client are derived.
+     *
+     * @return Newly created {@code OkHttpClient} instance
+     * @since 1.17.0
+     */
+    private OkHttpClient createBaseOkHttpClient() {
+
+        final OkHttpClient.Builder okHttpClientBuilder = new OkHttpClient.Builder()
+            .connectionPool(this.createConnectionPool(CONFIGURATION_KEY_PREFIX))
+            .dispatcher(this.configureDispatcher(CONFIGURATION_KEY_PREFIX, new Dispatcher()));
+
+        if (this.configuration.hasPath(CONFIGURATION_KEY_PREFIX + ".cache.directory")) {
+            okHttpClientBuilder.cache(this.createCache(CONFIGURATION_KEY_PREFIX));
+        }
+
+        return okHttpClientBuilder.build();
+    }
+
+    /**
+     * Create a new {@code ConnectionPool} instance.
+     *
+     * @param restClientConfigurationKeyPrefix The configuration key prefix
+     * @return Newly created {@code ConnectionPool} instance
+     * @since 1.17.0
+     */
+    private ConnectionPool createConnectionPool(final String restClientConfigurationKeyPrefix) {
+
+        final long keepAliveDurationAsMilliseconds = ConfigurationUtils.getDurationOrFallback(
+            this.configuration,
+            restClientConfigurationKeyPrefix + ".keepAliveDuration",
+            TimeUnit.MILLISECONDS,
+            "voidframework.restclient.keepAliveDuration");
+
+        return new ConnectionPool(
+            ConfigurationUtils.getIntOrFallback(
+                this.configuration,
+                restClientConfigurationKeyPrefix + ".maxIdleConnections",
+                "voidframework.restclient.maxIdleConnections"),
+            keepAliveDurationAsMilliseconds,
+            TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Configures the concurrency limits of a {@code Dispatcher} instance.
+     *
+     * @param restClientConfigurationKeyPrefix The configuration key prefix
+     * @param dispatcher                       The dispatcher to configure
+     * @return The configured {@code Dispatcher} instance
+     * @since 1.17.0
+     */
+    private Dispatcher configureDispatcher(final String restClientConfigurationKeyPrefix, final Dispatcher dispatcher) {
+
+        dispatcher.setMaxRequests(
+            this.getIntOrFallbackOrDefault(
+                restClientConfigurationKeyPrefix + ".maxRequests",
+                "voidframework.restclient.maxRequests",
+                DEFAULT_MAX_REQUESTS));
+        dispatcher.setMaxRequestsPerHost(
+            this.getIntOrFallbackOrDefault(
+                restClientConfigurationKeyPrefix + ".maxRequestsPerHost",
+                "voidframework.restclient.maxRequestsPerHost",
+                DEFAULT_MAX_REQUESTS_PER_HOST));
+
+        return dispatcher;
+    }
+
+    /**
+     * Retrieves an integer value from the given path, then from the fallback path. If
+     * none of them exists, the default value is returned.
+     *
+     * @param path         The path to retrieve
+     * @param fallbackPath The fallback path
+     * @param defaultValue The value to use if none of the paths exists
+     * @return The retrieved value
+     * @since 1.17.0
+     */
+    private int getIntOrFallbackOrDefault(final String path, final String fallbackPath, final int defaultValue) {
+
+        if (this.configuration.hasPath(path)) {
+            return this.configuration.getInt(path);
+        }
+
+        return ConfigurationUtils.getIntOrDefault(this.configuration, fallbackPath, defaultValue);
+    }
+
+    /**
+     * Create a new disk-backed {@code Cache} instance.
+     *
+     * @param restClientConfigurationKeyPrefix The configuration key prefix
+     * @return Newly created {@code Cache} instance
+     * @since 1.17.0
+     */
+    private Cache createCache(final String restClientConfigurationKeyPrefix) {
+
+        final String directory = this.configuration.getString(restClientConfigurationKeyPrefix + ".cache.directory");
+        final long maxSize = ConfigurationUtils.getBytesOrFallback(
+            this.configuration,
+            restClientConfigurationKeyPrefix + ".cache.maxSize",
+            "voidframework.restclient.cache.maxSize");
+
+        return new Cache(new File(directory), maxSize);
+    }
+
+    /**
+     * Create a new {@code RetryInterceptor} instance.
+     *
+     * @param restClientConfigurationKeyPrefix The configuration key prefix
+     * @param maxRetries                       The maximum number of retries
+     * @return Newly created {@code RetryInterceptor} instance
+     * @see RetryInterceptor
+     * @since 1.17.0
+     */
+    private Interceptor createRetryInterceptor(final String restClientConfigurationKeyPrefix, final int maxRetries) {
+
+        final Duration initialBackoff = ConfigurationUtils.getDurationOrFallback(
+            this.configuration,
+            restClientConfigurationKeyPrefix + ".retry.initialBackoff",
+            "voidframework.restclient.retry.initialBackoff");
+        final Duration maxBackoff = ConfigurationUtils.getDurationOrFallback(
+            this.configuration,
+            restClientConfigurationKeyPrefix + ".retry.maxBackoff",
+            "voidframework.restclient.retry.maxBackoff");
+        final Duration maxRetryAfter = ConfigurationUtils.getDurationOrFallback(
+            this.configuration,
+            restClientConfigurationKeyPrefix + ".retry.maxRetryAfter",
+            "voidframework.restclient.retry.maxRetryAfter");
+
+        return new RetryInterceptor(maxRetries, initialBackoff, maxBackoff, maxRetryAfter);
+    }
+
     /**
      * Create a new {@code ApiKeyAuthenticationInterceptor} instance.
      *
@@ -3,21 +3,36 @@ package dev.voidframework.restclient.retrofit;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import dev.voidframework.core.lang.Either;
+import dev.voidframework.core.utils.JsonUtils;
+import dev.voidframework.restclient.exception.RestClientException;
 import dev.voidframework.restclient.retrofit.calladapter.ArrayNodeCallAdapter;
+import dev.voidframework.restclient.retrofit.calladapter.CompletableFutureCallAdapter;
+import dev.voidframework.restclient.retrofit.calladapter.EitherCallAdapter;
 import dev.voidframework.restclient.retrofit.calladapter.GenericCallAdapter;
 import dev.voidframework.restclient.retrofit.calladapter.JsonNodeCallAdapter;
 import dev.voidframework.restclient.retrofit.calladapter.ObjectNodeCallAdapter;
 import dev.voidframework.restclient.retrofit.calladapter.StringCallAdapter;
+import dev.voidframework.restclient.retrofit.interceptor.RetryInterceptor;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
 import retrofit2.Call;
 import retrofit2.CallAdapter;
 import retrofit2.Retrofit;
 
 import javax.annotation.Nullable;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 
 /**
  * Creates CallAdapter instances based on the return type of the service interface methods.
+ * Methods returning {@code CompletableFuture<T>} or {@code CompletionStage<T>} are executed
+ * asynchronously, methods returning {@code Either<T, Throwable>} never throw on failure.
  *
  * @since 1.9.0
  */
@@ -27,7 +42,17 @@ public final class CallAdapterFactory extends CallAdapter.Factory {
     @Override
     public CallAdapter<?, ?> get(final Type type, final Annotation[] annotations, final Retrofit retrofit) {
 
-        if (type == String.class) {
+        final Class<?> rawType = getRawType(type);
+        if (rawType == CompletableFuture.class || rawType == CompletionStage.class) {
+            final Type valueType = getValueType(type);
+            return new CompletableFutureCallAdapter<>(
+                resolveResponseType(valueType),
+                createBodyConverter(valueType),
+                findRetryInterceptor(retrofit));
+        } else if (rawType == Either.class) {
+            final Type valueType = getValueType(type);
+            return new EitherCallAdapter<>(resolveResponseType(valueType), createBodyConverter(valueType));
+        } else if (type == String.class) {
             return new StringCallAdapter();
         } else if (type == JsonNode.class) {
             return new JsonNodeCallAdapter();
@@ -41,4 +66,78 @@ public final class CallAdapterFactory extends CallAdapter.Factory {
 
         return null;
     }
+
+    /**
+     * Retrieves the type of the value wrapped by a parameterized return type.
+     *
+     * @param type The parameterized return type
+     * @return The wrapped value type
+     * @since 1.17.0
+     */
+    private static Type getValueType(final Type type) {
+
+        if (!(type instanceof final ParameterizedType parameterizedType)) {
+            throw new RestClientException.UnsupportedReturnType(type.getTypeName());
+        }
+
+        return getParameterUpperBound(0, parameterizedType);
+    }
+
+    /**
+     * Retrieves the retry interceptor registered on the HTTP client, if any.
+     *
+     * @param retrofit The Retrofit instance
+     * @return The retry interceptor, otherwise, {@code null}
+     * @since 1.17.0
+     */
+    private static RetryInterceptor findRetryInterceptor(final Retrofit retrofit) {
+
+        if (retrofit.callFactory() instanceof final OkHttpClient okHttpClient) {
+            for (final Interceptor interceptor : okHttpClient.interceptors()) {
+                if (interceptor instanceof final RetryInterceptor retryInterceptor) {
+                    return retryInterceptor;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Resolves the type into which the response body will be deserialized.
+     *
+     * @param valueType The expected value type
+     * @return The response body type
+     * @since 1.17.0
+     */
+    private static Type resolveResponseType(final Type valueType) {
+
+        if (valueType == String.class
+            || valueType == JsonNode.class
+            || valueType == ArrayNode.class
+            || valueType == ObjectNode.class) {
+            return valueType;
+        }
+
+        return Object.class;
+    }
+
+    /**
+     * Creates the function converting the response body into the expected value type.
+     *
+     * @param valueType The expected value type
+     * @param <R>       Type of the response body
+     * @param <T>       Type of the expected value
+     * @return The body converter
+     * @since 1.17.0
+     */
+    @SuppressWarnings("unchecked")
+    private static <R, T> Function<R, T> createBodyConverter(final Type valueType) {
+
+        if (resolveResponseType(valueType) == valueType) {
+            return body -> (T) body;
+        }
+
+        return body -> JsonUtils.fromMap((Map<?, ?>) body, JsonUtils.objectMapper().constructType(valueType));
+    }
 }
@@ -0,0 +1,179 @@
+package dev.voidframework.restclient.retrofit.calladapter;
+
+import dev.voidframework.restclient.exception.RestClientException;
+import dev.voidframework.restclient.retrofit.interceptor.RetryInterceptor;
+import retrofit2.Call;
+import retrofit2.CallAdapter;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+import java.lang.reflect.Type;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Adapts a Call into a CompletableFuture. The call is enqueued on the HTTP client
+ * dispatcher, the calling thread is never blocked waiting for the response. When a
+ * retry interceptor is configured, failed idempotent calls are enqueued again after
+ * the retry delay, without blocking any thread while waiting.
+ *
+ * @param <R> Type of the response body
+ * @param <T> Type of the future value
+ * @since 1.17.0
+ */
+public final class CompletableFutureCallAdapter<R, T> implements CallAdapter<R, CompletableFuture<T>> {
+
+    private final Type responseType;
+    private final Function<R, T> bodyConverter;
+    private final RetryInterceptor retryInterceptor;
+
+    /**
+     * Build a new instance.
+     *
+     * @param responseType  The response body type
+     * @param bodyConverter The function converting the response body into the future value
+     * @since 1.17.0
+     */
+    public CompletableFutureCallAdapter(final Type responseType, final Function<R, T> bodyConverter) {
+
+        this(responseType, bodyConverter, null);
+    }
+
+    /**
+     * Build a new instance.
+     *
+     * @param responseType     The response body type
+     * @param bodyConverter    The function converting the response body into the future value
+     * @param retryInterceptor The retry interceptor giving the retry policy, or {@code null} to never retry
+     * @since 1.17.0
+     */
+    public CompletableFutureCallAdapter(final Type responseType,
+                                        final Function<R, T> bodyConverter,
+                                        final RetryInterceptor retryInterceptor) {
+
+        this.responseType = responseType;
+        this.bodyConverter = bodyConverter;
+        this.retryInterceptor = retryInterceptor;
+    }
+
+    @Override
+    public Type responseType() {
+
+        return this.responseType;
+    }
+
+    @Override
+    public CompletableFuture<T> adapt(final Call<R> call) {
+
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        final AtomicReference<Call<R>> currentCall = new AtomicReference<>(call);
+        future.whenComplete((value, throwable) -> {
+            if (future.isCancelled()) {
+                currentCall.get().cancel();
+            }
+        });
+
+        this.enqueue(call, 0, currentCall, future);
+
+        return future;
+    }
+
+    /**
+     * Enqueues the call and completes the future with its outcome, or schedules a
+     * new attempt if the call failed and can be retried.
+     *
+     * @param call        The call to enqueue
+     * @param retry       The retry number (0 for the first attempt)
+     * @param currentCall The call currently in flight, cancelled if the future is cancelled
+     * @param future      The future to complete
+     * @since 1.17.0
+     */
+    private void enqueue(final Call<R> call,
+                         final int retry,
+                         final AtomicReference<Call<R>> currentCall,
+                         final CompletableFuture<T> future) {
+
+        currentCall.set(call);
+        if (future.isCancelled()) {
+            call.cancel();
+            return;
+        }
+
+        call.enqueue(new Callback<>() {
+
+            @Override
+            public void onResponse(final Call<R> call, final Response<R> response) {
+
+                if (!response.isSuccessful()) {
+                    if (canRetry(call, retry) && retryInterceptor.isRetryable(response.code())) {
+                        final long delayMilliseconds = retryInterceptor.computeDelayMilliseconds(retry, response.raw());
+                        if (response.errorBody() != null) {
+                            response.errorBody().close();
+                        }
+
+                        scheduleRetry(call, retry, delayMilliseconds, currentCall, future);
+                        return;
+                    }
+
+                    future.completeExceptionally(new RestClientException.UnsuccessfulResponse(response.code()));
+                    return;
+                }
+
+                try {
+                    future.complete(bodyConverter.apply(response.body()));
+                } catch (final Exception exception) {
+                    future.completeExceptionally(new RestClientException.CallAdapterProcessingException(exception));
+                }
+            }
+
+            @Override
+            public void onFailure(final Call<R> call, final Throwable throwable) {
+
+                if (throwable instanceof IOException && !call.isCanceled() && canRetry(call, retry)) {
+                    scheduleRetry(call, retry, retryInterceptor.computeDelayMilliseconds(retry, null), currentCall, future);
+                    return;
+                }
+
+                future.completeExceptionally(throwable);
+            }
+        });
+    }
+
+    /**
+     * Checks whether the failed call can be attempted again.
+     *
+     * @param call  The failed call
+     * @param retry The retry number (0 for the first attempt)
+     * @return {@code true} if the call can be attempted again, otherwise {@code false}
+     * @since 1.17.0
+     */
+    private boolean canRetry(final Call<R> call, final int retry) {
+
+        return this.retryInterceptor != null
+            && retry < this.retryInterceptor.getMaxRetries()
+            && this.retryInterceptor.isRetryable(call.request());
+    }
+
+    /**
+     * Schedules a new attempt of the failed call once the delay has elapsed.
+     *
+     * @param call              The failed call
+     * @param retry             The retry number (0 for the first retry)
+     * @param delayMilliseconds The delay in milliseconds
+     * @param currentCall       The call currently in flight, cancelled if the future is cancelled
+     * @param future            The future to complete
+     * @since 1.17.0
+     */
+    private void scheduleRetry(final Call<R> call,
+                               final int retry,
+                               final long delayMilliseconds,
+                               final AtomicReference<Call<R>> currentCall,
+                               final CompletableFuture<T> future) {
+
+        CompletableFuture.delayedExecutor(delayMilliseconds, TimeUnit.MILLISECONDS)
+            .execute(() -> this.enqueue(call.clone(), retry + 1, currentCall, future));
+    }
+}
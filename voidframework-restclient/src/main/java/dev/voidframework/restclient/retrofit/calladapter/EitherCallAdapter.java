@@ -0,0 +1,61 @@
+package dev.voidframework.restclient.retrofit.calladapter;
+
+import dev.voidframework.core.lang.Either;
+import dev.voidframework.restclient.exception.RestClientException;
+import retrofit2.Call;
+import retrofit2.CallAdapter;
+import retrofit2.Response;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.function.Function;
+
+/**
+ * Adapts a Call into an Either. The "Left" value contains the converted response body
+ * and the "Right" value the error if the call failed, no exception is thrown.
+ *
+ * @param <R> Type of the response body
+ * @param <T> Type of the "Left" value
+ * @since 1.17.0
+ */
+public final class EitherCallAdapter<R, T> implements CallAdapter<R, Either<T, Throwable>> {
+
+    private final Type responseType;
+    private final Function<R, T> bodyConverter;
+
+    /**
+     * Build a new instance.
+     *
+     * @param responseType  The response body type
+     * @param bodyConverter The function converting the response body into the "Left" value
+     * @since 1.17.0
+     */
+    public EitherCallAdapter(final Type responseType, final Function<R, T> bodyConverter) {
+
+        this.responseType = responseType;
+        this.bodyConverter = bodyConverter;
+    }
+
+    @Override
+    public Type responseType() {
+
+        return this.responseType;
+    }
+
+    @Override
+    public Either<T, Throwable> adapt(final Call<R> call) {
+
+        try {
+            final Response<R> response = call.execute();
+            if (!response.isSuccessful()) {
+                return Either.ofRight(new RestClientException.UnsuccessfulResponse(response.code()));
+            }
+
+            return Either.ofLeft(this.bodyConverter.apply(response.body()));
+        } catch (final IOException exception) {
+            return Either.ofRight(exception);
+        } catch (final RuntimeException exception) {
+            return Either.ofRight(new RestClientException.CallAdapterProcessingException(exception));
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package dev.voidframework.restclient.retrofit.interceptor;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.apache.commons.lang3.math.NumberUtils;
+import retrofit2.Call;
+import retrofit2.Invocation;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retries idempotent requests failing with an I/O error or a transient HTTP status
+ * code (429, 502, 503, 504). The delay between two attempts grows exponentially, from
+ * the initial backoff up to the maximum backoff, and is randomized (equal jitter) so
+ * that clients don't retry all at once. On 429 and 503, the "Retry-After" header
+ * is honoured, up to the maximum "Retry-After" delay.
+ * <p>
+ * Waiting before a retry blocks the calling thread: this interceptor only retries
+ * synchronous calls. Calls made by service methods returning {@code CompletableFuture},
+ * {@code CompletionStage} or {@code Call} may be executed on the HTTP client dispatcher
+ * threads, they are not retried by this interceptor. {@code CompletableFuture} and
+ * {@code CompletionStage} calls are retried by their call adapter, without blocking.
+ *
+ * @since 1.17.0
+ */
+public final class RetryInterceptor implements Interceptor {
+
+    private static final Set<String> IDEMPOTENT_METHOD_SET = Set.of("GET", "HEAD", "OPTIONS", "PUT", "DELETE");
+    private static final Set<Integer> RETRYABLE_HTTP_CODE_SET = Set.of(429, 502, 503, 504);
+    private static final Set<Integer> RETRY_AFTER_HTTP_CODE_SET = Set.of(429, 503);
+    private static final Duration DEFAULT_MAX_RETRY_AFTER = Duration.ofSeconds(30);
+
+    private final int maxRetries;
+    private final long initialBackoffMilliseconds;
+    private final long maxBackoffMilliseconds;
+    private final long maxRetryAfterMilliseconds;
+
+    /**
+     * Build a new instance. The "Retry-After" header is honoured up to 30 seconds.
+     *
+     * @param maxRetries     The maximum number of retries
+     * @param initialBackoff The delay before the first retry
+     * @param maxBackoff     The maximum delay between two attempts
+     * @since 1.17.0
+     */
+    public RetryInterceptor(final int maxRetries, final Duration initialBackoff, final Duration maxBackoff) {
+
+        this(maxRetries, initialBackoff, maxBackoff, DEFAULT_MAX_RETRY_AFTER);
+    }
+
+    /**
+     * Build a new instance.
+     *
+     * @param maxRetries     The maximum number of retries
+     * @param initialBackoff The delay before the first retry
+     * @param maxBackoff     The maximum delay between two attempts
+     * @param maxRetryAfter  The maximum delay honoured from a "Retry-After" header
+     * @since 1.17.0
+     */
+    public RetryInterceptor(final int maxRetries,
+                            final Duration initialBackoff,
+                            final Duration maxBackoff,
+                            final Duration maxRetryAfter) {
+
+        this.maxRetries = maxRetries;
+        this.initialBackoffMilliseconds = initialBackoff.toMillis();
+        this.maxBackoffMilliseconds = maxBackoff.toMillis();
+        this.maxRetryAfterMilliseconds = maxRetryAfter.toMillis();
+    }
+
+    @Override
+    public Response intercept(final Chain chain) throws IOException {
+
+        final Request request = chain.request();
+        if (!this.isRetryable(request) || isPossiblyAsynchronous(request)) {
+            return chain.proceed(request);
+        }
+
+        for (int retry = 0; ; retry += 1) {
+            final boolean isLastAttempt = retry >= this.maxRetries;
+
+            final Response response;
+            try {
+                response = chain.proceed(request);
+            } catch (final IOException exception) {
+                if (isLastAttempt || chain.call().isCanceled()) {
+                    throw exception;
+                }
+
+                sleep(this.computeDelayMilliseconds(retry, null));
+                continue;
+            }
+
+            if (isLastAttempt || !this.isRetryable(response.code())) {
+                return response;
+            }
+
+            final long delayMilliseconds = this.computeDelayMilliseconds(retry, response);
+            response.close();
+            sleep(delayMilliseconds);
+        }
+    }
+
+    /**
+     * Retrieves the maximum number of retries.
+     *
+     * @return The maximum number of retries
+     * @since 1.17.0
+     */
+    public int getMaxRetries() {
+
+        return this.maxRetries;
+    }
+
+    /**
+     * Checks whether the given request can be retried (idempotent method).
+     *
+     * @param request The request
+     * @return {@code true} if the request can be retried, otherwise {@code false}
+     * @since 1.17.0
+     */
+    public boolean isRetryable(final Request request) {
+
+        return IDEMPOTENT_METHOD_SET.contains(request.method());
+    }
+
+    /**
+     * Checks whether a response with the given HTTP status code can be retried.
+     *
+     * @param httpCode The HTTP status code
+     * @return {@code true} if the response can be retried, otherwise {@code false}
+     * @since 1.17.0
+     */
+    public boolean isRetryable(final int httpCode) {
+
+        return RETRYABLE_HTTP_CODE_SET.contains(httpCode);
+    }
+
+    /**
+     * Computes the delay to wait before the next attempt. The "Retry-After" header of
+     * the response, if any, takes precedence over the exponential backoff.
+     *
+     * @param retry    The retry number (0 for the first retry)
+     * @param response The failed response, or {@code null} if the request failed with an I/O error
+     * @return The delay in milliseconds
+     * @since 1.17.0
+     */
+    public long computeDelayMilliseconds(final int retry, final Response response) {
+
+        if (response != null && RETRY_AFTER_HTTP_CODE_SET.contains(response.code())) {
+            final long retryAfterMilliseconds = parseRetryAfterMilliseconds(response);
+            if (retryAfterMilliseconds >= 0) {
+                return Math.min(retryAfterMilliseconds, this.maxRetryAfterMilliseconds);
+            }
+        }
+
+        // Equal jitter: half of the delay is fixed, the other half is random
+        final long backoffMilliseconds = Math.min(
+            this.initialBackoffMilliseconds << Math.min(retry, 30),
+            this.maxBackoffMilliseconds);
+        final long halfBackoffMilliseconds = backoffMilliseconds / 2;
+
+        return halfBackoffMilliseconds + ThreadLocalRandom.current().nextLong(backoffMilliseconds - halfBackoffMilliseconds + 1);
+    }
+
+    /**
+     * Parses the "Retry-After" header, which contains either a number of seconds or a date.
+     *
+     * @param response The response
+     * @return The delay in milliseconds, otherwise, -1 if the header is missing or invalid
+     * @since 1.17.0
+     */
+    private static long parseRetryAfterMilliseconds(final Response response) {
+
+        final String retryAfter = response.header("Retry-After");
+        if (retryAfter == null) {
+            return -1;
+        }
+
+        if (NumberUtils.isDigits(retryAfter.trim())) {
+            return Duration.ofSeconds(NumberUtils.toLong(retryAfter.trim())).toMillis();
+        }
+
+        final Date retryAfterDate = response.headers().getDate("Retry-After");
+        if (retryAfterDate == null) {
+            return -1;
+        }
+
+        return Math.max(0, retryAfterDate.getTime() - System.currentTimeMillis());
+    }
+
+    /**
+     * Checks whether the request may be executed on the HTTP client dispatcher threads,
+     * according to the return type of the service method which created it.
+     *
+     * @param request The request
+     * @return {@code true} if the request may be executed asynchronously, otherwise {@code false}
+     * @since 1.17.0
+     */
+    private static boolean isPossiblyAsynchronous(final Request request) {
+
+        final Invocation invocation = request.tag(Invocation.class);
+        if (invocation == null) {
+            return false;
+        }
+
+        final Class<?> returnType = invocation.method().getReturnType();
+        return CompletionStage.class.isAssignableFrom(returnType) || Call.class.isAssignableFrom(returnType);
+    }
+
+    /**
+     * Waits before the next attempt.
+     *
+     * @param milliseconds The delay in milliseconds
+     * @throws InterruptedIOException If the current thread has been interrupted
+     * @since 1.17.0
+     */
+    private static void sleep(final long milliseconds) throws InterruptedIOException {
+
+        try {
+            Thread.sleep(milliseconds);
+        } catch (final InterruptedException ignore) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting before retrying the request");
+        }
+    }
+}
@@ -237,6 +237,7 @@ final class RestClientTest {
             voidframework.restclient.keepAliveDuration = "30 seconds"
             voidframework.restclient.connectionTimeout = "15 seconds"
             voidframework.restclient.readTimeout = "35 seconds"
+            voidframework.restclient.retry.maxRetries = 0
             voidframework.restclient.services.echo-api.endpoint = "https://postman-echo.com"
             """);
 
@@ -257,6 +258,7 @@ final class RestClientTest {
             voidframework.restclient.keepAliveDuration = "30 seconds"
             voidframework.restclient.connectionTimeout = "15 seconds"
             voidframework.restclient.readTimeout = "35 seconds"
+            voidframework.restclient.retry.maxRetries = 0
             voidframework.restclient.services.echo-api.endpoint = "https://postman-echo.com"
 
             %s
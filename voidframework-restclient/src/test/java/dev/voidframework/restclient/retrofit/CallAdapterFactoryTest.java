@@ -0,0 +1,292 @@
+package dev.voidframework.restclient.retrofit;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Stage;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import dev.voidframework.core.classestoload.ScannedClassesToLoad;
+import dev.voidframework.core.lang.Either;
+import dev.voidframework.restclient.annotation.RestClient;
+import dev.voidframework.restclient.exception.RestClientException;
+import dev.voidframework.restclient.module.RestClientModule;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import retrofit2.http.GET;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@TestMethodOrder(MethodOrderer.MethodName.class)
+final class CallAdapterFactoryTest {
+
+    private static final long SLOW_ENDPOINT_DELAY_MILLISECONDS = 500;
+    private static final AtomicInteger UNAVAILABLE_REQUEST_COUNT = new AtomicInteger();
+
+    private static HttpServer httpServer;
+    private static ExecutorService httpServerExecutorService;
+
+    @BeforeAll
+    static void beforeAll() throws IOException {
+
+        httpServerExecutorService = Executors.newCachedThreadPool();
+        httpServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        httpServer.setExecutor(httpServerExecutorService);
+        httpServer.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(SLOW_ENDPOINT_DELAY_MILLISECONDS);
+            } catch (final InterruptedException ignore) {
+                Thread.currentThread().interrupt();
+            }
+
+            sendResponse(exchange, 200, "{\"key\": \"Hello World\"}");
+        });
+        httpServer.createContext("/error", exchange -> sendResponse(exchange, 500, "{}"));
+        httpServer.createContext("/unavailable-twice", exchange -> {
+            if (UNAVAILABLE_REQUEST_COUNT.incrementAndGet() <= 2) {
+                exchange.getResponseHeaders().add("Retry-After", "1");
+                sendResponse(exchange, 503, "{}");
+            } else {
+                sendResponse(exchange, 200, "{\"key\": \"Hello World\"}");
+            }
+        });
+        httpServer.start();
+    }
+
+    @AfterAll
+    static void afterAll() {
+
+        httpServer.stop(0);
+        httpServerExecutorService.shutdownNow();
+    }
+
+    @Test
+    void completableFutureParallelFanOut() {
+
+        // Arrange
+        final LocalApiRestClient localApiRestClient = createRestClientProxy();
+        localApiRestClient.getSlowJsonNode().join();
+
+        // Act
+        final long startNanoTime = System.nanoTime();
+        final CompletableFuture<JsonNode> firstFuture = localApiRestClient.getSlowJsonNode();
+        final CompletableFuture<JsonNode> secondFuture = localApiRestClient.getSlowJsonNode();
+        final CompletableFuture<JsonNode> thirdFuture = localApiRestClient.getSlowJsonNode();
+        final long returnedElapsedMilliseconds = (System.nanoTime() - startNanoTime) / 1_000_000;
+        CompletableFuture.allOf(firstFuture, secondFuture, thirdFuture).join();
+        final long completedElapsedMilliseconds = (System.nanoTime() - startNanoTime) / 1_000_000;
+
+        // Assert
+        Assertions.assertTrue(returnedElapsedMilliseconds < SLOW_ENDPOINT_DELAY_MILLISECONDS);
+        Assertions.assertTrue(completedElapsedMilliseconds < 2 * SLOW_ENDPOINT_DELAY_MILLISECONDS);
+        Assertions.assertEquals("Hello World", firstFuture.join().get("key").asText());
+        Assertions.assertEquals("Hello World", secondFuture.join().get("key").asText());
+        Assertions.assertEquals("Hello World", thirdFuture.join().get("key").asText());
+    }
+
+    @Test
+    void completableFutureRetryUntilSuccess() {
+
+        // Arrange
+        final LocalApiRestClient localApiRestClient = createRestClientProxy(3);
+        UNAVAILABLE_REQUEST_COUNT.set(0);
+
+        // Act
+        final JsonNode jsonNode = localApiRestClient.getUnavailableTwiceJsonNode().join();
+
+        // Assert
+        Assertions.assertEquals("Hello World", jsonNode.get("key").asText());
+        Assertions.assertEquals(3, UNAVAILABLE_REQUEST_COUNT.get());
+    }
+
+    @Test
+    void completableFutureRetryGiveUpAfterMaxRetries() {
+
+        // Arrange
+        final LocalApiRestClient localApiRestClient = createRestClientProxy(1);
+        UNAVAILABLE_REQUEST_COUNT.set(0);
+
+        // Act
+        final CompletableFuture<JsonNode> future = localApiRestClient.getUnavailableTwiceJsonNode();
+        final CompletionException exception = Assertions.assertThrows(CompletionException.class, future::join);
+
+        // Assert
+        final RestClientException.UnsuccessfulResponse cause = Assertions.assertInstanceOf(
+            RestClientException.UnsuccessfulResponse.class, exception.getCause());
+        Assertions.assertEquals(503, cause.getHttpCode());
+        Assertions.assertEquals(2, UNAVAILABLE_REQUEST_COUNT.get());
+    }
+
+    @Test
+    void completableFutureUnsuccessfulResponse() {
+
+        // Arrange
+        final LocalApiRestClient localApiRestClient = createRestClientProxy();
+
+        // Act
+        final CompletableFuture<JsonNode> future = localApiRestClient.getErrorJsonNode();
+        final CompletionException exception = Assertions.assertThrows(CompletionException.class, future::join);
+
+        // Assert
+        final RestClientException.UnsuccessfulResponse cause = Assertions.assertInstanceOf(
+            RestClientException.UnsuccessfulResponse.class, exception.getCause());
+        Assertions.assertEquals(500, cause.getHttpCode());
+    }
+
+    @Test
+    void completionStageToDTO() {
+
+        // Arrange
+        final LocalApiRestClient localApiRestClient = createRestClientProxy();
+
+        // Act
+        final SampleDTO dto = localApiRestClient.getSlowDTO().toCompletableFuture().join();
+
+        // Assert
+        Assertions.assertNotNull(dto);
+        Assertions.assertEquals("Hello World", dto.key);
+    }
+
+    @Test
+    void eitherLeft() {
+
+        // Arrange
+        final LocalApiRestClient localApiRestClient = createRestClientProxy();
+
+        // Act
+        final Either<String, Throwable> either = localApiRestClient.getSlowString();
+
+        // Assert
+        Assertions.assertTrue(either.hasLeft());
+        Assertions.assertFalse(either.hasRight());
+        Assertions.assertTrue(either.getLeft().contains("Hello World"));
+    }
+
+    @Test
+    void eitherRight() {
+
+        // Arrange
+        final LocalApiRestClient localApiRestClient = createRestClientProxy();
+
+        // Act
+        final Either<SampleDTO, Throwable> either = localApiRestClient.getErrorDTO();
+
+        // Assert
+        Assertions.assertFalse(either.hasLeft());
+        Assertions.assertTrue(either.hasRight());
+        Assertions.assertInstanceOf(RestClientException.UnsuccessfulResponse.class, either.getRight());
+    }
+
+    /**
+     * Sends a JSON response.
+     *
+     * @param exchange   The HTTP exchange
+     * @param statusCode The HTTP status code
+     * @param content    The JSON content
+     * @throws IOException If something goes wrong while sending the response
+     */
+    private static void sendResponse(final HttpExchange exchange, final int statusCode, final String content) throws IOException {
+
+        final byte[] contentAsByteArray = content.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(statusCode, contentAsByteArray.length);
+        try (final OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(contentAsByteArray);
+        }
+    }
+
+    /**
+     * Creates "Local API" REST Client instance.
+     *
+     * @return The newly created "Local API" REST Client instance
+     */
+    private static LocalApiRestClient createRestClientProxy() {
+
+        return createRestClientProxy(0);
+    }
+
+    /**
+     * Creates "Local API" REST Client instance.
+     *
+     * @param maxRetries The maximum number of retries
+     * @return The newly created "Local API" REST Client instance
+     */
+    private static LocalApiRestClient createRestClientProxy(final int maxRetries) {
+
+        final Config configuration = ConfigFactory.parseString("""
+            voidframework.core.runInDevMode = true
+            voidframework.restclient.maxIdleConnections = 5
+            voidframework.restclient.keepAliveDuration = "30 seconds"
+            voidframework.restclient.connectionTimeout = "5 seconds"
+            voidframework.restclient.readTimeout = "5 seconds"
+            voidframework.restclient.maxRequests = 64
+            voidframework.restclient.maxRequestsPerHost = 16
+            voidframework.restclient.retry.maxRetries = %d
+            voidframework.restclient.retry.initialBackoff = "10 milliseconds"
+            voidframework.restclient.retry.maxBackoff = "50 milliseconds"
+            voidframework.restclient.retry.maxRetryAfter = "50 milliseconds"
+            voidframework.restclient.services.local-api.endpoint = "http://127.0.0.1:%d"
+            """.formatted(maxRetries, httpServer.getAddress().getPort()));
+
+        final ScannedClassesToLoad scannedClassesToLoad = new ScannedClassesToLoad(
+            null,
+            null,
+            List.of(LocalApiRestClient.class),
+            null,
+            null,
+            null);
+
+        final Injector injector = Guice.createInjector(Stage.PRODUCTION, new AbstractModule() {
+            @Override
+            protected void configure() {
+                bind(Config.class).toInstance(configuration);
+                install(new RestClientModule(configuration, scannedClassesToLoad));
+            }
+        });
+
+        return injector.getInstance(LocalApiRestClient.class);
+    }
+
+    @RestClient("local-api")
+    private interface LocalApiRestClient {
+
+        @GET("/slow")
+        CompletableFuture<JsonNode> getSlowJsonNode();
+
+        @GET("/slow")
+        CompletionStage<SampleDTO> getSlowDTO();
+
+        @GET("/slow")
+        Either<String, Throwable> getSlowString();
+
+        @GET("/error")
+        CompletableFuture<JsonNode> getErrorJsonNode();
+
+        @GET("/error")
+        Either<SampleDTO, Throwable> getErrorDTO();
+
+        @GET("/unavailable-twice")
+        CompletableFuture<JsonNode> getUnavailableTwiceJsonNode();
+    }
+
+    public record SampleDTO(@JsonProperty("key") String key) {
+    }
+}
@@ -0,0 +1,214 @@
+package dev.voidframework.restclient.retrofit.interceptor;
+
+import com.sun.net.httpserver.HttpServer;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@TestMethodOrder(MethodOrderer.MethodName.class)
+final class RetryInterceptorTest {
+
+    private static final AtomicInteger REQUEST_COUNT = new AtomicInteger();
+
+    private static HttpServer httpServer;
+
+    @BeforeAll
+    static void beforeAll() throws IOException {
+
+        httpServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        httpServer.createContext("/unavailable-twice", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.sendResponseHeaders(REQUEST_COUNT.incrementAndGet() <= 2 ? 503 : 200, -1);
+            exchange.close();
+        });
+        httpServer.start();
+    }
+
+    @AfterAll
+    static void afterAll() {
+
+        httpServer.stop(0);
+    }
+
+    @BeforeEach
+    void beforeEach() {
+
+        REQUEST_COUNT.set(0);
+    }
+
+    @Test
+    void interceptGiveUpAfterMaxRetries() throws IOException {
+
+        // Arrange
+        final OkHttpClient okHttpClient = createOkHttpClient(1);
+        final Request request = new Request.Builder().url(createUrl()).get().build();
+
+        // Act
+        final int httpCode;
+        try (final Response response = okHttpClient.newCall(request).execute()) {
+            httpCode = response.code();
+        }
+
+        // Assert
+        Assertions.assertEquals(503, httpCode);
+        Assertions.assertEquals(2, REQUEST_COUNT.get());
+    }
+
+    @Test
+    void interceptNonIdempotentRequestNotRetried() throws IOException {
+
+        // Arrange
+        final OkHttpClient okHttpClient = createOkHttpClient(3);
+        final Request request = new Request.Builder()
+            .url(createUrl())
+            .post(RequestBody.create(MediaType.get("text/plain"), "Hello World"))
+            .build();
+
+        // Act
+        final int httpCode;
+        try (final Response response = okHttpClient.newCall(request).execute()) {
+            httpCode = response.code();
+        }
+
+        // Assert
+        Assertions.assertEquals(503, httpCode);
+        Assertions.assertEquals(1, REQUEST_COUNT.get());
+    }
+
+    @Test
+    void interceptRetryUntilSuccess() throws IOException {
+
+        // Arrange
+        final OkHttpClient okHttpClient = createOkHttpClient(3);
+        final Request request = new Request.Builder().url(createUrl()).get().build();
+
+        // Act
+        final int httpCode;
+        try (final Response response = okHttpClient.newCall(request).execute()) {
+            httpCode = response.code();
+        }
+
+        // Assert
+        Assertions.assertEquals(200, httpCode);
+        Assertions.assertEquals(3, REQUEST_COUNT.get());
+    }
+
+    @Test
+    void computeDelayMillisecondsRetryAfterCapped() {
+
+        // Arrange
+        final RetryInterceptor retryInterceptor = new RetryInterceptor(
+            3, Duration.ofMillis(10), Duration.ofMillis(50), Duration.ofSeconds(5));
+        final Response response = createResponse(429, "120");
+
+        // Act
+        final long delayMilliseconds = retryInterceptor.computeDelayMilliseconds(0, response);
+
+        // Assert
+        Assertions.assertEquals(5_000, delayMilliseconds);
+    }
+
+    @Test
+    void computeDelayMillisecondsRetryAfterHonoured() {
+
+        // Arrange
+        final RetryInterceptor retryInterceptor = new RetryInterceptor(
+            3, Duration.ofMillis(10), Duration.ofMillis(50), Duration.ofSeconds(5));
+        final Response response = createResponse(503, "2");
+
+        // Act
+        final long delayMilliseconds = retryInterceptor.computeDelayMilliseconds(0, response);
+
+        // Assert
+        Assertions.assertEquals(2_000, delayMilliseconds);
+    }
+
+    @Test
+    void computeDelayMillisecondsRetryAfterIgnoredOnBadGateway() {
+
+        // Arrange
+        final RetryInterceptor retryInterceptor = new RetryInterceptor(
+            3, Duration.ofMillis(10), Duration.ofMillis(50), Duration.ofSeconds(5));
+        final Response response = createResponse(502, "2");
+
+        // Act
+        final long delayMilliseconds = retryInterceptor.computeDelayMilliseconds(0, response);
+
+        // Assert
+        Assertions.assertTrue(delayMilliseconds >= 5 && delayMilliseconds <= 10);
+    }
+
+    @Test
+    void computeDelayMillisecondsWithJitter() {
+
+        // Arrange
+        final RetryInterceptor retryInterceptor = new RetryInterceptor(
+            10, Duration.ofMillis(100), Duration.ofMillis(1000));
+
+        // Act
+        final long firstRetryDelayMilliseconds = retryInterceptor.computeDelayMilliseconds(0, null);
+        final long thirdRetryDelayMilliseconds = retryInterceptor.computeDelayMilliseconds(2, null);
+        final long lastRetryDelayMilliseconds = retryInterceptor.computeDelayMilliseconds(9, null);
+
+        // Assert
+        Assertions.assertTrue(firstRetryDelayMilliseconds >= 50 && firstRetryDelayMilliseconds <= 100);
+        Assertions.assertTrue(thirdRetryDelayMilliseconds >= 200 && thirdRetryDelayMilliseconds <= 400);
+        Assertions.assertTrue(lastRetryDelayMilliseconds >= 500 && lastRetryDelayMilliseconds <= 1000);
+    }
+
+    /**
+     * Creates a response carrying a "Retry-After" header.
+     *
+     * @param httpCode   The HTTP status code
+     * @param retryAfter The "Retry-After" header value
+     * @return The newly created response
+     */
+    private static Response createResponse(final int httpCode, final String retryAfter) {
+
+        return new Response.Builder()
+            .request(new Request.Builder().url(createUrl()).get().build())
+            .protocol(Protocol.HTTP_1_1)
+            .code(httpCode)
+            .message("Unavailable")
+            .header("Retry-After", retryAfter)
+            .build();
+    }
+
+    /**
+     * Creates a HTTP Client retrying failed requests.
+     *
+     * @param maxRetries The maximum number of retries
+     * @return The newly created HTTP Client
+     */
+    private static OkHttpClient createOkHttpClient(final int maxRetries) {
+
+        return new OkHttpClient.Builder()
+            .addInterceptor(new RetryInterceptor(maxRetries, Duration.ofMillis(10), Duration.ofMillis(50)))
+            .build();
+    }
+
+    /**
+     * Creates the URL of the endpoint being unavailable twice.
+     *
+     * @return The endpoint URL
+     */
+    private static String createUrl() {
+
+        return "http://127.0.0.1:" + httpServer.getAddress().getPort() + "/unavailable-twice";
+    }
+}
@@ -0,0 +1,58 @@
+package dev.voidframework.healthcheck.checker;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.google.inject.Singleton;
+import dev.voidframework.core.bindable.Bindable;
+import dev.voidframework.healthcheck.Health;
+import dev.voidframework.healthcheck.HealthChecker;
+import dev.voidframework.scheduler.SchedulerManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Scheduler health checker. Reports the number of pending and running executions and the
+ * scheduling lag, the scheduler is considered as down once it has been stopped.
+ *
+ * @since 1.17.0
+ */
+@Bindable
+@Singleton
+public class SchedulerHealthChecker implements HealthChecker {
+
+    private final Provider<SchedulerManager> schedulerManagerProvider;
+
+    /**
+     * Build a new instance.
+     *
+     * @param schedulerManagerProvider Scheduler manager provider
+     * @since 1.17.0
+     */
+    @Inject
+    public SchedulerHealthChecker(final Provider<SchedulerManager> schedulerManagerProvider) {
+
+        this.schedulerManagerProvider = schedulerManagerProvider;
+    }
+
+    @Override
+    public String getName() {
+
+        return "Scheduler";
+    }
+
+    @Override
+    public Health checkHealth() {
+
+        final SchedulerManager schedulerManager = this.schedulerManagerProvider.get();
+
+        final Map<String, Object> detailsMap = new LinkedHashMap<>();
+        detailsMap.put("pending", schedulerManager.getPendingExecutionCount());
+        detailsMap.put("active", schedulerManager.getActiveExecutionCount());
+        detailsMap.put("executions", schedulerManager.getExecutionCount());
+        detailsMap.put("lastLag", schedulerManager.getLastLag().toMillis());
+        detailsMap.put("maxLag", schedulerManager.getMaxLag().toMillis());
+
+        return new Health(schedulerManager.isRunning() ? Health.Status.UP : Health.Status.DOWN, detailsMap);
+    }
+}
@@ -14,13 +14,16 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.time.ZoneId;
 import java.util.concurrent.Callable;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Scheduler manager takes care of executing scheduled hooks defined by the
@@ -35,7 +38,10 @@ public final class SchedulerManager {
     private static final Logger LOGGER = LoggerFactory.getLogger(SchedulerManager.class);
 
     private final Injector injector;
-    private final ScheduledExecutorService scheduledExecutorService;
+    private final ScheduledThreadPoolExecutor scheduledExecutorService;
+    private final AtomicLong lastLagNanos;
+    private final LongAccumulator maxLagNanos;
+    private final LongAdder executionCount;
 
     /**
      * Build a new instance.
@@ -48,9 +54,12 @@ public final class SchedulerManager {
     public SchedulerManager(final Config configuration, final Injector injector) {
 
         this.injector = injector;
-        this.scheduledExecutorService = Executors.newScheduledThreadPool(
+        this.scheduledExecutorService = new ScheduledThreadPoolExecutor(
             configuration.getInt("voidframework.scheduler.threadPoolSize"),
             new SchedulerThreadFactory());
+        this.lastLagNanos = new AtomicLong();
+        this.maxLagNanos = new LongAccumulator(Math::max, 0);
+        this.executionCount = new LongAdder();
     }
 
     /**
@@ -89,6 +98,93 @@ public final class SchedulerManager {
         }
     }
 
+    /**
+     * Indicates whether the scheduler is running.
+     *
+     * @return {@code true} if the scheduler is running, otherwise {@code false}
+     * @since 1.17.0
+     */
+    public boolean isRunning() {
+
+        return !this.scheduledExecutorService.isShutdown();
+    }
+
+    /**
+     * Retrieves the number of scheduled executions waiting to be run.
+     *
+     * @return The number of pending executions
+     * @since 1.17.0
+     */
+    public int getPendingExecutionCount() {
+
+        return this.scheduledExecutorService.getQueue().size();
+    }
+
+    /**
+     * Retrieves the number of scheduled methods currently running.
+     *
+     * @return The number of running executions
+     * @since 1.17.0
+     */
+    public int getActiveExecutionCount() {
+
+        return this.scheduledExecutorService.getActiveCount();
+    }
+
+    /**
+     * Retrieves the number of executions since the scheduler has been started.
+     *
+     * @return The number of executions
+     * @since 1.17.0
+     */
+    public long getExecutionCount() {
+
+        return this.executionCount.sum();
+    }
+
+    /**
+     * Retrieves the lag of the last execution, ie: the time elapsed between the moment a method
+     * should have been run and the moment it actually started.
+     *
+     * @return The lag of the last execution
+     * @since 1.17.0
+     */
+    public Duration getLastLag() {
+
+        return Duration.ofNanos(this.lastLagNanos.get());
+    }
+
+    /**
+     * Retrieves the highest lag observed since the scheduler has been started.
+     *
+     * @return The highest lag
+     * @since 1.17.0
+     */
+    public Duration getMaxLag() {
+
+        return Duration.ofNanos(this.maxLagNanos.get());
+    }
+
+    /**
+     * Schedules a callable and measures its lag when it is run.
+     *
+     * @param callable          The callable to schedule
+     * @param delayMilliseconds The delay in milliseconds
+     * @since 1.17.0
+     */
+    private void schedule(final Callable<Void> callable, final long delayMilliseconds) {
+
+        final long expectedNanoTime = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMilliseconds);
+        this.scheduledExecutorService.schedule(() -> {
+            final long lagNanos = Math.max(0, System.nanoTime() - expectedNanoTime);
+            this.lastLagNanos.set(lagNanos);
+            this.maxLagNanos.accumulate(lagNanos);
+            this.executionCount.increment();
+
+            return callable.call();
+        }, delayMilliseconds, TimeUnit.MILLISECONDS);
+    }
+
     /**
      * Register a scheduled method backed by CRON.
      *
@@ -111,7 +207,7 @@ public final class SchedulerManager {
 
             @Override
             public Void call() {
-                scheduledExecutorService.schedule(this, cronExpression.getNextDelayMilliseconds(zoneId), TimeUnit.MILLISECONDS);
+                schedule(this, cronExpression.getNextDelayMilliseconds(zoneId));
 
                 try {
                     scheduledHandler.method().invoke(classInstance);
@@ -128,7 +224,7 @@ public final class SchedulerManager {
         };
 
         // Schedules the callable
-        scheduledExecutorService.schedule(callable, cronExpression.getNextDelayMilliseconds(zoneId), TimeUnit.MILLISECONDS);
+        schedule(callable, cronExpression.getNextDelayMilliseconds(zoneId));
     }
 
     /**
@@ -187,7 +283,7 @@ public final class SchedulerManager {
                             exception);
                     }
 
-                    scheduledExecutorService.schedule(this, scheduledHandler.scheduledAnnotation().fixedDelay(), TimeUnit.MILLISECONDS);
+                    schedule(this, scheduledHandler.scheduledAnnotation().fixedDelay());
                     return null;
                 }
             };
@@ -198,7 +294,7 @@ public final class SchedulerManager {
 
                 @Override
                 public Void call() {
-                    scheduledExecutorService.schedule(this, scheduledHandler.scheduledAnnotation().fixedRate(), TimeUnit.MILLISECONDS);
+                    schedule(this, scheduledHandler.scheduledAnnotation().fixedRate());
 
                     try {
                         scheduledHandler.method().invoke(classInstance);
@@ -231,7 +327,7 @@ public final class SchedulerManager {
         }
 
         // Schedules the callable
-        scheduledExecutorService.schedule(callable, initialDelay, TimeUnit.MILLISECONDS);
+        schedule(callable, initialDelay);
     }
 
     /**
@@ -52,6 +52,9 @@ final class ScheduledTest {
         Assertions.assertTrue(List.of(2, 3).contains(ScheduledTest.counterCron.get()));
         Assertions.assertTrue(List.of(2, 3).contains(ScheduledTest.counterRate.get()));
         Assertions.assertEquals(1, ScheduledTest.counterDelay.get());
+        Assertions.assertTrue(schedulerManager.getExecutionCount() >= 5);
+        Assertions.assertTrue(schedulerManager.getMaxLag().compareTo(schedulerManager.getLastLag()) >= 0);
+        Assertions.assertFalse(schedulerManager.isRunning());
     }
 
     public static class Demo {
@@ -0,0 +1,54 @@
+package dev.voidframework.healthcheck.checker;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.google.inject.Singleton;
+import dev.voidframework.core.bindable.Bindable;
+import dev.voidframework.healthcheck.Health;
+import dev.voidframework.healthcheck.HealthChecker;
+import dev.voidframework.sendmail.MailerManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Sendmail health checker. Reports the number of emails waiting to be sent, the mailer is
+ * considered as down when it is not running.
+ *
+ * @since 1.17.0
+ */
+@Bindable
+@Singleton
+public class SendmailHealthChecker implements HealthChecker {
+
+    private final Provider<MailerManager> mailerManagerProvider;
+
+    /**
+     * Build a new instance.
+     *
+     * @param mailerManagerProvider Mailer manager provider
+     * @since 1.17.0
+     */
+    @Inject
+    public SendmailHealthChecker(final Provider<MailerManager> mailerManagerProvider) {
+
+        this.mailerManagerProvider = mailerManagerProvider;
+    }
+
+    @Override
+    public String getName() {
+
+        return "Sendmail";
+    }
+
+    @Override
+    public Health checkHealth() {
+
+        final MailerManager mailerManager = this.mailerManagerProvider.get();
+
+        final Map<String, Object> detailsMap = new LinkedHashMap<>();
+        detailsMap.put("queueSize", mailerManager.getQueueSize());
+
+        return new Health(mailerManager.isRunning() ? Health.Status.UP : Health.Status.DOWN, detailsMap);
+    }
+}
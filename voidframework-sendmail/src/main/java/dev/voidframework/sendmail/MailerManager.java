@@ -25,8 +25,8 @@ public final class MailerManager {
     private final long mailQueuePollTimeout;
     private final TransferQueue<Mail> mailToSendQueue;
     private MailerEngine mailerEngine;
-    private Thread worker;
-    private boolean isRunning;
+    private volatile Thread worker;
+    private volatile boolean isRunning;
 
     /**
      * Build a new instance.
@@ -54,6 +54,28 @@ public final class MailerManager {
         this.mailerEngine = mailerEngine;
     }
 
+    /**
+     * Retrieves the number of emails waiting to be sent.
+     *
+     * @return The number of queued emails
+     * @since 1.17.0
+     */
+    public int getQueueSize() {
+
+        return this.mailToSendQueue.size();
+    }
+
+    /**
+     * Indicates whether the mailer is running.
+     *
+     * @return {@code true} if the mailer is running, otherwise {@code false}
+     * @since 1.17.0
+     */
+    public boolean isRunning() {
+
+        return this.isRunning && this.worker != null && this.worker.isAlive();
+    }
+
     @LifeCycleStart(priority = 800)
     public void startSendmail() {
 
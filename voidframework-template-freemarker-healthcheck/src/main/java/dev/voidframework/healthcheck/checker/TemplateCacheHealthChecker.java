@@ -0,0 +1,58 @@
+package dev.voidframework.healthcheck.checker;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.google.inject.Singleton;
+import dev.voidframework.core.bindable.Bindable;
+import dev.voidframework.healthcheck.Health;
+import dev.voidframework.healthcheck.HealthChecker;
+import dev.voidframework.template.freemarker.cache.TemplateCacheMetrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Template cache health checker. Reports the template cache hit ratio and the time
+ * spent to load templates.
+ *
+ * @since 1.17.0
+ */
+@Bindable
+@Singleton
+public class TemplateCacheHealthChecker implements HealthChecker {
+
+    private final Provider<TemplateCacheMetrics> templateCacheMetricsProvider;
+
+    /**
+     * Build a new instance.
+     *
+     * @param templateCacheMetricsProvider Template cache metrics provider
+     * @since 1.17.0
+     */
+    @Inject
+    public TemplateCacheHealthChecker(final Provider<TemplateCacheMetrics> templateCacheMetricsProvider) {
+
+        this.templateCacheMetricsProvider = templateCacheMetricsProvider;
+    }
+
+    @Override
+    public String getName() {
+
+        return "TemplateCache";
+    }
+
+    @Override
+    public Health checkHealth() {
+
+        final TemplateCacheMetrics templateCacheMetrics = this.templateCacheMetricsProvider.get();
+
+        final Map<String, Object> detailsMap = new LinkedHashMap<>();
+        detailsMap.put("hits", templateCacheMetrics.getHitCount());
+        detailsMap.put("misses", templateCacheMetrics.getMissCount());
+        detailsMap.put("hitRatio", templateCacheMetrics.getHitRatio());
+        detailsMap.put("loads", templateCacheMetrics.getLoadCount());
+        detailsMap.put("averageLoadTime", templateCacheMetrics.getAverageLoadTime().toMillis());
+
+        return new Health(Health.Status.UP, detailsMap);
+    }
+}
@@ -11,17 +11,30 @@ import dev.voidframework.template.freemarker.method.ReverseRouteTemplateMethodMo
 import dev.voidframework.web.http.routing.Router;
 import freemarker.core.ParseException;
 import freemarker.template.Configuration;
+import freemarker.template.SimpleHash;
+import freemarker.template.SimpleScalar;
 import freemarker.template.Template;
+import freemarker.template.TemplateHashModel;
 import freemarker.template.TemplateMethodModelEx;
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateModelException;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * FreeMarker implementation of {@link TemplateRenderer}.
+ * <p>
+ * Variables depending only on the locale (i18n, lang, urlfor, ...) are built once per locale
+ * and layered on top of the provided data model, which is never modified.
  *
  * @since 1.0.0
  */
@@ -30,6 +43,7 @@ public class FreeMarkerTemplateRenderer implements TemplateRenderer {
 
     private final Configuration freeMarkerConfiguration;
     private final Internationalization internationalization;
+    private final Map<Locale, Map<String, TemplateModel>> sharedVariablePerLocaleMap;
     private TemplateMethodModelEx reverseRouteTemplateMethodModel;
 
     /**
@@ -43,6 +57,7 @@ public class FreeMarkerTemplateRenderer implements TemplateRenderer {
 
         this.freeMarkerConfiguration = injector.getInstance(Configuration.class);
         this.internationalization = injector.getInstance(Internationalization.class);
+        this.sharedVariablePerLocaleMap = new ConcurrentHashMap<>();
 
         try {
             this.reverseRouteTemplateMethodModel = new ReverseRouteTemplateMethodModel(injector.getInstance(Router.class));
@@ -54,30 +69,54 @@ public class FreeMarkerTemplateRenderer implements TemplateRenderer {
     @Override
     public String render(final String templateName, final Locale locale) {
 
-        return render(templateName, locale, new HashMap<>());
+        return render(templateName, locale, Map.of());
     }
 
     @Override
     public String render(final String templateName, final Locale locale, final Map<String, Object> dataModel) {
 
-        if (dataModel == null) {
-            throw new TemplateException.DataModelNotProvided();
+        final Writer writer = new StringWriter();
+        this.process(templateName, locale, dataModel, writer);
+
+        return writer.toString();
+    }
+
+    @Override
+    public void render(final String templateName,
+                       final Locale locale,
+                       final Map<String, Object> dataModel,
+                       final OutputStream outputStream) {
+
+        final Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+        this.process(templateName, locale, dataModel, writer);
+
+        try {
+            writer.flush();
+        } catch (final IOException exception) {
+            throw new TemplateException.RenderingFailure(templateName, -1, exception);
         }
+    }
 
-        final TemplateMethodModelEx internationalizationMethodModel = new InternationalizationTemplateMethodModel(
-            locale,
-            this.internationalization);
+    /**
+     * Processes a template.
+     *
+     * @param templateName The template name
+     * @param locale       The locale to use for internationalization (Number format, Date, I18N, ...)
+     * @param dataModel    Data to use into the template
+     * @param writer       The writer where to write the rendered template
+     * @since 1.17.0
+     */
+    private void process(final String templateName, final Locale locale, final Map<String, Object> dataModel, final Writer writer) {
 
-        dataModel.put("i18n", internationalizationMethodModel);
-        dataModel.put("_", internationalizationMethodModel);
-        dataModel.put("lang", locale.toLanguageTag());
-        dataModel.put("urlfor", reverseRouteTemplateMethodModel);
+        if (dataModel == null) {
+            throw new TemplateException.DataModelNotProvided();
+        }
 
         try {
-            final Writer writer = new StringWriter();
             final Template template = this.freeMarkerConfiguration.getTemplate(templateName, locale);
-            template.process(dataModel, writer);
-            return writer.toString();
+            template.process(
+                new LayeredTemplateHashModel(this.retrieveSharedVariables(locale), this.wrapDataModel(dataModel)),
+                writer);
         } catch (final freemarker.template.TemplateException exception) {
             throw new TemplateException.RenderingFailure(templateName, exception.getEndLineNumber() - 1, exception);
         } catch (final ParseException exception) { // NOSONAR "Not possible to combine this catch because TemplateException != ParseException"
@@ -86,4 +125,63 @@ public class FreeMarkerTemplateRenderer implements TemplateRenderer {
             throw new TemplateException.RenderingFailure(templateName, -1, exception);
         }
     }
+
+    /**
+     * Retrieves the variables shared by all renderings using the given locale.
+     *
+     * @param locale The locale
+     * @return The shared variables
+     * @since 1.17.0
+     */
+    private Map<String, TemplateModel> retrieveSharedVariables(final Locale locale) {
+
+        final Map<String, TemplateModel> sharedVariableMap = this.sharedVariablePerLocaleMap.get(locale);
+        if (sharedVariableMap != null) {
+            return sharedVariableMap;
+        }
+
+        return this.sharedVariablePerLocaleMap.computeIfAbsent(locale, this::createSharedVariables);
+    }
+
+    /**
+     * Creates the variables shared by all renderings using the given locale.
+     *
+     * @param locale The locale
+     * @return Newly created shared variables
+     * @since 1.17.0
+     */
+    private Map<String, TemplateModel> createSharedVariables(final Locale locale) {
+
+        final TemplateMethodModelEx internationalizationMethodModel = new InternationalizationTemplateMethodModel(
+            locale,
+            this.internationalization);
+
+        final Map<String, TemplateModel> sharedVariableMap = new HashMap<>();
+        sharedVariableMap.put("i18n", internationalizationMethodModel);
+        sharedVariableMap.put("_", internationalizationMethodModel);
+        sharedVariableMap.put("lang", new SimpleScalar(locale.toLanguageTag()));
+        if (this.reverseRouteTemplateMethodModel != null) {
+            sharedVariableMap.put("urlfor", this.reverseRouteTemplateMethodModel);
+        }
+
+        return Map.copyOf(sharedVariableMap);
+    }
+
+    /**
+     * Wraps the data model without copying it.
+     *
+     * @param dataModel The data model to wrap
+     * @return The wrapped data model
+     * @throws TemplateModelException If the data model can't be wrapped
+     * @since 1.17.0
+     */
+    private TemplateHashModel wrapDataModel(final Map<String, Object> dataModel) throws TemplateModelException {
+
+        final TemplateModel templateModel = this.freeMarkerConfiguration.getObjectWrapper().wrap(dataModel);
+        if (templateModel instanceof final TemplateHashModel templateHashModel) {
+            return templateHashModel;
+        }
+
+        return new SimpleHash(dataModel, this.freeMarkerConfiguration.getObjectWrapper());
+    }
 }
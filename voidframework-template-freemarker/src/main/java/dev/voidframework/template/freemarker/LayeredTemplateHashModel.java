@@ -0,0 +1,46 @@
+package dev.voidframework.template.freemarker;
+
+import freemarker.template.TemplateHashModel;
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateModelException;
+
+import java.util.Map;
+
+/**
+ * Template root data model. Variables shared by all renderings using the same locale are
+ * looked up first, then variables of the data model provided by the caller. The data model
+ * provided by the caller is neither copied nor modified.
+ *
+ * @since 1.17.0
+ */
+final class LayeredTemplateHashModel implements TemplateHashModel {
+
+    private final Map<String, TemplateModel> sharedVariableMap;
+    private final TemplateHashModel dataModel;
+
+    /**
+     * Build a new instance.
+     *
+     * @param sharedVariableMap The immutable shared variables
+     * @param dataModel         The data model provided by the caller
+     * @since 1.17.0
+     */
+    LayeredTemplateHashModel(final Map<String, TemplateModel> sharedVariableMap, final TemplateHashModel dataModel) {
+
+        this.sharedVariableMap = sharedVariableMap;
+        this.dataModel = dataModel;
+    }
+
+    @Override
+    public TemplateModel get(final String key) throws TemplateModelException {
+
+        final TemplateModel templateModel = this.sharedVariableMap.get(key);
+        return templateModel != null ? templateModel : this.dataModel.get(key);
+    }
+
+    @Override
+    public boolean isEmpty() throws TemplateModelException {
+
+        return this.sharedVariableMap.isEmpty() && this.dataModel.isEmpty();
+    }
+}
@@ -0,0 +1,87 @@
+package dev.voidframework.template.freemarker.cache;
+
+import freemarker.cache.CacheStorage;
+import freemarker.cache.CacheStorageWithGetSize;
+import freemarker.cache.ConcurrentCacheStorage;
+
+/**
+ * FreeMarker cache storage recording metrics. A template is loaded between a lookup
+ * which has not been served from the cache and the storage of the loaded template, both
+ * occurring on the same thread: the time elapsed between these two calls is recorded
+ * as the template load time.
+ *
+ * @since 1.17.0
+ */
+public final class InstrumentedCacheStorage implements CacheStorageWithGetSize, ConcurrentCacheStorage {
+
+    private static final ThreadLocal<Long> MISS_NANO_TIME = new ThreadLocal<>();
+
+    private final CacheStorage cacheStorage;
+    private final TemplateCacheMetrics templateCacheMetrics;
+
+    /**
+     * Build a new instance.
+     *
+     * @param cacheStorage         The cache storage to instrument
+     * @param templateCacheMetrics The metrics to update
+     * @since 1.17.0
+     */
+    public InstrumentedCacheStorage(final CacheStorage cacheStorage, final TemplateCacheMetrics templateCacheMetrics) {
+
+        this.cacheStorage = cacheStorage;
+        this.templateCacheMetrics = templateCacheMetrics;
+    }
+
+    @Override
+    public Object get(final Object key) {
+
+        final Object value = this.cacheStorage.get(key);
+        if (value != null) {
+            this.templateCacheMetrics.recordHit();
+        } else {
+            this.templateCacheMetrics.recordMiss();
+            MISS_NANO_TIME.set(System.nanoTime());
+        }
+
+        return value;
+    }
+
+    @Override
+    public void put(final Object key, final Object value) {
+
+        this.cacheStorage.put(key, value);
+
+        final Long missNanoTime = MISS_NANO_TIME.get();
+        if (missNanoTime != null) {
+            MISS_NANO_TIME.remove();
+            this.templateCacheMetrics.recordLoad(System.nanoTime() - missNanoTime);
+        }
+    }
+
+    @Override
+    public void remove(final Object key) {
+
+        this.cacheStorage.remove(key);
+    }
+
+    @Override
+    public void clear() {
+
+        this.cacheStorage.clear();
+    }
+
+    @Override
+    public int getSize() {
+
+        return this.cacheStorage instanceof final CacheStorageWithGetSize cacheStorageWithGetSize
+            ? cacheStorageWithGetSize.getSize()
+            : -1;
+    }
+
+    @Override
+    public boolean isConcurrent() {
+
+        return this.cacheStorage instanceof final ConcurrentCacheStorage concurrentCacheStorage
+            && concurrentCacheStorage.isConcurrent();
+    }
+}
@@ -0,0 +1,134 @@
+package dev.voidframework.template.freemarker.cache;
+
+import com.google.inject.Singleton;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Template cache metrics.
+ *
+ * @since 1.17.0
+ */
+@Singleton
+public final class TemplateCacheMetrics {
+
+    private final LongAdder hitCount;
+    private final LongAdder missCount;
+    private final LongAdder loadCount;
+    private final LongAdder loadTimeNanos;
+
+    /**
+     * Build a new instance.
+     *
+     * @since 1.17.0
+     */
+    public TemplateCacheMetrics() {
+
+        this.hitCount = new LongAdder();
+        this.missCount = new LongAdder();
+        this.loadCount = new LongAdder();
+        this.loadTimeNanos = new LongAdder();
+    }
+
+    /**
+     * Retrieves the number of template lookups served from the cache.
+     *
+     * @return The number of cache hits
+     * @since 1.17.0
+     */
+    public long getHitCount() {
+
+        return this.hitCount.sum();
+    }
+
+    /**
+     * Retrieves the number of template lookups not served from the cache.
+     *
+     * @return The number of cache misses
+     * @since 1.17.0
+     */
+    public long getMissCount() {
+
+        return this.missCount.sum();
+    }
+
+    /**
+     * Retrieves the ratio of template lookups served from the cache.
+     *
+     * @return The cache hit ratio, between 0 and 1
+     * @since 1.17.0
+     */
+    public double getHitRatio() {
+
+        final long hit = this.hitCount.sum();
+        final long total = hit + this.missCount.sum();
+        return total == 0 ? 0 : (double) hit / total;
+    }
+
+    /**
+     * Retrieves the number of loaded (read and parsed) templates.
+     *
+     * @return The number of loaded templates
+     * @since 1.17.0
+     */
+    public long getLoadCount() {
+
+        return this.loadCount.sum();
+    }
+
+    /**
+     * Retrieves the total time spent to load (read and parse) templates.
+     *
+     * @return The total load time
+     * @since 1.17.0
+     */
+    public Duration getTotalLoadTime() {
+
+        return Duration.ofNanos(this.loadTimeNanos.sum());
+    }
+
+    /**
+     * Retrieves the average time spent to load (read and parse) a template.
+     *
+     * @return The average load time
+     * @since 1.17.0
+     */
+    public Duration getAverageLoadTime() {
+
+        final long count = this.loadCount.sum();
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(this.loadTimeNanos.sum() / count);
+    }
+
+    /**
+     * Records a cache hit.
+     *
+     * @since 1.17.0
+     */
+    void recordHit() {
+
+        this.hitCount.increment();
+    }
+
+    /**
+     * Records a cache miss.
+     *
+     * @since 1.17.0
+     */
+    void recordMiss() {
+
+        this.missCount.increment();
+    }
+
+    /**
+     * Records a template load.
+     *
+     * @param durationNanos The load duration in nanoseconds
+     * @since 1.17.0
+     */
+    void recordLoad(final long durationNanos) {
+
+        this.loadCount.increment();
+        this.loadTimeNanos.add(durationNanos);
+    }
+}
@@ -0,0 +1,31 @@
+package dev.voidframework.template.freemarker.cache;
+
+/**
+ * Template cache strategies.
+ *
+ * @since 1.17.0
+ */
+public enum TemplateCacheStrategy {
+
+    /**
+     * A limited number of most recently used templates are strongly referenced, the
+     * others are softly referenced and can be dropped under memory pressure.
+     *
+     * @since 1.17.0
+     */
+    MRU,
+
+    /**
+     * All templates are softly referenced and can be dropped under memory pressure.
+     *
+     * @since 1.17.0
+     */
+    SOFT,
+
+    /**
+     * All templates are strongly referenced and are never dropped.
+     *
+     * @since 1.17.0
+     */
+    STRONG
+}
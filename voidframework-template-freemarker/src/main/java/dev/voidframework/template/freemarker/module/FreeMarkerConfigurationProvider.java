@@ -4,12 +4,20 @@ import com.google.inject.Inject;
 import com.google.inject.Provider;
 import com.google.inject.Singleton;
 import com.typesafe.config.Config;
+import dev.voidframework.core.utils.ConfigurationUtils;
 import dev.voidframework.core.utils.VoidFrameworkVersion;
 import dev.voidframework.template.exception.TemplateException;
+import dev.voidframework.template.freemarker.cache.InstrumentedCacheStorage;
+import dev.voidframework.template.freemarker.cache.TemplateCacheMetrics;
+import dev.voidframework.template.freemarker.cache.TemplateCacheStrategy;
 import dev.voidframework.template.freemarker.method.ConfigTemplateMethodModel;
+import freemarker.cache.CacheStorage;
 import freemarker.cache.ClassTemplateLoader;
 import freemarker.cache.FileTemplateLoader;
+import freemarker.cache.MruCacheStorage;
 import freemarker.cache.MultiTemplateLoader;
+import freemarker.cache.SoftCacheStorage;
+import freemarker.cache.StrongCacheStorage;
 import freemarker.cache.TemplateLoader;
 import freemarker.core.HTMLOutputFormat;
 import freemarker.template.Configuration;
@@ -38,18 +46,21 @@ import java.util.stream.Stream;
 public class FreeMarkerConfigurationProvider implements Provider<Configuration> {
 
     private final Config configuration;
+    private final TemplateCacheMetrics templateCacheMetrics;
     private Configuration freeMarkerConfiguration;
 
     /**
      * Build a new instance.
      *
-     * @param configuration The application configuration
+     * @param configuration        The application configuration
+     * @param templateCacheMetrics The template cache metrics
      * @since 1.0.0
      */
     @Inject
-    public FreeMarkerConfigurationProvider(final Config configuration) {
+    public FreeMarkerConfigurationProvider(final Config configuration, final TemplateCacheMetrics templateCacheMetrics) {
 
         this.configuration = configuration;
+        this.templateCacheMetrics = templateCacheMetrics;
     }
 
     @Override
@@ -86,14 +97,14 @@ public class FreeMarkerConfigurationProvider implements Provider<Configuration>
                 }
                 templateLoaderArray[idx] = new ClassTemplateLoader(this.getClass(), basePackagePath);
 
-                this.freeMarkerConfiguration.setCacheStorage(new freemarker.cache.MruCacheStorage(0, 0));
+                this.freeMarkerConfiguration.setCacheStorage(new MruCacheStorage(0, 0));
                 this.freeMarkerConfiguration.setClassForTemplateLoading(this.getClass(), basePackagePath);
                 this.freeMarkerConfiguration.setTemplateLoader(new MultiTemplateLoader(templateLoaderArray));
             } catch (final IOException e) {
                 throw new TemplateException.TemplateEngineInitFailure(e);
             }
         } else {
-            this.freeMarkerConfiguration.setCacheStorage(new freemarker.cache.MruCacheStorage(20, Integer.MAX_VALUE));
+            this.freeMarkerConfiguration.setCacheStorage(new InstrumentedCacheStorage(this.createCacheStorage(), this.templateCacheMetrics));
             this.freeMarkerConfiguration.setClassForTemplateLoading(this.getClass(), basePackagePath);
             this.freeMarkerConfiguration.setTemplateUpdateDelayMilliseconds(Integer.MAX_VALUE);
         }
@@ -109,6 +120,26 @@ public class FreeMarkerConfigurationProvider implements Provider<Configuration>
         return this.freeMarkerConfiguration;
     }
 
+    /**
+     * Creates the template cache storage to use in production mode.
+     *
+     * @return Newly created cache storage
+     * @since 1.17.0
+     */
+    private CacheStorage createCacheStorage() {
+
+        final TemplateCacheStrategy templateCacheStrategy = ConfigurationUtils.getEnumOrDefault(
+            this.configuration, "voidframework.template.cache.strategy", TemplateCacheStrategy.class, TemplateCacheStrategy.MRU);
+
+        return switch (templateCacheStrategy) {
+            case MRU -> new MruCacheStorage(
+                ConfigurationUtils.getIntOrDefault(this.configuration, "voidframework.template.cache.maxStrongSize", 250),
+                ConfigurationUtils.getIntOrDefault(this.configuration, "voidframework.template.cache.maxSoftSize", Integer.MAX_VALUE));
+            case SOFT -> new SoftCacheStorage();
+            case STRONG -> new StrongCacheStorage();
+        };
+    }
+
     /**
      * Resolve possible template locations.
      *
@@ -0,0 +1,171 @@
+package dev.voidframework.template.freemarker.module;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.typesafe.config.Config;
+import dev.voidframework.core.lifecycle.LifeCycleStart;
+import dev.voidframework.core.utils.ConfigurationUtils;
+import freemarker.template.Configuration;
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.Resource;
+import io.github.classgraph.ScanResult;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loads and parses all templates when the application starts, to avoid paying the
+ * template parsing cost during the first requests. Precompilation is only performed
+ * in production mode, and only if it has been enabled.
+ *
+ * @since 1.17.0
+ */
+@Singleton
+public final class FreeMarkerTemplatePrecompiler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FreeMarkerTemplatePrecompiler.class);
+
+    private static final String[] TEMPLATE_EXTENSION_ARRAY = {".ftl", ".ftlh", ".ftlx"};
+
+    private final Config configuration;
+    private final Configuration freeMarkerConfiguration;
+
+    /**
+     * Build a new instance.
+     *
+     * @param configuration           The application configuration
+     * @param freeMarkerConfiguration The FreeMarker configuration
+     * @since 1.17.0
+     */
+    @Inject
+    public FreeMarkerTemplatePrecompiler(final Config configuration, final Configuration freeMarkerConfiguration) {
+
+        this.configuration = configuration;
+        this.freeMarkerConfiguration = freeMarkerConfiguration;
+    }
+
+    /**
+     * Precompiles all templates, if enabled. Templates are precompiled before the web server starts.
+     *
+     * @since 1.17.0
+     */
+    @LifeCycleStart(priority = 650)
+    public void onStart() {
+
+        if (ConfigurationUtils.getBooleanOrDefault(this.configuration, "voidframework.core.runInDevMode", false)
+            || !ConfigurationUtils.getBooleanOrDefault(this.configuration, "voidframework.template.precompile.enabled", false)) {
+            return;
+        }
+
+        this.precompile();
+    }
+
+    /**
+     * Precompiles all templates located under the templates base path. Templates are cached
+     * per locale, so each template is precompiled for each available language.
+     *
+     * @return The number of successfully precompiled templates
+     * @since 1.17.0
+     */
+    public int precompile() {
+
+        final long startTimeMillis = System.currentTimeMillis();
+        final List<String> templateNameList = this.discoverTemplateNames();
+        final List<Locale> localeList = this.resolveLocales();
+        final int parallelism = Math.max(1, ConfigurationUtils.getIntOrDefault(this.configuration, "voidframework.template.precompile.parallelism", 4));
+
+        final AtomicInteger precompiledCount = new AtomicInteger();
+        final ExecutorService executorService = Executors.newFixedThreadPool(parallelism);
+        try {
+            final List<Runnable> taskList = new ArrayList<>();
+            for (final String templateName : templateNameList) {
+                for (final Locale locale : localeList) {
+                    taskList.add(() -> {
+                        try {
+                            this.freeMarkerConfiguration.getTemplate(templateName, locale);
+                            precompiledCount.incrementAndGet();
+                        } catch (final IOException exception) {
+                            LOGGER.warn("Can't precompile template '{}' ({})", templateName, locale, exception);
+                        }
+                    });
+                }
+            }
+
+            taskList.stream()
+                .map(executorService::submit)
+                .toList()
+                .forEach(future -> {
+                    try {
+                        future.get();
+                    } catch (final InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                    } catch (final Exception exception) {
+                        LOGGER.warn("Can't precompile template", exception);
+                    }
+                });
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        LOGGER.info(
+            "{} template(s) precompiled for {} locale(s) in {} ms",
+            templateNameList.size(),
+            localeList.size(),
+            System.currentTimeMillis() - startTimeMillis);
+
+        return precompiledCount.get();
+    }
+
+    /**
+     * Discovers the names of all templates located under the templates base path.
+     *
+     * @return The template names, relative to the templates base path
+     * @since 1.17.0
+     */
+    private List<String> discoverTemplateNames() {
+
+        final String basePath = StringUtils.strip(
+            this.configuration.getString("voidframework.template.basePackagePath"), "/");
+
+        try (final ScanResult scanResult = new ClassGraph().acceptPaths(basePath).scan()) {
+            return scanResult.getAllResources()
+                .stream()
+                .map(Resource::getPath)
+                .filter(path -> StringUtils.endsWithAny(path, TEMPLATE_EXTENSION_ARRAY))
+                .map(path -> basePath.isEmpty() ? path : path.substring(basePath.length() + 1))
+                .distinct()
+                .toList();
+        }
+    }
+
+    /**
+     * Resolves the locales for which templates must be precompiled.
+     *
+     * @return The locales
+     * @since 1.17.0
+     */
+    private List<Locale> resolveLocales() {
+
+        if (this.configuration.hasPath("voidframework.web.language.availableLanguages")) {
+            final List<Locale> localeList = this.configuration.getStringList("voidframework.web.language.availableLanguages")
+                .stream()
+                .filter(StringUtils::isNotBlank)
+                .map(Locale::forLanguageTag)
+                .distinct()
+                .toList();
+            if (!localeList.isEmpty()) {
+                return localeList;
+            }
+        }
+
+        return List.of(Locale.getDefault());
+    }
+}
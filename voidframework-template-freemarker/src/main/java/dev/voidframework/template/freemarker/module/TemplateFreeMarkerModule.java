@@ -3,6 +3,7 @@ package dev.voidframework.template.freemarker.module;
 import com.google.inject.AbstractModule;
 import dev.voidframework.template.TemplateRenderer;
 import dev.voidframework.template.freemarker.FreeMarkerTemplateRenderer;
+import dev.voidframework.template.freemarker.cache.TemplateCacheMetrics;
 import freemarker.template.Configuration;
 
 /**
@@ -15,7 +16,9 @@ public final class TemplateFreeMarkerModule extends AbstractModule {
     @Override
     protected void configure() {
 
+        bind(TemplateCacheMetrics.class);
         bind(Configuration.class).toProvider(FreeMarkerConfigurationProvider.class);
         bind(TemplateRenderer.class).to(FreeMarkerTemplateRenderer.class);
+        bind(FreeMarkerTemplatePrecompiler.class).asEagerSingleton();
     }
 }
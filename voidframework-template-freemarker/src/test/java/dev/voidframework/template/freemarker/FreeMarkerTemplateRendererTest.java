@@ -16,6 +16,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestMethodOrder;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
@@ -91,6 +93,42 @@ final class FreeMarkerTemplateRendererTest {
         Assertions.assertEquals("This product costs 4,500.99 EUR.", htmlEnglish.trim());
     }
 
+    @Test
+    void renderWithDataModelIntoOutputStream() {
+
+        // Arrange
+        final TemplateRenderer templateRenderer = this.injector.getInstance(TemplateRenderer.class);
+
+        final Map<String, Object> dataModel = new HashMap<>();
+        dataModel.put("price", 4500.99);
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // Act
+        templateRenderer.render("renderWithDataModel.ftl", Locale.FRENCH, dataModel, outputStream);
+
+        // Assert
+        Assertions.assertEquals(
+            templateRenderer.render("renderWithDataModel.ftl", Locale.FRENCH, dataModel),
+            outputStream.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void renderWithImmutableDataModel() {
+
+        // Arrange
+        final TemplateRenderer templateRenderer = this.injector.getInstance(TemplateRenderer.class);
+
+        final Map<String, Object> dataModel = Map.of("price", 4500.99);
+
+        // Act
+        final String htmlEnglish = templateRenderer.render("renderWithDataModel.ftl", Locale.ENGLISH, dataModel);
+
+        // Assert
+        Assertions.assertEquals("This product costs 4,500.99 EUR.", htmlEnglish.trim());
+        Assertions.assertEquals(Map.of("price", 4500.99), dataModel);
+    }
+
     @Test
     void renderWithDataModelFrench() {
 
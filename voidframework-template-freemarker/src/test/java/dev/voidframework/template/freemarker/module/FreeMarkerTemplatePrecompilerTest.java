@@ -0,0 +1,88 @@
+package dev.voidframework.template.freemarker.module;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Stage;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import dev.voidframework.i18n.module.InternationalizationModule;
+import dev.voidframework.template.TemplateRenderer;
+import dev.voidframework.template.freemarker.cache.TemplateCacheMetrics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.Locale;
+
+@TestMethodOrder(MethodOrderer.MethodName.class)
+final class FreeMarkerTemplatePrecompilerTest {
+
+    @Test
+    void precompile() {
+
+        // Arrange
+        final Injector injector = this.createInjector("""
+            voidframework.core.runInDevMode = false
+            voidframework.template.basePackagePath = "/views/"
+            voidframework.template.cache.strategy = "STRONG"
+            voidframework.template.precompile.parallelism = 2
+            voidframework.web.language.availableLanguages = ["en"]
+            """);
+        final FreeMarkerTemplatePrecompiler precompiler = injector.getInstance(FreeMarkerTemplatePrecompiler.class);
+        final TemplateCacheMetrics templateCacheMetrics = injector.getInstance(TemplateCacheMetrics.class);
+
+        // Act
+        final int precompiledCount = precompiler.precompile();
+
+        // Assert
+        Assertions.assertEquals(7, precompiledCount);
+        Assertions.assertEquals(7, templateCacheMetrics.getMissCount());
+        Assertions.assertEquals(7, templateCacheMetrics.getLoadCount());
+        Assertions.assertEquals(0, templateCacheMetrics.getHitCount());
+    }
+
+    @Test
+    void precompileThenRender() {
+
+        // Arrange
+        final Injector injector = this.createInjector("""
+            voidframework.core.runInDevMode = false
+            voidframework.template.basePackagePath = "/views/"
+            voidframework.web.language.availableLanguages = ["en"]
+            """);
+        final FreeMarkerTemplatePrecompiler precompiler = injector.getInstance(FreeMarkerTemplatePrecompiler.class);
+        final TemplateCacheMetrics templateCacheMetrics = injector.getInstance(TemplateCacheMetrics.class);
+        final TemplateRenderer templateRenderer = injector.getInstance(TemplateRenderer.class);
+        precompiler.precompile();
+
+        // Act
+        final String result = templateRenderer.render("renderWithoutDataModel.ftl", Locale.ENGLISH);
+
+        // Assert
+        Assertions.assertEquals("This product costs 4,500.99 EUR.", result.trim());
+        Assertions.assertEquals(1, templateCacheMetrics.getHitCount());
+        Assertions.assertEquals(7, templateCacheMetrics.getLoadCount());
+    }
+
+    /**
+     * Creates an injector.
+     *
+     * @param configurationContent The configuration content
+     * @return Newly created injector
+     */
+    private Injector createInjector(final String configurationContent) {
+
+        final Config configuration = ConfigFactory.parseString(configurationContent);
+
+        return Guice.createInjector(Stage.PRODUCTION, new AbstractModule() {
+            @Override
+            protected void configure() {
+                bind(Config.class).toInstance(configuration);
+                install(new InternationalizationModule());
+                install(new TemplateFreeMarkerModule());
+            }
+        });
+    }
+}
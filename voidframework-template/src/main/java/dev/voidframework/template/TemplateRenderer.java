@@ -1,5 +1,10 @@
 package dev.voidframework.template;
 
+import dev.voidframework.template.exception.TemplateException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Locale;
 import java.util.Map;
 
@@ -30,4 +35,29 @@ public interface TemplateRenderer {
      * @since 1.0.0
      */
     String render(final String templateName, final Locale locale, final Map<String, Object> dataModel);
+
+    /**
+     * Render a template into an output stream. The rendered template is encoded in UTF-8,
+     * the output stream is flushed but not closed.
+     *
+     * @param templateName The template name
+     * @param locale       The locale to use for internationalization (Number format, Date, I18N, ...)
+     * @param dataModel    Data to use into the template
+     * @param outputStream The output stream where to write the rendered template
+     * @since 1.17.0
+     */
+    default void render(final String templateName,
+                        final Locale locale,
+                        final Map<String, Object> dataModel,
+                        final OutputStream outputStream) {
+
+        final String renderedTemplate = this.render(templateName, locale, dataModel);
+
+        try {
+            outputStream.write(renderedTemplate.getBytes(StandardCharsets.UTF_8));
+            outputStream.flush();
+        } catch (final IOException exception) {
+            throw new TemplateException.RenderingFailure(templateName, -1, exception);
+        }
+    }
 }
@@ -7,7 +7,8 @@ import jakarta.validation.ConstraintValidatorContext;
 import java.nio.charset.StandardCharsets;
 
 /**
- * Implementation of the annotation {@link CUID}.
+ * Implementation of the annotation {@link CUID}. Both the string form encoded
+ * in UTF-8 (25 bytes) and the compact binary form (16 bytes) are accepted.
  *
  * @since 1.5.0
  */
@@ -20,6 +21,10 @@ public class CUIDAsByteArrayImpl implements ConstraintValidator<CUID, byte[]> {
             return true;
         }
 
+        if (dev.voidframework.core.lang.CUID.isValidBinary(value)) {
+            return true;
+        }
+
         return dev.voidframework.core.lang.CUID.isValid(new String(value, StandardCharsets.UTF_8));
     }
 }
@@ -96,6 +96,46 @@ final class CUIDTest {
         Assertions.assertEquals(pojo, pojoValidated.getInstance());
     }
 
+    @Test
+    void cuidAsBinaryByteArrayWithError() {
+
+        // Arrange
+        final PojoAsByteArray pojo = new PojoAsByteArray(new byte[]{-1, -1, -1, -1, -1, -1, -1, -1, 0, 0, 0, 0, 0, 0, 0, 0});
+        final Validation validation = new Validation();
+
+        // Act
+        final Validated<PojoAsByteArray> pojoValidated = validation.validate(pojo, Locale.ENGLISH);
+
+        // Assert
+        Assertions.assertNotNull(pojoValidated);
+        Assertions.assertTrue(pojoValidated.hasError());
+        Assertions.assertFalse(pojoValidated.isValid());
+
+        final ValidationError validationError = pojoValidated.getError("cuid");
+        Assertions.assertNotNull(pojoValidated);
+        Assertions.assertEquals("voidframework.validation.constraints.CUID.message", validationError.messageKey());
+
+        Assertions.assertEquals(pojo, pojoValidated.getInstance());
+    }
+
+    @Test
+    void cuidAsBinaryByteArrayWithoutError() {
+
+        // Arrange
+        final PojoAsByteArray pojo = new PojoAsByteArray(dev.voidframework.core.lang.CUID.fromString("cjld2cyuq0000t3rmniod1foy").toBytes());
+        final Validation validation = new Validation();
+
+        // Act
+        final Validated<PojoAsByteArray> pojoValidated = validation.validate(pojo, Locale.ENGLISH);
+
+        // Assert
+        Assertions.assertNotNull(pojoValidated);
+        Assertions.assertFalse(pojoValidated.hasError());
+        Assertions.assertTrue(pojoValidated.isValid());
+
+        Assertions.assertEquals(pojo, pojoValidated.getInstance());
+    }
+
     /**
      * Pojo with CUID as String.
      *
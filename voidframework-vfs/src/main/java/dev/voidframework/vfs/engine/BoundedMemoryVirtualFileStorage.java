@@ -0,0 +1,452 @@
+package dev.voidframework.vfs.engine;
+
+import com.google.inject.Inject;
+import com.typesafe.config.Config;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Virtual File Storage: Memory (bounded).
+ * <p>
+ * File contents are stored outside the Java heap (direct {@link ByteBuffer}), so they don't
+ * increase garbage collection pauses. The total amount of memory used is bounded: when storing
+ * a new file would exceed it, the least recently used files are evicted. Evicted files can
+ * optionally be spilled to a {@link DiskVirtualFileStorage}, in which case they remain
+ * retrievable.
+ * <p>
+ * Files are kept in access order, so the eviction always starts with the least recently used
+ * file without having to sort the stored files. Reading or writing files on disk is always
+ * done outside the lock.
+ *
+ * @since 1.17.0
+ */
+public class BoundedMemoryVirtualFileStorage implements VirtualFileStorage {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BoundedMemoryVirtualFileStorage.class);
+
+    private static final long DEFAULT_MAX_MEMORY_SIZE = 64L * 1024 * 1024;
+    private static final int MAX_BUFFER_SIZE = Integer.MAX_VALUE - 8;
+    private static final int MIN_BUFFER_SIZE = 8192;
+
+    private final long maxMemorySize;
+    private final VirtualFileStorage spillStorage;
+    private final LinkedHashMap<String, StoredFile> storage;
+    private final Map<String, StoredFile> pendingSpillStorage;
+    private final Set<String> spilledFileNameSet;
+    private final AtomicLong currentMemorySize;
+    private final ReentrantLock lock;
+
+    /**
+     * Build a new instance.
+     *
+     * @param configuration The application configuration
+     * @since 1.17.0
+     */
+    @Inject
+    public BoundedMemoryVirtualFileStorage(final Config configuration) {
+
+        this(configuration,
+            configuration.hasPath("spillToDisk.enabled") && configuration.getBoolean("spillToDisk.enabled")
+                ? new DiskVirtualFileStorage(configuration.getConfig("spillToDisk"))
+                : null);
+    }
+
+    /**
+     * Build a new instance.
+     *
+     * @param configuration The application configuration
+     * @param spillStorage  The storage receiving evicted files, can be {@code null}
+     * @since 1.17.0
+     */
+    BoundedMemoryVirtualFileStorage(final Config configuration, final VirtualFileStorage spillStorage) {
+
+        if (configuration.hasPath("maxMemorySize")) {
+            this.maxMemorySize = configuration.getBytes("maxMemorySize");
+        } else {
+            this.maxMemorySize = DEFAULT_MAX_MEMORY_SIZE;
+        }
+
+        this.spillStorage = spillStorage;
+        this.storage = new LinkedHashMap<>(16, 0.75f, true);
+        this.pendingSpillStorage = new HashMap<>();
+        this.spilledFileNameSet = new HashSet<>();
+        this.currentMemorySize = new AtomicLong();
+        this.lock = new ReentrantLock();
+    }
+
+    @Override
+    public InputStream retrieveFile(final String fileName) {
+
+        ByteBuffer fileContent = this.retrieveFileAsByteBuffer(fileName);
+        if (fileContent == null) {
+            this.lock.lock();
+            try {
+                final StoredFile pendingSpillFile = this.pendingSpillStorage.get(fileName);
+                if (pendingSpillFile != null) {
+                    fileContent = pendingSpillFile.content().asReadOnlyBuffer();
+                }
+            } finally {
+                this.lock.unlock();
+            }
+        }
+
+        if (fileContent == null) {
+            return this.spillStorage != null ? this.spillStorage.retrieveFile(fileName) : null;
+        }
+
+        return new ByteBufferInputStream(fileContent);
+    }
+
+    /**
+     * Retrieves a specific file content as a read-only view, without copying it. Files which have
+     * been spilled to disk are not returned by this method, use {@link #retrieveFile(String)}.
+     *
+     * @param fileName Name of the file to retrieve
+     * @return A read-only buffer containing the file content, otherwise, {@code null}
+     * @since 1.17.0
+     */
+    public ByteBuffer retrieveFileAsByteBuffer(final String fileName) {
+
+        final StoredFile storedFile;
+        this.lock.lock();
+        try {
+            // Moves the file to the end of the eviction order
+            storedFile = this.storage.get(fileName);
+        } finally {
+            this.lock.unlock();
+        }
+
+        return storedFile != null ? storedFile.content().asReadOnlyBuffer() : null;
+    }
+
+    @Override
+    public boolean storeFile(final String fileName, final String contentType, final InputStream contentStream) {
+
+        if (contentStream == null) {
+            return false;
+        }
+
+        final ByteBuffer fileContent;
+        try {
+            fileContent = this.readUpToMemoryBudget(contentStream);
+        } catch (final IOException exception) {
+            LOGGER.error("Can't store file %s (%s)".formatted(fileName, contentType), exception);
+            return false;
+        }
+
+        if (fileContent.limit() > this.maxMemorySize) {
+            if (this.spillStorage != null) {
+                this.lock.lock();
+                try {
+                    this.deleteFromMemory(fileName);
+                    this.pendingSpillStorage.remove(fileName);
+                    this.spilledFileNameSet.add(fileName);
+                } finally {
+                    this.lock.unlock();
+                }
+
+                return this.spillStorage.storeFile(
+                    fileName,
+                    contentType,
+                    new SequenceInputStream(new ByteBufferInputStream(fileContent), contentStream));
+            }
+
+            LOGGER.error("Can't store file {} ({}): size exceeds the memory budget of {} bytes", fileName, contentType, this.maxMemorySize);
+            return false;
+        }
+
+        // Content size is now known, a single off-heap buffer of the exact size is allocated
+        final ByteBuffer offHeapFileContent = ByteBuffer.allocateDirect(fileContent.limit());
+        offHeapFileContent.put(fileContent);
+        offHeapFileContent.flip();
+
+        final StoredFile storedFile = new StoredFile(offHeapFileContent, contentType);
+        final List<EvictedFile> evictedFileList;
+        this.lock.lock();
+        try {
+            if (this.spillStorage != null) {
+                // Previously spilled version is now outdated
+                this.pendingSpillStorage.remove(fileName);
+                if (this.spilledFileNameSet.remove(fileName)) {
+                    this.spillStorage.deleteFile(fileName);
+                }
+            }
+
+            final StoredFile previousStoredFile = this.storage.put(fileName, storedFile);
+            final long previousSize = previousStoredFile != null ? previousStoredFile.size() : 0;
+            this.currentMemorySize.addAndGet(storedFile.size() - previousSize);
+
+            evictedFileList = this.evictLeastRecentlyUsed(fileName);
+        } finally {
+            this.lock.unlock();
+        }
+
+        if (this.spillStorage != null) {
+            evictedFileList.forEach(this::spillToDisk);
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean storeFile(final String fileName,
+                             final String contentType,
+                             final InputStream contentStream,
+                             final Properties properties) {
+
+        return this.storeFile(fileName, contentType, contentStream);
+    }
+
+    @Override
+    public boolean deleteFile(final String fileName) {
+
+        this.lock.lock();
+        try {
+            final boolean isDeletedFromMemory = this.deleteFromMemory(fileName);
+            final boolean isDeletedFromPendingSpill = this.pendingSpillStorage.remove(fileName) != null;
+            final boolean isDeletedFromDisk = this.spilledFileNameSet.remove(fileName) && this.spillStorage.deleteFile(fileName);
+
+            return isDeletedFromMemory || isDeletedFromPendingSpill || isDeletedFromDisk;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves the amount of memory currently used to store files.
+     *
+     * @return The amount of memory used, in bytes
+     * @since 1.17.0
+     */
+    public long getCurrentMemorySize() {
+
+        return this.currentMemorySize.get();
+    }
+
+    /**
+     * Reads the content stream into a heap buffer. The reading stops as soon as the memory
+     * budget is exceeded, the remaining bytes are left in the content stream. The heap buffer
+     * is only used for staging: off-heap memory is allocated once the content size is known.
+     *
+     * @param contentStream The content stream
+     * @return A buffer, ready to be read, containing the content
+     * @throws IOException If something goes wrong while reading the content stream
+     * @since 1.17.0
+     */
+    private ByteBuffer readUpToMemoryBudget(final InputStream contentStream) throws IOException {
+
+        final int maxBufferSize = (int) Math.min(this.maxMemorySize + 1, MAX_BUFFER_SIZE);
+        byte[] buffer = new byte[Math.min(Math.max(contentStream.available(), MIN_BUFFER_SIZE), maxBufferSize)];
+        int position = 0;
+
+        while (position < maxBufferSize) {
+            if (position == buffer.length) {
+                buffer = Arrays.copyOf(buffer, (int) Math.min(buffer.length * 2L, maxBufferSize));
+            }
+
+            final int nbReadBytes = contentStream.read(buffer, position, buffer.length - position);
+            if (nbReadBytes == -1) {
+                break;
+            }
+
+            position += nbReadBytes;
+        }
+
+        return ByteBuffer.wrap(buffer, 0, position);
+    }
+
+    /**
+     * Deletes a specific file from memory. The lock must be held by the caller.
+     *
+     * @param fileName Name of the file to delete
+     * @return {@code true} if the file was in memory, otherwise {@code false}
+     * @since 1.17.0
+     */
+    private boolean deleteFromMemory(final String fileName) {
+
+        final StoredFile storedFile = this.storage.remove(fileName);
+        if (storedFile != null) {
+            this.currentMemorySize.addAndGet(-storedFile.size());
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Evicts the least recently used files until the memory budget is respected. The lock must
+     * be held by the caller, evicted files have to be spilled to disk (if enabled) once the lock
+     * has been released.
+     *
+     * @param fileNameToKeep Name of the file which must not be evicted (ie: the file just stored)
+     * @return The evicted files
+     * @since 1.17.0
+     */
+    private List<EvictedFile> evictLeastRecentlyUsed(final String fileNameToKeep) {
+
+        final List<EvictedFile> evictedFileList = new ArrayList<>();
+        final Iterator<Map.Entry<String, StoredFile>> iterator = this.storage.entrySet().iterator();
+
+        while (this.currentMemorySize.get() > this.maxMemorySize && iterator.hasNext()) {
+            final Map.Entry<String, StoredFile> entry = iterator.next();
+            if (!entry.getKey().equals(fileNameToKeep)) {
+                iterator.remove();
+                if (this.spillStorage != null) {
+                    this.pendingSpillStorage.put(entry.getKey(), entry.getValue());
+                }
+
+                this.currentMemorySize.addAndGet(-entry.getValue().size());
+                evictedFileList.add(new EvictedFile(entry.getKey(), entry.getValue()));
+            }
+        }
+
+        return evictedFileList;
+    }
+
+    /**
+     * Spills an evicted file to disk. Until the spill is complete, the file remains retrievable
+     * from memory.
+     *
+     * @param evictedFile The evicted file
+     * @since 1.17.0
+     */
+    private void spillToDisk(final EvictedFile evictedFile) {
+
+        final StoredFile storedFile = evictedFile.storedFile();
+        final boolean isSpilled = this.spillStorage.storeFile(
+            evictedFile.fileName(),
+            storedFile.contentType(),
+            new ByteBufferInputStream(storedFile.content().duplicate()));
+
+        this.lock.lock();
+        try {
+            if (!this.pendingSpillStorage.remove(evictedFile.fileName(), storedFile)) {
+                // File has been deleted or replaced while being spilled, the spilled version is outdated
+                if (isSpilled) {
+                    this.spillStorage.deleteFile(evictedFile.fileName());
+                }
+            } else if (isSpilled) {
+                this.spilledFileNameSet.add(evictedFile.fileName());
+            } else {
+                LOGGER.error("Can't spill evicted file {} ({}) to disk, file is lost", evictedFile.fileName(), storedFile.contentType());
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * A file stored in memory.
+     *
+     * @since 1.17.0
+     */
+    private static final class StoredFile {
+
+        private final ByteBuffer content;
+        private final String contentType;
+
+        /**
+         * Build a new instance.
+         *
+         * @param content     The file content
+         * @param contentType The file content type
+         * @since 1.17.0
+         */
+        private StoredFile(final ByteBuffer content, final String contentType) {
+
+            this.content = content;
+            this.contentType = contentType;
+        }
+
+        private ByteBuffer content() {
+
+            return this.content;
+        }
+
+        private String contentType() {
+
+            return this.contentType;
+        }
+
+        private long size() {
+
+            return this.content.capacity();
+        }
+    }
+
+    /**
+     * A file evicted from memory, waiting to be spilled to disk.
+     *
+     * @param fileName   The file name
+     * @param storedFile The stored file
+     * @since 1.17.0
+     */
+    private record EvictedFile(String fileName, StoredFile storedFile) {
+    }
+
+    /**
+     * Input stream reading from a {@link ByteBuffer} without copying its content.
+     *
+     * @since 1.17.0
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer byteBuffer;
+
+        /**
+         * Build a new instance.
+         *
+         * @param byteBuffer The buffer to read from
+         * @since 1.17.0
+         */
+        private ByteBufferInputStream(final ByteBuffer byteBuffer) {
+
+            this.byteBuffer = byteBuffer;
+        }
+
+        @Override
+        public int read() {
+
+            return this.byteBuffer.hasRemaining() ? this.byteBuffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(final byte[] buffer, final int offset, final int length) {
+
+            if (length == 0) {
+                return 0;
+            }
+
+            if (!this.byteBuffer.hasRemaining()) {
+                return -1;
+            }
+
+            final int nbReadBytes = Math.min(length, this.byteBuffer.remaining());
+            this.byteBuffer.get(buffer, offset, nbReadBytes);
+            return nbReadBytes;
+        }
+
+        @Override
+        public int available() {
+
+            return this.byteBuffer.remaining();
+        }
+    }
+}
@@ -0,0 +1,440 @@
+package dev.voidframework.vfs.engine;
+
+import com.google.inject.Inject;
+import com.typesafe.config.Config;
+import dev.voidframework.core.utils.HexUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Properties;
+
+/**
+ * Virtual File Storage: Disk (content-addressed).
+ * <p>
+ * Each file content is stored only once, as a blob named after the digest of its content.
+ * Logical file names are mapped to blobs through small index files, and a reference counter
+ * is maintained for each blob, so it is physically deleted only when the last logical file
+ * referencing it is deleted.
+ * <p>
+ * Layout of the storage directory:
+ * <pre>
+ * basePath/
+ *   blobs/ab/cd/abcd...ef        Blob content
+ *   blobs/ab/cd/abcd...ef.refs   Number of logical files referencing the blob
+ *   index/12/34/1234...89        Digest of the blob referenced by the logical file
+ *   tmp/                         Files currently being written
+ * </pre>
+ * Blobs and index entries are distributed into two levels of sub-directories to keep each
+ * directory small, whatever the number of files stored. All writes go into a temporary
+ * file which is then atomically moved to its final location.
+ *
+ * @since 1.17.0
+ */
+public class ContentAddressedDiskVirtualFileStorage implements VirtualFileStorage {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ContentAddressedDiskVirtualFileStorage.class);
+
+    private static final String DEFAULT_DIGEST_ALGORITHM = "SHA-256";
+    private static final String REFERENCE_COUNTER_FILE_EXTENSION = ".refs";
+    private static final int LOCK_STRIPE_COUNT = 64;
+
+    private final Path blobsPath;
+    private final Path indexPath;
+    private final Path temporaryPath;
+    private final String digestAlgorithm;
+    private final Object[] indexLockStripes;
+    private final Object[] blobLockStripes;
+
+    /**
+     * Build a new instance.
+     *
+     * @param configuration The application configuration
+     * @since 1.17.0
+     */
+    @Inject
+    public ContentAddressedDiskVirtualFileStorage(final Config configuration) {
+
+        final String storageDirectory;
+        if (configuration.hasPath("basePath")) {
+            storageDirectory = configuration.getString("basePath");
+        } else {
+            storageDirectory = System.getProperty("java.io.tmpdir");
+        }
+
+        if (configuration.hasPath("digestAlgorithm")) {
+            this.digestAlgorithm = configuration.getString("digestAlgorithm");
+        } else {
+            this.digestAlgorithm = DEFAULT_DIGEST_ALGORITHM;
+        }
+
+        final Path basePath = Paths.get(storageDirectory);
+        this.blobsPath = basePath.resolve("blobs");
+        this.indexPath = basePath.resolve("index");
+        this.temporaryPath = basePath.resolve("tmp");
+
+        this.indexLockStripes = createLockStripes();
+        this.blobLockStripes = createLockStripes();
+
+        // Ensures the digest algorithm is available
+        this.createMessageDigest();
+    }
+
+    @Override
+    public InputStream retrieveFile(final String fileName) {
+
+        final Path indexEntryPath = this.resolveIndexEntryPath(fileName);
+
+        // The blob must be opened before the logical file can be deleted or replaced, otherwise
+        // the blob could be released in the meantime. Once opened, it remains readable
+        synchronized (lockFor(this.indexLockStripes, indexEntryPath.getFileName().toString())) {
+            try {
+                final String digest = this.readIndexEntry(indexEntryPath);
+                if (digest == null) {
+                    return null;
+                }
+
+                return Files.newInputStream(this.resolveBlobPath(digest), StandardOpenOption.READ);
+            } catch (final IOException ignore) {
+                return null;
+            }
+        }
+    }
+
+    @Override
+    public boolean storeFile(final String fileName, final String contentType, final InputStream contentStream) {
+
+        if (contentStream == null) {
+            return false;
+        }
+
+        Path temporaryFilePath = null;
+        try {
+            Files.createDirectories(this.temporaryPath);
+            temporaryFilePath = Files.createTempFile(this.temporaryPath, "blob-", ".tmp");
+
+            // Hashes the content while streaming it to the temporary file
+            final MessageDigest messageDigest = this.createMessageDigest();
+            try (final OutputStream outStream = Files.newOutputStream(temporaryFilePath, StandardOpenOption.WRITE)) {
+                final byte[] buffer = new byte[8192];
+                int nbReadBytes;
+                while ((nbReadBytes = contentStream.read(buffer, 0, buffer.length)) != -1) {
+                    messageDigest.update(buffer, 0, nbReadBytes);
+                    outStream.write(buffer, 0, nbReadBytes);
+                }
+                outStream.flush();
+            }
+
+            final String digest = HexUtils.toHex(messageDigest.digest());
+            final Path indexEntryPath = this.resolveIndexEntryPath(fileName);
+
+            synchronized (lockFor(this.indexLockStripes, indexEntryPath.getFileName().toString())) {
+                this.acquireBlob(digest, temporaryFilePath);
+                temporaryFilePath = null;
+
+                final String previousDigest;
+                try {
+                    previousDigest = this.readIndexEntry(indexEntryPath);
+                    this.writeAtomically(indexEntryPath, digest);
+                } catch (final IOException exception) {
+                    // Index entry has not been updated, the reference just acquired is not used
+                    this.releaseBlob(digest);
+                    throw exception;
+                }
+
+                if (previousDigest != null) {
+                    this.releaseBlob(previousDigest);
+                }
+            }
+
+            return true;
+        } catch (final IOException exception) {
+            LOGGER.error("Can't store file %s (%s)".formatted(fileName, contentType), exception);
+            return false;
+        } finally {
+            if (temporaryFilePath != null) {
+                this.deleteQuietly(temporaryFilePath);
+            }
+        }
+    }
+
+    @Override
+    public boolean storeFile(final String fileName,
+                             final String contentType,
+                             final InputStream contentStream,
+                             final Properties properties) {
+
+        return this.storeFile(fileName, contentType, contentStream);
+    }
+
+    @Override
+    public boolean deleteFile(final String fileName) {
+
+        final Path indexEntryPath = this.resolveIndexEntryPath(fileName);
+
+        synchronized (lockFor(this.indexLockStripes, indexEntryPath.getFileName().toString())) {
+            try {
+                final String digest = this.readIndexEntry(indexEntryPath);
+                if (digest == null) {
+                    return false;
+                }
+
+                Files.delete(indexEntryPath);
+                this.releaseBlob(digest);
+                return true;
+            } catch (final IOException ignore) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Moves the given temporary file to the blob location, unless a blob with the same
+     * digest already exists, and increments the blob reference counter.
+     *
+     * @param digest            The content digest
+     * @param temporaryFilePath The temporary file containing the content
+     * @throws IOException If something goes wrong
+     * @since 1.17.0
+     */
+    private void acquireBlob(final String digest, final Path temporaryFilePath) throws IOException {
+
+        final Path blobPath = this.resolveBlobPath(digest);
+
+        synchronized (lockFor(this.blobLockStripes, digest)) {
+            if (Files.exists(blobPath)) {
+                this.deleteQuietly(temporaryFilePath);
+            } else {
+                Files.createDirectories(blobPath.getParent());
+                this.moveAtomically(temporaryFilePath, blobPath);
+            }
+
+            final Path referenceCounterPath = this.resolveReferenceCounterPath(blobPath);
+            this.writeAtomically(referenceCounterPath, String.valueOf(this.readReferenceCounter(referenceCounterPath) + 1));
+        }
+    }
+
+    /**
+     * Decrements the blob reference counter and deletes the blob when it is no longer referenced.
+     *
+     * @param digest The content digest
+     * @throws IOException If something goes wrong
+     * @since 1.17.0
+     */
+    private void releaseBlob(final String digest) throws IOException {
+
+        final Path blobPath = this.resolveBlobPath(digest);
+
+        synchronized (lockFor(this.blobLockStripes, digest)) {
+            final Path referenceCounterPath = this.resolveReferenceCounterPath(blobPath);
+            final long referenceCounter = this.readReferenceCounter(referenceCounterPath) - 1;
+
+            if (referenceCounter > 0) {
+                this.writeAtomically(referenceCounterPath, String.valueOf(referenceCounter));
+            } else {
+                Files.deleteIfExists(blobPath);
+                Files.deleteIfExists(referenceCounterPath);
+            }
+        }
+    }
+
+    /**
+     * Reads the digest referenced by an index entry.
+     *
+     * @param indexEntryPath The index entry path
+     * @return The digest, otherwise, {@code null} if the index entry does not exist
+     * @throws IOException If something goes wrong
+     * @since 1.17.0
+     */
+    private String readIndexEntry(final Path indexEntryPath) throws IOException {
+
+        try {
+            return Files.readString(indexEntryPath, StandardCharsets.UTF_8).trim();
+        } catch (final NoSuchFileException ignore) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads a blob reference counter.
+     *
+     * @param referenceCounterPath The reference counter path
+     * @return The reference counter value, {@code 0} if the counter does not exist
+     * @throws IOException If something goes wrong
+     * @since 1.17.0
+     */
+    private long readReferenceCounter(final Path referenceCounterPath) throws IOException {
+
+        try {
+            return Long.parseLong(Files.readString(referenceCounterPath, StandardCharsets.UTF_8).trim());
+        } catch (final NoSuchFileException | NumberFormatException ignore) {
+            return 0;
+        }
+    }
+
+    /**
+     * Writes the given content into a temporary file and then atomically moves it to the target location.
+     *
+     * @param targetPath The target location
+     * @param content    The content to write
+     * @throws IOException If something goes wrong
+     * @since 1.17.0
+     */
+    private void writeAtomically(final Path targetPath, final String content) throws IOException {
+
+        Files.createDirectories(this.temporaryPath);
+        Files.createDirectories(targetPath.getParent());
+
+        final Path temporaryFilePath = Files.createTempFile(this.temporaryPath, "meta-", ".tmp");
+        try {
+            Files.writeString(temporaryFilePath, content, StandardCharsets.UTF_8);
+            this.moveAtomically(temporaryFilePath, targetPath);
+        } catch (final IOException exception) {
+            this.deleteQuietly(temporaryFilePath);
+            throw exception;
+        }
+    }
+
+    /**
+     * Moves a file atomically. If the underlying file system does not support atomic move,
+     * a regular move replacing the existing file will be used.
+     *
+     * @param sourcePath The source location
+     * @param targetPath The target location
+     * @throws IOException If something goes wrong
+     * @since 1.17.0
+     */
+    private void moveAtomically(final Path sourcePath, final Path targetPath) throws IOException {
+
+        try {
+            Files.move(sourcePath, targetPath, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException | FileAlreadyExistsException ignore) {
+            Files.move(sourcePath, targetPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Deletes a file without any exceptions.
+     *
+     * @param path The file to delete
+     * @since 1.17.0
+     */
+    private void deleteQuietly(final Path path) {
+
+        try {
+            Files.deleteIfExists(path);
+        } catch (final IOException ignore) {
+            // This exception is not important
+        }
+    }
+
+    /**
+     * Resolves the location of the index entry of a logical file.
+     *
+     * @param fileName The logical file name
+     * @return The index entry location
+     * @since 1.17.0
+     */
+    private Path resolveIndexEntryPath(final String fileName) {
+
+        final MessageDigest messageDigest = this.createMessageDigest();
+        final String fileNameDigest = HexUtils.toHex(messageDigest.digest(fileName.getBytes(StandardCharsets.UTF_8)));
+
+        return this.resolveShardedPath(this.indexPath, fileNameDigest);
+    }
+
+    /**
+     * Resolves the location of a blob.
+     *
+     * @param digest The content digest
+     * @return The blob location
+     * @since 1.17.0
+     */
+    private Path resolveBlobPath(final String digest) {
+
+        return this.resolveShardedPath(this.blobsPath, digest);
+    }
+
+    /**
+     * Resolves the location of a blob reference counter.
+     *
+     * @param blobPath The blob location
+     * @return The reference counter location
+     * @since 1.17.0
+     */
+    private Path resolveReferenceCounterPath(final Path blobPath) {
+
+        return blobPath.resolveSibling(blobPath.getFileName() + REFERENCE_COUNTER_FILE_EXTENSION);
+    }
+
+    /**
+     * Resolves a location distributed into two levels of sub-directories.
+     *
+     * @param rootPath The root location
+     * @param digest   The hexadecimal digest
+     * @return The sharded location
+     * @since 1.17.0
+     */
+    private Path resolveShardedPath(final Path rootPath, final String digest) {
+
+        return rootPath.resolve(digest.substring(0, 2)).resolve(digest.substring(2, 4)).resolve(digest);
+    }
+
+    /**
+     * Creates lock stripes. Index entries and blobs use distinct stripes: an index lock
+     * can be held while acquiring a blob lock, but never the other way around.
+     *
+     * @return Newly created lock stripes
+     * @since 1.17.0
+     */
+    private static Object[] createLockStripes() {
+
+        final Object[] lockStripes = new Object[LOCK_STRIPE_COUNT];
+        for (int idx = 0; idx < LOCK_STRIPE_COUNT; idx += 1) {
+            lockStripes[idx] = new Object();
+        }
+
+        return lockStripes;
+    }
+
+    /**
+     * Retrieves the lock to use for the given key.
+     *
+     * @param lockStripes The lock stripes
+     * @param key         The key (ie: digest)
+     * @return The lock
+     * @since 1.17.0
+     */
+    private static Object lockFor(final Object[] lockStripes, final String key) {
+
+        return lockStripes[Math.floorMod(key.hashCode(), LOCK_STRIPE_COUNT)];
+    }
+
+    /**
+     * Creates a new message digest instance.
+     *
+     * @return Newly created message digest
+     * @since 1.17.0
+     */
+    private MessageDigest createMessageDigest() {
+
+        try {
+            return MessageDigest.getInstance(this.digestAlgorithm);
+        } catch (final NoSuchAlgorithmException exception) {
+            throw new IllegalArgumentException("Digest algorithm '" + this.digestAlgorithm + "' is not available", exception);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package dev.voidframework.vfs.engine;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+@TestMethodOrder(MethodOrderer.MethodName.class)
+final class BoundedMemoryVirtualFileStorageTest {
+
+    private static final Config CONFIGURATION = ConfigFactory.parseString("maxMemorySize = 10");
+
+    @Test
+    void deleteFile() {
+
+        // Arrange
+        final BoundedMemoryVirtualFileStorage storage = new BoundedMemoryVirtualFileStorage(CONFIGURATION, null);
+        storage.storeFile("a.txt", "text/plain", createContentStream("aaaa"));
+
+        // Act
+        final boolean isDeleted = storage.deleteFile("a.txt");
+
+        // Assert
+        Assertions.assertTrue(isDeleted);
+        Assertions.assertNull(storage.retrieveFile("a.txt"));
+        Assertions.assertEquals(0, storage.getCurrentMemorySize());
+    }
+
+    @Test
+    void storeFileEvictLeastRecentlyUsed() throws IOException {
+
+        // Arrange
+        final BoundedMemoryVirtualFileStorage storage = new BoundedMemoryVirtualFileStorage(CONFIGURATION, null);
+        storage.storeFile("a.txt", "text/plain", createContentStream("aaaa"));
+        storage.storeFile("b.txt", "text/plain", createContentStream("bbbb"));
+        storage.retrieveFile("a.txt");
+
+        // Act
+        final boolean isStored = storage.storeFile("c.txt", "text/plain", createContentStream("cccc"));
+
+        // Assert
+        Assertions.assertTrue(isStored);
+        Assertions.assertEquals(8, storage.getCurrentMemorySize());
+        Assertions.assertNull(storage.retrieveFile("b.txt"));
+        Assertions.assertEquals("aaaa", readContentStream(storage.retrieveFile("a.txt")));
+        Assertions.assertEquals("cccc", readContentStream(storage.retrieveFile("c.txt")));
+    }
+
+    @Test
+    void storeFileEvictedFileSpilledToDisk() throws IOException {
+
+        // Arrange
+        final VirtualFileStorage spillStorage = Mockito.spy(new MemoryVirtualFileStorage());
+        final BoundedMemoryVirtualFileStorage storage = new BoundedMemoryVirtualFileStorage(CONFIGURATION, spillStorage);
+        storage.storeFile("a.txt", "text/plain", createContentStream("aaaa"));
+        storage.storeFile("b.txt", "text/csv", createContentStream("bbbb"));
+        storage.retrieveFile("a.txt");
+
+        // Act
+        storage.storeFile("c.txt", "text/plain", createContentStream("cccc"));
+
+        // Assert
+        Mockito.verify(spillStorage).storeFile(ArgumentMatchers.eq("b.txt"), ArgumentMatchers.eq("text/csv"), ArgumentMatchers.any());
+        Assertions.assertNull(storage.retrieveFileAsByteBuffer("b.txt"));
+        Assertions.assertEquals("bbbb", readContentStream(storage.retrieveFile("b.txt")));
+        Assertions.assertEquals(8, storage.getCurrentMemorySize());
+    }
+
+    @Test
+    void storeFileEvictedFileSpillFailure() {
+
+        // Arrange
+        final VirtualFileStorage spillStorage = Mockito.mock(VirtualFileStorage.class);
+        Mockito.when(spillStorage.storeFile(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any())).thenReturn(false);
+        final BoundedMemoryVirtualFileStorage storage = new BoundedMemoryVirtualFileStorage(CONFIGURATION, spillStorage);
+        storage.storeFile("a.txt", "text/plain", createContentStream("aaaa"));
+        storage.storeFile("b.txt", "text/plain", createContentStream("bbbb"));
+
+        // Act
+        final boolean isStored = storage.storeFile("c.txt", "text/plain", createContentStream("cccc"));
+
+        // Assert
+        Assertions.assertTrue(isStored);
+        Assertions.assertNull(storage.retrieveFile("a.txt"));
+        Assertions.assertEquals(8, storage.getCurrentMemorySize());
+    }
+
+    @Test
+    void storeFileExceedingMemoryBudget() {
+
+        // Arrange
+        final BoundedMemoryVirtualFileStorage storage = new BoundedMemoryVirtualFileStorage(CONFIGURATION, null);
+
+        // Act
+        final boolean isStored = storage.storeFile("a.txt", "text/plain", createContentStream("aaaaaaaaaaa"));
+
+        // Assert
+        Assertions.assertFalse(isStored);
+        Assertions.assertNull(storage.retrieveFile("a.txt"));
+        Assertions.assertEquals(0, storage.getCurrentMemorySize());
+    }
+
+    @Test
+    void storeFileExceedingMemoryBudgetSpilledToDisk() throws IOException {
+
+        // Arrange
+        final BoundedMemoryVirtualFileStorage storage = new BoundedMemoryVirtualFileStorage(CONFIGURATION, new MemoryVirtualFileStorage());
+        final char[] content = new char[20000];
+        Arrays.fill(content, 'a');
+
+        // Act
+        final boolean isStored = storage.storeFile("a.txt", "text/plain", createContentStream(new String(content)));
+
+        // Assert
+        Assertions.assertTrue(isStored);
+        Assertions.assertEquals(0, storage.getCurrentMemorySize());
+        Assertions.assertEquals(new String(content), readContentStream(storage.retrieveFile("a.txt")));
+    }
+
+    @Test
+    void storeFileReplaceExistingFile() throws IOException {
+
+        // Arrange
+        final BoundedMemoryVirtualFileStorage storage = new BoundedMemoryVirtualFileStorage(CONFIGURATION, null);
+        storage.storeFile("a.txt", "text/plain", createContentStream("aaaa"));
+
+        // Act
+        storage.storeFile("a.txt", "text/plain", createContentStream("aaaaaa"));
+
+        // Assert
+        Assertions.assertEquals(6, storage.getCurrentMemorySize());
+        Assertions.assertEquals("aaaaaa", readContentStream(storage.retrieveFile("a.txt")));
+    }
+
+    @Test
+    void storeFileReplaceSpilledFile() throws IOException {
+
+        // Arrange
+        final VirtualFileStorage spillStorage = Mockito.spy(new MemoryVirtualFileStorage());
+        final BoundedMemoryVirtualFileStorage storage = new BoundedMemoryVirtualFileStorage(CONFIGURATION, spillStorage);
+        storage.storeFile("a.txt", "text/plain", createContentStream("aaaa"));
+        storage.storeFile("b.txt", "text/plain", createContentStream("bbbb"));
+        storage.storeFile("c.txt", "text/plain", createContentStream("cccc"));
+
+        // Act
+        storage.storeFile("a.txt", "text/plain", createContentStream("aa"));
+
+        // Assert
+        Mockito.verify(spillStorage).deleteFile("a.txt");
+        Mockito.verify(spillStorage, Mockito.never()).deleteFile("b.txt");
+        Mockito.verify(spillStorage, Mockito.never()).deleteFile("c.txt");
+        Assertions.assertNull(spillStorage.retrieveFile("a.txt"));
+        Assertions.assertEquals("aa", readContentStream(storage.retrieveFile("a.txt")));
+        Assertions.assertEquals(10, storage.getCurrentMemorySize());
+    }
+
+    /**
+     * Creates a content stream.
+     *
+     * @param content The content
+     * @return The newly created content stream
+     */
+    private static InputStream createContentStream(final String content) {
+
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads a content stream.
+     *
+     * @param contentStream The content stream
+     * @return The content
+     * @throws IOException If something goes wrong while reading the content stream
+     */
+    private static String readContentStream(final InputStream contentStream) throws IOException {
+
+        try (contentStream) {
+            return new String(contentStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package dev.voidframework.vfs.engine;
+
+import com.typesafe.config.ConfigFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+@TestMethodOrder(MethodOrderer.MethodName.class)
+final class ContentAddressedDiskVirtualFileStorageTest {
+
+    @TempDir
+    private Path basePath;
+
+    @Test
+    void deleteFileBlobStillReferenced() throws IOException {
+
+        // Arrange
+        final ContentAddressedDiskVirtualFileStorage storage = this.createStorage();
+        storage.storeFile("a.txt", "text/plain", createContentStream("Hello World"));
+        storage.storeFile("b.txt", "text/plain", createContentStream("Hello World"));
+
+        // Act
+        final boolean isDeleted = storage.deleteFile("a.txt");
+
+        // Assert
+        Assertions.assertTrue(isDeleted);
+        Assertions.assertNull(storage.retrieveFile("a.txt"));
+        Assertions.assertEquals("Hello World", readContentStream(storage.retrieveFile("b.txt")));
+        Assertions.assertEquals(List.of("1"), this.readReferenceCounters());
+    }
+
+    @Test
+    void deleteFileLastReference() throws IOException {
+
+        // Arrange
+        final ContentAddressedDiskVirtualFileStorage storage = this.createStorage();
+        storage.storeFile("a.txt", "text/plain", createContentStream("Hello World"));
+        storage.storeFile("b.txt", "text/plain", createContentStream("Hello World"));
+
+        // Act
+        storage.deleteFile("a.txt");
+        storage.deleteFile("b.txt");
+
+        // Assert
+        Assertions.assertNull(storage.retrieveFile("b.txt"));
+        Assertions.assertEquals(0, this.listBlobs().size());
+        Assertions.assertEquals(0, this.readReferenceCounters().size());
+    }
+
+    @Test
+    void deleteFileUnknown() {
+
+        // Arrange
+        final ContentAddressedDiskVirtualFileStorage storage = this.createStorage();
+
+        // Act
+        final boolean isDeleted = storage.deleteFile("unknown.txt");
+
+        // Assert
+        Assertions.assertFalse(isDeleted);
+    }
+
+    @Test
+    void storeFileDeduplicateContent() throws IOException {
+
+        // Arrange
+        final ContentAddressedDiskVirtualFileStorage storage = this.createStorage();
+
+        // Act
+        final boolean isFirstStored = storage.storeFile("a.txt", "text/plain", createContentStream("Hello World"));
+        final boolean isSecondStored = storage.storeFile("b.txt", "text/plain", createContentStream("Hello World"));
+
+        // Assert
+        Assertions.assertTrue(isFirstStored);
+        Assertions.assertTrue(isSecondStored);
+        Assertions.assertEquals(1, this.listBlobs().size());
+        Assertions.assertEquals(List.of("2"), this.readReferenceCounters());
+        Assertions.assertEquals("Hello World", readContentStream(storage.retrieveFile("a.txt")));
+        Assertions.assertEquals("Hello World", readContentStream(storage.retrieveFile("b.txt")));
+    }
+
+    @Test
+    void storeFileReplaceContent() throws IOException {
+
+        // Arrange
+        final ContentAddressedDiskVirtualFileStorage storage = this.createStorage();
+        storage.storeFile("a.txt", "text/plain", createContentStream("Hello World"));
+
+        // Act
+        storage.storeFile("a.txt", "text/plain", createContentStream("Goodbye World"));
+
+        // Assert
+        Assertions.assertEquals(1, this.listBlobs().size());
+        Assertions.assertEquals(List.of("1"), this.readReferenceCounters());
+        Assertions.assertEquals("Goodbye World", readContentStream(storage.retrieveFile("a.txt")));
+    }
+
+    /**
+     * Creates a storage using the temporary directory.
+     *
+     * @return The newly created storage
+     */
+    private ContentAddressedDiskVirtualFileStorage createStorage() {
+
+        return new ContentAddressedDiskVirtualFileStorage(
+            ConfigFactory.parseMap(Map.of("basePath", this.basePath.toString())));
+    }
+
+    /**
+     * Lists the stored blobs.
+     *
+     * @return The blob locations
+     * @throws IOException If something goes wrong while listing the blobs
+     */
+    private List<Path> listBlobs() throws IOException {
+
+        return this.listBlobsDirectory()
+            .stream()
+            .filter(path -> !path.getFileName().toString().endsWith(".refs"))
+            .toList();
+    }
+
+    /**
+     * Reads the blob reference counters.
+     *
+     * @return The reference counter values
+     * @throws IOException If something goes wrong while reading the reference counters
+     */
+    private List<String> readReferenceCounters() throws IOException {
+
+        final List<Path> referenceCounterPathList = this.listBlobsDirectory()
+            .stream()
+            .filter(path -> path.getFileName().toString().endsWith(".refs"))
+            .toList();
+
+        final List<String> referenceCounterList = new ArrayList<>();
+        for (final Path referenceCounterPath : referenceCounterPathList) {
+            referenceCounterList.add(Files.readString(referenceCounterPath, StandardCharsets.UTF_8).trim());
+        }
+
+        return referenceCounterList;
+    }
+
+    /**
+     * Lists all the regular files of the blobs directory.
+     *
+     * @return The file locations
+     * @throws IOException If something goes wrong while walking the blobs directory
+     */
+    private List<Path> listBlobsDirectory() throws IOException {
+
+        final Path blobsPath = this.basePath.resolve("blobs");
+        if (Files.notExists(blobsPath)) {
+            return List.of();
+        }
+
+        try (final Stream<Path> pathStream = Files.walk(blobsPath)) {
+            return pathStream.filter(Files::isRegularFile).toList();
+        }
+    }
+
+    /**
+     * Creates a content stream.
+     *
+     * @param content The content
+     * @return The newly created content stream
+     */
+    private static InputStream createContentStream(final String content) {
+
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads a content stream.
+     *
+     * @param contentStream The content stream
+     * @return The content
+     * @throws IOException If something goes wrong while reading the content stream
+     */
+    private static String readContentStream(final InputStream contentStream) throws IOException {
+
+        try (contentStream) {
+            return new String(contentStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -1,16 +1,17 @@
 package dev.voidframework.web.healthcheck;
 
 import com.google.inject.Inject;
-import dev.voidframework.core.utils.JsonUtils;
-import dev.voidframework.healthcheck.Health;
+import dev.voidframework.healthcheck.HealthCheckGroup;
 import dev.voidframework.healthcheck.HealthCheckManager;
+import dev.voidframework.healthcheck.HealthReport;
 import dev.voidframework.web.bindable.WebController;
+import dev.voidframework.web.http.HttpContentTypes;
 import dev.voidframework.web.http.HttpMethod;
 import dev.voidframework.web.http.Result;
 import dev.voidframework.web.http.annotation.NoCSRF;
 import dev.voidframework.web.http.annotation.RequestRoute;
 
-import java.util.Map;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Health check controller.
@@ -44,7 +45,66 @@ public final class HealthCheckController {
     @RequestRoute(method = HttpMethod.GET, route = "/healthcheck")
     public Result healthCheck() {
 
-        final Map<String, Health> healthPerNameMap = healthCheckManager.checkHealth();
-        return Result.ok(JsonUtils.toJson(healthPerNameMap));
+        final HealthReport healthReport = this.healthCheckManager.getHealthReport();
+        return Result.ok(healthReport.toJson(), HttpContentTypes.APPLICATION_JSON);
+    }
+
+    /**
+     * Retrieves the health status of the liveness health checks. If at least one
+     * of them is down, a "Service Unavailable" is returned.
+     *
+     * @return A result
+     * @since 1.17.0
+     */
+    @NoCSRF
+    @RequestRoute(method = HttpMethod.GET, route = "/healthcheck/liveness")
+    public Result liveness() {
+
+        return this.healthCheck(HealthCheckGroup.LIVENESS);
+    }
+
+    /**
+     * Retrieves the health status of the readiness health checks. If at least one
+     * of them is down, a "Service Unavailable" is returned.
+     *
+     * @return A result
+     * @since 1.17.0
+     */
+    @NoCSRF
+    @RequestRoute(method = HttpMethod.GET, route = "/healthcheck/readiness")
+    public Result readiness() {
+
+        return this.healthCheck(HealthCheckGroup.READINESS);
+    }
+
+    /**
+     * Retrieves all health check status and details in the Prometheus text exposition format.
+     *
+     * @return A result
+     * @since 1.17.0
+     */
+    @NoCSRF
+    @RequestRoute(method = HttpMethod.GET, route = "/healthcheck/metrics")
+    public Result metrics() {
+
+        final HealthReport healthReport = this.healthCheckManager.getHealthReport();
+        return Result.ok(healthReport.toText(), HttpContentTypes.TEXT_PLAIN, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Retrieves the health status of a specific health check group.
+     *
+     * @param healthCheckGroup The health check group
+     * @return A result
+     * @since 1.17.0
+     */
+    private Result healthCheck(final HealthCheckGroup healthCheckGroup) {
+
+        final HealthReport healthReport = this.healthCheckManager.getHealthReport();
+        if (healthReport.isUp(healthCheckGroup)) {
+            return Result.ok(healthReport.toJson(healthCheckGroup), HttpContentTypes.APPLICATION_JSON);
+        }
+
+        return Result.serviceUnavailable(healthReport.toJson(healthCheckGroup), HttpContentTypes.APPLICATION_JSON);
     }
 }
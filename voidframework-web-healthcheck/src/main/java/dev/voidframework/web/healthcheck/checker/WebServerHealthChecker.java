@@ -0,0 +1,61 @@
+package dev.voidframework.web.healthcheck.checker;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import dev.voidframework.healthcheck.Health;
+import dev.voidframework.healthcheck.HealthChecker;
+import dev.voidframework.web.server.WebServer;
+import org.xnio.management.XnioWorkerMXBean;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Web server health checker. Reports the worker thread pool usage and the number of
+ * requests waiting for a worker thread.
+ *
+ * @since 1.17.0
+ */
+@Singleton
+public class WebServerHealthChecker implements HealthChecker {
+
+    private final WebServer webServer;
+
+    /**
+     * Build a new instance.
+     *
+     * @param webServer The web server
+     * @since 1.17.0
+     */
+    @Inject
+    public WebServerHealthChecker(final WebServer webServer) {
+
+        this.webServer = webServer;
+    }
+
+    @Override
+    public String getName() {
+
+        return "WEB_SERVER";
+    }
+
+    @Override
+    public Health checkHealth() {
+
+        final XnioWorkerMXBean xnioWorkerMXBean = this.webServer.getWorkerMXBean();
+        if (xnioWorkerMXBean == null) {
+            return new Health(Health.Status.DOWN, Collections.emptyMap());
+        }
+
+        final Map<String, Object> detailsMap = new LinkedHashMap<>();
+        detailsMap.put("ioThreads", xnioWorkerMXBean.getIoThreadCount());
+        detailsMap.put("workerThreads", xnioWorkerMXBean.getWorkerPoolSize());
+        detailsMap.put("coreWorkerThreads", xnioWorkerMXBean.getCoreWorkerPoolSize());
+        detailsMap.put("maxWorkerThreads", xnioWorkerMXBean.getMaxWorkerPoolSize());
+        detailsMap.put("busyWorkerThreads", xnioWorkerMXBean.getBusyWorkerThreadCount());
+        detailsMap.put("workerQueueSize", xnioWorkerMXBean.getWorkerQueueSize());
+
+        return new Health(Health.Status.UP, detailsMap);
+    }
+}
@@ -0,0 +1,59 @@
+package dev.voidframework.web.healthcheck;
+
+import com.typesafe.config.ConfigFactory;
+import dev.voidframework.core.VoidApplication;
+import dev.voidframework.healthcheck.checker.JavaVirtualMachineHealthChecker;
+import dev.voidframework.healthcheck.checker.JavaVirtualMachineMetricsHealthChecker;
+import dev.voidframework.web.healthcheck.checker.WebServerHealthChecker;
+import dev.voidframework.web.http.filter.csrf.CSRFFilter;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+@TestMethodOrder(MethodOrderer.MethodName.class)
+final class BootstrapIndexTest {
+
+    private static VoidApplication voidApplication;
+
+    @BeforeAll
+    static void beforeAll() {
+
+        System.setProperty("voidframework.core.useBootstrapIndex", "true");
+        System.setProperty("voidframework.web.server.http.listenPort", "0");
+        System.setProperty("voidframework.web.session.signatureKey", "WHEREISMYBOOTSTRAPINDEX");
+        ConfigFactory.invalidateCaches();
+
+        voidApplication = new VoidApplication();
+        voidApplication.launch();
+    }
+
+    @AfterAll
+    static void afterAll() {
+
+        System.clearProperty("voidframework.core.useBootstrapIndex");
+        System.clearProperty("voidframework.web.server.http.listenPort");
+        System.clearProperty("voidframework.web.session.signatureKey");
+        ConfigFactory.invalidateCaches();
+    }
+
+    @Test
+    void extraInterfaceImplementationsAreBound() {
+
+        // Act
+        final CSRFFilter csrfFilter = voidApplication.getInstance(CSRFFilter.class);
+        final JavaVirtualMachineHealthChecker javaVirtualMachineHealthChecker = voidApplication.getInstance(
+            JavaVirtualMachineHealthChecker.class);
+        final JavaVirtualMachineMetricsHealthChecker javaVirtualMachineMetricsHealthChecker = voidApplication.getInstance(
+            JavaVirtualMachineMetricsHealthChecker.class);
+        final WebServerHealthChecker webServerHealthChecker = voidApplication.getInstance(WebServerHealthChecker.class);
+
+        // Assert
+        Assertions.assertNotNull(csrfFilter);
+        Assertions.assertNotNull(javaVirtualMachineHealthChecker);
+        Assertions.assertNotNull(javaVirtualMachineMetricsHealthChecker);
+        Assertions.assertNotNull(webServerHealthChecker);
+    }
+}
@@ -0,0 +1,59 @@
+package dev.voidframework.web.healthcheck.checker;
+
+import dev.voidframework.healthcheck.Health;
+import dev.voidframework.web.server.WebServer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.mockito.Mockito;
+import org.xnio.management.XnioWorkerMXBean;
+
+@TestMethodOrder(MethodOrderer.MethodName.class)
+final class WebServerHealthCheckerTest {
+
+    @Test
+    void checkHealthNotRunning() {
+
+        // Arrange
+        final WebServer webServer = Mockito.mock(WebServer.class);
+        Mockito.when(webServer.getWorkerMXBean()).thenReturn(null);
+        final WebServerHealthChecker webServerHealthChecker = new WebServerHealthChecker(webServer);
+
+        // Act
+        final Health health = webServerHealthChecker.checkHealth();
+
+        // Assert
+        Assertions.assertEquals(Health.Status.DOWN, health.status());
+        Assertions.assertTrue(health.details().isEmpty());
+    }
+
+    @Test
+    void checkHealthRunning() {
+
+        // Arrange
+        final XnioWorkerMXBean xnioWorkerMXBean = Mockito.mock(XnioWorkerMXBean.class);
+        Mockito.when(xnioWorkerMXBean.getIoThreadCount()).thenReturn(2);
+        Mockito.when(xnioWorkerMXBean.getWorkerPoolSize()).thenReturn(8);
+        Mockito.when(xnioWorkerMXBean.getCoreWorkerPoolSize()).thenReturn(4);
+        Mockito.when(xnioWorkerMXBean.getMaxWorkerPoolSize()).thenReturn(16);
+        Mockito.when(xnioWorkerMXBean.getBusyWorkerThreadCount()).thenReturn(3);
+        Mockito.when(xnioWorkerMXBean.getWorkerQueueSize()).thenReturn(5);
+
+        final WebServer webServer = Mockito.mock(WebServer.class);
+        Mockito.when(webServer.getWorkerMXBean()).thenReturn(xnioWorkerMXBean);
+        final WebServerHealthChecker webServerHealthChecker = new WebServerHealthChecker(webServer);
+
+        // Act
+        final Health health = webServerHealthChecker.checkHealth();
+
+        // Assert
+        Assertions.assertEquals(Health.Status.UP, health.status());
+        Assertions.assertEquals(2, health.details().get("ioThreads"));
+        Assertions.assertEquals(8, health.details().get("workerThreads"));
+        Assertions.assertEquals(4, health.details().get("coreWorkerThreads"));
+        Assertions.assertEquals(16, health.details().get("maxWorkerThreads"));
+        Assertions.assertEquals(3, health.details().get("busyWorkerThreads"));
+        Assertions.assertEquals(5, health.details().get("workerQueueSize"));
+    }
+}
@@ -1053,6 +1053,131 @@ public final class Result {
         ).withHeader(HttpHeaderNames.LOCATION, uri);
     }
 
+    /**
+     * Service Unavailable (503).
+     *
+     * @return A result
+     * @since 1.17.0
+     */
+    public static Result serviceUnavailable() {
+
+        return new Result(
+            HttpReturnCode.SERVICE_UNAVAILABLE,
+            NO_CONTENT_RESULT_PROCESSOR,
+            HttpContentTypes.TEXT_HTML);
+    }
+
+    /**
+     * Service Unavailable (503).
+     *
+     * @param content The content
+     * @return A result
+     * @since 1.17.0
+     */
+    public static Result serviceUnavailable(final String content) {
+
+        return serviceUnavailable(
+            content,
+            HttpContentTypes.TEXT_HTML,
+            StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Service Unavailable (503).
+     *
+     * @param content     The content
+     * @param contentType The content type
+     * @return A result
+     * @since 1.17.0
+     */
+    public static Result serviceUnavailable(final String content, final String contentType) {
+
+        return new Result(
+            HttpReturnCode.SERVICE_UNAVAILABLE,
+            new ObjectResultProcessor(content),
+            contentType);
+    }
+
+    /**
+     * Service Unavailable (503).
+     *
+     * @param content     The content
+     * @param contentType The content type
+     * @param charset     The content charset
+     * @return A result
+     * @since 1.17.0
+     */
+    public static Result serviceUnavailable(final String content, final String contentType, final Charset charset) {
+
+        return new Result(
+            HttpReturnCode.SERVICE_UNAVAILABLE,
+            new ObjectResultProcessor(content),
+            contentType + CONTENT_TYPE_CHARSET + charset.name());
+    }
+
+    /**
+     * Service Unavailable (503).
+     *
+     * @param content     The content
+     * @param contentType The content type
+     * @return A result
+     * @since 1.17.0
+     */
+    public static Result serviceUnavailable(final byte[] content, final String contentType) {
+
+        return new Result(
+            HttpReturnCode.SERVICE_UNAVAILABLE,
+            new ObjectResultProcessor(content),
+            contentType);
+    }
+
+    /**
+     * Service Unavailable (503).
+     *
+     * @param content     The content
+     * @param contentType The content type
+     * @param charset     The content charset
+     * @return A result
+     * @since 1.17.0
+     */
+    public static Result serviceUnavailable(final byte[] content, final String contentType, final Charset charset) {
+
+        return new Result(
+            HttpReturnCode.SERVICE_UNAVAILABLE,
+            new ObjectResultProcessor(content),
+            contentType + CONTENT_TYPE_CHARSET + charset.name());
+    }
+
+    /**
+     * Service Unavailable (503).
+     *
+     * @param content The JSON content
+     * @return A result
+     * @since 1.17.0
+     */
+    public static Result serviceUnavailable(final JsonNode content) {
+
+        return new Result(
+            HttpReturnCode.SERVICE_UNAVAILABLE,
+            new ObjectResultProcessor(JsonUtils.toString(content)),
+            HttpContentTypes.APPLICATION_JSON);
+    }
+
+    /**
+     * Service Unavailable (503).
+     *
+     * @param templateResult The template to render
+     * @return A result
+     * @since 1.17.0
+     */
+    public static Result serviceUnavailable(final TemplateResult templateResult) {
+
+        return new Result(
+            HttpReturnCode.SERVICE_UNAVAILABLE,
+            new TemplateResultProcessor(templateResult.templateName, templateResult.dataModel),
+            HttpContentTypes.TEXT_HTML);
+    }
+
     /**
      * Assigns a new cookie.
      *
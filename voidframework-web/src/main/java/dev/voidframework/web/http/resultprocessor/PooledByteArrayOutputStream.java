@@ -0,0 +1,88 @@
+package dev.voidframework.web.http.resultprocessor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+
+/**
+ * A byte array output stream reused by the rendering thread. Its content is exposed as an
+ * {@code InputStream} without any copy, the buffer is given back to the pool when the input
+ * stream is closed. A buffer that has grown beyond 64 KiB is replaced by a fresh one on release,
+ * so each rendering thread retains 64 KiB at most.
+ *
+ * @since 1.17.0
+ */
+final class PooledByteArrayOutputStream extends ByteArrayOutputStream {
+
+    private static final int INITIAL_BUFFER_SIZE = 16 * 1024;
+    private static final int MAX_POOLED_BUFFER_SIZE = 64 * 1024;
+    private static final ThreadLocal<PooledByteArrayOutputStream> POOL = new ThreadLocal<>();
+
+    /**
+     * Build a new instance.
+     *
+     * @since 1.17.0
+     */
+    private PooledByteArrayOutputStream() {
+
+        super(INITIAL_BUFFER_SIZE);
+    }
+
+    /**
+     * Acquires an empty output stream. The pooled output stream of the current thread is
+     * used if available, otherwise, a new one is created.
+     *
+     * @return An empty output stream
+     * @since 1.17.0
+     */
+    static PooledByteArrayOutputStream acquire() {
+
+        final PooledByteArrayOutputStream outputStream = POOL.get();
+        if (outputStream == null) {
+            return new PooledByteArrayOutputStream();
+        }
+
+        POOL.remove();
+        return outputStream;
+    }
+
+    /**
+     * Returns the written content as an input stream. The output stream must not be used
+     * anymore once this method has been called.
+     *
+     * @return The input stream
+     * @since 1.17.0
+     */
+    InputStream toInputStream() {
+
+        return new ByteArrayInputStream(this.buf, 0, this.count) {
+
+            private boolean isReleased = false;
+
+            @Override
+            public void close() {
+
+                if (!this.isReleased) {
+                    this.isReleased = true;
+                    PooledByteArrayOutputStream.this.release();
+                }
+            }
+        };
+    }
+
+    /**
+     * Gives the output stream back to the pool of the current thread. An oversized buffer
+     * is dropped and replaced by a buffer of the initial size.
+     *
+     * @since 1.17.0
+     */
+    private void release() {
+
+        if (this.buf.length > MAX_POOLED_BUFFER_SIZE) {
+            this.buf = new byte[INITIAL_BUFFER_SIZE];
+        }
+
+        this.reset();
+        POOL.set(this);
+    }
+}
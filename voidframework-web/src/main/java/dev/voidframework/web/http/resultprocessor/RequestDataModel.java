@@ -0,0 +1,106 @@
+package dev.voidframework.web.http.resultprocessor;
+
+import dev.voidframework.web.http.Context;
+import dev.voidframework.web.http.filter.csrf.CSRFFilter;
+
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Template data model exposing request-scoped values (flash messages, session, CSRF token and
+ * available languages) on top of the data model provided by the controller. Request-scoped
+ * values are resolved on lookup: the data model provided by the controller is neither copied
+ * nor modified.
+ *
+ * @since 1.17.0
+ */
+final class RequestDataModel extends AbstractMap<String, Object> {
+
+    private static final String KEY_FLASH = "flash";
+    private static final String KEY_SESSION = "session";
+    private static final String KEY_LANGUAGES = "languages";
+    private static final String KEY_CSRF_TOKEN = "csrfToken";
+    private static final Set<String> REQUEST_KEY_SET = Set.of(KEY_FLASH, KEY_SESSION, KEY_LANGUAGES, KEY_CSRF_TOKEN);
+
+    private final Context context;
+    private final List<String> availableLanguageList;
+    private final Map<String, Object> dataModel;
+    private Map<String, Object> additionalDataModel;
+
+    /**
+     * Build a new instance.
+     *
+     * @param context               The current context
+     * @param availableLanguageList The available languages
+     * @param dataModel             The data model provided by the controller
+     * @since 1.17.0
+     */
+    RequestDataModel(final Context context, final List<String> availableLanguageList, final Map<String, Object> dataModel) {
+
+        this.context = context;
+        this.availableLanguageList = availableLanguageList;
+        this.dataModel = dataModel;
+        this.additionalDataModel = null;
+    }
+
+    @Override
+    public Object get(final Object key) {
+
+        if (this.additionalDataModel != null && this.additionalDataModel.containsKey(key)) {
+            return this.additionalDataModel.get(key);
+        }
+
+        if (!(key instanceof final String keyAsString)) {
+            return this.dataModel.get(key);
+        }
+
+        return switch (keyAsString) {
+            case KEY_FLASH -> this.context.getFlashMessages();
+            case KEY_SESSION -> this.context.getSession();
+            case KEY_LANGUAGES -> this.availableLanguageList;
+            case KEY_CSRF_TOKEN -> this.context.getAttributes().get(CSRFFilter.CSRF_TOKEN_KEY);
+            default -> this.dataModel.get(key);
+        };
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+
+        return (key != null && REQUEST_KEY_SET.contains(key))
+            || (this.additionalDataModel != null && this.additionalDataModel.containsKey(key))
+            || this.dataModel.containsKey(key);
+    }
+
+    @Override
+    public Object put(final String key, final Object value) {
+
+        // Values added by the template engine must not leak into the controller data model
+        if (this.additionalDataModel == null) {
+            this.additionalDataModel = new HashMap<>();
+        }
+
+        final Object previousValue = this.get(key);
+        this.additionalDataModel.put(key, value);
+
+        return previousValue;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+
+        final Map<String, Object> mergedDataModel = new HashMap<>(this.dataModel);
+        for (final String key : REQUEST_KEY_SET) {
+            mergedDataModel.put(key, this.get(key));
+        }
+
+        if (this.additionalDataModel != null) {
+            mergedDataModel.putAll(this.additionalDataModel);
+        }
+
+        return new HashSet<>(mergedDataModel.entrySet());
+    }
+}
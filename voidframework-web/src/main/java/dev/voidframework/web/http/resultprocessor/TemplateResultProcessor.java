@@ -4,11 +4,9 @@ import com.typesafe.config.Config;
 import dev.voidframework.template.TemplateRenderer;
 import dev.voidframework.template.exception.TemplateException;
 import dev.voidframework.web.http.Context;
-import dev.voidframework.web.http.filter.csrf.CSRFFilter;
 
-import java.io.ByteArrayInputStream;
 import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -18,6 +16,8 @@ import java.util.Map;
  */
 public class TemplateResultProcessor implements ResultProcessor {
 
+    private static volatile AvailableLanguages availableLanguages = new AvailableLanguages(null, List.of());
+
     private final String templateName;
     private final Map<String, Object> dataModel;
 
@@ -58,15 +58,14 @@ public class TemplateResultProcessor implements ResultProcessor {
             throw new TemplateException.NoTemplateEngine();
         }
 
-        if (this.dataModel != null) {
-            this.dataModel.put("flash", context.getFlashMessages());
-            this.dataModel.put("session", context.getSession());
-            this.dataModel.put("languages", configuration.getStringList("voidframework.web.language.availableLanguages"));
-            this.dataModel.put("csrfToken", context.getAttributes().get(CSRFFilter.CSRF_TOKEN_KEY));
-        }
+        final Map<String, Object> requestDataModel = this.dataModel != null
+            ? new RequestDataModel(context, resolveAvailableLanguages(configuration), this.dataModel)
+            : null;
 
-        final String renderedTemplate = templateRenderer.render(this.templateName, context.getLocale(), this.dataModel);
-        this.inputStream = new ByteArrayInputStream(renderedTemplate.getBytes(StandardCharsets.UTF_8));
+        // Rendering is buffered to allow the error handler to take over if rendering fails
+        final PooledByteArrayOutputStream outputStream = PooledByteArrayOutputStream.acquire();
+        templateRenderer.render(this.templateName, context.getLocale(), requestDataModel, outputStream);
+        this.inputStream = outputStream.toInputStream();
 
         context.getFlashMessages().clear();
     }
@@ -76,4 +75,35 @@ public class TemplateResultProcessor implements ResultProcessor {
 
         return this.inputStream;
     }
+
+    /**
+     * Resolves the available languages. The list is read once from the configuration, then
+     * shared by all renderings.
+     *
+     * @param configuration The application configuration
+     * @return The available languages
+     * @since 1.17.0
+     */
+    private static List<String> resolveAvailableLanguages(final Config configuration) {
+
+        final AvailableLanguages currentAvailableLanguages = availableLanguages;
+        if (currentAvailableLanguages.configuration() == configuration) {
+            return currentAvailableLanguages.languageList();
+        }
+
+        final List<String> languageList = List.copyOf(configuration.getStringList("voidframework.web.language.availableLanguages"));
+        availableLanguages = new AvailableLanguages(configuration, languageList);
+
+        return languageList;
+    }
+
+    /**
+     * Available languages read from a configuration.
+     *
+     * @param configuration The configuration from which languages have been read
+     * @param languageList  The available languages
+     * @since 1.17.0
+     */
+    private record AvailableLanguages(Config configuration, List<String> languageList) {
+    }
 }
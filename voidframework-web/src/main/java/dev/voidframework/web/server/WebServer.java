@@ -50,6 +50,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.xnio.Options;
 import org.xnio.Sequence;
+import org.xnio.XnioWorker;
+import org.xnio.management.XnioWorkerMXBean;
 
 import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.SSLContext;
@@ -109,7 +111,7 @@ public class WebServer {
     private final Injector injector;
 
     private boolean isRunning;
-    private Undertow undertowServer;
+    private volatile Undertow undertowServer;
     private HttpRequestHandler httpRequestHandler;
     private GracefulShutdownHandler httpGracefulShutdownHandler;
 
@@ -207,6 +209,21 @@ public class WebServer {
         }
     }
 
+    /**
+     * Retrieves the management interface of the web server worker, which exposes the worker
+     * thread pool usage and the number of tasks waiting to be executed.
+     *
+     * @return The worker management interface, or {@code null} if the web server is not running
+     * @since 1.17.0
+     */
+    public XnioWorkerMXBean getWorkerMXBean() {
+
+        final Undertow currentUndertowServer = this.undertowServer;
+        final XnioWorker xnioWorker = currentUndertowServer != null ? currentUndertowServer.getWorker() : null;
+
+        return xnioWorker != null ? xnioWorker.getMXBean() : null;
+    }
+
     /**
      * Load programmatically defined custom routes.
      *
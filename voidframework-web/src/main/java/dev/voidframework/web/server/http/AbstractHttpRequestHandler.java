@@ -67,6 +67,8 @@ abstract class AbstractHttpRequestHandler {
 
     /**
      * Try to convert multiple values from a String into an array of needed parameter type.
+     * Values are converted one by one directly into the array (a primitive array for
+     * primitive types), without going through an intermediate list of boxed values.
      *
      * @param valueList          The list of string containing the value to convert
      * @param parameterTypeClass The needed output parameter type class
@@ -77,17 +79,86 @@ abstract class AbstractHttpRequestHandler {
 
         if (valueList == null) {
             return null;
+        } else if (parameterTypeClass == String.class) {
+            return valueList.toArray(new String[0]);
         }
 
-        final Object target = Array.newInstance(parameterTypeClass, valueList.size());
+        final int size = valueList.size();
+        final PrimitiveAlternative primitiveAlternative = PRIMITIVE_ALTERNATIVE_MAP.get(parameterTypeClass);
+        if (primitiveAlternative == null) {
+            final Object[] target = (Object[]) Array.newInstance(parameterTypeClass, size);
+            for (int idx = 0; idx < size; idx += 1) {
+                target[idx] = this.convertValue(valueList.get(idx), parameterTypeClass);
+            }
+            return target;
+        }
 
-        int idx = 0;
-        for (final String value : valueList) {
-            Array.set(target, idx, this.convertValueToParameterType(value, parameterTypeClass));
-            idx += 1;
+        final Class<?> boxedTypeClass = primitiveAlternative.replacementClass;
+        if (parameterTypeClass == boolean.class) {
+            final boolean[] target = new boolean[size];
+            for (int idx = 0; idx < size; idx += 1) {
+                target[idx] = this.convertValue(valueList.get(idx), boxedTypeClass) instanceof final Boolean value && value;
+            }
+            return target;
+        } else if (parameterTypeClass == char.class) {
+            final char[] target = new char[size];
+            for (int idx = 0; idx < size; idx += 1) {
+                target[idx] = this.convertValue(valueList.get(idx), boxedTypeClass) instanceof final Character value ? value : 0;
+            }
+            return target;
+        } else if (parameterTypeClass == int.class) {
+            final int[] target = new int[size];
+            for (int idx = 0; idx < size; idx += 1) {
+                target[idx] = this.convertValue(valueList.get(idx), boxedTypeClass) instanceof final Number value ? value.intValue() : 0;
+            }
+            return target;
+        } else if (parameterTypeClass == long.class) {
+            final long[] target = new long[size];
+            for (int idx = 0; idx < size; idx += 1) {
+                target[idx] = this.convertValue(valueList.get(idx), boxedTypeClass) instanceof final Number value ? value.longValue() : 0;
+            }
+            return target;
+        } else if (parameterTypeClass == double.class) {
+            final double[] target = new double[size];
+            for (int idx = 0; idx < size; idx += 1) {
+                target[idx] = this.convertValue(valueList.get(idx), boxedTypeClass) instanceof final Number value ? value.doubleValue() : 0;
+            }
+            return target;
+        } else if (parameterTypeClass == float.class) {
+            final float[] target = new float[size];
+            for (int idx = 0; idx < size; idx += 1) {
+                target[idx] = this.convertValue(valueList.get(idx), boxedTypeClass) instanceof final Number value ? value.floatValue() : 0;
+            }
+            return target;
+        } else if (parameterTypeClass == short.class) {
+            final short[] target = new short[size];
+            for (int idx = 0; idx < size; idx += 1) {
+                target[idx] = this.convertValue(valueList.get(idx), boxedTypeClass) instanceof final Number value ? value.shortValue() : 0;
+            }
+            return target;
+        } else if (parameterTypeClass == byte.class) {
+            final byte[] target = new byte[size];
+            for (int idx = 0; idx < size; idx += 1) {
+                target[idx] = this.convertValue(valueList.get(idx), boxedTypeClass) instanceof final Number value ? value.byteValue() : 0;
+            }
+            return target;
         }
 
-        return target;
+        throw new IllegalArgumentException("Unsupported primitive type " + parameterTypeClass);
+    }
+
+    /**
+     * Converts a single String value into the given type. The converter lookup is memoized
+     * by the converter manager, converting many values does not resolve the converter again.
+     *
+     * @param value           The string containing the value to convert
+     * @param targetTypeClass The target type class
+     * @return The converted value, otherwise, null
+     * @since 1.17.0
+     */
+    private Object convertValue(final String value, final Class<?> targetTypeClass) {
+
+        return conversion.convert(value, String.class, targetTypeClass);
     }
 
     /**
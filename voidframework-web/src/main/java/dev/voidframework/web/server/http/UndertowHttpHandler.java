@@ -222,12 +222,8 @@ public class UndertowHttpHandler implements HttpHandler {
             try {
                 httpServerExchange.setResponseContentLength(inputStream.available());
 
-                final byte[] buffer = new byte[8192];
-                int nbReadBytes;
-                while ((nbReadBytes = inputStream.read(buffer, 0, buffer.length)) > 0) {
-                    outputStream.write(buffer, 0, nbReadBytes);
-                    outputStream.flush();
-                }
+                // In-memory contents (ie: rendered template) are written at once, without intermediate copy
+                inputStream.transferTo(outputStream);
             } catch (final Exception ignore) {
                 // This exception is not important
             } finally {